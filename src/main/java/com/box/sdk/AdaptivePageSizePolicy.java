@@ -0,0 +1,202 @@
+package com.box.sdk;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Page size policy that sizes pages by the observed cost of the entries of each endpoint.
+ *
+ * <p>For every endpoint the policy keeps a moving average of the time and of the response body length per entry,
+ * measured on full pages. The next page size is the number of entries expected to fit into the target latency and
+ * into the maximum body length, so endpoints returning small entries quickly get large pages and few round trips,
+ * while listings requesting many fields get smaller pages with shorter tail latency. The first page of an endpoint
+ * uses the page size chosen by the SDK or the caller for the listing. From there the page size grows at most by a
+ * factor of two per page, never drops below the minimum and never exceeds the maximum allowed by the endpoint.
+ * Endpoints are told apart by their path, with numeric IDs ignored, so all folders share one estimate.</p>
+ *
+ * <p>The chosen page sizes are logged at debug level whenever they change and can be read with
+ * {@link #getStatistics()}.</p>
+ */
+public class AdaptivePageSizePolicy implements PageSizePolicy {
+    private static final long DEFAULT_TARGET_LATENCY = 1000;
+    private static final long DEFAULT_MAX_BODY_LENGTH = 1024 * 1024;
+    private static final long DEFAULT_MIN_LIMIT = 20;
+    private static final double SMOOTHING = 0.5;
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+    private static final BoxLogger LOGGER = BoxLogger.defaultLogger();
+
+    private final long targetLatency;
+    private final long maxBodyLength;
+    private final long minLimit;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a policy targeting one second and one million characters per page, with at least 20 entries per
+     * page.
+     */
+    public AdaptivePageSizePolicy() {
+        this(DEFAULT_TARGET_LATENCY, DEFAULT_MAX_BODY_LENGTH, DEFAULT_MIN_LIMIT);
+    }
+
+    /**
+     * Constructs a policy.
+     *
+     * @param targetLatency the time in milliseconds a page should take to load.
+     * @param maxBodyLength the maximum length of a page's response body in characters.
+     * @param minLimit      the smallest page size the policy chooses.
+     */
+    public AdaptivePageSizePolicy(long targetLatency, long maxBodyLength, long minLimit) {
+        if (targetLatency <= 0 || maxBodyLength <= 0 || minLimit <= 0) {
+            throw new IllegalArgumentException(
+                "Target latency, maximum body length and minimum limit must be positive."
+            );
+        }
+        this.targetLatency = targetLatency;
+        this.maxBodyLength = maxBodyLength;
+        this.minLimit = minLimit;
+    }
+
+    @Override
+    public long getLimit(URL url, long defaultLimit, long maxLimit) {
+        Endpoint endpoint = this.endpoints.get(endpointOf(url));
+        long limit = endpoint == null ? defaultLimit : endpoint.getLimit();
+        return Math.max(Math.min(limit, maxLimit), Math.min(this.minLimit, maxLimit));
+    }
+
+    @Override
+    public void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency) {
+        if (entries == 0 || entries < limit) {
+            // the last page of a listing doesn't tell how long a full page takes
+            return;
+        }
+        String key = endpointOf(url);
+        Endpoint endpoint = this.endpoints.computeIfAbsent(key, k -> new Endpoint());
+        long previous;
+        long next;
+        synchronized (endpoint) {
+            previous = endpoint.limit;
+            endpoint.update(limit, entries, bodyLength, latency);
+            next = endpoint.limit;
+        }
+        if (previous != next) {
+            LOGGER.debug(String.format("Page size for %s changed from %d to %d entries", key, previous, next));
+        }
+    }
+
+    /**
+     * Gets the page sizes chosen so far for each endpoint, together with the measurements they are based on.
+     *
+     * @return the statistics keyed by endpoint path.
+     */
+    public Map<String, EndpointStatistics> getStatistics() {
+        Map<String, EndpointStatistics> statistics = new TreeMap<>();
+        for (Map.Entry<String, Endpoint> entry : this.endpoints.entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            synchronized (endpoint) {
+                statistics.put(entry.getKey(), new EndpointStatistics(endpoint.limit, endpoint.pages,
+                    endpoint.latencyPerEntry, endpoint.bodyLengthPerEntry));
+            }
+        }
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    private static String endpointOf(URL url) {
+        return NUMERIC_SEGMENT.matcher(url.getPath()).replaceAll("/{id}");
+    }
+
+    /**
+     * Measurements of one endpoint.
+     */
+    private final class Endpoint {
+        private long limit;
+        private long pages;
+        private double latencyPerEntry;
+        private double bodyLengthPerEntry = -1;
+
+        private synchronized long getLimit() {
+            return this.limit;
+        }
+
+        private void update(long requestedLimit, int entries, long bodyLength, long latency) {
+            this.latencyPerEntry = this.average(this.latencyPerEntry, (double) latency / entries);
+            if (bodyLength >= 0) {
+                this.bodyLengthPerEntry = this.bodyLengthPerEntry < 0
+                    ? (double) bodyLength / entries
+                    : this.smooth(this.bodyLengthPerEntry, (double) bodyLength / entries);
+            }
+            this.pages++;
+
+            double fitting = AdaptivePageSizePolicy.this.targetLatency / Math.max(this.latencyPerEntry, 0.001);
+            if (this.bodyLengthPerEntry > 0) {
+                fitting = Math.min(fitting, AdaptivePageSizePolicy.this.maxBodyLength / this.bodyLengthPerEntry);
+            }
+            long chosen = Math.min((long) fitting, requestedLimit * 2);
+            this.limit = Math.max(chosen, AdaptivePageSizePolicy.this.minLimit);
+        }
+
+        private double average(double current, double sample) {
+            return this.pages == 0 ? sample : this.smooth(current, sample);
+        }
+
+        private double smooth(double current, double sample) {
+            return SMOOTHING * sample + (1 - SMOOTHING) * current;
+        }
+    }
+
+    /**
+     * The page size chosen for an endpoint and the measurements it is based on.
+     */
+    public static final class EndpointStatistics {
+        private final long limit;
+        private final long pages;
+        private final double latencyPerEntry;
+        private final double bodyLengthPerEntry;
+
+        private EndpointStatistics(long limit, long pages, double latencyPerEntry, double bodyLengthPerEntry) {
+            this.limit = limit;
+            this.pages = pages;
+            this.latencyPerEntry = latencyPerEntry;
+            this.bodyLengthPerEntry = bodyLengthPerEntry;
+        }
+
+        /**
+         * Gets the page size chosen for the next page, before it is capped by the maximum of the endpoint.
+         *
+         * @return the page size.
+         */
+        public long getLimit() {
+            return this.limit;
+        }
+
+        /**
+         * Gets the number of full pages measured.
+         *
+         * @return the number of pages.
+         */
+        public long getPages() {
+            return this.pages;
+        }
+
+        /**
+         * Gets the average time per entry.
+         *
+         * @return the time in milliseconds.
+         */
+        public double getLatencyPerEntry() {
+            return this.latencyPerEntry;
+        }
+
+        /**
+         * Gets the average response body length per entry.
+         *
+         * @return the length in characters, or -1 if the body length was never known.
+         */
+        public double getBodyLengthPerEntry() {
+            return this.bodyLengthPerEntry;
+        }
+    }
+}
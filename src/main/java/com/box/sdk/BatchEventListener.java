@@ -0,0 +1,19 @@
+package com.box.sdk;
+
+import java.util.List;
+
+/**
+ * A listener receiving the events of an {@link EventStream} in batches.
+ *
+ * <p>When the stream passes its events to an {@link EventDispatcher}, {@link #onEvents(List)} is called once for the
+ * events of a fetched page that belong to the same partition, instead of {@link #onEvent(BoxEvent)} for each event.
+ * Without a dispatcher, batch listeners get their events one by one through {@link #onEvent(BoxEvent)}.</p>
+ */
+public interface BatchEventListener extends EventListener {
+    /**
+     * Invoked with a batch of events received from the API, in the order they were received.
+     *
+     * @param events the received events.
+     */
+    void onEvents(List<BoxEvent> events);
+}
@@ -29,6 +29,7 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import okhttp3.Authenticator;
+import okhttp3.Call;
 import okhttp3.Credentials;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -91,6 +92,7 @@ public class BoxAPIConnection {
      * example, if REFRESH_EPSILON = 60000 and the access token expires in less than one minute, it will be refreshed.
      */
     private static final long REFRESH_EPSILON = 60000;
+    private static final int DEFAULT_PAGE_PREFETCH_MAX_ENTRIES = 10000;
 
     private final String clientID;
     private final String clientSecret;
@@ -120,6 +122,10 @@ public class BoxAPIConnection {
     private int maxRetryAttempts;
     private int connectTimeout;
     private int readTimeout;
+    private int pagePrefetchDepth;
+    private int pagePrefetchMaxEntries;
+    private PageSizePolicy pageSizePolicy;
+    private boolean lazyInfoDecoding;
     private final List<BoxAPIConnectionListener> listeners;
     private RequestInterceptor interceptor;
     private final Map<String, String> customHeaders;
@@ -158,6 +164,7 @@ public class BoxAPIConnection {
         this.maxRetryAttempts = BoxGlobalSettings.getMaxRetryAttempts();
         this.connectTimeout = BoxGlobalSettings.getConnectTimeout();
         this.readTimeout = BoxGlobalSettings.getReadTimeout();
+        this.pagePrefetchMaxEntries = DEFAULT_PAGE_PREFETCH_MAX_ENTRIES;
         this.refreshLock = new ReentrantReadWriteLock();
         this.userAgent = "Box Java SDK v" + SDK_VERSION + " (Java " + JAVA_VERSION + ")";
         this.listeners = new ArrayList<>();
@@ -338,9 +345,7 @@ public class BoxAPIConnection {
 
         // authentication uses form url encoded but response is JSON
         try (BoxJSONResponse response = (BoxJSONResponse) request.send()) {
-            String json = response.getJSON();
-
-            JsonObject jsonObject = Json.parse(json).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             this.accessToken = jsonObject.get("access_token").asString();
             this.refreshToken = jsonObject.get("refresh_token").asString();
             this.lastRefresh = System.currentTimeMillis();
@@ -669,6 +674,86 @@ public class BoxAPIConnection {
         buildHttpClients();
     }
 
+    /**
+     * Gets the number of pages that listings load ahead of the iterator consuming them.
+     *
+     * @return the number of pages loaded ahead, 0 when prefetching is disabled.
+     */
+    public int getPagePrefetchDepth() {
+        return this.pagePrefetchDepth;
+    }
+
+    /**
+     * Sets the number of pages that listings load ahead of the iterator consuming them. When enabled, the next page
+     * of a marker or offset based listing is requested in the background as soon as the previous page arrives, so the
+     * iterator doesn't wait for a request at every page boundary. Prefetching is disabled by default.
+     *
+     * @param pagePrefetchDepth the number of pages to load ahead, 0 to disable prefetching.
+     */
+    public void setPagePrefetchDepth(int pagePrefetchDepth) {
+        this.pagePrefetchDepth = pagePrefetchDepth;
+    }
+
+    /**
+     * Gets the maximum number of entries that listings keep in pages loaded ahead.
+     *
+     * @return the maximum number of prefetched entries.
+     */
+    public int getPagePrefetchMaxEntries() {
+        return this.pagePrefetchMaxEntries;
+    }
+
+    /**
+     * Sets the maximum number of entries that listings keep in pages loaded ahead. No more pages are prefetched while
+     * the pages waiting to be consumed hold this many entries. Defaults to 10000 entries.
+     *
+     * @param pagePrefetchMaxEntries the maximum number of prefetched entries.
+     */
+    public void setPagePrefetchMaxEntries(int pagePrefetchMaxEntries) {
+        this.pagePrefetchMaxEntries = pagePrefetchMaxEntries;
+    }
+
+    /**
+     * Gets the policy choosing the page sizes of listings.
+     *
+     * @return the page size policy, or null when listings use fixed page sizes.
+     */
+    public PageSizePolicy getPageSizePolicy() {
+        return this.pageSizePolicy;
+    }
+
+    /**
+     * Sets the policy choosing the page sizes of listings. By default, listings request fixed page sizes; an
+     * {@link AdaptivePageSizePolicy} adjusts them to the observed latency and size of each endpoint's pages. The
+     * policy can be overridden for a single listing with {@link PagingParameters#withPageSizePolicy(PageSizePolicy)}.
+     *
+     * @param pageSizePolicy the page size policy, or null to use fixed page sizes.
+     */
+    public void setPageSizePolicy(PageSizePolicy pageSizePolicy) {
+        this.pageSizePolicy = pageSizePolicy;
+    }
+
+    /**
+     * Gets whether the fields of file, folder and web link infos are decoded when they are first read.
+     *
+     * @return true if item infos are decoded lazily.
+     */
+    public boolean isLazyInfoDecoding() {
+        return this.lazyInfoDecoding;
+    }
+
+    /**
+     * Sets whether the fields of file, folder and web link infos are decoded when they are first read instead of when
+     * the info is created. Lazily decoded infos keep only the JSON they were created from, and build dates, nested
+     * user infos, shared links and permissions the first time a getter asks for them. This saves time and memory when
+     * large listings are read only for a few fields, such as the ID and name of every item. Disabled by default.
+     *
+     * @param lazyInfoDecoding true to decode item infos lazily.
+     */
+    public void setLazyInfoDecoding(boolean lazyInfoDecoding) {
+        this.lazyInfoDecoding = lazyInfoDecoding;
+    }
+
     /**
      * Gets the proxy value to use for API calls to Box.
      *
@@ -792,10 +877,10 @@ public class BoxAPIConnection {
 
         BoxAPIRequest request = createTokenRequest(url);
 
-        String json;
+        JsonObject json;
         try (BoxAPIResponse boxAPIResponse = request.send()) {
             BoxJSONResponse response = (BoxJSONResponse) boxAPIResponse;
-            json = response.getJSON();
+            json = response.getJsonObject();
         } catch (BoxAPIException e) {
             this.refreshLock.writeLock().unlock();
             this.notifyError(e);
@@ -803,7 +888,7 @@ public class BoxAPIConnection {
         }
 
         try {
-            extractTokens(Json.parse(json).asObject());
+            extractTokens(json);
 
             this.notifyRefresh();
         } finally {
@@ -1003,15 +1088,14 @@ public class BoxAPIConnection {
         request.shouldAuthenticate(false);
         request.setBody(urlParameters);
 
-        String jsonResponse;
+        JsonObject jsonObject;
         try (BoxJSONResponse response = (BoxJSONResponse) request.send()) {
-            jsonResponse = response.getJSON();
+            jsonObject = response.getJsonObject();
         } catch (BoxAPIException e) {
             this.notifyError(e);
             throw e;
         }
 
-        JsonObject jsonObject = Json.parse(jsonResponse).asObject();
         ScopedToken token = new ScopedToken(jsonObject);
         token.setObtainedAt(System.currentTimeMillis());
         token.setExpiresIn(jsonObject.get("expires_in").asLong() * 1000);
@@ -1245,19 +1329,17 @@ public class BoxAPIConnection {
         return baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
     }
 
-    Response execute(Request request) {
-        return executeOnClient(httpClient, request);
-    }
-
-    Response executeWithoutRedirect(Request request) {
-        return executeOnClient(noRedirectsHttpClient, request);
+    Call newCall(Request request, boolean followRedirects) {
+        return (followRedirects ? httpClient : noRedirectsHttpClient).newCall(request);
     }
 
-    private Response executeOnClient(OkHttpClient httpClient, Request request) {
+    Response execute(Call call) {
         try {
-            return httpClient.newCall(request).execute();
+            return call.execute();
         } catch (IOException e) {
-            throw new BoxAPIException("Couldn't connect to the Box API due to a network error. Request\n" + request, e);
+            throw new BoxAPIException(
+                "Couldn't connect to the Box API due to a network error. Request\n" + call.request(), e
+            );
         }
     }
 
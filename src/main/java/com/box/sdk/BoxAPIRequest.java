@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import okhttp3.Call;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -58,6 +59,8 @@ public class BoxAPIRequest {
     private boolean shouldAuthenticate;
     private boolean followRedirects = true;
     private final String mediaType;
+    private volatile Call call;
+    private volatile boolean cancelled;
 
     /**
      * Constructs an authenticated BoxAPIRequest using a provided BoxAPIConnection.
@@ -379,7 +382,7 @@ public class BoxAPIRequest {
             try {
                 return this.trySend(listener);
             } catch (BoxAPIException apiException) {
-                if (!this.backoffCounter.decrement()
+                if (this.cancelled || !this.backoffCounter.decrement()
                     || (!isRequestRetryable(apiException)
                     && !isResponseRetryable(apiException.getResponseCode(), apiException))) {
                     throw apiException;
@@ -450,7 +453,7 @@ public class BoxAPIRequest {
         while (this.backoffCounter.getAttemptsRemaining() > 0) {
             try (BoxJSONResponse response = (BoxJSONResponse) this.trySend(null)) {
                 // upload sends binary data but response is JSON
-                JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+                JsonObject jsonObject = response.getJsonObject();
                 return new BoxFileUploadSessionPart((JsonObject) jsonObject.get("part"));
             } catch (BoxAPIException apiException) {
                 if (!this.backoffCounter.decrement()
@@ -563,6 +566,22 @@ public class BoxAPIRequest {
         }
     }
 
+    /**
+     * Cancels this request. A request that is being sent fails with a {@link BoxAPIException} instead of waiting for
+     * its response, and isn't retried.
+     */
+    void cancel() {
+        this.cancelled = true;
+        Call currentCall = this.call;
+        if (currentCall != null) {
+            currentCall.cancel();
+        }
+    }
+
+    boolean isCancelled() {
+        return this.cancelled;
+    }
+
     void setBackoffCounter(BackoffCounter counter) {
         this.backoffCounter = counter;
     }
@@ -605,12 +624,12 @@ public class BoxAPIRequest {
             long start = System.currentTimeMillis();
             writeMethodWithBody(requestBuilder, listener);
             Request request = requestBuilder.build();
-            Response response;
-            if (this.followRedirects) {
-                response = api.execute(request);
-            } else {
-                response = api.executeWithoutRedirect(request);
+            Call newCall = this.api.newCall(request, this.followRedirects);
+            this.call = newCall;
+            if (this.cancelled) {
+                newCall.cancel();
             }
+            Response response = this.api.execute(newCall);
             logDebug(format("[trySend] connection.connect() took %dms%n", (System.currentTimeMillis() - start)));
 
             BoxAPIResponse result = BoxAPIResponse.toBoxResponse(response);
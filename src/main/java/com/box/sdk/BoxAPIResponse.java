@@ -160,12 +160,14 @@ public class BoxAPIResponse implements Closeable {
                 String bodyAsString = "";
                 try {
                     bodyAsString = responseBody.string();
-                    return new BoxJSONResponse(response.code(),
+                    BoxJSONResponse jsonResponse = new BoxJSONResponse(response.code(),
                         response.request().method(),
                         response.request().url().toString(),
                         response.headers().toMultimap(),
                         Json.parse(bodyAsString).asObject()
                     );
+                    jsonResponse.setBodyLength(bodyAsString.length());
+                    return jsonResponse;
                 } catch (ParseException e) {
                     throw new BoxAPIException(format("Error parsing JSON:\n%s", bodyAsString), e);
                 } catch (IOException e) {
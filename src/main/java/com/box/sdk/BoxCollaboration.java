@@ -118,7 +118,7 @@ public class BoxCollaboration extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxCollaboration newCollaboration = new BoxCollaboration(api, responseJSON.get("id").asString());
             return newCollaboration.new Info(responseJSON);
         }
@@ -135,7 +135,7 @@ public class BoxCollaboration extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int entriesCount = responseJSON.get("total_count").asInt();
             Collection<BoxCollaboration.Info> collaborations = new ArrayList<>(entriesCount);
@@ -162,13 +162,30 @@ public class BoxCollaboration extends BoxResource {
      */
     public static BoxResourceIterable<Info> getAllFileCollaborations(final BoxAPIConnection api, String fileID,
                                                                      int pageSize, String... fields) {
+        return getAllFileCollaborations(api, fileID, pageSize, null, fields);
+    }
+
+    /**
+     * Used to retrieve all collaborations associated with the item.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            BoxAPIConnection from the associated file.
+     * @param fileID         FileID of the associated file
+     * @param pageSize       page size for server pages of the Iterable
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the page size.
+     * @param fields         the optional fields to retrieve.
+     * @return An iterable of BoxCollaboration.Info instances associated with the item.
+     */
+    public static BoxResourceIterable<Info> getAllFileCollaborations(final BoxAPIConnection api, String fileID,
+                                                                     int pageSize, PageSizePolicy pageSizePolicy,
+                                                                     String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<BoxCollaboration.Info>(
             api, GET_ALL_FILE_COLLABORATIONS_URL.buildWithQuery(api.getBaseURL(), builder.toString(), fileID),
-            pageSize) {
+            pageSize, null, null, pageSizePolicy) {
 
             @Override
             protected BoxCollaboration.Info factory(JsonObject jsonObject) {
@@ -193,7 +210,7 @@ public class BoxCollaboration extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -209,7 +226,7 @@ public class BoxCollaboration extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
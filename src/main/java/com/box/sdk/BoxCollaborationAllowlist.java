@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -66,7 +65,7 @@ public class BoxCollaborationAllowlist extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxCollaborationAllowlist domainAllowlist =
                 new BoxCollaborationAllowlist(api, responseJSON.get("id").asString());
 
@@ -96,6 +95,21 @@ public class BoxCollaborationAllowlist extends BoxResource {
      */
     public static Iterable<BoxCollaborationAllowlist.Info> getAll(final BoxAPIConnection api, int limit,
                                                                   String... fields) {
+        return getAll(api, limit, null, fields);
+    }
+
+    /**
+     * Returns all the collaboration allowlisting with specified filters.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            the API connection to be used by the resource.
+     * @param limit          the limit of items per single response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable with all the collaboration allowlists met search conditions.
+     */
+    public static Iterable<BoxCollaborationAllowlist.Info> getAll(final BoxAPIConnection api, int limit,
+                                                                  PageSizePolicy pageSizePolicy, String... fields) {
 
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
@@ -103,7 +117,7 @@ public class BoxCollaborationAllowlist extends BoxResource {
         }
 
         URL url = COLLABORATION_ALLOWLIST_ENTRIES_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString());
-        return new BoxResourceIterable<BoxCollaborationAllowlist.Info>(api, url, limit) {
+        return new BoxResourceIterable<BoxCollaborationAllowlist.Info>(api, url, limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxCollaborationAllowlist.Info factory(JsonObject jsonObject) {
@@ -122,7 +136,7 @@ public class BoxCollaborationAllowlist extends BoxResource {
         URL url = COLLABORATION_ALLOWLIST_ENTRY_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, HttpMethod.GET);
         try (BoxJSONResponse response = request.send()) {
-            return new Info(Json.parse(response.getJSON()).asObject());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -63,7 +62,7 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxCollaborationAllowlistExemptTarget userAllowlist = new BoxCollaborationAllowlistExemptTarget(api,
                 responseJSON.get("id").asString());
 
@@ -93,6 +92,22 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
      */
     public static Iterable<BoxCollaborationAllowlistExemptTarget.Info> getAll(final BoxAPIConnection api, int limit,
                                                                               String... fields) {
+        return getAll(api, limit, null, fields);
+    }
+
+    /**
+     * Returns all the collaboration allowlisting for user with specified filters.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            the API connection to be used by the resource.
+     * @param limit          the number of collaboration allowlists to retrieve.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable with all the collaboration allowlists for users met search conditions.
+     */
+    public static Iterable<BoxCollaborationAllowlistExemptTarget.Info> getAll(final BoxAPIConnection api, int limit,
+                                                                              PageSizePolicy pageSizePolicy,
+                                                                              String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
@@ -100,7 +115,8 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
 
         URL url = COLLABORATION_ALLOWLIST_EXEMPT_TARGET_ENTRIES_URL_TEMPLATE.buildWithQuery(api.getBaseURL(),
             builder.toString());
-        return new BoxResourceIterable<BoxCollaborationAllowlistExemptTarget.Info>(api, url, limit) {
+        return new BoxResourceIterable<BoxCollaborationAllowlistExemptTarget.Info>(
+            api, url, limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxCollaborationAllowlistExemptTarget.Info factory(JsonObject jsonObject) {
@@ -122,7 +138,7 @@ public class BoxCollaborationAllowlistExemptTarget extends BoxResource {
             this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, HttpMethod.GET);
         try (BoxJSONResponse response = request.send()) {
-            return new Info(Json.parse(response.getJSON()).asObject());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -95,7 +94,7 @@ public class BoxCollection extends BoxResource implements Iterable<BoxItem.Info>
         URL url = GET_COLLECTION_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             String totalCountString = responseJSON.get("total_count").toString();
             long fullSize = Double.valueOf(totalCountString).longValue();
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -58,7 +57,7 @@ public class BoxComment extends BoxResource {
         URL url = COMMENT_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonResponse = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonResponse = response.getJsonObject();
 
             return new Info(jsonResponse);
         }
@@ -78,7 +77,7 @@ public class BoxComment extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(newInfo.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonResponse = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonResponse = response.getJsonObject();
 
             return new Info(jsonResponse);
         }
@@ -107,7 +106,7 @@ public class BoxComment extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxComment addedComment = new BoxComment(this.getAPI(), responseJSON.get("id").asString());
             return addedComment.new Info(responseJSON);
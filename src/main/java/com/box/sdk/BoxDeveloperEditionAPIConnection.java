@@ -319,7 +319,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
         String jwtAssertion;
         String urlParameters;
         BoxAPIRequest request;
-        String json = null;
+        JsonObject jsonObject = null;
         final BoxLogger logger = BoxLogger.defaultLogger();
 
         while (this.backoffCounter.getAttemptsRemaining() > 0) {
@@ -333,7 +333,7 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
 
             try (BoxJSONResponse response = (BoxJSONResponse) request.sendWithoutRetry()) {
                 // authentication uses form url encoded but response is JSON
-                json = response.getJSON();
+                jsonObject = response.getJsonObject();
                 break;
             } catch (BoxAPIException apiException) {
                 long responseReceivedTime = System.currentTimeMillis();
@@ -376,11 +376,10 @@ public class BoxDeveloperEditionAPIConnection extends BoxAPIConnection {
             }
         }
 
-        if (json == null) {
+        if (jsonObject == null) {
             throw new RuntimeException("Unable to read authentication response in SDK.");
         }
 
-        JsonObject jsonObject = Json.parse(json).asObject();
         this.setAccessToken(jsonObject.get("access_token").asString());
         this.setLastRefresh(System.currentTimeMillis());
         this.setExpires(jsonObject.get("expires_in").asLong() * 1000);
@@ -68,13 +68,31 @@ public class BoxDevicePin extends BoxResource {
      */
     public static Iterable<BoxDevicePin.Info> getEnterpriceDevicePins(final BoxAPIConnection api, String enterpriseID,
                                                                       int limit, String... fields) {
+        return getEnterpriceDevicePins(api, enterpriseID, limit, null, fields);
+    }
+
+    /**
+     * Returns iterable with all the device pins within a given enterprise.
+     * Must be an enterprise admin with the manage enterprise scope to make this call.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            API used to connect the Box.
+     * @param enterpriseID   ID of the enterprise to get all the device pins within.
+     * @param limit          the maximum number of items per single response.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the optional fields to retrieve.
+     * @return iterable with all the device pins within a given enterprise.
+     */
+    public static Iterable<BoxDevicePin.Info> getEnterpriceDevicePins(final BoxAPIConnection api, String enterpriseID,
+                                                                      int limit, PageSizePolicy pageSizePolicy,
+                                                                      String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<BoxDevicePin.Info>(api,
             ENTERPRISE_DEVICE_PINS_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString(), enterpriseID),
-            limit) {
+            limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxDevicePin.Info factory(JsonObject jsonObject) {
@@ -98,7 +116,7 @@ public class BoxDevicePin extends BoxResource {
         URL url = DEVICE_PIN_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
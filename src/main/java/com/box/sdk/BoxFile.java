@@ -1,6 +1,7 @@
 package com.box.sdk;
 
 import static com.box.sdk.BinaryBodyUtils.writeStream;
+import static com.box.sdk.PagingParameters.offset;
 import static com.box.sdk.http.ContentType.APPLICATION_JSON;
 import static com.box.sdk.http.ContentType.APPLICATION_JSON_PATCH;
 import static com.eclipsesource.json.Json.NULL;
@@ -23,6 +24,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -130,6 +132,7 @@ public class BoxFile extends BoxItem {
      */
     static final String TYPE = "file";
     private static final int GET_COLLABORATORS_PAGE_SIZE = 1000;
+    private static final int VERSIONS_PAGE_LIMIT = 1000;
 
     /**
      * Constructs a BoxFile for a file with a given ID.
@@ -204,7 +207,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxComment addedComment = new BoxComment(this.getAPI(), responseJSON.get("id").asString());
             return addedComment.new Info(responseJSON);
@@ -259,7 +262,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxTask addedTask = new BoxTask(this.getAPI(), responseJSON.get("id").asString());
             return addedTask.new Info(responseJSON);
@@ -275,7 +278,18 @@ public class BoxFile extends BoxItem {
      */
     public URL getDownloadURL() {
         URL url = CONTENT_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
-        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), url, "GET");
+        return requestDownloadURL(this.getAPI(), url);
+    }
+
+    /**
+     * Requests file content without following the redirect and returns the expiring URL it redirects to.
+     *
+     * @param api        the API connection to be used.
+     * @param contentURL the URL of the file or file version content.
+     * @return the temporary download URL
+     */
+    static URL requestDownloadURL(BoxAPIConnection api, URL contentURL) {
+        BoxAPIRequest request = new BoxAPIRequest(api, contentURL, "GET");
         request.setFollowRedirects(false);
 
         try (BoxAPIResponse response = request.send()) {
@@ -352,6 +366,85 @@ public class BoxFile extends BoxItem {
         writeStream(request.send(), output, listener);
     }
 
+    /**
+     * Downloads the contents of this file directly from the download host, using a download URL from a cache. The ID
+     * of the current version is taken from the cache or looked up, and the download URL is only requested from the
+     * API when the cache doesn't hold a recent one for that version.
+     *
+     * @param output the stream to where the file will be written.
+     * @param cache  the cache of download URLs.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache) {
+        this.downloadDirect(output, cache, (ProgressListener) null);
+    }
+
+    /**
+     * Downloads the version of this file described by an info object directly from the download host, using a download
+     * URL from a cache. Taking the version ID from info the caller already holds saves looking up the current version.
+     *
+     * @param output the stream to where the file will be written.
+     * @param cache  the cache of download URLs.
+     * @param info   info of this file; when it has no file version, the current version is looked up.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache, BoxFile.Info info) {
+        this.downloadDirect(output, cache, info, null);
+    }
+
+    /**
+     * Downloads the version of this file described by an info object directly from the download host, using a download
+     * URL from a cache, while reporting the progress to a ProgressListener.
+     *
+     * @param output   the stream to where the file will be written.
+     * @param cache    the cache of download URLs.
+     * @param info     info of this file; when it has no file version, the current version is looked up.
+     * @param listener a listener for monitoring the download's progress.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache, BoxFile.Info info,
+                               ProgressListener listener) {
+        String versionID = info.getVersion() == null ? null : info.getVersion().getID();
+        cache.download(this.getAPI(), this.getID(), versionID, -1, -1, output, listener);
+    }
+
+    /**
+     * Downloads the contents of this file directly from the download host, using a download URL from a cache, while
+     * reporting the progress to a ProgressListener.
+     *
+     * @param output   the stream to where the file will be written.
+     * @param cache    the cache of download URLs.
+     * @param listener a listener for monitoring the download's progress.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache, ProgressListener listener) {
+        cache.download(this.getAPI(), this.getID(), null, -1, -1, output, listener);
+    }
+
+    /**
+     * Downloads a part of this file's contents directly from the download host, using a download URL from a cache.
+     * Parallel range downloads of the same file share a single download URL.
+     *
+     * @param output     the stream to where the file will be written.
+     * @param rangeStart the byte offset at which to start the download.
+     * @param rangeEnd   the byte offset at which to stop the download, or -1 to download until the end.
+     * @param cache      the cache of download URLs.
+     */
+    public void downloadRangeDirect(OutputStream output, long rangeStart, long rangeEnd, DownloadURLCache cache) {
+        this.downloadRangeDirect(output, rangeStart, rangeEnd, cache, null);
+    }
+
+    /**
+     * Downloads a part of this file's contents directly from the download host, using a download URL from a cache,
+     * while reporting the progress to a ProgressListener.
+     *
+     * @param output     the stream to where the file will be written.
+     * @param rangeStart the byte offset at which to start the download.
+     * @param rangeEnd   the byte offset at which to stop the download, or -1 to download until the end.
+     * @param cache      the cache of download URLs.
+     * @param listener   a listener for monitoring the download's progress.
+     */
+    public void downloadRangeDirect(OutputStream output, long rangeStart, long rangeEnd, DownloadURLCache cache,
+                                    ProgressListener listener) {
+        cache.download(this.getAPI(), this.getID(), null, rangeStart, rangeEnd, output, listener);
+    }
+
     @Override
     public BoxFile.Info copy(BoxFolder destination) {
         return this.copy(destination, null);
@@ -373,7 +466,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(copyInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxFile copiedFile = new BoxFile(this.getAPI(), responseJSON.get("id").asString());
             return copiedFile.new Info(responseJSON);
         }
@@ -409,7 +502,7 @@ public class BoxFile extends BoxItem {
 
         request.setBody(updateInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxFile movedFile = new BoxFile(this.getAPI(), responseJSON.get("id").asString());
             return movedFile.new Info(responseJSON);
         }
@@ -429,7 +522,7 @@ public class BoxFile extends BoxItem {
 
         request.setBody(updateInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            response.getJSON();
+            response.getJsonObject();
         }
     }
 
@@ -443,7 +536,7 @@ public class BoxFile extends BoxItem {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -467,7 +560,7 @@ public class BoxFile extends BoxItem {
             BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
             request.addHeader("X-Rep-Hints", representationHints);
             try (BoxJSONResponse response = request.send()) {
-                return new Info(response.getJSON());
+                return new Info(response.getJsonObject());
             }
         } else {
             throw new BoxAPIException(
@@ -490,6 +583,7 @@ public class BoxFile extends BoxItem {
 
     /**
      * Fetches the contents of a file representation with asset path and writes them to the provided output stream.
+     * A representation that is still being generated is polled using the default {@link RepresentationPollingPolicy}.
      *
      * @param representationHint the X-Rep-Hints query for the representation to fetch.
      * @param assetPath          the path of the asset for representations containing multiple files.
@@ -497,58 +591,85 @@ public class BoxFile extends BoxItem {
      * @see <a href=https://developer.box.com/reference#section-x-rep-hints-header>X-Rep-Hints Header</a>
      */
     public void getRepresentationContent(String representationHint, String assetPath, OutputStream output) {
+        this.getRepresentationContent(representationHint, assetPath, output, new RepresentationPollingPolicy());
+    }
+
+    /**
+     * Fetches the contents of a file representation with asset path and writes them to the provided output stream.
+     * A representation that is still being generated is polled with an exponential backoff described by the polling
+     * policy until it is ready or the policy's timeout elapses.
+     *
+     * @param representationHint the X-Rep-Hints query for the representation to fetch.
+     * @param assetPath          the path of the asset for representations containing multiple files.
+     * @param output             the output stream to write the contents to.
+     * @param pollingPolicy      the policy used to poll a representation that is not ready yet.
+     * @see <a href=https://developer.box.com/reference#section-x-rep-hints-header>X-Rep-Hints Header</a>
+     */
+    public void getRepresentationContent(String representationHint, String assetPath, OutputStream output,
+                                         RepresentationPollingPolicy pollingPolicy) {
 
         List<Representation> reps = this.getInfoWithRepresentations(representationHint).getRepresentations();
         if (reps.size() < 1) {
             throw new BoxAPIException("No matching representations found");
         }
         Representation representation = reps.get(0);
-        String repState = representation.getStatus().getState();
+        String repContentURLString = getRepresentationContentURL(representation);
+        if (repContentURLString == null) {
+            repContentURLString = this.pollRepInfo(representation.getInfo().getUrl(), pollingPolicy);
+        }
+        this.makeRepresentationContentRequest(repContentURLString, assetPath, output);
+    }
 
+    /**
+     * Checks the state of a representation.
+     *
+     * @param representation the representation to check.
+     * @return the content URL template when the representation is ready or null when it is still being generated.
+     */
+    static String getRepresentationContentURL(Representation representation) {
+        String repState = representation.getStatus().getState();
         switch (repState) {
             case "viewable":
             case "success":
-                this.makeRepresentationContentRequest(representation.getContent().getUrlTemplate(), assetPath, output);
-                break;
+                return representation.getContent().getUrlTemplate();
             case "pending":
             case "none":
-
-                String repContentURLString = null;
-                while (repContentURLString == null) {
-                    repContentURLString = this.pollRepInfo(representation.getInfo().getUrl());
-                }
-
-                this.makeRepresentationContentRequest(repContentURLString, assetPath, output);
-                break;
+                return null;
             case "error":
                 throw new BoxAPIException("Representation had error status");
             default:
                 throw new BoxAPIException("Representation had unknown status");
         }
-
     }
 
-    private String pollRepInfo(URL infoURL) {
-
-        BoxJSONRequest infoRequest = new BoxJSONRequest(this.getAPI(), infoURL, HttpMethod.GET);
-        try (BoxJSONResponse infoResponse = infoRequest.send()) {
-            JsonObject response = infoResponse.getJsonObject();
-
-            Representation rep = new Representation(response);
-
-            String repState = rep.getStatus().getState();
+    private String pollRepInfo(URL infoURL, RepresentationPollingPolicy pollingPolicy) {
+        long deadline = System.currentTimeMillis() + pollingPolicy.getTimeout();
+        int attempt = 0;
+        while (true) {
+            String retryAfter;
+            BoxJSONRequest infoRequest = new BoxJSONRequest(this.getAPI(), infoURL, HttpMethod.GET);
+            try (BoxJSONResponse infoResponse = infoRequest.send()) {
+                String repContentURLString = getRepresentationContentURL(
+                    new Representation(infoResponse.getJsonObject())
+                );
+                if (repContentURLString != null) {
+                    return repContentURLString;
+                }
+                retryAfter = infoResponse.getHeaderField("Retry-After");
+            }
+            attempt++;
 
-            switch (repState) {
-                case "viewable":
-                case "success":
-                    return rep.getContent().getUrlTemplate();
-                case "pending":
-                case "none":
-                    return null;
-                case "error":
-                    throw new BoxAPIException("Representation had error status");
-                default:
-                    throw new BoxAPIException("Representation had unknown status");
+            long delay = pollingPolicy.nextDelay(attempt, retryAfter);
+            if (System.currentTimeMillis() + delay > deadline) {
+                throw new BoxAPIException(String.format(
+                    "Representation was not ready after %d attempts and %d ms", attempt, pollingPolicy.getTimeout()
+                ));
+            }
+            try {
+                Time.getInstance().waitDuration((int) delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BoxAPIException("Interrupted while waiting for representation", e);
             }
         }
     }
@@ -585,7 +706,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -619,7 +740,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
 
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             JsonArray entries = jsonObject.get("entries").asArray();
             Collection<BoxFileVersion> versions = new ArrayList<>();
             for (JsonValue entry : entries) {
@@ -630,6 +751,36 @@ public class BoxFile extends BoxItem {
         }
     }
 
+    /**
+     * Gets the previous versions of this file, loading them page by page while iterating. Unlike
+     * {@link #getVersions(String...)} this method is not limited to the versions returned in the first page.
+     *
+     * @param fields the optional fields to retrieve.
+     *               You can find list of available fields at {@link BoxFile#ALL_VERSION_FIELDS}
+     * @return an iterable containing the previous versions of this file.
+     */
+    public Iterable<BoxFileVersion> getPreviousVersions(final String... fields) {
+        return () -> {
+            QueryStringBuilder builder = new QueryStringBuilder();
+            if (fields.length > 0) {
+                builder.appendParam("fields", fields);
+            }
+            URL url = VERSIONS_URL_TEMPLATE.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
+            JsonIterator iterator = new JsonIterator(getAPI(), url, offset(0, VERSIONS_PAGE_LIMIT));
+            return new Iterator<BoxFileVersion>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public BoxFileVersion next() {
+                    return new BoxFileVersion(getAPI(), iterator.next(), getID());
+                }
+            };
+        };
+    }
+
     /**
      * Checks if a new version of the file can be uploaded with the specified name.
      *
@@ -834,7 +985,7 @@ public class BoxFile extends BoxItem {
         URL url = GET_COMMENTS_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int totalCount = responseJSON.get("total_count").asInt();
             List<BoxComment.Info> comments = new ArrayList<>(totalCount);
@@ -864,7 +1015,7 @@ public class BoxFile extends BoxItem {
         URL url = GET_TASKS_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int totalCount = responseJSON.get("total_count").asInt();
             List<BoxTask.Info> tasks = new ArrayList<>(totalCount);
@@ -915,7 +1066,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(metadata.toString());
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -1102,9 +1253,9 @@ public class BoxFile extends BoxItem {
 
         try (BoxJSONResponse response = request.send()) {
 
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             JsonValue lockValue = responseJSON.get("lock");
-            JsonObject lockJSON = Json.parse(lockValue.toString()).asObject();
+            JsonObject lockJSON = lockValue.asObject();
 
             return new BoxLock(lockJSON, this.getAPI());
         }
@@ -1166,7 +1317,7 @@ public class BoxFile extends BoxItem {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, typeName);
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -1191,7 +1342,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT", APPLICATION_JSON_PATCH);
         request.setBody(metadata.getPatch());
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -1271,7 +1422,7 @@ public class BoxFile extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new Info(jsonObject);
         }
     }
@@ -1294,7 +1445,7 @@ public class BoxFile extends BoxItem {
         request.setBody(body.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             String sessionId = jsonObject.get("id").asString();
             BoxFileUploadSession session = new BoxFileUploadSession(this.getAPI(), sessionId);
@@ -1595,6 +1746,7 @@ public class BoxFile extends BoxItem {
          * @return the SHA1 hash of the file.
          */
         public String getSha1() {
+            this.decodeMember("sha1");
             return this.sha1;
         }
 
@@ -1604,6 +1756,7 @@ public class BoxFile extends BoxItem {
          * @return the lock of the file.
          */
         public BoxLock getLock() {
+            this.decodeMember("lock");
             return this.lock;
         }
 
@@ -1613,6 +1766,7 @@ public class BoxFile extends BoxItem {
          * @return the current version number of the file.
          */
         public String getVersionNumber() {
+            this.decodeMember("version_number");
             return this.versionNumber;
         }
 
@@ -1622,6 +1776,7 @@ public class BoxFile extends BoxItem {
          * @return the number of comments on the file.
          */
         public long getCommentCount() {
+            this.decodeMember("comment_count");
             return this.commentCount;
         }
 
@@ -1631,6 +1786,7 @@ public class BoxFile extends BoxItem {
          * @return the permissions that the current user has on the file.
          */
         public EnumSet<Permission> getPermissions() {
+            this.decodeMember("permissions");
             return this.permissions;
         }
 
@@ -1640,6 +1796,7 @@ public class BoxFile extends BoxItem {
          * @return the extension of the file.
          */
         public String getExtension() {
+            this.decodeMember("extension");
             return this.extension;
         }
 
@@ -1649,6 +1806,7 @@ public class BoxFile extends BoxItem {
          * @return true if the file is an OSX package; otherwise false.
          */
         public boolean getIsPackage() {
+            this.decodeMember("is_package");
             return this.isPackage;
         }
 
@@ -1658,6 +1816,7 @@ public class BoxFile extends BoxItem {
          * @return the current version details of the file.
          */
         public BoxFileVersion getVersion() {
+            this.decodeMember("file_version");
             return this.version;
         }
 
@@ -1667,6 +1826,7 @@ public class BoxFile extends BoxItem {
          * @return the expiring preview link
          */
         public URL getPreviewLink() {
+            this.decodeMember("expiring_embed_link");
             return this.previewLink;
         }
 
@@ -1676,6 +1836,7 @@ public class BoxFile extends BoxItem {
          * @return whether the file is watermarked or not
          */
         public boolean getIsWatermarked() {
+            this.decodeMember("watermark_info");
             return this.isWatermarked;
         }
 
@@ -1685,6 +1846,7 @@ public class BoxFile extends BoxItem {
          * @return the list of roles allowed for invited collaborators.
          */
         public List<String> getAllowedInviteeRoles() {
+            this.decodeMember("allowed_invitee_roles");
             return this.allowedInviteeRoles;
         }
 
@@ -1694,6 +1856,7 @@ public class BoxFile extends BoxItem {
          * @return indicator for whether this file item has collaborations.
          */
         public Boolean getHasCollaborations() {
+            this.decodeMember("has_collaborations");
             return this.hasCollaborations;
         }
 
@@ -1706,6 +1869,7 @@ public class BoxFile extends BoxItem {
          * @return the metadata returned from the server.
          */
         public Metadata getMetadata(String templateName, String scope) {
+            this.decodeMember("metadata");
             try {
                 return this.metadataMap.get(scope).get(templateName);
             } catch (NullPointerException e) {
@@ -1719,6 +1883,7 @@ public class BoxFile extends BoxItem {
          * @return indicator for whether or not the file is owned by a user outside the enterprise.
          */
         public boolean getIsExternallyOwned() {
+            this.decodeMember("is_externally_owned");
             return this.isExternallyOwned;
         }
 
@@ -1728,6 +1893,7 @@ public class BoxFile extends BoxItem {
          * @return list of representations
          */
         public List<Representation> getRepresentations() {
+            this.decodeMember("representations");
             return this.representations;
         }
 
@@ -1737,6 +1903,7 @@ public class BoxFile extends BoxItem {
          * @return user's name at the time of upload
          */
         public String getUploaderDisplayName() {
+            this.decodeMember("uploader_display_name");
             return this.uploaderDisplayName;
         }
 
@@ -1746,6 +1913,7 @@ public class BoxFile extends BoxItem {
          * @return the metadata classification type of this file.
          */
         public BoxClassification getClassification() {
+            this.decodeMember("classification");
             return this.classification;
         }
 
@@ -1755,6 +1923,7 @@ public class BoxFile extends BoxItem {
          * @return Date representing expiration timestamp
          */
         public Date getDispositionAt() {
+            this.decodeMember("disposition_at");
             return dispositionAt;
         }
 
@@ -1775,6 +1944,7 @@ public class BoxFile extends BoxItem {
          * @return boolean flag indicating whether the file is accessible via a shared link.
          */
         public boolean getIsAccessibleViaSharedLink() {
+            this.decodeMember("is_accessible_via_shared_link");
             return this.isAccessibleViaSharedLink;
         }
 
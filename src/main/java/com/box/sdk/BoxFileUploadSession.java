@@ -133,7 +133,7 @@ public class BoxFileUploadSession extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, HttpMethod.GET);
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             return new BoxFileUploadSessionPartList(jsonObject);
         }
@@ -213,7 +213,7 @@ public class BoxFileUploadSession extends BoxResource {
      * Creates the file isntance from the JSON body of the response.
      */
     private BoxFile.Info getFile(BoxJSONResponse response) {
-        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+        JsonObject jsonObject = response.getJsonObject();
 
         JsonArray array = (JsonArray) jsonObject.get("entries");
         JsonObject fileObj = (JsonObject) array.get(0);
@@ -261,7 +261,7 @@ public class BoxFileUploadSession extends BoxResource {
         URL statusURL = this.sessionInfo.getSessionEndpoints().getStatusEndpoint();
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), statusURL, HttpMethod.GET);
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             this.sessionInfo.update(jsonObject);
 
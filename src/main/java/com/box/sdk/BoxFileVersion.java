@@ -289,6 +289,28 @@ public class BoxFileVersion extends BoxResource {
         writeStream(request.send(), output, listener);
     }
 
+    /**
+     * Downloads this version of the file directly from the download host, using a download URL from a cache.
+     *
+     * @param output the stream to where the file will be written.
+     * @param cache  the cache of download URLs.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache) {
+        this.downloadDirect(output, cache, null);
+    }
+
+    /**
+     * Downloads this version of the file directly from the download host, using a download URL from a cache, while
+     * reporting the progress to a ProgressListener.
+     *
+     * @param output   the stream to where the file will be written.
+     * @param cache    the cache of download URLs.
+     * @param listener a listener for monitoring the download's progress.
+     */
+    public void downloadDirect(OutputStream output, DownloadURLCache cache, ProgressListener listener) {
+        cache.download(this.getAPI(), this.fileID, this.getID(), -1, -1, output, listener);
+    }
+
     /**
      * Promotes this version of the file to be the latest version.
      */
@@ -302,7 +324,7 @@ public class BoxFileVersion extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(jsonObject.toString());
         try (BoxJSONResponse response = request.send()) {
-            this.parseJSON(Json.parse(response.getJSON()).asObject());
+            this.parseJSON(response.getJsonObject());
         }
     }
 }
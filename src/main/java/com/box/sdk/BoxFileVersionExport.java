@@ -0,0 +1,487 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class for exporting every version of many files to a local directory.
+ *
+ * <p>The current and all previous versions of each file are enumerated and downloaded using a bounded number of
+ * parallel connections. Content is stored once per SHA-1 in the target directory, under
+ * <code>&lt;first two characters of SHA-1&gt;/&lt;SHA-1&gt;</code>, so versions with identical content are only
+ * downloaded once, also across several exports into the same directory. Versions without a SHA-1 are stored under
+ * <code>versions/&lt;version ID&gt;</code>.</p>
+ *
+ * <p>What was exported is described by a manifest which is written while the export runs, as one JSON object per line
+ * (NDJSON). Every line describes one version and contains the <code>file_id</code>, <code>file_name</code>,
+ * <code>version_id</code>, <code>version_number</code>, <code>sha1</code>, <code>size</code> and
+ * <code>modified_at</code> of the version, the <code>path</code> of its content relative to the target directory and
+ * a <code>status</code>:</p>
+ * <ul>
+ * <li><code>downloaded</code> when the content was downloaded for this version,</li>
+ * <li><code>duplicate</code> when the same content was already exported for another version,</li>
+ * <li><code>purged</code> when the content of the version is no longer available,</li>
+ * <li><code>failed</code> when the content couldn't be downloaded; the line then also contains an
+ * <code>error</code>.</li>
+ * </ul>
+ * <p>Files whose versions couldn't be enumerated and folders whose items couldn't be listed are written as a line with
+ * the <code>file_id</code> or <code>folder_id</code>, the <code>failed</code> status and the <code>error</code>.</p>
+ */
+public final class BoxFileVersionExport {
+    private static final String[] FILE_FIELDS = {"type", "id", "name", "size", "sha1", "modified_at", "file_version"};
+    private static final String[] VERSION_FIELDS = {
+        "id", "sha1", "name", "size", "modified_at", "purged_at", "version_number"
+    };
+    private static final String PARTIAL_FILE_SUFFIX = ".boxpart";
+    private static final int DEFAULT_CONNECTIONS = 3;
+    private static final int QUEUED_VERSIONS_PER_CONNECTION = 100;
+
+    private final int nParallelConnections;
+
+    /**
+     * Creates a BoxFileVersionExport object.
+     *
+     * @param nParallelConnections number of versions that are enumerated and downloaded in parallel.
+     */
+    public BoxFileVersionExport(int nParallelConnections) {
+        this.nParallelConnections = nParallelConnections;
+    }
+
+    /**
+     * Creates a BoxFileVersionExport object with a default number of parallel connections.
+     */
+    public BoxFileVersionExport() {
+        this(DEFAULT_CONNECTIONS);
+    }
+
+    /**
+     * Exports all versions of the given files.
+     *
+     * @param api             the API connection to be used.
+     * @param fileIDs         IDs of the files to export.
+     * @param targetDirectory the local directory where the content is stored.
+     * @param manifest        the stream where the NDJSON manifest is written. The stream is not closed.
+     * @return the summary of the export.
+     * @throws InterruptedException when the calling thread gets interrupted.
+     */
+    public Summary exportFiles(BoxAPIConnection api, Collection<String> fileIDs, File targetDirectory,
+                               OutputStream manifest) throws InterruptedException {
+        Run run = new Run(targetDirectory, manifest);
+        try {
+            for (String fileID : fileIDs) {
+                run.submitFile(new BoxFile(api, fileID), null);
+            }
+            return run.finish();
+        } finally {
+            run.shutdown();
+        }
+    }
+
+    /**
+     * Exports all versions of all files in a folder and its subfolders.
+     *
+     * @param folder          the folder to export.
+     * @param targetDirectory the local directory where the content is stored.
+     * @param manifest        the stream where the NDJSON manifest is written. The stream is not closed.
+     * @return the summary of the export.
+     * @throws InterruptedException when the calling thread gets interrupted.
+     */
+    public Summary exportFolder(BoxFolder folder, File targetDirectory, OutputStream manifest)
+        throws InterruptedException {
+        Run run = new Run(targetDirectory, manifest);
+        try {
+            this.exportFolder(run, folder);
+            return run.finish();
+        } finally {
+            run.shutdown();
+        }
+    }
+
+    private void exportFolder(Run run, BoxFolder folder) throws InterruptedException {
+        try {
+            for (BoxItem.Info child : folder.getChildren(FILE_FIELDS)) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (child instanceof BoxFolder.Info) {
+                    this.exportFolder(run, ((BoxFolder.Info) child).getResource());
+                } else if (child instanceof BoxFile.Info) {
+                    BoxFile.Info info = (BoxFile.Info) child;
+                    run.submitFile(info.getResource(), info);
+                }
+            }
+        } catch (RuntimeException e) {
+            run.foldersFailed.incrementAndGet();
+            run.writeManifest(new JsonObject()
+                .add("folder_id", folder.getID())
+                .add("status", "failed")
+                .add("error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    /**
+     * State of a single export: the executors, the manifest, the content stored so far and the counters.
+     */
+    private final class Run {
+        private final Path root;
+        private final Writer manifest;
+        private final ExecutorService listingExecutor;
+        private final ExecutorService downloadExecutor;
+        private final Semaphore queuedVersions;
+        private final Map<String, Content> contents = new ConcurrentHashMap<>();
+        private final AtomicInteger pendingTasks = new AtomicInteger(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final AtomicInteger versionsDownloaded = new AtomicInteger();
+        private final AtomicInteger versionsDeduplicated = new AtomicInteger();
+        private final AtomicInteger versionsPurged = new AtomicInteger();
+        private final AtomicInteger versionsFailed = new AtomicInteger();
+        private final AtomicInteger filesFailed = new AtomicInteger();
+        private final AtomicInteger foldersFailed = new AtomicInteger();
+        private final AtomicLong bytesDownloaded = new AtomicLong();
+        private IOException manifestException;
+
+        private Run(File targetDirectory, OutputStream manifest) {
+            this.root = targetDirectory.toPath().toAbsolutePath().normalize();
+            this.manifest = new OutputStreamWriter(manifest, StandardCharsets.UTF_8);
+            int connections = BoxFileVersionExport.this.nParallelConnections;
+            this.listingExecutor = Executors.newFixedThreadPool(connections);
+            this.downloadExecutor = Executors.newFixedThreadPool(connections);
+            this.queuedVersions = new Semaphore(connections * QUEUED_VERSIONS_PER_CONNECTION);
+        }
+
+        private void submitFile(BoxFile file, BoxFile.Info info) {
+            this.pendingTasks.incrementAndGet();
+            this.listingExecutor.execute(() -> {
+                try {
+                    this.listVersions(file, info);
+                } catch (RuntimeException e) {
+                    this.filesFailed.incrementAndGet();
+                    JsonObject line = new JsonObject()
+                        .add("file_id", file.getID())
+                        .add("status", "failed")
+                        .add("error", String.valueOf(e.getMessage()));
+                    this.writeManifest(line);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    this.taskFinished();
+                }
+            });
+        }
+
+        private void listVersions(BoxFile file, BoxFile.Info info) throws InterruptedException {
+            BoxFile.Info fileInfo = info;
+            if (fileInfo == null || fileInfo.getVersion() == null) {
+                fileInfo = file.getInfo(FILE_FIELDS);
+            }
+
+            BoxFileVersion current = fileInfo.getVersion();
+            if (current != null) {
+                this.queuedVersions.acquire();
+                this.exportVersion(new VersionRecord(fileInfo, current, true));
+            }
+            for (BoxFileVersion version : file.getPreviousVersions(VERSION_FIELDS)) {
+                this.queuedVersions.acquire();
+                this.exportVersion(new VersionRecord(fileInfo, version, false));
+            }
+        }
+
+        private void exportVersion(VersionRecord record) {
+            if (record.version.getPurgedAt() != null) {
+                this.queuedVersions.release();
+                this.versionsPurged.incrementAndGet();
+                this.writeManifest(record.toJson("purged", null, null));
+                return;
+            }
+
+            String key = record.version.getSha1() == null
+                ? "versions/" + record.version.getID()
+                : record.version.getSha1().toLowerCase();
+            Content content = this.contents.computeIfAbsent(key, Content::new);
+            if (!content.add(record)) {
+                this.queuedVersions.release();
+                return;
+            }
+
+            this.pendingTasks.incrementAndGet();
+            this.downloadExecutor.execute(() -> {
+                try {
+                    this.download(content, record);
+                } catch (RuntimeException | IOException e) {
+                    content.complete(e);
+                } finally {
+                    this.queuedVersions.release();
+                    this.taskFinished();
+                }
+            });
+        }
+
+        private void download(Content content, VersionRecord record) throws IOException {
+            Path path = this.root.resolve(content.path);
+            if (Files.exists(path)) {
+                content.complete(null);
+                return;
+            }
+
+            Files.createDirectories(path.getParent());
+            Path partialFile = path.resolveSibling(path.getFileName() + PARTIAL_FILE_SUFFIX);
+            try {
+                try (OutputStream output = Files.newOutputStream(partialFile)) {
+                    record.version.download(output);
+                }
+                this.bytesDownloaded.addAndGet(Files.size(partialFile));
+                Files.move(partialFile, path, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(partialFile);
+            }
+            content.downloaded = true;
+            content.complete(null);
+        }
+
+        private void writeManifest(JsonObject line) {
+            synchronized (this.manifest) {
+                try {
+                    this.manifest.write(line.toString());
+                    this.manifest.write('\n');
+                    this.manifest.flush();
+                } catch (IOException e) {
+                    if (this.manifestException == null) {
+                        this.manifestException = e;
+                    }
+                }
+            }
+        }
+
+        private void taskFinished() {
+            if (this.pendingTasks.decrementAndGet() == 0) {
+                this.finished.countDown();
+            }
+        }
+
+        private Summary finish() throws InterruptedException {
+            this.taskFinished();
+            this.finished.await();
+            synchronized (this.manifest) {
+                if (this.manifestException != null) {
+                    throw new BoxAPIException("Couldn't write the export manifest", this.manifestException);
+                }
+            }
+            return new Summary(this.versionsDownloaded.get(), this.versionsDeduplicated.get(),
+                this.versionsPurged.get(), this.versionsFailed.get(), this.filesFailed.get(),
+                this.foldersFailed.get(), this.bytesDownloaded.get());
+        }
+
+        private void shutdown() {
+            this.listingExecutor.shutdownNow();
+            this.downloadExecutor.shutdownNow();
+        }
+
+        /**
+         * Content with one SHA-1 and all versions that share it. The first version added downloads the content, the
+         * others are written to the manifest once the download finished.
+         */
+        private final class Content {
+            private final String path;
+            private final List<VersionRecord> waiting = new ArrayList<>();
+            private boolean started;
+            private boolean completed;
+            private boolean downloaded;
+            private String error;
+
+            private Content(String key) {
+                this.path = key.startsWith("versions/") ? key : key.substring(0, 2) + "/" + key;
+            }
+
+            /**
+             * Adds a version with this content.
+             *
+             * @return true if the content needs to be downloaded for this version.
+             */
+            private synchronized boolean add(VersionRecord record) {
+                if (this.completed) {
+                    this.report(record, false);
+                    return false;
+                }
+                this.waiting.add(record);
+                boolean first = !this.started;
+                this.started = true;
+                return first;
+            }
+
+            private synchronized void complete(Exception e) {
+                this.completed = true;
+                if (e != null) {
+                    this.error = String.valueOf(e.getMessage());
+                }
+                for (int i = 0; i < this.waiting.size(); i++) {
+                    this.report(this.waiting.get(i), i == 0);
+                }
+                this.waiting.clear();
+            }
+
+            private void report(VersionRecord record, boolean first) {
+                String status;
+                if (this.error != null) {
+                    status = "failed";
+                    Run.this.versionsFailed.incrementAndGet();
+                } else if (first && this.downloaded) {
+                    status = "downloaded";
+                    Run.this.versionsDownloaded.incrementAndGet();
+                } else {
+                    status = "duplicate";
+                    Run.this.versionsDeduplicated.incrementAndGet();
+                }
+                Run.this.writeManifest(record.toJson(status, this.path, this.error));
+            }
+        }
+    }
+
+    /**
+     * A version to export together with the file it belongs to.
+     */
+    private static final class VersionRecord {
+        private final BoxFile.Info file;
+        private final BoxFileVersion version;
+        private final boolean current;
+
+        private VersionRecord(BoxFile.Info file, BoxFileVersion version, boolean current) {
+            this.file = file;
+            this.version = version;
+            this.current = current;
+        }
+
+        private JsonObject toJson(String status, String path, String error) {
+            JsonObject json = new JsonObject()
+                .add("file_id", this.file.getID())
+                .add("file_name", this.file.getName())
+                .add("version_id", this.version.getID());
+            if (this.version.getVersionNumber() != null) {
+                json.add("version_number", this.version.getVersionNumber());
+            }
+            if (this.version.getSha1() != null) {
+                json.add("sha1", this.version.getSha1());
+            }
+            // the current version is only returned as a mini object, its size and date are the file's ones
+            json.add("size", this.current ? this.file.getSize() : this.version.getSize());
+            Date modifiedAt = this.current ? this.file.getModifiedAt() : this.version.getModifiedAt();
+            if (modifiedAt != null) {
+                json.add("modified_at", BoxDateFormat.format(modifiedAt));
+            }
+            if (path != null) {
+                json.add("path", path);
+            }
+            json.add("status", status);
+            if (error != null) {
+                json.add("error", error);
+            }
+            return json;
+        }
+    }
+
+    /**
+     * Summary of a version export.
+     */
+    public static final class Summary {
+        private final int versionsDownloaded;
+        private final int versionsDeduplicated;
+        private final int versionsPurged;
+        private final int versionsFailed;
+        private final int filesFailed;
+        private final int foldersFailed;
+        private final long bytesDownloaded;
+
+        private Summary(int versionsDownloaded, int versionsDeduplicated, int versionsPurged, int versionsFailed,
+                        int filesFailed, int foldersFailed, long bytesDownloaded) {
+            this.versionsDownloaded = versionsDownloaded;
+            this.versionsDeduplicated = versionsDeduplicated;
+            this.versionsPurged = versionsPurged;
+            this.versionsFailed = versionsFailed;
+            this.filesFailed = filesFailed;
+            this.foldersFailed = foldersFailed;
+            this.bytesDownloaded = bytesDownloaded;
+        }
+
+        /**
+         * Gets the number of versions whose content was downloaded.
+         *
+         * @return the number of downloaded versions.
+         */
+        public int getVersionsDownloaded() {
+            return this.versionsDownloaded;
+        }
+
+        /**
+         * Gets the number of versions whose content was not downloaded because the same content was already exported.
+         *
+         * @return the number of deduplicated versions.
+         */
+        public int getVersionsDeduplicated() {
+            return this.versionsDeduplicated;
+        }
+
+        /**
+         * Gets the number of versions whose content is no longer available.
+         *
+         * @return the number of purged versions.
+         */
+        public int getVersionsPurged() {
+            return this.versionsPurged;
+        }
+
+        /**
+         * Gets the number of versions whose content couldn't be downloaded.
+         *
+         * @return the number of failed versions.
+         */
+        public int getVersionsFailed() {
+            return this.versionsFailed;
+        }
+
+        /**
+         * Gets the number of files whose versions couldn't be enumerated.
+         *
+         * @return the number of failed files.
+         */
+        public int getFilesFailed() {
+            return this.filesFailed;
+        }
+
+        /**
+         * Gets the number of folders whose items couldn't be listed.
+         *
+         * @return the number of failed folders.
+         */
+        public int getFoldersFailed() {
+            return this.foldersFailed;
+        }
+
+        /**
+         * Gets the number of bytes that were downloaded.
+         *
+         * @return the number of downloaded bytes.
+         */
+        public long getBytesDownloaded() {
+            return this.bytesDownloaded;
+        }
+    }
+}
@@ -7,7 +7,6 @@ import static com.box.sdk.http.ContentType.APPLICATION_JSON_PATCH;
 
 import com.box.sdk.internal.utils.Parsers;
 import com.box.sdk.sharedlink.BoxSharedLinkRequest;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -22,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * <p>Represents a folder on Box. This class can be used to iterate through a folder's contents, collaborate a folder with
@@ -264,7 +264,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int entriesCount = responseJSON.get("total_count").asInt();
             Collection<BoxCollaboration.Info> collaborations = new ArrayList<>(entriesCount);
@@ -290,7 +290,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -304,7 +304,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -330,7 +330,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(copyInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxFolder copiedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
             return copiedFolder.new Info(responseJSON);
         }
@@ -354,7 +354,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
             "POST");
         request.setBody(newFolder.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxFolder createdFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
             return createdFolder.new Info(responseJSON);
@@ -393,7 +393,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(updateInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxFolder movedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
             return movedFolder.new Info(responseJSON);
         }
@@ -413,7 +413,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(updateInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            response.getJSON();
+            response.getJsonObject();
         }
     }
 
@@ -438,7 +438,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
 
         request.setBody(preflightInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            response.getJSON();
+            response.getJsonObject();
         }
     }
 
@@ -555,7 +555,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
                 // upload files sends multipart request but response is JSON
                 response = (BoxJSONResponse) request.send(uploadParams.getProgressListener());
             }
-            JsonObject collection = Json.parse(response.getJSON()).asObject();
+            JsonObject collection = response.getJsonObject();
             JsonArray entries = collection.get("entries").asArray();
             JsonObject fileInfoJSON = entries.get(0).asObject();
             String uploadedFileID = fileInfoJSON.get("id").asString();
@@ -626,7 +626,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
             CREATE_WEB_LINK_URL.build(this.getAPI().getBaseURL()), "POST");
         request.setBody(newWebLink.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxWebLink createdWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
             return createdWebLink.new Info(responseJSON);
@@ -727,7 +727,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             String totalCountString = responseJSON.get("total_count").toString();
             long fullSize = Double.valueOf(totalCountString).longValue();
@@ -770,6 +770,87 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         };
     }
 
+    /**
+     * Returns the items in this folder as a listing that can be checkpointed and resumed, for example to restart a
+     * long enumeration after a crash. See {@link ResumableIterable}.
+     *
+     * @param sortParameters   describes sorting parameters.
+     *                         Sort parameters are supported only with offset based pagination.
+     *                         Use {@link SortParameters#none()} to ignore sorting.
+     * @param pagingParameters describes paging parameters.
+     * @param fields           the fields to retrieve.
+     * @return a resumable listing of the items in this folder.
+     */
+    public ResumableIterable<BoxItem.Info> getResumableChildren(
+        SortParameters sortParameters, PagingParameters pagingParameters, String... fields
+    ) {
+        QueryStringBuilder builder = sortParameters.asQueryStringBuilder();
+        validateSortIsSelectedWithOffsetPaginationOnly(pagingParameters, builder);
+
+        if (fields.length > 0) {
+            builder.appendParam("fields", fields);
+        }
+        URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
+        return new ResumableIterable<>(getAPI(), ListingCheckpoint.of(url, pagingParameters, 0),
+            jsonObject -> BoxItemIterator.isItem(jsonObject) ? BoxItemIterator.toItemInfo(getAPI(), jsonObject) : null);
+    }
+
+    /**
+     * Returns an iterable containing compact projections of the items in this folder. Only the fields held by
+     * {@link BoxItemProjection} are requested, and no {@link BoxItem.Info} is created for the items.
+     *
+     * @return an iterable containing projections of the items in this folder.
+     */
+    public Iterable<BoxItemProjection> getChildrenProjections() {
+        return this.getChildrenProjections(SortParameters.none(), marker(DEFAULT_LIMIT));
+    }
+
+    /**
+     * Returns an iterable containing compact projections of the items in this folder, sorted and paged as requested.
+     * Only the fields held by {@link BoxItemProjection} are requested, and no {@link BoxItem.Info} is created for the
+     * items.
+     *
+     * @param sortParameters   describes sorting parameters.
+     *                         Sort parameters are supported only with offset based pagination.
+     *                         Use {@link SortParameters#none()} to ignore sorting.
+     * @param pagingParameters describes paging parameters.
+     * @return an iterable containing projections of the items in this folder.
+     */
+    public Iterable<BoxItemProjection> getChildrenProjections(
+        final SortParameters sortParameters, final PagingParameters pagingParameters
+    ) {
+        QueryStringBuilder builder = sortParameters.asQueryStringBuilder();
+        validateSortIsSelectedWithOffsetPaginationOnly(pagingParameters, builder);
+        builder.appendParam("fields", BoxItemProjection.FIELDS);
+        final String query = builder.toString();
+        return () -> {
+            URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), query, getID());
+            return BoxItemProjection.iterator(getAPI(), url, pagingParameters);
+        };
+    }
+
+    /**
+     * Returns a stream of the items in this folder which uses offset based pagination. The first page tells how many
+     * items the folder has, after that a parallel stream loads windows of pages concurrently. Items are in the same
+     * order as in {@link #getChildren(SortParameters, PagingParameters, String...)} when the stream is consumed in
+     * encounter order, for example with {@link Stream#forEachOrdered}. As with all offset based pagination, items at
+     * offsets above 300000 can't be loaded.
+     *
+     * @param sortParameters describes sorting parameters. Use {@link SortParameters#none()} to ignore sorting.
+     * @param fields         the fields to retrieve.
+     * @return a sequential stream of the items in this folder, call {@link Stream#parallel()} to load pages in
+     * parallel.
+     */
+    public Stream<BoxItem.Info> streamChildren(SortParameters sortParameters, String... fields) {
+        QueryStringBuilder builder = sortParameters.asQueryStringBuilder();
+        if (fields.length > 0) {
+            builder.appendParam("fields", fields);
+        }
+        URL url = GET_ITEMS_URL.buildWithQuery(getAPI().getBaseURL(), builder.toString(), getID());
+        return OffsetPageSpliterator.stream(getAPI(), url, DEFAULT_LIMIT, BoxItemIterator::isItem,
+            jsonObject -> BoxItemIterator.toItemInfo(getAPI(), jsonObject));
+    }
+
     /**
      * Returns an iterator over the items in this folder.
      *
@@ -846,7 +927,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new Info(jsonObject);
         }
     }
@@ -886,7 +967,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(metadata.toString());
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -981,7 +1062,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         URL url = METADATA_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID(), scope, templateName);
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -997,7 +1078,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT", APPLICATION_JSON_PATCH);
         request.setBody(metadata.getPatch());
         try (BoxJSONResponse response = request.send()) {
-            return new Metadata(Json.parse(response.getJSON()).asObject());
+            return new Metadata(response.getJsonObject());
         }
     }
 
@@ -1120,7 +1201,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
         request.setBody(body.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             String sessionId = jsonObject.get("id").asString();
             BoxFileUploadSession session = new BoxFileUploadSession(this.getAPI(), sessionId);
@@ -1273,7 +1354,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
                 "POST");
         request.setBody(body.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxFolderLock createdFolderLock = new BoxFolderLock(this.getAPI(), responseJSON.get("id").asString());
             return createdFolderLock.new Info(responseJSON);
@@ -1452,6 +1533,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the upload email for the folder.
          */
         public BoxUploadEmail getUploadEmail() {
+            this.decodeMember("folder_upload_email");
             return this.uploadEmail;
         }
 
@@ -1461,6 +1543,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @param uploadEmail the upload email for the folder.
          */
         public void setUploadEmail(BoxUploadEmail uploadEmail) {
+            this.decodeMember("folder_upload_email");
             if (this.uploadEmail == uploadEmail) {
                 return;
             }
@@ -1481,6 +1564,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return true if the folder has collaborations; otherwise false.
          */
         public boolean getHasCollaborations() {
+            this.decodeMember("has_collaborations");
             return this.hasCollaborations;
         }
 
@@ -1490,6 +1574,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the sync state of the folder.
          */
         public SyncState getSyncState() {
+            this.decodeMember("sync_state");
             return this.syncState;
         }
 
@@ -1509,6 +1594,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the permissions that the current user has on the folder.
          */
         public EnumSet<Permission> getPermissions() {
+            this.decodeMember("permissions");
             return this.permissions;
         }
 
@@ -1518,6 +1604,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return [description]
          */
         public boolean getCanNonOwnersInvite() {
+            this.decodeMember("can_non_owners_invite");
             return this.canNonOwnersInvite;
         }
 
@@ -1537,6 +1624,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return indicates whether collaboration is restricted to enterprise only.
          */
         public boolean getIsCollaborationRestrictedToEnterprise() {
+            this.decodeMember("is_collaboration_restricted_to_enterprise");
             return this.isCollaborationRestrictedToEnterprise;
         }
 
@@ -1556,6 +1644,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the roles allowed for collaboration.
          */
         public List<String> getAllowedInviteeRoles() {
+            this.decodeMember("allowed_invitee_roles");
             return this.allowedInviteeRoles;
         }
 
@@ -1565,6 +1654,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the allowed access levels for a shared link.
          */
         public List<String> getAllowedSharedLinkAccessLevels() {
+            this.decodeMember("allowed_shared_link_access_levels");
             return this.allowedSharedLinkAccessLevels;
         }
 
@@ -1574,6 +1664,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return whether the file is watermarked or not
          */
         public boolean getIsWatermarked() {
+            this.decodeMember("watermark_info");
             return this.isWatermarked;
         }
 
@@ -1586,6 +1677,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the metadata returned from the server.
          */
         public Metadata getMetadata(String templateName, String scope) {
+            this.decodeMember("metadata");
             try {
                 return this.metadataMap.get(scope).get(templateName);
             } catch (NullPointerException e) {
@@ -1600,6 +1692,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return a boolean indicating whether this folder is owned by a user outside the enterprise.
          */
         public boolean getIsExternallyOwned() {
+            this.decodeMember("is_externally_owned");
             return this.isExternallyOwned;
         }
 
@@ -1609,6 +1702,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return the metadata classification type of this folder.
          */
         public BoxClassification getClassification() {
+            this.decodeMember("classification");
             return this.classification;
         }
 
@@ -1618,6 +1712,7 @@ public class BoxFolder extends BoxItem implements Iterable<BoxItem.Info> {
          * @return boolean flag indicating whether the folder is accessible via a shared link.
          */
         public boolean getIsAccessibleViaSharedLink() {
+            this.decodeMember("is_accessible_via_shared_link");
             return this.isAccessibleViaSharedLink;
         }
 
@@ -0,0 +1,318 @@
+package com.box.sdk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Utility class for downloading a whole folder tree into a local directory.
+ *
+ * <p>The download runs in two stages that overlap. The listing stage walks the folder tree using a bounded number of
+ * threads and requests only the fields needed for the download. Every file it finds is handed over to the download
+ * stage, which uses its own pool of connections. Files that already exist locally with the same size and SHA-1 are
+ * skipped, and the modification time of every downloaded file is set to its content modification time on Box.</p>
+ *
+ * <p>A failure to list a folder or to download a file doesn't stop the download. Failures are collected in the
+ * {@link Progress} returned once the whole tree was processed.</p>
+ */
+public final class BoxFolderDownload {
+    private static final String[] FIELDS = {
+        "type", "id", "name", "size", "sha1", "modified_at", "content_modified_at"
+    };
+    private static final String DIGEST_ALGORITHM_SHA1 = "SHA1";
+    private static final String PARTIAL_FILE_SUFFIX = ".boxpart";
+    private static final int DEFAULT_LISTING_THREADS = 4;
+    private static final int DEFAULT_DOWNLOAD_THREADS = 8;
+    private static final int QUEUED_DOWNLOADS_PER_THREAD = 100;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int listingThreads;
+    private final int downloadThreads;
+    private final AtomicInteger foldersListed = new AtomicInteger();
+    private final AtomicInteger filesDownloaded = new AtomicInteger();
+    private final AtomicInteger filesSkipped = new AtomicInteger();
+    private final AtomicLong bytesDownloaded = new AtomicLong();
+    private final Map<String, BoxAPIException> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a BoxFolderDownload object.
+     *
+     * @param listingThreads  number of folders that are listed in parallel.
+     * @param downloadThreads number of files that are downloaded in parallel.
+     */
+    public BoxFolderDownload(int listingThreads, int downloadThreads) {
+        this.listingThreads = listingThreads;
+        this.downloadThreads = downloadThreads;
+    }
+
+    /**
+     * Creates a BoxFolderDownload object with a default number of listing and download threads.
+     */
+    public BoxFolderDownload() {
+        this(DEFAULT_LISTING_THREADS, DEFAULT_DOWNLOAD_THREADS);
+    }
+
+    /**
+     * Downloads the content of a folder and all of its subfolders into a local directory. The local directory is
+     * created if it doesn't exist. Web links are not downloaded.
+     *
+     * @param folder          the folder to download.
+     * @param targetDirectory the local directory that will mirror the folder.
+     * @return the progress after the whole tree was processed, including all errors.
+     * @throws InterruptedException when the calling thread gets interrupted.
+     */
+    public Progress download(BoxFolder folder, File targetDirectory) throws InterruptedException {
+        this.foldersListed.set(0);
+        this.filesDownloaded.set(0);
+        this.filesSkipped.set(0);
+        this.bytesDownloaded.set(0);
+        this.errors.clear();
+
+        Run run = new Run(folder.getAPI());
+        try {
+            Path root = targetDirectory.toPath().toAbsolutePath().normalize();
+            run.submitListing(folder.getID(), root, "");
+            run.await();
+        } finally {
+            run.shutdown();
+        }
+        return this.getProgress();
+    }
+
+    /**
+     * Gets a snapshot of the progress of the current or last download. This method can be called from another thread
+     * while a download is running.
+     *
+     * @return the progress.
+     */
+    public Progress getProgress() {
+        return new Progress(this.foldersListed.get(), this.filesDownloaded.get(), this.filesSkipped.get(),
+            this.bytesDownloaded.get(), new ConcurrentHashMap<>(this.errors));
+    }
+
+    private static boolean hasSameContent(Path localFile, BoxFile.Info info) throws IOException {
+        if (!Files.isRegularFile(localFile) || Files.size(localFile) != info.getSize() || info.getSha1() == null) {
+            return false;
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM_SHA1);
+        } catch (NoSuchAlgorithmException ae) {
+            throw new BoxAPIException("Digest algorithm not found", ae);
+        }
+        try (InputStream input = Files.newInputStream(localFile)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int n = input.read(buffer);
+            while (n != -1) {
+                digest.update(buffer, 0, n);
+                n = input.read(buffer);
+            }
+        }
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString().equalsIgnoreCase(info.getSha1());
+    }
+
+    private static Path resolveChild(Path directory, String name) {
+        Path child = directory.resolve(name).normalize();
+        if (!directory.equals(child.getParent())) {
+            throw new BoxAPIException("Item name cannot be used as a local file name: " + name);
+        }
+        return child;
+    }
+
+    /**
+     * State of a single download run: the two executors and the number of tasks that are not finished yet.
+     */
+    private final class Run {
+        private final BoxAPIConnection api;
+        private final ExecutorService listingExecutor;
+        private final ExecutorService downloadExecutor;
+        private final Semaphore queuedDownloads;
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+        private final CountDownLatch finished = new CountDownLatch(1);
+
+        private Run(BoxAPIConnection api) {
+            this.api = api;
+            this.listingExecutor = Executors.newFixedThreadPool(BoxFolderDownload.this.listingThreads);
+            this.downloadExecutor = Executors.newFixedThreadPool(BoxFolderDownload.this.downloadThreads);
+            this.queuedDownloads = new Semaphore(BoxFolderDownload.this.downloadThreads * QUEUED_DOWNLOADS_PER_THREAD);
+        }
+
+        private void submitListing(String folderID, Path directory, String remotePath) {
+            this.pendingTasks.incrementAndGet();
+            this.listingExecutor.execute(() -> {
+                try {
+                    this.list(folderID, directory, remotePath);
+                } catch (RuntimeException | IOException e) {
+                    BoxFolderDownload.this.errors.put(remotePath + "/", wrap(e));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    this.taskFinished();
+                }
+            });
+        }
+
+        private void list(String folderID, Path directory, String remotePath)
+            throws IOException, InterruptedException {
+            Files.createDirectories(directory);
+            BoxFolder folder = new BoxFolder(this.api, folderID);
+            for (BoxItem.Info child : folder.getChildren(FIELDS)) {
+                String childPath = remotePath + "/" + child.getName();
+                if (child instanceof BoxFolder.Info) {
+                    this.submitListing(child.getID(), resolveChild(directory, child.getName()), childPath);
+                } else if (child instanceof BoxFile.Info) {
+                    this.queuedDownloads.acquire();
+                    this.submitDownload((BoxFile.Info) child, directory, childPath);
+                }
+            }
+            BoxFolderDownload.this.foldersListed.incrementAndGet();
+        }
+
+        private void submitDownload(BoxFile.Info info, Path directory, String remotePath) {
+            this.pendingTasks.incrementAndGet();
+            this.downloadExecutor.execute(() -> {
+                try {
+                    this.download(info, resolveChild(directory, info.getName()));
+                } catch (RuntimeException | IOException e) {
+                    BoxFolderDownload.this.errors.put(remotePath, wrap(e));
+                } finally {
+                    this.queuedDownloads.release();
+                    this.taskFinished();
+                }
+            });
+        }
+
+        private void download(BoxFile.Info info, Path localFile) throws IOException {
+            if (hasSameContent(localFile, info)) {
+                BoxFolderDownload.this.filesSkipped.incrementAndGet();
+                return;
+            }
+
+            Path partialFile = localFile.resolveSibling(localFile.getFileName() + PARTIAL_FILE_SUFFIX);
+            try {
+                try (OutputStream output = Files.newOutputStream(partialFile)) {
+                    info.getResource().download(output);
+                }
+                Files.move(partialFile, localFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(partialFile);
+            }
+
+            Date modifiedAt = info.getContentModifiedAt() != null ? info.getContentModifiedAt() : info.getModifiedAt();
+            if (modifiedAt != null) {
+                Files.setLastModifiedTime(localFile, FileTime.fromMillis(modifiedAt.getTime()));
+            }
+            BoxFolderDownload.this.filesDownloaded.incrementAndGet();
+            BoxFolderDownload.this.bytesDownloaded.addAndGet(info.getSize());
+        }
+
+        private BoxAPIException wrap(Exception e) {
+            if (e instanceof BoxAPIException) {
+                return (BoxAPIException) e;
+            }
+            return new BoxAPIException(e.getMessage(), e);
+        }
+
+        private void taskFinished() {
+            if (this.pendingTasks.decrementAndGet() == 0) {
+                this.finished.countDown();
+            }
+        }
+
+        private void await() throws InterruptedException {
+            this.finished.await();
+        }
+
+        private void shutdown() {
+            this.listingExecutor.shutdownNow();
+            this.downloadExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Progress of a folder download.
+     */
+    public static final class Progress {
+        private final int foldersListed;
+        private final int filesDownloaded;
+        private final int filesSkipped;
+        private final long bytesDownloaded;
+        private final Map<String, BoxAPIException> errors;
+
+        private Progress(int foldersListed, int filesDownloaded, int filesSkipped, long bytesDownloaded,
+                         Map<String, BoxAPIException> errors) {
+            this.foldersListed = foldersListed;
+            this.filesDownloaded = filesDownloaded;
+            this.filesSkipped = filesSkipped;
+            this.bytesDownloaded = bytesDownloaded;
+            this.errors = Collections.unmodifiableMap(errors);
+        }
+
+        /**
+         * Gets the number of folders whose items were listed completely.
+         *
+         * @return the number of listed folders.
+         */
+        public int getFoldersListed() {
+            return this.foldersListed;
+        }
+
+        /**
+         * Gets the number of files that were downloaded.
+         *
+         * @return the number of downloaded files.
+         */
+        public int getFilesDownloaded() {
+            return this.filesDownloaded;
+        }
+
+        /**
+         * Gets the number of files that were not downloaded because the local file has the same content.
+         *
+         * @return the number of skipped files.
+         */
+        public int getFilesSkipped() {
+            return this.filesSkipped;
+        }
+
+        /**
+         * Gets the number of bytes that were downloaded.
+         *
+         * @return the number of downloaded bytes.
+         */
+        public long getBytesDownloaded() {
+            return this.bytesDownloaded;
+        }
+
+        /**
+         * Gets the errors that occurred while listing folders or downloading files. Errors are keyed by the path of the
+         * item relative to the downloaded folder; paths of folders end with a slash.
+         *
+         * @return the errors by item path.
+         */
+        public Map<String, BoxAPIException> getErrors() {
+            return this.errors;
+        }
+    }
+}
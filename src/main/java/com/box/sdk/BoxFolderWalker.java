@@ -0,0 +1,310 @@
+package com.box.sdk;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a folder tree, listing many folders in parallel.
+ *
+ * <p>Folders are listed by a bounded pool of threads in the order they are discovered, so wide trees are spread over
+ * all threads and a deep branch doesn't hold back its siblings. Only the requested fields are loaded. Items are
+ * emitted as a stream of {@link Entry entries} which tell the depth and path of every item. The order of the entries
+ * follows the order in which folders were listed and is not stable between walks. Listing threads wait while the
+ * consumer falls behind, so a slow consumer doesn't cause the entries to pile up in memory.</p>
+ *
+ * <pre>
+ * try (Stream&lt;BoxFolderWalker.Entry&gt; entries = new BoxFolderWalker(8)
+ *     .setFields("size", "modified_at")
+ *     .setMaxDepth(3)
+ *     .walk(folder)) {
+ *     entries.forEach(entry -&gt; System.out.println(entry.getPath()));
+ * }
+ * </pre>
+ *
+ * <p>The stream should be closed when it is not consumed to its end, which stops the listing threads.</p>
+ */
+public final class BoxFolderWalker {
+    private static final String[] REQUIRED_FIELDS = {"type", "id", "name"};
+    private static final int DEFAULT_THREADS = 4;
+    private static final int QUEUED_ENTRIES_PER_THREAD = 1000;
+
+    private final int threads;
+    private String[] fields;
+    private int maxDepth = -1;
+    private Predicate<Entry> folderFilter;
+    private BiConsumer<String, BoxAPIException> errorHandler;
+
+    /**
+     * Creates a walker.
+     *
+     * @param threads number of folders that are listed in parallel.
+     */
+    public BoxFolderWalker(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive.");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Creates a walker with a default number of threads.
+     */
+    public BoxFolderWalker() {
+        this(DEFAULT_THREADS);
+    }
+
+    /**
+     * Sets the fields loaded for every item. The type, ID and name are always loaded.
+     *
+     * @param fields the fields to retrieve. Leave this out for the standard fields.
+     * @return this walker.
+     */
+    public BoxFolderWalker setFields(String... fields) {
+        this.fields = fields;
+        return this;
+    }
+
+    /**
+     * Sets the depth of the deepest items that are emitted. Items of the walked folder have depth 1. Folders at the
+     * maximum depth are emitted but not listed.
+     *
+     * @param maxDepth the maximum depth, or -1 to walk the whole tree.
+     * @return this walker.
+     */
+    public BoxFolderWalker setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Sets the filter deciding which folders are listed. Folders rejected by the filter are still emitted, but their
+     * items are not, which prunes their subtree from the walk.
+     *
+     * @param folderFilter returns true for folders whose items should be walked.
+     * @return this walker.
+     */
+    public BoxFolderWalker setFolderFilter(Predicate<Entry> folderFilter) {
+        this.folderFilter = folderFilter;
+        return this;
+    }
+
+    /**
+     * Sets the handler for folders that couldn't be listed. The handler is called with the path of the folder and the
+     * error, and the walk goes on without the folder's remaining items. Without a handler the stream throws the first
+     * error after emitting all other entries.
+     *
+     * @param errorHandler the handler, called from the listing threads.
+     * @return this walker.
+     */
+    public BoxFolderWalker setErrorHandler(BiConsumer<String, BoxAPIException> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Starts walking the tree of a folder. The walked folder itself is not emitted.
+     *
+     * @param folder the folder to walk.
+     * @return a sequential stream of the items in the tree.
+     */
+    public Stream<Entry> walk(BoxFolder folder) {
+        Walk walk = new Walk(folder.getAPI());
+        walk.submitListing(folder.getID(), "", 1);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(walk, Spliterator.NONNULL), false)
+            .onClose(walk::shutdown);
+    }
+
+    private String[] fieldsToLoad() {
+        if (this.fields == null || this.fields.length == 0) {
+            return new String[0];
+        }
+        Set<String> merged = new LinkedHashSet<>();
+        for (String field : REQUIRED_FIELDS) {
+            merged.add(field);
+        }
+        for (String field : this.fields) {
+            merged.add(field);
+        }
+        return merged.toArray(new String[0]);
+    }
+
+    /**
+     * State of a single walk: the listing threads, the entries waiting to be consumed and the number of listings that
+     * are not finished yet.
+     */
+    private final class Walk implements Iterator<Entry> {
+        private final Entry end = new Entry(null, 0, null);
+        private final BoxAPIConnection api;
+        private final String[] fields;
+        private final int maxDepth;
+        private final Predicate<Entry> folderFilter;
+        private final BiConsumer<String, BoxAPIException> errorHandler;
+        private final ExecutorService executor;
+        private final BlockingQueue<Entry> entries;
+        private final AtomicInteger pendingListings = new AtomicInteger();
+        private volatile BoxAPIException firstError;
+        private Entry next;
+
+        private Walk(BoxAPIConnection api) {
+            this.api = api;
+            this.fields = BoxFolderWalker.this.fieldsToLoad();
+            this.maxDepth = BoxFolderWalker.this.maxDepth;
+            this.folderFilter = BoxFolderWalker.this.folderFilter;
+            this.errorHandler = BoxFolderWalker.this.errorHandler;
+            this.executor = Executors.newFixedThreadPool(BoxFolderWalker.this.threads, runnable -> {
+                Thread thread = new Thread(runnable, "Box folder walker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.entries = new ArrayBlockingQueue<>(BoxFolderWalker.this.threads * QUEUED_ENTRIES_PER_THREAD);
+        }
+
+        private void submitListing(String folderID, String path, int depth) {
+            this.pendingListings.incrementAndGet();
+            this.executor.execute(() -> {
+                try {
+                    this.list(folderID, path, depth);
+                } catch (BoxAPIException e) {
+                    this.failed(path + "/", e);
+                } catch (RuntimeException e) {
+                    this.failed(path + "/", new BoxAPIException(e.getMessage(), e));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (this.pendingListings.decrementAndGet() == 0) {
+                    try {
+                        this.entries.put(this.end);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+
+        private void list(String folderID, String path, int depth) throws InterruptedException {
+            BoxFolder folder = new BoxFolder(this.api, folderID);
+            Iterable<BoxItem.Info> children = this.fields.length == 0
+                ? folder.getChildren()
+                : folder.getChildren(this.fields);
+            for (BoxItem.Info child : children) {
+                Entry entry = new Entry(child, depth, path);
+                this.entries.put(entry);
+                if (child instanceof BoxFolder.Info && (this.maxDepth < 0 || depth < this.maxDepth)
+                    && (this.folderFilter == null || this.folderFilter.test(entry))) {
+                    this.submitListing(child.getID(), entry.getPath(), depth + 1);
+                }
+            }
+        }
+
+        private void failed(String path, BoxAPIException e) {
+            if (this.errorHandler != null) {
+                this.errorHandler.accept(path, e);
+            } else if (this.firstError == null) {
+                this.firstError = e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                try {
+                    this.next = this.entries.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.shutdown();
+                    throw new BoxAPIException("Interrupted while waiting for the folder tree to be listed.", e);
+                }
+            }
+            if (this.next == this.end) {
+                this.shutdown();
+                if (this.firstError != null) {
+                    BoxAPIException error = this.firstError;
+                    this.firstError = null;
+                    throw error;
+                }
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public Entry next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry entry = this.next;
+            this.next = null;
+            return entry;
+        }
+
+        private void shutdown() {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * An item found while walking a folder tree.
+     */
+    public static final class Entry {
+        private final BoxItem.Info info;
+        private final int depth;
+        private final String parentPath;
+
+        private Entry(BoxItem.Info info, int depth, String parentPath) {
+            this.info = info;
+            this.depth = depth;
+            this.parentPath = parentPath;
+        }
+
+        /**
+         * Gets the info of the item, with the fields requested for the walk.
+         *
+         * @return the item info.
+         */
+        public BoxItem.Info getInfo() {
+            return this.info;
+        }
+
+        /**
+         * Gets the depth of the item in the walked tree. Items of the walked folder have depth 1.
+         *
+         * @return the depth.
+         */
+        public int getDepth() {
+            return this.depth;
+        }
+
+        /**
+         * Gets the path of the folder containing the item, relative to the walked folder. The path of the walked
+         * folder is the empty string.
+         *
+         * @return the path of the parent folder.
+         */
+        public String getParentPath() {
+            return this.parentPath;
+        }
+
+        /**
+         * Gets the path of the item relative to the walked folder, for example <code>/reports/2020.pdf</code>.
+         *
+         * @return the path of the item.
+         */
+        public String getPath() {
+            return this.parentPath + "/" + this.info.getName();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Represents a set of Box users.
@@ -44,6 +45,7 @@ public class BoxGroup extends BoxCollaborator {
      * @see #getCollaborations()
      */
     public static final URLTemplate COLLABORATIONS_URL_TEMPLATE = new URLTemplate("groups/%s/collaborations");
+    private static final long GROUPS_PAGE_LIMIT = 1000;
 
     /**
      * Constructs a BoxGroup for a group with a given ID.
@@ -104,7 +106,7 @@ public class BoxGroup extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxGroup group = new BoxGroup(api, responseJSON.get("id").asString());
             return group.new Info(responseJSON);
@@ -142,6 +144,28 @@ public class BoxGroup extends BoxCollaborator {
         };
     }
 
+    /**
+     * Returns a stream of all the groups in the enterprise which uses offset based pagination. The first page tells
+     * how many groups there are, after that a parallel stream loads windows of pages concurrently. Groups are in the
+     * same order as in {@link #getAllGroups(BoxAPIConnection, String...)} when the stream is consumed in encounter
+     * order.
+     *
+     * @param api    the API connection to be used when retrieving the groups.
+     * @param fields the fields to retrieve.
+     * @return a sequential stream of the groups, call {@link Stream#parallel()} to load pages in parallel.
+     */
+    public static Stream<BoxGroup.Info> streamAllGroups(final BoxAPIConnection api, String... fields) {
+        QueryStringBuilder builder = new QueryStringBuilder();
+        if (fields.length > 0) {
+            builder.appendParam("fields", fields);
+        }
+        URL url = GROUPS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString());
+        return OffsetPageSpliterator.stream(api, url, GROUPS_PAGE_LIMIT, null, jsonObject -> {
+            BoxGroup group = new BoxGroup(api, jsonObject.get("id").asString());
+            return group.new Info(jsonObject);
+        });
+    }
+
     /**
      * Gets an iterable of all the groups in the enterprise that are starting with the given name string.
      *
@@ -184,7 +208,7 @@ public class BoxGroup extends BoxCollaborator {
         }
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
@@ -284,7 +308,7 @@ public class BoxGroup extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxGroupMembership membership = new BoxGroupMembership(api, responseJSON.get("id").asString());
             return membership.new Info(responseJSON);
@@ -302,7 +326,7 @@ public class BoxGroup extends BoxCollaborator {
 
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int entriesCount = responseJSON.get("total_count").asInt();
             Collection<BoxCollaboration.Info> collaborations = new ArrayList<>(entriesCount);
@@ -356,7 +380,7 @@ public class BoxGroup extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -63,7 +62,7 @@ public class BoxInvite extends BoxResource {
 
         request.setBody(body);
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxInvite invite = new BoxInvite(api, responseJSON.get("id").asString());
             return invite.new Info(responseJSON);
@@ -81,7 +80,7 @@ public class BoxInvite extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new Info(jsonObject);
         }
     }
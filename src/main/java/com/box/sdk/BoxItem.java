@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -68,7 +67,7 @@ public abstract class BoxItem extends BoxResource {
         URL url = SHARED_ITEM_URL_TEMPLATE.build(newAPI.getBaseURL());
         BoxJSONRequest request = new BoxJSONRequest(newAPI, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject json = Json.parse(response.getJSON()).asObject();
+            JsonObject json = response.getJsonObject();
             return (BoxItem.Info) BoxResource.parseInfo(newAPI, json);
         }
     }
@@ -97,7 +96,7 @@ public abstract class BoxItem extends BoxResource {
         URL url = WATERMARK_URL_TEMPLATE.buildWithQuery(watermarkUrl.toString(), builder.toString());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new BoxWatermark(response.getJSON());
+            return new BoxWatermark(response.getJsonObject());
         }
     }
 
@@ -117,7 +116,7 @@ public abstract class BoxItem extends BoxResource {
                 .add(BoxWatermark.WATERMARK_IMPRINT_JSON_KEY, imprint));
         request.setBody(body.toString());
         try (BoxJSONResponse response = request.send()) {
-            return new BoxWatermark(response.getJSON());
+            return new BoxWatermark(response.getJsonObject());
         }
     }
 
@@ -237,12 +236,19 @@ public abstract class BoxItem extends BoxResource {
             super(jsonObject);
         }
 
+        @Override
+        boolean isDecodedLazily() {
+            BoxAPIConnection api = getAPI();
+            return api != null && api.isLazyInfoDecoding();
+        }
+
         /**
          * Gets the item type.
          *
          * @return the item's type.
          */
         public String getType() {
+            this.decodeMember("type");
             return this.type;
         }
 
@@ -252,6 +258,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a unique string identifying the version of the item.
          */
         public String getEtag() {
+            this.decodeMember("etag");
             return this.etag;
         }
 
@@ -261,6 +268,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the name of the item.
          */
         public String getName() {
+            this.decodeMember("name");
             return this.name;
         }
 
@@ -280,6 +288,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time the item was created.
          */
         public Date getCreatedAt() {
+            this.decodeMember("created_at");
             return this.createdAt;
         }
 
@@ -289,6 +298,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time the item was last modified.
          */
         public Date getModifiedAt() {
+            this.decodeMember("modified_at");
             return this.modifiedAt;
         }
 
@@ -298,6 +308,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the description of the item.
          */
         public String getDescription() {
+            this.decodeMember("description");
             return this.description;
         }
 
@@ -317,6 +328,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the size of the item in bytes.
          */
         public long getSize() {
+            this.decodeMember("size");
             return this.size;
         }
 
@@ -326,6 +338,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the path of folders to the item.
          */
         public List<BoxFolder.Info> getPathCollection() {
+            this.decodeMember("path_collection");
             return this.pathCollection;
         }
 
@@ -335,6 +348,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who created the item.
          */
         public BoxUser.Info getCreatedBy() {
+            this.decodeMember("created_by");
             return this.createdBy;
         }
 
@@ -344,6 +358,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who last modified the item.
          */
         public BoxUser.Info getModifiedBy() {
+            this.decodeMember("modified_by");
             return this.modifiedBy;
         }
 
@@ -353,6 +368,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was trashed.
          */
         public Date getTrashedAt() {
+            this.decodeMember("trashed_at");
             return this.trashedAt;
         }
 
@@ -362,6 +378,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was purged from the trash.
          */
         public Date getPurgedAt() {
+            this.decodeMember("purged_at");
             return this.purgedAt;
         }
 
@@ -371,6 +388,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was created according to the uploader.
          */
         public Date getContentCreatedAt() {
+            this.decodeMember("content_created_at");
             return this.contentCreatedAt;
         }
 
@@ -380,6 +398,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item was last modified according to the uploader.
          */
         public Date getContentModifiedAt() {
+            this.decodeMember("content_modified_at");
             return this.contentModifiedAt;
         }
 
@@ -389,6 +408,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the time that the item will expire at.
          */
         public Date getExpiresAt() {
+            this.decodeMember("expires_at");
             return this.expiresAt;
         }
 
@@ -398,6 +418,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the user who owns the item.
          */
         public BoxUser.Info getOwnedBy() {
+            this.decodeMember("owned_by");
             return this.ownedBy;
         }
 
@@ -407,6 +428,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the shared link for the item.
          */
         public BoxSharedLink getSharedLink() {
+            this.decodeMember("shared_link");
             return this.sharedLink;
         }
 
@@ -434,6 +456,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a unique ID for use with the EventStream.
          */
         public String getSequenceID() {
+            this.decodeMember("sequence_id");
             return this.sequenceID;
         }
 
@@ -446,6 +469,7 @@ public abstract class BoxItem extends BoxResource {
          * @return a list of all the tags applied to the item.
          */
         public List<String> getTags() {
+            this.decodeMember("tags");
             return this.tags;
         }
 
@@ -469,6 +493,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the parent folder of the item.
          */
         public BoxFolder.Info getParent() {
+            this.decodeMember("parent");
             return this.parent;
         }
 
@@ -478,6 +503,7 @@ public abstract class BoxItem extends BoxResource {
          * @return the status of the item.
          */
         public String getItemStatus() {
+            this.decodeMember("item_status");
             return this.itemStatus;
         }
 
@@ -487,6 +513,7 @@ public abstract class BoxItem extends BoxResource {
          * @return info about the collections that this item belongs to.
          */
         public Iterable<BoxCollection.Info> getCollections() {
+            this.decodeMember("collections");
             return this.collections;
         }
 
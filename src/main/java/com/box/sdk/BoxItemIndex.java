@@ -0,0 +1,527 @@
+package com.box.sdk;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * A local index of the folders and files in a folder tree, kept current with the events of an {@link EventStream}.
+ *
+ * <p>The index is built by walking the tree once with {@link #bootstrap(BoxFolder)}, which also records the stream
+ * position at which the walk started. Registered as a listener of a stream started at that position, the index then
+ * applies item events as they arrive: uploads, creations, copies, renames and moves update entries from the event
+ * source, and trashed items are removed along with everything below them. Lookups by ID or path are answered locally,
+ * without API calls.</p>
+ *
+ * <pre>
+ * BoxItemIndex index = new BoxItemIndex(api, new InMemoryBoxItemIndexStore());
+ * index.bootstrap(BoxFolder.getRootFolder(api));
+ * EventStream stream = new EventStream(api, index.getStreamPosition());
+ * stream.addListener(index, BoxItemIndex.EVENT_TYPES);
+ * stream.start();
+ * </pre>
+ *
+ * <p>Events don't tell what a folder contains, so a folder the index learns about from an event, for example a folder
+ * moved into the tree, is marked as not {@link Entry#isComplete() complete} until it is listed with
+ * {@link #refresh(String)}. Folders that couldn't be listed during the walk are marked the same way. When the stream
+ * loses events, for example because the index was stopped for longer than events are kept, the index should be built
+ * again with {@link #bootstrap(BoxFolder)}.</p>
+ *
+ * <p>Entries are kept by a {@link BoxItemIndexStore}: {@link InMemoryBoxItemIndexStore} keeps them on the heap and
+ * {@link MappedFileBoxItemIndexStore} in a memory-mapped file, which lets an index outlive the process and resume from
+ * its stream position.</p>
+ */
+public final class BoxItemIndex implements EventListener {
+    /**
+     * The types of events that change the index.
+     */
+    public static final Set<BoxEvent.EventType> EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(
+        BoxEvent.EventType.ITEM_CREATE,
+        BoxEvent.EventType.ITEM_UPLOAD,
+        BoxEvent.EventType.ITEM_COPY,
+        BoxEvent.EventType.ITEM_MOVE,
+        BoxEvent.EventType.ITEM_RENAME,
+        BoxEvent.EventType.ITEM_MODIFY,
+        BoxEvent.EventType.ITEM_MAKE_CURRENT_VERSION,
+        BoxEvent.EventType.ITEM_UNDELETE_VIA_TRASH,
+        BoxEvent.EventType.ITEM_TRASH));
+
+    private static final String[] FIELDS = {"etag", "sequence_id", "sha1", "size", "modified_at", "parent"};
+    private static final int DEFAULT_THREADS = 4;
+
+    private final BoxAPIConnection api;
+    private final BoxItemIndexStore store;
+    private int threads = DEFAULT_THREADS;
+
+    /**
+     * Creates an index. The index starts with the entries of the store, which are empty unless the store was
+     * persisted.
+     *
+     * @param api   the API connection used to walk folders.
+     * @param store the store keeping the entries.
+     */
+    public BoxItemIndex(BoxAPIConnection api, BoxItemIndexStore store) {
+        this.api = api;
+        this.store = store;
+    }
+
+    /**
+     * Sets the number of folders listed in parallel when walking the tree.
+     *
+     * @param threads the number of threads.
+     * @return this index.
+     */
+    public BoxItemIndex setThreads(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Number of threads must be positive.");
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Builds the index from scratch by walking the tree of a folder. Entries of an earlier walk are discarded. The
+     * stream position is set to the position of the event stream when the walk started, so a stream started at
+     * {@link #getStreamPosition()} replays the changes made during the walk.
+     *
+     * @param root the root folder of the indexed tree.
+     */
+    public synchronized void bootstrap(BoxFolder root) {
+        long position = this.currentStreamPosition();
+        BoxFolder.Info rootInfo = root.getInfo(withRequiredFields(FIELDS));
+        this.store.clear();
+        this.store.setRootID(root.getID());
+        this.store.put(toEntry(rootInfo, null, false));
+        this.walk(root.getID());
+        this.store.setStreamPosition(position);
+    }
+
+    /**
+     * Lists a folder again, replacing the entries of all items below it. This completes folders that are not
+     * {@link Entry#isComplete() complete}.
+     *
+     * @param folderID the ID of an indexed folder.
+     */
+    public synchronized void refresh(String folderID) {
+        Entry folder = this.store.get(folderID);
+        if (folder == null || !folder.isFolder()) {
+            throw new IllegalArgumentException("Folder " + folderID + " is not indexed.");
+        }
+        for (Entry child : this.store.getChildren(folderID)) {
+            this.removeTree(child.getID());
+        }
+        this.walk(folderID);
+    }
+
+    /**
+     * Gets the entry of an item.
+     *
+     * @param id the ID of the item.
+     * @return the entry, or null if the item is not in the indexed tree.
+     */
+    public Entry get(String id) {
+        return this.store.get(id);
+    }
+
+    /**
+     * Gets the entries of the items in a folder.
+     *
+     * @param folderID the ID of the folder.
+     * @return the entries, in no particular order.
+     */
+    public List<Entry> getChildren(String folderID) {
+        return this.store.getChildren(folderID);
+    }
+
+    /**
+     * Gets the path of an item relative to the root of the index, for example <code>/reports/2020.pdf</code>. The path
+     * of the root is the empty string, as for {@link BoxFolderWalker.Entry#getPath()}.
+     *
+     * @param id the ID of the item.
+     * @return the path, or null if the item is not in the indexed tree.
+     */
+    public synchronized String getPath(String id) {
+        String rootID = this.store.getRootID();
+        Deque<String> names = new ArrayDeque<>();
+        Entry entry = this.store.get(id);
+        int maxDepth = this.store.size();
+        while (entry != null && !entry.getID().equals(rootID) && names.size() < maxDepth) {
+            names.push(entry.getName());
+            entry = entry.getParentID() == null ? null : this.store.get(entry.getParentID());
+        }
+        if (entry == null || !entry.getID().equals(rootID)) {
+            return null;
+        }
+        StringBuilder path = new StringBuilder();
+        for (String name : names) {
+            path.append('/').append(name);
+        }
+        return path.toString();
+    }
+
+    /**
+     * Finds an item by its path relative to the root of the index.
+     *
+     * @param path the path, for example <code>/reports/2020.pdf</code>, or the empty string for the root.
+     * @return the entry, or null if no item has the path.
+     */
+    public synchronized Entry find(String path) {
+        Entry entry = this.store.getRootID() == null ? null : this.store.get(this.store.getRootID());
+        for (String name : path.split("/")) {
+            if (entry == null || name.isEmpty()) {
+                continue;
+            }
+            Entry parent = entry;
+            entry = null;
+            for (Entry child : this.store.getChildren(parent.getID())) {
+                if (child.getName().equals(name)) {
+                    entry = child;
+                    break;
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the folders whose items may be missing from the index. These folders can be completed with
+     * {@link #refresh(String)}.
+     *
+     * @return the entries of the folders.
+     */
+    public List<Entry> getIncompleteFolders() {
+        List<Entry> folders = new ArrayList<>();
+        this.store.forEach(entry -> {
+            if (entry.isFolder() && !entry.isComplete()) {
+                folders.add(entry);
+            }
+        });
+        return folders;
+    }
+
+    /**
+     * Gets the number of indexed items, including the root.
+     *
+     * @return the number of items.
+     */
+    public int size() {
+        return this.store.size();
+    }
+
+    /**
+     * Gets the position of the event stream the index is current with.
+     *
+     * @return the stream position, or -1 if the index was never built.
+     */
+    public long getStreamPosition() {
+        return this.store.getStreamPosition();
+    }
+
+    @Override
+    public synchronized void onEvent(BoxEvent event) {
+        BoxEvent.EventType type = event.getEventType();
+        if (type == null || !EVENT_TYPES.contains(type) || !(event.getSourceInfo() instanceof BoxItem.Info)) {
+            return;
+        }
+        BoxItem.Info source = (BoxItem.Info) event.getSourceInfo();
+        if (this.store.getRootID() == null || source.getID() == null) {
+            return;
+        }
+        if (type == BoxEvent.EventType.ITEM_TRASH || "trashed".equals(source.getItemStatus())
+            || "deleted".equals(source.getItemStatus())) {
+            this.removeTree(source.getID());
+            return;
+        }
+
+        Entry existing = this.store.get(source.getID());
+        if (existing != null && isOlder(source.getSequenceID(), existing.getSequenceID())) {
+            return;
+        }
+        boolean isRoot = source.getID().equals(this.store.getRootID());
+        String parentID = source.getParent() == null ? null : source.getParent().getID();
+        if (!isRoot && (parentID == null || this.store.get(parentID) == null)) {
+            // The item is outside the indexed tree, or was moved out of it.
+            this.removeTree(source.getID());
+            return;
+        }
+
+        Entry entry = toEntry(source, isRoot ? null : parentID, false);
+        if (existing != null) {
+            boolean hasSize = event.getSourceJSON() == null || event.getSourceJSON().get("size") != null;
+            entry = entry.mergedWith(existing, hasSize);
+        } else if (type == BoxEvent.EventType.ITEM_CREATE) {
+            // A folder that was just created is empty.
+            entry = entry.withComplete(true);
+        }
+        this.store.put(entry);
+    }
+
+    @Override
+    public void onNextPosition(long position) {
+        this.store.setStreamPosition(position);
+    }
+
+    @Override
+    public boolean onException(Throwable e) {
+        return false;
+    }
+
+    private long currentStreamPosition() {
+        BoxJSONRequest request = new BoxJSONRequest(this.api,
+            EventStream.EVENT_URL.buildAlpha(this.api.getBaseURL(), "now"), "GET");
+        try (BoxJSONResponse response = request.send()) {
+            return response.getJsonObject().get("next_stream_position").asLong();
+        }
+    }
+
+    private void walk(String folderID) {
+        Map<String, String> folderIDsByPath = new HashMap<>();
+        folderIDsByPath.put("", folderID);
+        Queue<String> failedPaths = new ConcurrentLinkedQueue<>();
+        BoxFolderWalker walker = new BoxFolderWalker(this.threads)
+            .setFields(FIELDS)
+            .setErrorHandler((path, e) -> failedPaths.add(path));
+        try (Stream<BoxFolderWalker.Entry> entries = walker.walk(new BoxFolder(this.api, folderID))) {
+            entries.forEach(walked -> {
+                BoxItem.Info info = walked.getInfo();
+                String parentID = info.getParent() != null
+                    ? info.getParent().getID()
+                    : folderIDsByPath.get(walked.getParentPath());
+                if (info instanceof BoxFolder.Info) {
+                    folderIDsByPath.put(walked.getPath(), info.getID());
+                }
+                this.store.put(toEntry(info, parentID, true));
+            });
+        }
+
+        Entry folder = this.store.get(folderID);
+        if (folder != null) {
+            this.store.put(folder.withComplete(true));
+        }
+        for (String failedPath : failedPaths) {
+            String path = failedPath.endsWith("/") ? failedPath.substring(0, failedPath.length() - 1) : failedPath;
+            Entry failed = this.store.get(folderIDsByPath.getOrDefault(path, ""));
+            if (failed != null) {
+                this.store.put(failed.withComplete(false));
+            }
+        }
+    }
+
+    private void removeTree(String id) {
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(id);
+        while (!pending.isEmpty()) {
+            String next = pending.pop();
+            for (Entry child : this.store.getChildren(next)) {
+                pending.push(child.getID());
+            }
+            this.store.remove(next);
+        }
+    }
+
+    private static String[] withRequiredFields(String[] fields) {
+        String[] all = new String[fields.length + 3];
+        all[0] = "type";
+        all[1] = "id";
+        all[2] = "name";
+        System.arraycopy(fields, 0, all, 3, fields.length);
+        return all;
+    }
+
+    private static Entry toEntry(BoxItem.Info info, String parentID, boolean complete) {
+        String type;
+        String sha1 = null;
+        if (info instanceof BoxFolder.Info) {
+            type = "folder";
+        } else if (info instanceof BoxFile.Info) {
+            type = "file";
+            sha1 = ((BoxFile.Info) info).getSha1();
+        } else {
+            type = "web_link";
+        }
+        return new Entry(info.getID(), type, parentID, info.getName(), info.getEtag(), info.getSequenceID(), sha1,
+            info.getSize(), info.getModifiedAt(), complete);
+    }
+
+    private static boolean isOlder(String sequenceID, String than) {
+        if (sequenceID == null || than == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(sequenceID) < Long.parseLong(than);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * An indexed item.
+     */
+    public static final class Entry {
+        private final String id;
+        private final String type;
+        private final String parentID;
+        private final String name;
+        private final String etag;
+        private final String sequenceID;
+        private final String sha1;
+        private final long size;
+        private final Date modifiedAt;
+        private final boolean complete;
+
+        /**
+         * Creates an entry. Entries are created by the index; stores create them when reading persisted entries.
+         *
+         * @param id         the ID of the item.
+         * @param type       the type of the item: "folder", "file" or "web_link".
+         * @param parentID   the ID of the parent folder, or null for the root of the index.
+         * @param name       the name of the item.
+         * @param etag       the etag of the item.
+         * @param sequenceID the sequence ID of the item.
+         * @param sha1       the SHA1 hash of the file, or null.
+         * @param size       the size of the item in bytes.
+         * @param modifiedAt the time the item was last modified, or null.
+         * @param complete   whether all items in the folder are indexed.
+         */
+        public Entry(String id, String type, String parentID, String name, String etag, String sequenceID,
+                     String sha1, long size, Date modifiedAt, boolean complete) {
+            this.id = id;
+            this.type = type;
+            this.parentID = parentID;
+            this.name = name;
+            this.etag = etag;
+            this.sequenceID = sequenceID;
+            this.sha1 = sha1;
+            this.size = size;
+            this.modifiedAt = modifiedAt == null ? null : new Date(modifiedAt.getTime());
+            this.complete = complete;
+        }
+
+        /**
+         * Gets the ID of the item.
+         *
+         * @return the ID.
+         */
+        public String getID() {
+            return this.id;
+        }
+
+        /**
+         * Gets the type of the item.
+         *
+         * @return "folder", "file" or "web_link".
+         */
+        public String getType() {
+            return this.type;
+        }
+
+        /**
+         * Tells whether the item is a folder.
+         *
+         * @return true for folders.
+         */
+        public boolean isFolder() {
+            return "folder".equals(this.type);
+        }
+
+        /**
+         * Gets the ID of the folder containing the item.
+         *
+         * @return the ID of the parent folder, or null for the root of the index.
+         */
+        public String getParentID() {
+            return this.parentID;
+        }
+
+        /**
+         * Gets the name of the item.
+         *
+         * @return the name.
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Gets the etag of the item, which changes with every change of the item.
+         *
+         * @return the etag.
+         */
+        public String getEtag() {
+            return this.etag;
+        }
+
+        /**
+         * Gets the sequence ID of the item, which grows with every change of the item.
+         *
+         * @return the sequence ID.
+         */
+        public String getSequenceID() {
+            return this.sequenceID;
+        }
+
+        /**
+         * Gets the SHA1 hash of the file.
+         *
+         * @return the hash, or null for folders.
+         */
+        public String getSha1() {
+            return this.sha1;
+        }
+
+        /**
+         * Gets the size of the item in bytes. The size of a folder is the size of all items in it.
+         *
+         * @return the size.
+         */
+        public long getSize() {
+            return this.size;
+        }
+
+        /**
+         * Gets the time the item was last modified.
+         *
+         * @return the time, or null if it isn't known.
+         */
+        public Date getModifiedAt() {
+            return this.modifiedAt == null ? null : new Date(this.modifiedAt.getTime());
+        }
+
+        /**
+         * Tells whether all items in the folder are indexed. Folders learned about from events are not complete until
+         * they are refreshed. This is always false for files.
+         *
+         * @return true if the folder was listed.
+         */
+        public boolean isComplete() {
+            return this.complete && this.isFolder();
+        }
+
+        Entry withComplete(boolean newComplete) {
+            return new Entry(this.id, this.type, this.parentID, this.name, this.etag, this.sequenceID, this.sha1,
+                this.size, this.modifiedAt, newComplete);
+        }
+
+        // Fills the fields an event left out with the fields of the previous entry of the item.
+        Entry mergedWith(Entry previous, boolean hasSize) {
+            return new Entry(this.id, this.type, this.parentID,
+                this.name != null ? this.name : previous.name,
+                this.etag != null ? this.etag : previous.etag,
+                this.sequenceID != null ? this.sequenceID : previous.sequenceID,
+                this.sha1 != null ? this.sha1 : previous.sha1,
+                hasSize ? this.size : previous.size,
+                this.modifiedAt != null ? this.modifiedAt : previous.modifiedAt,
+                previous.complete);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.box.sdk;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Stores the entries of a {@link BoxItemIndex}, along with the root of the indexed tree and the position of the event
+ * stream the index is current with.
+ *
+ * <p>Stores are used by one index, which calls them from the threads passing events to it, so implementations must
+ * be thread-safe.</p>
+ */
+public interface BoxItemIndexStore extends AutoCloseable {
+    /**
+     * Gets the entry of an item.
+     *
+     * @param id the ID of the item.
+     * @return the entry, or null if the item isn't indexed.
+     */
+    BoxItemIndex.Entry get(String id);
+
+    /**
+     * Gets the entries of the items in a folder.
+     *
+     * @param parentID the ID of the folder.
+     * @return the entries, in no particular order.
+     */
+    List<BoxItemIndex.Entry> getChildren(String parentID);
+
+    /**
+     * Adds or replaces the entry of an item.
+     *
+     * @param entry the entry.
+     */
+    void put(BoxItemIndex.Entry entry);
+
+    /**
+     * Removes the entry of an item. The entries of its children are not removed.
+     *
+     * @param id the ID of the item.
+     */
+    void remove(String id);
+
+    /**
+     * Passes every entry to an action.
+     *
+     * @param action the action.
+     */
+    void forEach(Consumer<BoxItemIndex.Entry> action);
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of indexed items.
+     */
+    int size();
+
+    /**
+     * Removes all entries and forgets the root and the stream position.
+     */
+    void clear();
+
+    /**
+     * Gets the ID of the root folder of the indexed tree.
+     *
+     * @return the ID, or null if nothing was indexed yet.
+     */
+    String getRootID();
+
+    /**
+     * Sets the ID of the root folder of the indexed tree.
+     *
+     * @param rootID the ID.
+     */
+    void setRootID(String rootID);
+
+    /**
+     * Gets the position of the event stream the index is current with.
+     *
+     * @return the stream position, or -1 if it isn't known.
+     */
+    long getStreamPosition();
+
+    /**
+     * Sets the position of the event stream the index is current with.
+     *
+     * @param streamPosition the stream position.
+     */
+    void setStreamPosition(long streamPosition);
+
+    /**
+     * Releases the resources of the store, writing pending changes.
+     */
+    @Override
+    void close();
+}
@@ -15,10 +15,7 @@ class BoxItemIterator implements Iterator<BoxItem.Info> {
     BoxItemIterator(BoxAPIConnection api, URL url, PagingParameters pagingParameters) {
         this.api = api;
         this.iterator = new JsonIterator(api, url, pagingParameters);
-        this.iterator.setFilter(jsonObject -> {
-            String type = jsonObject.get("type").asString();
-            return (type.equals("file") || type.equals("folder") || type.equals("web_link"));
-        });
+        this.iterator.setFilter(BoxItemIterator::isItem);
     }
 
     BoxItemIterator(BoxAPIConnection api, URL url) {
@@ -34,19 +31,27 @@ class BoxItemIterator implements Iterator<BoxItem.Info> {
     }
 
     public BoxItem.Info next() {
-        JsonObject nextJSONObject = this.iterator.next();
+        return toItemInfo(this.api, this.iterator.next());
+    }
+
+    static boolean isItem(JsonObject jsonObject) {
+        String type = jsonObject.get("type").asString();
+        return (type.equals("file") || type.equals("folder") || type.equals("web_link"));
+    }
+
+    static BoxItem.Info toItemInfo(BoxAPIConnection api, JsonObject nextJSONObject) {
         String type = nextJSONObject.get("type").asString();
         String id = nextJSONObject.get("id").asString();
 
         BoxItem.Info nextItemInfo;
         if (type.equals("folder")) {
-            BoxFolder folder = new BoxFolder(this.api, id);
+            BoxFolder folder = new BoxFolder(api, id);
             nextItemInfo = folder.new Info(nextJSONObject);
         } else if (type.equals("file")) {
-            BoxFile file = new BoxFile(this.api, id);
+            BoxFile file = new BoxFile(api, id);
             nextItemInfo = file.new Info(nextJSONObject);
         } else if (type.equals("web_link")) {
-            BoxWebLink link = new BoxWebLink(this.api, id);
+            BoxWebLink link = new BoxWebLink(api, id);
             nextItemInfo = link.new Info(nextJSONObject);
         } else {
             assert false : "Unsupported item type: " + type;
@@ -0,0 +1,251 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.net.URL;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * A compact, immutable view of a file, folder or web link holding only the fields needed to take inventory of items:
+ * the type, ID, name, size, SHA1, modification time and parent ID.
+ *
+ * <p>Projections are decoded directly from the JSON of a listing, which requests only these fields. Unlike
+ * {@link BoxItem.Info} they keep no JSON, no nested objects and no pending changes, so many millions of them can be
+ * held in memory. Use {@link #getResource(BoxAPIConnection)} to get the full item when it is needed.</p>
+ */
+public final class BoxItemProjection {
+    /**
+     * The fields requested from the API for projections.
+     */
+    static final String[] FIELDS = {"type", "id", "name", "size", "sha1", "modified_at", "parent"};
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final String type;
+    private final String id;
+    private final String name;
+    private final long size;
+    private final String sha1;
+    private final long modifiedAt;
+    private final String parentID;
+
+    private BoxItemProjection(String type, String id, String name, long size, String sha1, long modifiedAt,
+                              String parentID) {
+        this.type = type;
+        this.id = id;
+        this.name = name;
+        this.size = size;
+        this.sha1 = sha1;
+        this.modifiedAt = modifiedAt;
+        this.parentID = parentID;
+    }
+
+    /**
+     * Decodes a projection from the JSON of an item.
+     *
+     * @param jsonObject the JSON of a file, folder or web link.
+     * @return the projection.
+     */
+    static BoxItemProjection fromJSON(JsonObject jsonObject) {
+        String type = null;
+        String id = null;
+        String name = null;
+        long size = 0;
+        String sha1 = null;
+        long modifiedAt = NO_DATE;
+        String parentID = null;
+        for (JsonObject.Member member : jsonObject) {
+            JsonValue value = member.getValue();
+            if (value.isNull()) {
+                continue;
+            }
+            String memberName = member.getName();
+            try {
+                switch (memberName) {
+                    case "type":
+                        type = internType(value.asString());
+                        break;
+                    case "id":
+                        id = value.asString();
+                        break;
+                    case "name":
+                        name = value.asString();
+                        break;
+                    case "size":
+                        size = Double.valueOf(value.toString()).longValue();
+                        break;
+                    case "sha1":
+                        sha1 = value.asString();
+                        break;
+                    case "modified_at":
+                        modifiedAt = BoxDateFormat.parse(value.asString()).getTime();
+                        break;
+                    case "parent":
+                        parentID = value.asObject().get("id").asString();
+                        break;
+                    default:
+                        break;
+                }
+            } catch (Exception e) {
+                throw new BoxDeserializationException(memberName, value.toString(), e);
+            }
+        }
+        return new BoxItemProjection(type, id, name, size, sha1, modifiedAt, parentID);
+    }
+
+    /**
+     * Creates an iterator decoding the projections of the items in a listing.
+     *
+     * @param api              the API connection used for the requests.
+     * @param url              the URL of the listing, requesting the projection fields.
+     * @param pagingParameters the paging of the listing.
+     * @return the iterator.
+     */
+    static Iterator<BoxItemProjection> iterator(BoxAPIConnection api, URL url, PagingParameters pagingParameters) {
+        final JsonIterator iterator = new JsonIterator(api, url, pagingParameters);
+        iterator.setFilter(BoxItemIterator::isItem);
+        return new Iterator<BoxItemProjection>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BoxItemProjection next() {
+                return fromJSON(iterator.next());
+            }
+        };
+    }
+
+    private static String internType(String type) {
+        switch (type) {
+            case "file":
+                return "file";
+            case "folder":
+                return "folder";
+            case "web_link":
+                return "web_link";
+            default:
+                return type;
+        }
+    }
+
+    /**
+     * Gets the type of the item.
+     *
+     * @return "file", "folder" or "web_link".
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the ID of the item.
+     *
+     * @return the ID of the item.
+     */
+    public String getID() {
+        return this.id;
+    }
+
+    /**
+     * Gets the name of the item.
+     *
+     * @return the name of the item.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the size of the item in bytes.
+     *
+     * @return the size of the item in bytes.
+     */
+    public long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the SHA1 hash of the file.
+     *
+     * @return the SHA1 hash of the file, or null if the item isn't a file.
+     */
+    public String getSha1() {
+        return this.sha1;
+    }
+
+    /**
+     * Gets the time the item was last modified.
+     *
+     * @return the time the item was last modified, or null if it isn't known.
+     */
+    public Date getModifiedAt() {
+        return this.modifiedAt == NO_DATE ? null : new Date(this.modifiedAt);
+    }
+
+    /**
+     * Gets the ID of the folder containing the item.
+     *
+     * @return the ID of the parent folder, or null if the item has no parent.
+     */
+    public String getParentID() {
+        return this.parentID;
+    }
+
+    /**
+     * Gets the item this projection was decoded from.
+     *
+     * @param api the API connection used by the item.
+     * @return a {@link BoxFile}, {@link BoxFolder} or {@link BoxWebLink}.
+     */
+    public BoxItem getResource(BoxAPIConnection api) {
+        switch (this.type) {
+            case "file":
+                return new BoxFile(api, this.id);
+            case "folder":
+                return new BoxFolder(api, this.id);
+            case "web_link":
+                return new BoxWebLink(api, this.id);
+            default:
+                throw new BoxAPIException("Unsupported item type: " + this.type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        BoxItemProjection that = (BoxItemProjection) o;
+        return this.size == that.size
+            && this.modifiedAt == that.modifiedAt
+            && Objects.equals(this.type, that.type)
+            && Objects.equals(this.id, that.id)
+            && Objects.equals(this.name, that.name)
+            && Objects.equals(this.sha1, that.sha1)
+            && Objects.equals(this.parentID, that.parentID);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.type, this.id);
+    }
+
+    @Override
+    public String toString() {
+        return "BoxItemProjection{"
+            + "type='" + this.type + '\''
+            + ", id='" + this.id + '\''
+            + ", name='" + this.name + '\''
+            + ", size=" + this.size
+            + ", sha1='" + this.sha1 + '\''
+            + ", modifiedAt=" + this.getModifiedAt()
+            + ", parentID='" + this.parentID + '\''
+            + '}';
+    }
+}
@@ -5,12 +5,19 @@ import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The abstract base class for all types that contain JSON data returned by the Box API. The most common implementation
  * of BoxJSONObject is {@link BoxResource.Info} and its subclasses. Changes made to a BoxJSONObject will be tracked
  * locally until the pending changes are sent back to Box in order to avoid unnecessary network requests.
+ *
+ * <p>Subclasses may decode their members lazily by overriding {@link #isDecodedLazily()}. Members of a lazily decoded
+ * object are kept only in the JSON object until a getter asks for them with {@link #decodeMember(String)}, so fields
+ * that are never read are never decoded. Like other BoxJSONObjects, lazily decoded objects aren't safe for use by
+ * multiple threads at the same time.</p>
  */
 public abstract class BoxJSONObject {
     /**
@@ -28,6 +35,15 @@ public abstract class BoxJSONObject {
      * The current JSON object.
      */
     private JsonObject jsonObject;
+    /**
+     * Whether the members of the current JSON object are decoded when they are first read.
+     */
+    private boolean decodedLazily;
+    /**
+     * The names of the members that were decoded or changed locally since the JSON object was last updated. Only used
+     * when decoding lazily.
+     */
+    private Set<String> decodedMembers;
 
     /**
      * Constructs an empty BoxJSONObject.
@@ -97,6 +113,37 @@ public abstract class BoxJSONObject {
     void parseJSONMember(JsonObject.Member member) {
     }
 
+    /**
+     * Checks whether the members of this object should be decoded when they are first read instead of when the object
+     * is updated. Called whenever the object is updated from a JSON object, possibly before subclass constructors ran.
+     *
+     * <p>Subclasses that return true must call {@link #decodeMember(String)} in every getter and before reading any
+     * field parsed by {@link #parseJSONMember(JsonObject.Member)}. This method returns false by default.</p>
+     *
+     * @return true if members should be decoded lazily.
+     */
+    boolean isDecodedLazily() {
+        return false;
+    }
+
+    /**
+     * Decodes a member of the JSON object with {@link #parseJSONMember(JsonObject.Member)}, unless it was decoded or
+     * changed locally before. Does nothing if this object isn't decoded lazily.
+     *
+     * @param name the name of the member.
+     */
+    void decodeMember(String name) {
+        if (!this.decodedLazily || !this.markDecoded(name)) {
+            return;
+        }
+
+        for (JsonObject.Member member : this.jsonObject) {
+            if (member.getName().equals(name) && !member.getValue().isNull()) {
+                this.parseJSONMember(member);
+            }
+        }
+    }
+
     /**
      * Adds a pending field change that needs to be sent to the API. It will be included in the JSON string the next
      * time {@link #getPendingChanges} is called.
@@ -105,6 +152,7 @@ public abstract class BoxJSONObject {
      * @param value the new boolean value of the field.
      */
     void addPendingChange(String key, boolean value) {
+        this.markDecoded(key);
         if (this.pendingChanges == null) {
             this.pendingChanges = new JsonObject();
         }
@@ -157,6 +205,7 @@ public abstract class BoxJSONObject {
     }
 
     void addChildObject(String fieldName, BoxJSONObject child) {
+        this.markDecoded(fieldName);
         if (child == null) {
             this.addPendingChange(fieldName, Json.NULL);
         } else {
@@ -176,6 +225,7 @@ public abstract class BoxJSONObject {
      * @param value the JsonValue of the field.
      */
     private void addPendingChange(String key, JsonValue value) {
+        this.markDecoded(key);
         if (this.pendingChanges == null) {
             this.pendingChanges = new JsonObject();
         }
@@ -195,19 +245,59 @@ public abstract class BoxJSONObject {
      * @param jsonObject the JSON object containing updated information.
      */
     void update(JsonObject jsonObject) {
+        if (this.decodedLazily) {
+            this.decodeMembersMissingFrom(jsonObject);
+        }
         this.jsonObject = jsonObject;
+        this.decodedLazily = this.isDecodedLazily();
+        this.decodedMembers = null;
 
-        for (JsonObject.Member member : jsonObject) {
-            if (member.getValue().isNull()) {
-                continue;
-            }
+        if (!this.decodedLazily) {
+            for (JsonObject.Member member : jsonObject) {
+                if (member.getValue().isNull()) {
+                    continue;
+                }
 
-            this.parseJSONMember(member);
+                this.parseJSONMember(member);
+            }
         }
 
         this.clearPendingChanges();
     }
 
+    /**
+     * Records that a member doesn't need to be decoded from the JSON object, either because it is being decoded or
+     * because it was changed locally.
+     *
+     * @param name the name of the member.
+     * @return true if the member wasn't decoded or changed before.
+     */
+    private boolean markDecoded(String name) {
+        if (!this.decodedLazily) {
+            return false;
+        }
+        if (this.decodedMembers == null) {
+            this.decodedMembers = new HashSet<String>();
+        }
+        return this.decodedMembers.add(name);
+    }
+
+    /**
+     * Decodes the members that weren't decoded or changed locally yet and that an update won't replace. Fields keep
+     * the values of members missing from an update, so these members can't wait until they are read.
+     *
+     * @param update the JSON object this object is about to be updated with.
+     */
+    private void decodeMembersMissingFrom(JsonObject update) {
+        for (JsonObject.Member member : this.jsonObject) {
+            JsonValue replacement = update.get(member.getName());
+            if ((replacement == null || replacement.isNull()) && !member.getValue().isNull()
+                && this.markDecoded(member.getName())) {
+                this.parseJSONMember(member);
+            }
+        }
+    }
+
     /**
      * Gets a JsonObject containing any pending changes to this object that can be sent back to the Box API.
      *
@@ -17,6 +17,7 @@ import java.util.Map;
 public class BoxJSONResponse extends BoxAPIResponse {
     private static final int BUFFER_SIZE = 8192;
     private JsonObject jsonObject;
+    private long bodyLength = -1;
 
     /**
      * Constructs a BoxJSONResponse without an associated HttpURLConnection.
@@ -53,16 +54,19 @@ public class BoxJSONResponse extends BoxAPIResponse {
     }
 
     /**
-     * Get response as Json Object.
+     * Get response as Json Object. The body is parsed only once, so all calls return the same object. Callers that
+     * need to modify the returned object should work on a copy.
      *
      * @return response as JsonObject
      */
     public JsonObject getJsonObject() {
-        if (this.jsonObject != null) {
-            return this.jsonObject;
-        } else {
-            return Json.parse(this.getJSON()).asObject();
+        if (this.jsonObject == null) {
+            String json = this.getJSON();
+            if (this.jsonObject == null && json != null) {
+                this.jsonObject = Json.parse(json).asObject();
+            }
         }
+        return this.jsonObject;
     }
 
     /**
@@ -94,6 +98,7 @@ public class BoxJSONResponse extends BoxAPIResponse {
                 throw new BoxAPIException("Couldn't connect to the Box API due to a network error.", e);
             }
             String jsonAsString = builder.toString();
+            this.bodyLength = jsonAsString.length();
             try {
                 this.jsonObject = Json.parse(jsonAsString).asObject();
             } catch (ParseException e) {
@@ -103,6 +108,19 @@ public class BoxJSONResponse extends BoxAPIResponse {
         }
     }
 
+    /**
+     * Gets the length of the JSON body as it was received.
+     *
+     * @return the length in characters, or -1 if it is not known.
+     */
+    long getBodyLength() {
+        return this.bodyLength;
+    }
+
+    void setBodyLength(long bodyLength) {
+        this.bodyLength = bodyLength;
+    }
+
     @Override
     protected String bodyToString() {
         String bodyString = super.bodyToString();
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -86,7 +85,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         }
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxLegalHoldPolicy createdPolicy = new BoxLegalHoldPolicy(api, responseJSON.get("id").asString());
             return createdPolicy.new Info(responseJSON);
         }
@@ -111,7 +110,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         }
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxLegalHoldPolicy createdPolicy = new BoxLegalHoldPolicy(api, responseJSON.get("id").asString());
             return createdPolicy.new Info(responseJSON);
         }
@@ -138,6 +137,22 @@ public class BoxLegalHoldPolicy extends BoxResource {
      */
     public static Iterable<BoxLegalHoldPolicy.Info> getAll(
         final BoxAPIConnection api, String policyName, int limit, String... fields) {
+        return getAll(api, policyName, limit, null, fields);
+    }
+
+    /**
+     * Retrieves a list of Legal Hold Policies that belong to your Enterprise as an Iterable.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            api the API connection to be used by the resource.
+     * @param policyName     case insensitive prefix-match filter on Policy name.
+     * @param limit          the limit of retrieved entries per page.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the optional fields to retrieve.
+     * @return the Iterable of Legal Hold Policies in your Enterprise that match the filter parameters.
+     */
+    public static Iterable<BoxLegalHoldPolicy.Info> getAll(
+        final BoxAPIConnection api, String policyName, int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (policyName != null) {
             builder.appendParam("policy_name", policyName);
@@ -147,7 +162,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         }
         return new BoxResourceIterable<BoxLegalHoldPolicy.Info>(api,
             ALL_LEGAL_HOLD_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString()),
-            limit) {
+            limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxLegalHoldPolicy.Info factory(JsonObject jsonObject) {
@@ -171,7 +186,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         URL url = LEGAL_HOLD_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
@@ -196,7 +211,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             info.update(responseJSON);
         }
     }
@@ -235,6 +250,24 @@ public class BoxLegalHoldPolicy extends BoxResource {
      * @return an iterable containing assignments for this single legal hold policy.
      */
     public Iterable<BoxLegalHoldAssignment.Info> getAssignments(String type, String id, int limit, String... fields) {
+        return this.getAssignments(type, id, limit, null, fields);
+    }
+
+    /**
+     * Returns iterable containing assignments for this single legal hold policy.
+     * Parameters can be used to filter retrieved assignments.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param type           filter assignments of this type only.
+     *                       Can be "file_version", "file", "folder", "user" or null if no type filter is necessary.
+     * @param id             filter assignments to this ID only. Can be null if no id filter is necessary.
+     * @param limit          the limit of entries per page. Default limit is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable containing assignments for this single legal hold policy.
+     */
+    public Iterable<BoxLegalHoldAssignment.Info> getAssignments(
+        String type, String id, int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (type != null) {
             builder.appendParam("assign_to_type", type);
@@ -247,7 +280,7 @@ public class BoxLegalHoldPolicy extends BoxResource {
         }
         return new BoxResourceIterable<BoxLegalHoldAssignment.Info>(
             this.getAPI(), LEGAL_HOLD_ASSIGNMENTS_URL_TEMPLATE.buildWithQuery(
-            this.getAPI().getBaseURL(), builder.toString(), this.getID()), limit) {
+            this.getAPI().getBaseURL(), builder.toString(), this.getID()), limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxLegalHoldAssignment.Info factory(JsonObject jsonObject) {
@@ -276,12 +309,27 @@ public class BoxLegalHoldPolicy extends BoxResource {
      * @return an iterable containing file version legal holds info.
      */
     public Iterable<BoxFileVersionLegalHold.Info> getFileVersionHolds(int limit, String... fields) {
+        return this.getFileVersionHolds(limit, null, fields);
+    }
+
+    /**
+     * Returns iterable with all non-deleted file version legal holds for this legal hold policy.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of entries per response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable containing file version legal holds info.
+     */
+    public Iterable<BoxFileVersionLegalHold.Info> getFileVersionHolds(
+        int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder().appendParam("policy_id", this.getID());
         if (fields.length > 0) {
             queryString.appendParam("fields", fields);
         }
         URL url = LIST_OF_FILE_VERSION_HOLDS_URL_TEMPLATE.buildWithQuery(getAPI().getBaseURL(), queryString.toString());
-        return new BoxResourceIterable<BoxFileVersionLegalHold.Info>(getAPI(), url, limit) {
+        return new BoxResourceIterable<BoxFileVersionLegalHold.Info>(getAPI(), url, limit, null, null,
+            pageSizePolicy) {
 
             @Override
             protected BoxFileVersionLegalHold.Info factory(JsonObject jsonObject) {
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -67,6 +66,24 @@ public class BoxMetadataCascadePolicy extends BoxResource {
     public static Iterable<BoxMetadataCascadePolicy.Info> getAll(final BoxAPIConnection api,
                                                                  String folderID, String ownerEnterpriseID, int limit,
                                                                  String... fields) {
+        return getAll(api, folderID, ownerEnterpriseID, limit, null, fields);
+    }
+
+    /**
+     * Retrieves list of Box Metadata Cascade Policies that belong to your Enterprise as an Iterable.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api               the API connection to be used by the resource.
+     * @param folderID          the ID of the folder to retrieve cascade policies for.
+     * @param ownerEnterpriseID the ID of the enterprise to retrieve Metadata Cascade Policies for.
+     * @param limit             the number of entries for cascade policies to retrieve.
+     * @param pageSizePolicy    the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields            optional fields to retrieve for cascade policies.
+     * @return the Iterable of Box Metadata Cascade Policies in your enterprise.
+     */
+    public static Iterable<BoxMetadataCascadePolicy.Info> getAll(final BoxAPIConnection api,
+                                                                 String folderID, String ownerEnterpriseID, int limit,
+                                                                 PageSizePolicy pageSizePolicy, String... fields) {
 
         QueryStringBuilder builder = new QueryStringBuilder();
         builder.appendParam("folder_id", folderID);
@@ -77,7 +94,7 @@ public class BoxMetadataCascadePolicy extends BoxResource {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<Info>(api, GET_ALL_METADATA_CASCADE_POLICIES_URL_TEMPLATE
-            .buildWithQuery(api.getBaseURL(), builder.toString()), limit) {
+            .buildWithQuery(api.getBaseURL(), builder.toString()), limit, null, null, pageSizePolicy) {
             @Override
             protected BoxMetadataCascadePolicy.Info factory(JsonObject jsonObject) {
                 BoxMetadataCascadePolicy cascadePolicy =
@@ -107,7 +124,7 @@ public class BoxMetadataCascadePolicy extends BoxResource {
             .add("templateKey", templateKey);
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxMetadataCascadePolicy createdMetadataCascadePolicy = new BoxMetadataCascadePolicy(api,
                 responseJSON.get("id").asString());
             return createdMetadataCascadePolicy.new Info(responseJSON);
@@ -129,7 +146,7 @@ public class BoxMetadataCascadePolicy extends BoxResource {
             builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
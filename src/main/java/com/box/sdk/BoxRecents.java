@@ -29,13 +29,29 @@ public final class BoxRecents {
      */
     public static BoxResourceIterable<BoxRecentItem> getRecentItems(final BoxAPIConnection api,
                                                                     int limit, String... fields) {
+        return getRecentItems(api, limit, null, fields);
+    }
+
+    /**
+     * Used to retrieve all collaborations associated with the item.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            BoxAPIConnection from the associated file.
+     * @param limit          limit of items to be retrieved. Default is 100. Maximum is 1000
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the optional fields to retrieve.
+     * @return An iterable of BoxCollaboration.Info instances associated with the item.
+     * @see <a href="http://google.com">https://developer.box.com/reference#get-recent-items</a>
+     */
+    public static BoxResourceIterable<BoxRecentItem> getRecentItems(final BoxAPIConnection api, int limit,
+                                                                    PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<BoxRecentItem>(
             api, RECENTS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString()),
-            limit) {
+            limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxRecentItem factory(JsonObject jsonObject) {
@@ -1,9 +1,6 @@
 package com.box.sdk;
 
 import com.eclipsesource.json.JsonObject;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -16,9 +13,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public abstract class BoxResource {
 
     /**
-     * @see #initResourceClassByType()
+     * @see #initInfoFactoryByType()
      */
-    private static final Map<String, Class<? extends BoxResource>> RESOURCE_CLASS_BY_TYPE = initResourceClassByType();
+    private static final Map<String, InfoFactory> INFO_FACTORY_BY_TYPE = initInfoFactoryByType();
 
     private final BoxAPIConnection api;
     private final String id;
@@ -35,38 +32,60 @@ public abstract class BoxResource {
     }
 
     /**
-     * @return Builds {@link Map} between String {@link #getResourceType(Class)} and {@link BoxResource} type.
+     * @return Builds {@link Map} between String {@link #getResourceType(Class)} and the factory creating the
+     * {@link Info} of the {@link BoxResource} type. Events and file requests have no info that can be created from
+     * JSON alone.
      */
-    private static Map<String, Class<? extends BoxResource>> initResourceClassByType() {
-        Map<String, Class<? extends BoxResource>> result =
-            new ConcurrentHashMap<String, Class<? extends BoxResource>>();
-        result.put(getResourceType(BoxFolder.class), BoxFolder.class);
-        result.put(getResourceType(BoxFile.class), BoxFile.class);
-        result.put(getResourceType(BoxComment.class), BoxComment.class);
-        result.put(getResourceType(BoxCollaboration.class), BoxCollaboration.class);
-        result.put(getResourceType(BoxTask.class), BoxTask.class);
-        result.put(getResourceType(BoxTaskAssignment.class), BoxTaskAssignment.class);
-        result.put(getResourceType(BoxUser.class), BoxUser.class);
-        result.put(getResourceType(BoxGroup.class), BoxGroup.class);
-        result.put(getResourceType(BoxGroupMembership.class), BoxGroupMembership.class);
-        result.put(getResourceType(BoxEvent.class), BoxEvent.class);
-        result.put(getResourceType(BoxWebHook.class), BoxWebHook.class);
-        result.put(getResourceType(BoxCollection.class), BoxCollection.class);
-        result.put(getResourceType(BoxDevicePin.class), BoxDevicePin.class);
-        result.put(getResourceType(BoxRetentionPolicy.class), BoxRetentionPolicy.class);
-        result.put(getResourceType(BoxRetentionPolicyAssignment.class), BoxRetentionPolicyAssignment.class);
-        result.put(getResourceType(BoxFileVersionRetention.class), BoxFileVersionRetention.class);
-        result.put(getResourceType(BoxLegalHoldPolicy.class), BoxLegalHoldPolicy.class);
-        result.put(getResourceType(BoxLegalHoldAssignment.class), BoxLegalHoldAssignment.class);
-        result.put(getResourceType(BoxFileVersionLegalHold.class), BoxFileVersionLegalHold.class);
-        result.put(getResourceType(BoxFileUploadSession.class), BoxFileUploadSession.class);
-        result.put(getResourceType(BoxWebLink.class), BoxWebLink.class);
-        result.put(getResourceType(BoxStoragePolicy.class), BoxStoragePolicy.class);
-        result.put(getResourceType(BoxStoragePolicyAssignment.class), BoxStoragePolicyAssignment.class);
-        result.put(getResourceType(BoxFolderLock.class), BoxFolderLock.class);
-        result.put(getResourceType(BoxFileRequest.class), BoxFileRequest.class);
-
-        return Collections.unmodifiableMap(result);
+    private static Map<String, InfoFactory> initInfoFactoryByType() {
+        Map<String, InfoFactory> result = new ConcurrentHashMap<String, InfoFactory>();
+        result.put(getResourceType(BoxFolder.class),
+            (api, id, json) -> new BoxFolder(api, id).new Info(json));
+        result.put(getResourceType(BoxFile.class),
+            (api, id, json) -> new BoxFile(api, id).new Info(json));
+        result.put(getResourceType(BoxComment.class),
+            (api, id, json) -> new BoxComment(api, id).new Info(json));
+        result.put(getResourceType(BoxCollaboration.class),
+            (api, id, json) -> new BoxCollaboration(api, id).new Info(json));
+        result.put(getResourceType(BoxTask.class),
+            (api, id, json) -> new BoxTask(api, id).new Info(json));
+        result.put(getResourceType(BoxTaskAssignment.class),
+            (api, id, json) -> new BoxTaskAssignment(api, id).new Info(json));
+        result.put(getResourceType(BoxUser.class),
+            (api, id, json) -> new BoxUser(api, id).new Info(json));
+        result.put(getResourceType(BoxGroup.class),
+            (api, id, json) -> new BoxGroup(api, id).new Info(json));
+        result.put(getResourceType(BoxGroupMembership.class),
+            (api, id, json) -> new BoxGroupMembership(api, id).new Info(json));
+        result.put(getResourceType(BoxWebHook.class),
+            (api, id, json) -> new BoxWebHook(api, id).new Info(json));
+        result.put(getResourceType(BoxCollection.class),
+            (api, id, json) -> new BoxCollection(api, id).new Info(json));
+        result.put(getResourceType(BoxDevicePin.class),
+            (api, id, json) -> new BoxDevicePin(api, id).new Info(json));
+        result.put(getResourceType(BoxRetentionPolicy.class),
+            (api, id, json) -> new BoxRetentionPolicy(api, id).new Info(json));
+        result.put(getResourceType(BoxRetentionPolicyAssignment.class),
+            (api, id, json) -> new BoxRetentionPolicyAssignment(api, id).new Info(json));
+        result.put(getResourceType(BoxFileVersionRetention.class),
+            (api, id, json) -> new BoxFileVersionRetention(api, id).new Info(json));
+        result.put(getResourceType(BoxLegalHoldPolicy.class),
+            (api, id, json) -> new BoxLegalHoldPolicy(api, id).new Info(json));
+        result.put(getResourceType(BoxLegalHoldAssignment.class),
+            (api, id, json) -> new BoxLegalHoldAssignment(api, id).new Info(json));
+        result.put(getResourceType(BoxFileVersionLegalHold.class),
+            (api, id, json) -> new BoxFileVersionLegalHold(api, id).new Info(json));
+        result.put(getResourceType(BoxFileUploadSession.class),
+            (api, id, json) -> new BoxFileUploadSession(api, id).new Info(json));
+        result.put(getResourceType(BoxWebLink.class),
+            (api, id, json) -> new BoxWebLink(api, id).new Info(json));
+        result.put(getResourceType(BoxStoragePolicy.class),
+            (api, id, json) -> new BoxStoragePolicy(api, id).new Info(json));
+        result.put(getResourceType(BoxStoragePolicyAssignment.class),
+            (api, id, json) -> new BoxStoragePolicyAssignment(api, id).new Info(json));
+        result.put(getResourceType(BoxFolderLock.class),
+            (api, id, json) -> new BoxFolderLock(api, id).new Info(json));
+
+        return result;
     }
 
     /**
@@ -83,30 +102,33 @@ public abstract class BoxResource {
         return resource.value();
     }
 
+    /**
+     * Registers the factory creating the {@link Info} of a resource type, for example of a type added to the API after
+     * this version of the SDK. A factory registered for a type the SDK knows replaces the SDK's own factory. The
+     * factory is used whenever JSON of the type is found in listings, search results or event sources.
+     *
+     * @param type    the value of the <code>type</code> field in the JSON of the resource.
+     * @param factory the factory creating the info, or null to stop creating infos for the type.
+     */
+    public static void registerInfoFactory(String type, InfoFactory factory) {
+        if (factory == null) {
+            INFO_FACTORY_BY_TYPE.remove(type);
+        } else {
+            INFO_FACTORY_BY_TYPE.put(type, factory);
+        }
+    }
+
     static BoxResource.Info parseInfo(BoxAPIConnection api, JsonObject jsonObject) {
         String type = jsonObject.get("type").asString();
         String id = jsonObject.get("id").asString();
 
-        try {
-            Class<? extends BoxResource> resourceClass = RESOURCE_CLASS_BY_TYPE.get(type);
-            Constructor<? extends BoxResource> resourceConstructor =
-                resourceClass.getConstructor(BoxAPIConnection.class, String.class);
-
-            Class<?> infoClass = resourceClass.getClassLoader().loadClass(resourceClass.getCanonicalName() + "$Info");
-            Constructor<?> infoConstructor = infoClass.getDeclaredConstructor(resourceClass, JsonObject.class);
-
-            BoxResource resource = resourceConstructor.newInstance(api, id);
-            return (BoxResource.Info) infoConstructor.newInstance(resource, jsonObject);
-
-        } catch (ClassNotFoundException e) {
-            return null;
-        } catch (NoSuchMethodException e) {
+        InfoFactory factory = INFO_FACTORY_BY_TYPE.get(type);
+        if (factory == null) {
             return null;
-        } catch (IllegalAccessException e) {
-            throw new BoxAPIException("Can not create BoxResource.Info instance:", e);
-        } catch (InvocationTargetException e) {
-            throw new BoxAPIException("Can not create BoxResource.Info instance:", e);
-        } catch (InstantiationException e) {
+        }
+        try {
+            return factory.create(api, id, jsonObject);
+        } catch (RuntimeException e) {
             throw new BoxAPIException("Can not create BoxResource.Info instance:", e);
         }
     }
@@ -160,6 +182,22 @@ public abstract class BoxResource {
         return this.getID().hashCode();
     }
 
+    /**
+     * Creates the {@link Info} of a resource from its JSON.
+     */
+    @FunctionalInterface
+    public interface InfoFactory {
+        /**
+         * Creates the info of a resource.
+         *
+         * @param api        the API connection used by the resource.
+         * @param id         the ID of the resource.
+         * @param jsonObject the JSON of the resource.
+         * @return the info of the resource.
+         */
+        Info create(BoxAPIConnection api, String id, JsonObject jsonObject);
+    }
+
     /**
      * Contains information about a BoxResource.
      */
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -8,6 +7,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
 
 /**
  * Common implementation for paging support.
@@ -51,6 +53,11 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
      */
     private final int limit;
 
+    /**
+     * The policy choosing the page sizes of this listing, null to use the one of the API connection.
+     */
+    private final PageSizePolicy pageSizePolicy;
+
     /**
      * The iterator that gets the next items.
      */
@@ -101,10 +108,52 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
      * @param marker the marker where the iterator will begin
      */
     public BoxResourceIterable(BoxAPIConnection api, URL url, int limit, JsonObject body, String marker) {
+        this(api, url, limit, body, marker, null, 0);
+    }
+
+    /**
+     * Constructor for a listing choosing its page sizes with its own policy instead of the one set with
+     * {@link BoxAPIConnection#setPageSizePolicy(PageSizePolicy)}.
+     *
+     * @param api            the API connection to be used by the resource.
+     * @param url            to endpoint with paging support.
+     * @param limit          the size of the first page, the policy may choose up to the maximum of the endpoint.
+     * @param body           the body to send to the requested endpoint, can be null.
+     * @param marker         the marker where the iterator will begin, can be null.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     */
+    public BoxResourceIterable(BoxAPIConnection api, URL url, int limit, JsonObject body, String marker,
+                               PageSizePolicy pageSizePolicy) {
+        this(api, url, limit, body, marker, pageSizePolicy, 0);
+    }
+
+    /**
+     * Constructor resuming a listing at a checkpoint taken with {@link #getCheckpoint()}.
+     *
+     * @param api        the API connection to be used by the resource.
+     * @param checkpoint the checkpoint of the listing.
+     * @throws IllegalArgumentException if the checkpoint wasn't taken from a BoxResourceIterable or its URL doesn't
+     *                                  have the same origin as the base URL of the API connection.
+     */
+    public BoxResourceIterable(BoxAPIConnection api, ListingCheckpoint checkpoint) {
+        this(api, requireMarkerCheckpoint(checkpoint).getURL(api), (int) checkpoint.getLimit(), checkpoint.getBody(),
+            checkpoint.getMarker(), null, checkpoint.getSkippedEntries());
+    }
+
+    private BoxResourceIterable(BoxAPIConnection api, URL url, int limit, JsonObject body, String marker,
+                                PageSizePolicy pageSizePolicy, int skippedEntries) {
         this.api = api;
         this.url = url;
         this.limit = limit;
-        this.iterator = new IteratorImpl(marker, body);
+        this.pageSizePolicy = pageSizePolicy;
+        this.iterator = new IteratorImpl(marker, body, skippedEntries);
+    }
+
+    private static ListingCheckpoint requireMarkerCheckpoint(ListingCheckpoint checkpoint) {
+        if (checkpoint.usesPagingParameters()) {
+            throw new IllegalArgumentException("The checkpoint wasn't taken from a BoxResourceIterable.");
+        }
+        return checkpoint;
     }
 
     /**
@@ -136,6 +185,43 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
         return this.iterator.markerNext;
     }
 
+    /**
+     * Gets the position of the iterator, from which the listing can be resumed with
+     * {@link #BoxResourceIterable(BoxAPIConnection, ListingCheckpoint)}. Resuming at the checkpoint continues with
+     * the first entry the iterator hasn't returned yet.
+     *
+     * @return the checkpoint.
+     */
+    public ListingCheckpoint getCheckpoint() {
+        return this.iterator.currentPageStart.withSkippedEntries(this.iterator.pageCursor);
+    }
+
+    /**
+     * Saves a checkpoint to a store whenever the given number of pages was loaded by the iterator. Each checkpoint is
+     * taken when the iterator moves to the next page, so it covers all entries of the previous pages.
+     *
+     * @param store      the store, or null to stop saving checkpoints.
+     * @param everyPages the number of pages between checkpoints.
+     * @return this iterable.
+     */
+    public BoxResourceIterable<T> checkpointTo(ListingCheckpointStore store, int everyPages) {
+        if (store != null && everyPages <= 0) {
+            throw new IllegalArgumentException("The number of pages between checkpoints must be positive.");
+        }
+        this.iterator.checkpointStore = store;
+        this.iterator.checkpointEveryPages = everyPages;
+        return this;
+    }
+
+    /**
+     * Skips entries rejected by a filter.
+     *
+     * @param filter returns true for entries the iterator returns.
+     */
+    void setFilter(Predicate<JsonObject> filter) {
+        this.iterator.filter = filter;
+    }
+
     /**
      * Paging implementation.
      */
@@ -162,33 +248,126 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
          */
         private JsonObject body;
 
+        /**
+         * Marker of the page that the next request loads. Runs ahead of {@link #markerNext} when pages are prefetched.
+         */
+        private String markerToLoad;
+
+        /**
+         * Loads pages ahead of this iterator, null when prefetching is disabled.
+         */
+        private PagePrefetcher prefetcher;
+
+        /**
+         * Starts of the requested pages that weren't made current yet, in the order they were requested.
+         */
+        private final Queue<ListingCheckpoint> requestedPageStarts = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Start of the current page.
+         */
+        private ListingCheckpoint currentPageStart;
+
+        /**
+         * Number of entries skipped on the first page, because they were returned before a checkpoint.
+         */
+        private int skippedEntries;
+
+        /**
+         * Store saving checkpoints, null when checkpoints aren't saved.
+         */
+        private ListingCheckpointStore checkpointStore;
+
+        /**
+         * Number of pages between saved checkpoints.
+         */
+        private int checkpointEveryPages;
+
+        /**
+         * Number of pages made current.
+         */
+        private int appliedPages;
+
+        /**
+         * Filter of the returned entries, null to return all entries.
+         */
+        private Predicate<JsonObject> filter;
+
         /**
          * Constructor.
          *
-         * @param marker the marker at which the iterator will begin
-         * @param body Request body
+         * @param marker         the marker at which the iterator will begin
+         * @param body           Request body
+         * @param skippedEntries number of entries of the first page to skip
          */
-        IteratorImpl(String marker, JsonObject body) {
+        IteratorImpl(String marker, JsonObject body, int skippedEntries) {
             this.markerNext = marker;
+            this.markerToLoad = marker;
             this.body = body;
-            this.loadNextPage();
+            this.skippedEntries = skippedEntries;
+            this.applyPage(this.requestPage());
+            this.prefetcher = PagePrefetcher.create(BoxResourceIterable.this.api, new PagePrefetcher.PageLoader() {
+                @Override
+                public JsonObject loadNextPage() {
+                    return IteratorImpl.this.requestPage();
+                }
+
+                @Override
+                public boolean hasMorePages() {
+                    return IteratorImpl.this.markerToLoad != null && !IteratorImpl.this.markerToLoad.isEmpty();
+                }
+            });
         }
 
         /**
          * Loads next page.
          */
         private void loadNextPage() {
+            if (this.prefetcher == null) {
+                this.applyPage(this.requestPage());
+                return;
+            }
+            JsonObject pageBody = this.prefetcher.take();
+            if (pageBody == null) {
+                this.markerNext = null;
+                this.page = new JsonArray();
+                this.pageCursor = 0;
+            } else {
+                this.applyPage(pageBody);
+            }
+        }
+
+        /**
+         * Requests the page starting at {@link #markerToLoad} and moves the marker to the page after it.
+         *
+         * @return the JSON body of the page.
+         */
+        private JsonObject requestPage() {
+            PageSizePolicy policy = BoxResourceIterable.this.pageSizePolicy != null
+                ? BoxResourceIterable.this.pageSizePolicy
+                : BoxResourceIterable.this.api.getPageSizePolicy();
+            long limit = BoxResourceIterable.this.limit;
+            if (policy != null) {
+                limit = policy.getLimit(BoxResourceIterable.this.url, limit,
+                    PagingParameters.maxLimit(BoxResourceIterable.this.url, limit));
+            }
             String existingQuery = BoxResourceIterable.this.url.getQuery();
             QueryStringBuilder builder = new QueryStringBuilder(existingQuery);
-            builder.appendParam(PARAMETER_LIMIT, BoxResourceIterable.this.limit);
-            if (this.markerNext != null) {
+            builder.appendParam(PARAMETER_LIMIT, limit);
+            if (this.body != null && this.body.get(PARAMETER_LIMIT) != null) {
+                this.body.set(PARAMETER_LIMIT, limit);
+            }
+            if (this.markerToLoad != null) {
                 if (this.body != null) {
-                    this.body.set("marker", this.markerNext);
+                    this.body.set("marker", this.markerToLoad);
                 } else {
-                    builder.appendParam(PARAMETER_MARKER, this.markerNext);
+                    builder.appendParam(PARAMETER_MARKER, this.markerToLoad);
                 }
             }
 
+            this.requestedPageStarts.add(ListingCheckpoint.ofMarker(BoxResourceIterable.this.url, this.body,
+                this.markerToLoad, BoxResourceIterable.this.limit, 0));
+
             URL url;
             try {
                 url = builder.replaceQuery(BoxResourceIterable.this.url);
@@ -204,34 +383,72 @@ public abstract class BoxResourceIterable<T> implements Iterable<T> {
                 request = new BoxJSONRequest(BoxResourceIterable.this.api, url, "GET");
             }
 
+            long start = System.currentTimeMillis();
             try (BoxJSONResponse response = request.send()) {
-                JsonObject pageBody = Json.parse(response.getJSON()).asObject();
-
-                JsonValue markerNextValue = pageBody.get(BODY_PARAMETER_MARKER_NEXT);
-                if (markerNextValue != null && markerNextValue.isString()) {
-                    this.markerNext = markerNextValue.asString();
-                } else {
-                    this.markerNext = null;
+                JsonObject pageBody = response.getJsonObject();
+                if (policy != null) {
+                    JsonValue entries = pageBody.get(BODY_PARAMETER_ENTRIES);
+                    int entryCount = entries != null && entries.isArray() ? entries.asArray().size() : 0;
+                    policy.onPageLoaded(BoxResourceIterable.this.url, limit, entryCount, response.getBodyLength(),
+                        System.currentTimeMillis() - start);
                 }
+                this.markerToLoad = nextMarker(pageBody);
+                return pageBody;
+            }
+        }
 
-                this.page = pageBody.get(BODY_PARAMETER_ENTRIES).asArray();
-                this.pageCursor = 0;
+        /**
+         * Makes a loaded page the current one.
+         *
+         * @param pageBody the JSON body of the page.
+         */
+        private void applyPage(JsonObject pageBody) {
+            this.markerNext = nextMarker(pageBody);
+            this.page = pageBody.get(BODY_PARAMETER_ENTRIES).asArray();
+            this.pageCursor = Math.min(this.skippedEntries, this.page.size());
+            this.skippedEntries = 0;
+            this.currentPageStart = this.requestedPageStarts.poll();
+
+            this.appliedPages++;
+            if (this.checkpointStore != null && this.appliedPages % this.checkpointEveryPages == 0) {
+                this.checkpointStore.save(BoxResourceIterable.this.getCheckpoint());
             }
         }
 
+        /**
+         * Reads the marker of the page following the given one.
+         *
+         * @param pageBody the JSON body of the page.
+         * @return the marker or null on the last page.
+         */
+        private String nextMarker(JsonObject pageBody) {
+            JsonValue markerNextValue = pageBody.get(BODY_PARAMETER_MARKER_NEXT);
+            if (markerNextValue != null && markerNextValue.isString()) {
+                return markerNextValue.asString();
+            }
+            return null;
+        }
+
         /**
          * {@inheritDoc}
          */
         @Override
         public boolean hasNext() {
-            if (this.pageCursor < this.page.size()) {
-                return true;
-            }
-            if (this.markerNext == null || this.markerNext.isEmpty()) {
-                return false;
+            while (true) {
+                while (this.pageCursor < this.page.size()) {
+                    if (this.filter == null || this.filter.test(this.page.get(this.pageCursor).asObject())) {
+                        return true;
+                    }
+                    this.pageCursor++;
+                }
+                if (this.markerNext == null || this.markerNext.isEmpty()) {
+                    return false;
+                }
+                this.loadNextPage();
+                if (this.page.isEmpty()) {
+                    return false;
+                }
             }
-            this.loadNextPage();
-            return !this.page.isEmpty();
         }
 
         /**
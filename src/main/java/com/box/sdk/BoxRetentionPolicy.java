@@ -203,7 +203,7 @@ public class BoxRetentionPolicy extends BoxResource {
         }
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxRetentionPolicy createdPolicy = new BoxRetentionPolicy(api, responseJSON.get("id").asString());
             return createdPolicy.new Info(responseJSON);
         }
@@ -234,6 +234,26 @@ public class BoxRetentionPolicy extends BoxResource {
      */
     public static Iterable<BoxRetentionPolicy.Info> getAll(
         String name, String type, String userID, int limit, final BoxAPIConnection api, String... fields) {
+        return getAll(name, type, userID, limit, api, null, fields);
+    }
+
+    /**
+     * Returns all the retention policies with specified filters.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param name           a name to filter the retention policies by. A trailing partial match search is performed.
+     *                       Set to null if no name filtering is required.
+     * @param type           a policy type to filter the retention policies by. Set to null if no type filtering is required.
+     * @param userID         a user id to filter the retention policies by. Set to null if no type filtering is required.
+     * @param limit          the limit of items per single response. The default value is 100.
+     * @param api            the API connection to be used by the resource.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable with all the retention policies met search conditions.
+     */
+    public static Iterable<BoxRetentionPolicy.Info> getAll(String name, String type, String userID, int limit,
+                                                           final BoxAPIConnection api, PageSizePolicy pageSizePolicy,
+                                                           String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder();
         if (name != null) {
             queryString.appendParam("policy_name", name);
@@ -248,7 +268,7 @@ public class BoxRetentionPolicy extends BoxResource {
             queryString.appendParam("fields", fields);
         }
         URL url = RETENTION_POLICIES_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), queryString.toString());
-        return new BoxResourceIterable<BoxRetentionPolicy.Info>(api, url, limit) {
+        return new BoxResourceIterable<BoxRetentionPolicy.Info>(api, url, limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxRetentionPolicy.Info factory(JsonObject jsonObject) {
@@ -277,7 +297,21 @@ public class BoxRetentionPolicy extends BoxResource {
      * @return an iterable containing all folder assignments.
      */
     public Iterable<BoxRetentionPolicyAssignment.Info> getFolderAssignments(int limit, String... fields) {
-        return this.getAssignments(BoxRetentionPolicyAssignment.TYPE_FOLDER, limit, fields);
+        return this.getFolderAssignments(limit, null, fields);
+    }
+
+    /**
+     * Returns iterable with all folder assignments of this retention policy.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of entries per response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable containing all folder assignments.
+     */
+    public Iterable<BoxRetentionPolicyAssignment.Info> getFolderAssignments(int limit, PageSizePolicy pageSizePolicy,
+                                                                            String... fields) {
+        return this.getAssignments(BoxRetentionPolicyAssignment.TYPE_FOLDER, limit, pageSizePolicy, fields);
     }
 
     /**
@@ -298,7 +332,21 @@ public class BoxRetentionPolicy extends BoxResource {
      * @return an iterable containing all enterprise assignments.
      */
     public Iterable<BoxRetentionPolicyAssignment.Info> getEnterpriseAssignments(int limit, String... fields) {
-        return this.getAssignments(BoxRetentionPolicyAssignment.TYPE_ENTERPRISE, limit, fields);
+        return this.getEnterpriseAssignments(limit, null, fields);
+    }
+
+    /**
+     * Returns iterable with all enterprise assignments of this retention policy.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of entries per response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable containing all enterprise assignments.
+     */
+    public Iterable<BoxRetentionPolicyAssignment.Info> getEnterpriseAssignments(
+        int limit, PageSizePolicy pageSizePolicy, String... fields) {
+        return this.getAssignments(BoxRetentionPolicyAssignment.TYPE_ENTERPRISE, limit, pageSizePolicy, fields);
     }
 
     /**
@@ -319,18 +367,34 @@ public class BoxRetentionPolicy extends BoxResource {
      * @return an iterable containing all assignments.
      */
     public Iterable<BoxRetentionPolicyAssignment.Info> getAllAssignments(int limit, String... fields) {
-        return this.getAssignments(null, limit, fields);
+        return this.getAllAssignments(limit, null, fields);
+    }
+
+    /**
+     * Returns iterable with all assignments of this retention policy.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of entries per response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable containing all assignments.
+     */
+    public Iterable<BoxRetentionPolicyAssignment.Info> getAllAssignments(int limit, PageSizePolicy pageSizePolicy,
+                                                                         String... fields) {
+        return this.getAssignments(null, limit, pageSizePolicy, fields);
     }
 
     /**
      * Returns iterable with all assignments of given type of this retention policy.
      *
-     * @param type   the type of the retention policy assignment to retrieve. Can either be "folder" or "enterprise".
-     * @param limit  the limit of entries per response. The default value is 100.
-     * @param fields the fields to retrieve.
+     * @param type           the type of the retention policy assignment to retrieve. Can either be "folder" or "enterprise".
+     * @param limit          the limit of entries per response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, or null to use the one of the API connection.
+     * @param fields         the fields to retrieve.
      * @return an iterable containing all assignments of given type.
      */
-    private Iterable<BoxRetentionPolicyAssignment.Info> getAssignments(String type, int limit, String... fields) {
+    private Iterable<BoxRetentionPolicyAssignment.Info> getAssignments(
+        String type, int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder();
         if (type != null) {
             queryString.appendParam("type", type);
@@ -339,7 +403,8 @@ public class BoxRetentionPolicy extends BoxResource {
             queryString.appendParam("fields", fields);
         }
         URL url = ASSIGNMENTS_URL_TEMPLATE.buildWithQuery(getAPI().getBaseURL(), queryString.toString(), getID());
-        return new BoxResourceIterable<BoxRetentionPolicyAssignment.Info>(getAPI(), url, limit) {
+        return new BoxResourceIterable<BoxRetentionPolicyAssignment.Info>(getAPI(), url, limit, null, null,
+            pageSizePolicy) {
 
             @Override
             protected BoxRetentionPolicyAssignment.Info factory(JsonObject jsonObject) {
@@ -407,7 +472,7 @@ public class BoxRetentionPolicy extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             info.update(responseJSON);
         }
     }
@@ -426,7 +491,7 @@ public class BoxRetentionPolicy extends BoxResource {
         URL url = POLICY_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
@@ -167,7 +167,7 @@ public class BoxRetentionPolicyAssignment extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxRetentionPolicyAssignment createdAssignment
                 = new BoxRetentionPolicyAssignment(api, responseJSON.get("id").asString());
             return createdAssignment.new Info(responseJSON);
@@ -187,7 +187,7 @@ public class BoxRetentionPolicyAssignment extends BoxResource {
             this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new Info(responseJSON);
         }
     }
@@ -210,13 +210,27 @@ public class BoxRetentionPolicyAssignment extends BoxResource {
      * @return an iterable contains information about all files under retentions as Iterable.
      */
     public Iterable<BoxFile.Info> getFilesUnderRetention(int limit, String... fields) {
+        return this.getFilesUnderRetention(limit, null, fields);
+    }
+
+    /**
+     * Retrieves all files under retention for assignment as Iterable.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of retrieved entries per page.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable contains information about all files under retentions as Iterable.
+     */
+    public Iterable<BoxFile.Info> getFilesUnderRetention(
+        int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder();
         if (fields.length > 0) {
             queryString.appendParam("fields", fields);
         }
         URL url = FILES_UNDER_RETENTION_URL_TEMPLATE.buildWithQuery(getAPI().getBaseURL(),
             queryString.toString(), getID());
-        return new BoxResourceIterable<BoxFile.Info>(getAPI(), url, limit) {
+        return new BoxResourceIterable<BoxFile.Info>(getAPI(), url, limit, null, null, pageSizePolicy) {
             @Override
             protected BoxFile.Info factory(JsonObject jsonObject) {
                 BoxFile boxFile = new BoxFile(getAPI(), jsonObject.get("id").asString());
@@ -243,13 +257,27 @@ public class BoxRetentionPolicyAssignment extends BoxResource {
      * @return an iterable contains information about all file versions under retentions as Iterable.
      */
     public Iterable<BoxFile.Info> getFileVersionsUnderRetention(int limit, String... fields) {
+        return this.getFileVersionsUnderRetention(limit, null, fields);
+    }
+
+    /**
+     * Retrieves all file version under retention for assignment as Iterable.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param limit          the limit of retrieved entries per page.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable contains information about all file versions under retentions as Iterable.
+     */
+    public Iterable<BoxFile.Info> getFileVersionsUnderRetention(
+        int limit, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder();
         if (fields.length > 0) {
             queryString.appendParam("fields", fields);
         }
         URL url = FILE_VERSIONS_UNDER_RETENTION_URL_TEMPLATE.buildWithQuery(getAPI().getBaseURL(),
             queryString.toString(), getID());
-        return new BoxResourceIterable<BoxFile.Info>(getAPI(), url, limit) {
+        return new BoxResourceIterable<BoxFile.Info>(getAPI(), url, limit, null, null, pageSizePolicy) {
             @Override
             protected BoxFile.Info factory(JsonObject jsonObject) {
                 BoxFile boxFile = new BoxFile(getAPI(), jsonObject.get("id").asString());
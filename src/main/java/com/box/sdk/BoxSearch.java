@@ -1,10 +1,10 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
+import java.util.Arrays;
 
 /**
  * Represents search on Box. This class can be used to search through your box instance.
@@ -46,7 +46,7 @@ public class BoxSearch {
         URL url = SEARCH_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             String totalCountString = responseJSON.get("total_count").toString();
             long fullSize = Double.valueOf(totalCountString).longValue();
             PartialCollection<BoxItem.Info> results = new PartialCollection<>(offset, limit, fullSize);
@@ -62,6 +62,39 @@ public class BoxSearch {
         }
     }
 
+    /**
+     * Searches all descendant folders using a given query and query parameters, and returns compact projections of the
+     * results. Only the fields held by {@link BoxItemProjection} are requested, the fields of the search parameters
+     * are ignored.
+     *
+     * @param offset is the starting position.
+     * @param limit  the maximum number of items to return. The default is 30 and the maximum is 200.
+     * @param bsp    containing query and advanced search capabilities.
+     * @return a PartialCollection containing projections of the search results.
+     */
+    public PartialCollection<BoxItemProjection> searchRangeProjections(long offset, long limit,
+                                                                       final BoxSearchParameters bsp) {
+        QueryStringBuilder builder = bsp.getQueryParameters(Arrays.asList(BoxItemProjection.FIELDS))
+            .appendParam("limit", limit)
+            .appendParam("offset", offset);
+        URL url = SEARCH_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString());
+        BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
+        try (BoxJSONResponse response = request.send()) {
+            JsonObject responseJSON = response.getJsonObject();
+            String totalCountString = responseJSON.get("total_count").toString();
+            long fullSize = Double.valueOf(totalCountString).longValue();
+            PartialCollection<BoxItemProjection> results = new PartialCollection<>(offset, limit, fullSize);
+            JsonArray jsonArray = responseJSON.get("entries").asArray();
+            for (JsonValue value : jsonArray) {
+                JsonObject jsonObject = value.asObject();
+                if (BoxItemIterator.isItem(jsonObject)) {
+                    results.add(BoxItemProjection.fromJSON(jsonObject));
+                }
+            }
+            return results;
+        }
+    }
+
     /**
      * Searches all descendant folders using a given query and query parameters.
      *
@@ -79,7 +112,7 @@ public class BoxSearch {
         URL url = SEARCH_URL_TEMPLATE.buildWithQuery(this.getAPI().getBaseURL(), builder.toString());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             String totalCountString = responseJSON.get("total_count").toString();
             long fullSize = Double.valueOf(totalCountString).longValue();
             PartialCollection<BoxSearchSharedLink> results = new PartialCollection<>(offset,
@@ -397,6 +397,17 @@ public class BoxSearchParameters {
      * @return this.QueryStringBuilder.
      */
     public QueryStringBuilder getQueryParameters() {
+        return this.getQueryParameters(this.fields);
+    }
+
+    /**
+     * Get the Query Paramaters to be used for search request, requesting the given fields instead of the fields of
+     * these parameters.
+     *
+     * @param fields the fields to be returned.
+     * @return this.QueryStringBuilder.
+     */
+    QueryStringBuilder getQueryParameters(List<String> fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
 
         if (this.isNullOrEmpty(this.query) && this.metadataFilter == null) {
@@ -454,8 +465,8 @@ public class BoxSearchParameters {
             builder.appendParam("mdfilters", this.formatBoxMetadataFilterRequest().toString());
         }
         //Fields
-        if (!this.isNullOrEmpty(this.fields)) {
-            builder.appendParam("fields", this.listToCSV(this.fields));
+        if (!this.isNullOrEmpty(fields)) {
+            builder.appendParam("fields", this.listToCSV(fields));
         }
         //Sort
         if (!this.isNullOrEmpty(this.sort)) {
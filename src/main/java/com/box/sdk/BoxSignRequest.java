@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -148,7 +147,7 @@ public class BoxSignRequest extends BoxResource {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxSignRequest signRequest = new BoxSignRequest(api, responseJSON.get("id").asString());
             return signRequest.new Info(responseJSON);
         }
@@ -174,12 +173,27 @@ public class BoxSignRequest extends BoxResource {
      * @return an iterable with all the sign requests.
      */
     public static Iterable<BoxSignRequest.Info> getAll(final BoxAPIConnection api, int limit, String... fields) {
+        return getAll(api, limit, null, fields);
+    }
+
+    /**
+     * Returns all the sign requests.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            the API connection to be used by the resource.
+     * @param limit          the limit of items per single response. The default value is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable with all the sign requests.
+     */
+    public static Iterable<BoxSignRequest.Info> getAll(final BoxAPIConnection api, int limit,
+                                                       PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder queryString = new QueryStringBuilder();
         if (fields.length > 0) {
             queryString.appendParam("fields", fields);
         }
         URL url = SIGN_REQUESTS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), queryString.toString());
-        return new BoxResourceIterable<BoxSignRequest.Info>(api, url, limit) {
+        return new BoxResourceIterable<BoxSignRequest.Info>(api, url, limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxSignRequest.Info factory(JsonObject jsonObject) {
@@ -215,7 +229,7 @@ public class BoxSignRequest extends BoxResource {
             this.getAPI().getBaseURL(), builder.toString(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new BoxSignRequest.Info(responseJSON);
         }
     }
@@ -230,7 +244,7 @@ public class BoxSignRequest extends BoxResource {
         URL url = SIGN_REQUEST_CANCEL_URL_TEMPLATE.buildAlphaWithQuery(getAPI().getBaseURL(), "", this.getID());
         BoxJSONRequest request = new BoxJSONRequest(getAPI(), url, "POST");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new BoxSignRequest.Info(responseJSON);
         }
     }
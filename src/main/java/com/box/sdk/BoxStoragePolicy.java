@@ -56,6 +56,21 @@ public class BoxStoragePolicy extends BoxResource {
      * @return an iterable with all the storage policies met search conditions.
      */
     public static Iterable<BoxStoragePolicy.Info> getAll(final BoxAPIConnection api, int limit, String... fields) {
+        return getAll(api, limit, null, fields);
+    }
+
+    /**
+     * Returns all BoxStoragePolicy with specified fields.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            the API connection to be used by the resource.
+     * @param limit          the limit of items per single response. The default is 100.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return an iterable with all the storage policies met search conditions.
+     */
+    public static Iterable<BoxStoragePolicy.Info> getAll(final BoxAPIConnection api, int limit,
+                                                         PageSizePolicy pageSizePolicy, String... fields) {
 
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
@@ -63,7 +78,7 @@ public class BoxStoragePolicy extends BoxResource {
         }
 
         URL url = STORAGE_POLICY_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString());
-        return new BoxResourceIterable<BoxStoragePolicy.Info>(api, url, limit) {
+        return new BoxResourceIterable<BoxStoragePolicy.Info>(api, url, limit, null, null, pageSizePolicy) {
 
             @Override
             protected BoxStoragePolicy.Info factory(JsonObject jsonObject) {
@@ -90,7 +105,7 @@ public class BoxStoragePolicy extends BoxResource {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.net.URL;
@@ -55,7 +54,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxStoragePolicyAssignment storagePolicyAssignment = new BoxStoragePolicyAssignment(api,
                 responseJSON.get("id").asString());
@@ -127,7 +126,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
         request.setBody(info.getPendingChanges());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             info.update(responseJSON);
         }
     }
@@ -139,7 +138,7 @@ public class BoxStoragePolicyAssignment extends BoxResource {
         URL url = STORAGE_POLICY_ASSIGNMENT_WITH_ID_URL_TEMPLATE.buildAlpha(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, HttpMethod.GET);
         try (BoxJSONResponse response = request.send()) {
-            return new Info(Json.parse(response.getJSON()).asObject());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -75,7 +74,7 @@ public class BoxTermsOfServiceUserStatus extends BoxResource {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxTermsOfServiceUserStatus termsOfServiceUserStatus = new BoxTermsOfServiceUserStatus(api,
                 responseJSON.get("id").asString());
 
@@ -113,7 +112,7 @@ public class BoxTermsOfServiceUserStatus extends BoxResource {
         URL url = ALL_TERMS_OF_SERVICE_USER_STATUSES_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString());
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int totalCount = responseJSON.get("total_count").asInt();
             List<BoxTermsOfServiceUserStatus.Info> termsOfServiceUserStatuses = new
@@ -143,7 +142,7 @@ public class BoxTermsOfServiceUserStatus extends BoxResource {
         request.setBody(info.getPendingChanges());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             info.update(responseJSON);
         }
     }
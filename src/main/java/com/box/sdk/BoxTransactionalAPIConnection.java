@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
@@ -77,7 +76,7 @@ public class BoxTransactionalAPIConnection extends BoxAPIConnection {
         request.setBody(urlParameters);
 
         try (BoxJSONResponse response = (BoxJSONResponse) request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             final String fileToken = responseJSON.get("access_token").asString();
             BoxTransactionalAPIConnection transactionConnection = new BoxTransactionalAPIConnection(fileToken);
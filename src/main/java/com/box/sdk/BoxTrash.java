@@ -4,7 +4,6 @@ import static com.box.sdk.PagingParameters.DEFAULT_LIMIT;
 import static com.box.sdk.PagingParameters.marker;
 import static com.box.sdk.SortParameters.none;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.net.URL;
 import java.util.Iterator;
@@ -71,10 +70,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FOLDER_INFO_URL_TEMPLATE.build(this.api.getBaseURL(), folderID);
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             BoxFolder folder = new BoxFolder(this.api, jsonObject.get("id").asString());
-            return folder.new Info(response.getJSON());
+            return folder.new Info(response.getJsonObject());
         }
     }
 
@@ -90,10 +89,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FOLDER_INFO_URL_TEMPLATE.buildWithQuery(this.api.getBaseURL(), queryString, folderID);
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             BoxFolder folder = new BoxFolder(this.api, jsonObject.get("id").asString());
-            return folder.new Info(response.getJSON());
+            return folder.new Info(response.getJsonObject());
         }
     }
 
@@ -110,7 +109,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
             .add("", "");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxFolder restoredFolder = new BoxFolder(this.api, responseJSON.get("id").asString());
             return restoredFolder.new Info(responseJSON);
@@ -143,7 +142,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxFolder restoredFolder = new BoxFolder(this.api, responseJSON.get("id").asString());
             return restoredFolder.new Info(responseJSON);
@@ -171,10 +170,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FILE_INFO_URL_TEMPLATE.build(this.api.getBaseURL(), fileID);
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             BoxFile file = new BoxFile(this.api, jsonObject.get("id").asString());
-            return file.new Info(response.getJSON());
+            return file.new Info(response.getJsonObject());
         }
     }
 
@@ -190,10 +189,10 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
         URL url = FILE_INFO_URL_TEMPLATE.buildWithQuery(this.api.getBaseURL(), queryString, fileID);
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             BoxFile file = new BoxFile(this.api, jsonObject.get("id").asString());
-            return file.new Info(response.getJSON());
+            return file.new Info(response.getJsonObject());
         }
     }
 
@@ -283,7 +282,7 @@ public class BoxTrash implements Iterable<BoxItem.Info> {
     private BoxFile.Info getInfo(JsonObject requestJSON, BoxJSONRequest request) {
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxFile restoredFile = new BoxFile(this.api, responseJSON.get("id").asString());
             return restoredFile.new Info(responseJSON);
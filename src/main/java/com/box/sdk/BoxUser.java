@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Represents a Box user account.
@@ -75,6 +76,7 @@ public class BoxUser extends BoxCollaborator {
      * User Avatar Template.
      */
     public static final URLTemplate USER_AVATAR_TEMPLATE = new URLTemplate("users/%s/avatar");
+    private static final long USERS_PAGE_LIMIT = 1000;
 
     /**
      * Constructs a BoxUser for a user with a given ID.
@@ -180,7 +182,7 @@ public class BoxUser extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(api, url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxUser createdUser = new BoxUser(api, responseJSON.get("id").asString());
             return createdUser.new Info(responseJSON);
@@ -197,7 +199,7 @@ public class BoxUser extends BoxCollaborator {
         URL url = GET_ME_URL.build(api.getBaseURL());
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new BoxUser(api, jsonObject.get("id").asString());
         }
     }
@@ -438,6 +440,35 @@ public class BoxUser extends BoxCollaborator {
         }
     }
 
+    /**
+     * Returns a stream of all the enterprise users that match the filter term which uses offset based pagination. The
+     * first page tells how many users match, after that a parallel stream loads windows of pages concurrently. Users
+     * are in the same order as in {@link #getAllEnterpriseUsers(BoxAPIConnection, String, String...)} when the stream
+     * is consumed in encounter order. As with all offset based pagination, users at offsets above 300000 can't be
+     * loaded.
+     *
+     * @param api        the API connection to be used when retrieving the users.
+     * @param filterTerm used to filter the results to only users starting with this string in either the name or the
+     *                   login. Can be null to not filter the results.
+     * @param fields     the fields to retrieve. Leave this out for the standard fields.
+     * @return a sequential stream of the users, call {@link Stream#parallel()} to load pages in parallel.
+     */
+    public static Stream<BoxUser.Info> streamAllEnterpriseUsers(final BoxAPIConnection api, final String filterTerm,
+                                                                final String... fields) {
+        QueryStringBuilder builder = new QueryStringBuilder();
+        if (filterTerm != null) {
+            builder.appendParam("filter_term", filterTerm);
+        }
+        if (fields.length > 0) {
+            builder.appendParam("fields", fields);
+        }
+        URL url = USERS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString());
+        return OffsetPageSpliterator.stream(api, url, USERS_PAGE_LIMIT, null, jsonObject -> {
+            BoxUser user = new BoxUser(api, jsonObject.get("id").asString());
+            return user.new Info(jsonObject);
+        });
+    }
+
     private static JsonArray toTrackingCodesJson(Map<String, String> trackingCodes) {
         JsonArray trackingCodesJsonArray = new JsonArray();
         for (String attrKey : trackingCodes.keySet()) {
@@ -466,7 +497,7 @@ public class BoxUser extends BoxCollaborator {
         }
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new Info(jsonObject);
         }
     }
@@ -485,7 +516,7 @@ public class BoxUser extends BoxCollaborator {
 
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int entriesCount = responseJSON.get("total_count").asInt();
             Collection<BoxGroupMembership.Info> memberships = new ArrayList<>(entriesCount);
@@ -550,7 +581,7 @@ public class BoxUser extends BoxCollaborator {
 
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new EmailAlias(responseJSON);
         }
     }
@@ -579,7 +610,7 @@ public class BoxUser extends BoxCollaborator {
         URL url = EMAIL_ALIASES_URL_TEMPLATE.build(this.getAPI().getBaseURL(), this.getID());
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             int totalCount = responseJSON.get("total_count").asInt();
             Collection<EmailAlias> emailAliases = new ArrayList<>(totalCount);
@@ -639,7 +670,7 @@ public class BoxUser extends BoxCollaborator {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -664,7 +695,7 @@ public class BoxUser extends BoxCollaborator {
         ownedBy.add("owned_by", destinationUser);
         request.setBody(ownedBy.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxFolder movedFolder = new BoxFolder(this.getAPI(), responseJSON.get("id").asString());
 
             return movedFolder.new Info(responseJSON);
@@ -783,7 +814,9 @@ public class BoxUser extends BoxCollaborator {
     }
 
     private AvatarUploadResponse parseUploadAvatarResponse(BoxAPIResponse response) {
-        JsonObject responseObject = Json.parse(response.bodyToString()).asObject();
+        JsonObject responseObject = response instanceof BoxJSONResponse
+            ? ((BoxJSONResponse) response).getJsonObject()
+            : Json.parse(response.bodyToString()).asObject();
         JsonObject picUrls = responseObject.get("pic_urls").asObject();
         return new AvatarUploadResponse(
             picUrls.getString("small", null),
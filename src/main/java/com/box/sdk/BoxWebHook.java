@@ -133,7 +133,7 @@ public class BoxWebHook extends BoxResource {
         request.setBody(requestJSON.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             BoxWebHook webHook = new BoxWebHook(api, responseJSON.get(JSON_KEY_ID).asString());
             return webHook.new Info(responseJSON);
@@ -181,12 +181,28 @@ public class BoxWebHook extends BoxResource {
      * @return existing {@link BoxWebHook.Info}-s
      */
     public static Iterable<BoxWebHook.Info> all(final BoxAPIConnection api, String... fields) {
+        return all(api, null, fields);
+    }
+
+    /**
+     * Returns iterator over all {@link BoxWebHook}-s, choosing the page sizes with the given policy instead of the one
+     * of the API connection.
+     *
+     * @param api            the API connection to be used by the resource
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always load pages of
+     *                       64 webhooks.
+     * @param fields         the fields to retrieve.
+     * @return existing {@link BoxWebHook.Info}-s
+     */
+    public static Iterable<BoxWebHook.Info> all(final BoxAPIConnection api, PageSizePolicy pageSizePolicy,
+                                                String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<BoxWebHook.Info>(
-            api, WEBHOOKS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString()), 64) {
+            api, WEBHOOKS_URL_TEMPLATE.buildWithQuery(api.getBaseURL(), builder.toString()), 64, null, null,
+            pageSizePolicy) {
 
             @Override
             protected BoxWebHook.Info factory(JsonObject jsonObject) {
@@ -239,7 +255,7 @@ public class BoxWebHook extends BoxResource {
         }
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(Json.parse(response.getJSON()).asObject());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -254,7 +270,7 @@ public class BoxWebHook extends BoxResource {
         request.setBody(info.getPendingChanges());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.sharedlink.BoxSharedLinkWithoutPermissionsRequest;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -85,7 +84,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(copyInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxWebLink copiedWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
             return copiedWebLink.new Info(responseJSON);
         }
@@ -121,7 +120,7 @@ public class BoxWebLink extends BoxItem {
 
         request.setBody(updateInfo.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             BoxWebLink movedWebLink = new BoxWebLink(this.getAPI(), responseJSON.get("id").asString());
             return movedWebLink.new Info(responseJSON);
         }
@@ -153,7 +152,7 @@ public class BoxWebLink extends BoxItem {
 
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new Info(response.getJSON());
+            return new Info(response.getJsonObject());
         }
     }
 
@@ -175,7 +174,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(info.getPendingChanges());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             info.update(jsonObject);
         }
     }
@@ -196,7 +195,7 @@ public class BoxWebLink extends BoxItem {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "PUT");
         request.setBody(infoJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
             return new Info(jsonObject);
         }
     }
@@ -244,6 +243,7 @@ public class BoxWebLink extends BoxItem {
          * @return the description of this weblink.
          */
         public String getDescription() {
+            this.decodeMember("description");
             return this.description;
         }
 
@@ -253,6 +253,7 @@ public class BoxWebLink extends BoxItem {
          * @return the URL this weblink points to.
          */
         public URL getLinkURL() {
+            this.decodeMember("url");
             return this.linkURL;
         }
 
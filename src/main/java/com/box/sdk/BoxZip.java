@@ -2,12 +2,23 @@ package com.box.sdk;
 
 import static com.box.sdk.BinaryBodyUtils.writeStream;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 /**
  * Provides methods to allow users to download multiple files and folders as a single zip file. Users can download
@@ -18,7 +29,9 @@ public class BoxZip {
      * Zip URL Template.
      */
     public static final URLTemplate ZIP_URL_TEMPLATE = new URLTemplate("zip_downloads");
+    private static final long DEFAULT_STATUS_POLLING_INTERVAL = 5000;
     private final BoxAPIConnection api;
+    private long statusPollingInterval = DEFAULT_STATUS_POLLING_INTERVAL;
 
     /**
      * Constructs a Zip to be used by everything.
@@ -29,6 +42,28 @@ public class BoxZip {
         this.api = api;
     }
 
+    /**
+     * Gets how often the download status is polled while zip entries are streamed to a status listener.
+     *
+     * @return the polling interval in milliseconds.
+     */
+    public long getStatusPollingInterval() {
+        return this.statusPollingInterval;
+    }
+
+    /**
+     * Sets how often the download status is polled while zip entries are streamed to a status listener. The default
+     * is five seconds.
+     *
+     * @param statusPollingInterval the polling interval in milliseconds.
+     */
+    public void setStatusPollingInterval(long statusPollingInterval) {
+        if (statusPollingInterval <= 0) {
+            throw new IllegalArgumentException("Status polling interval must be positive.");
+        }
+        this.statusPollingInterval = statusPollingInterval;
+    }
+
     /**
      * Creates a zip of multiple files and folders.
      *
@@ -49,7 +84,7 @@ public class BoxZip {
         BoxJSONRequest request = new BoxJSONRequest(this.getAPI(), url, "POST");
         request.setBody(requestJSON.toString());
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
             return new BoxZipInfo(responseJSON);
         }
     }
@@ -82,9 +117,136 @@ public class BoxZip {
         BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), zipInfo.getDownloadURL(), "GET");
         BoxAPIResponse response = request.send();
         writeStream(response, output, listener);
-        BoxJSONRequest statusRequest = new BoxJSONRequest(this.getAPI(), zipInfo.getStatusURL(), "GET");
+        return this.getDownloadStatus(zipInfo.getStatusURL());
+    }
+
+    /**
+     * Creates a zip and streams its entries to a handler while the zip is being downloaded, so the zip never has to be
+     * stored as a whole.
+     *
+     * @param name    the name of the zip file to be created
+     * @param items   list of files or folders to be part of the created zip
+     * @param handler the handler called for every entry of the zip.
+     * @return information about status of the download
+     */
+    public BoxZipDownloadStatus downloadEntries(String name, List<BoxZipItem> items, BoxZipEntryHandler handler) {
+        return this.downloadEntries(name, items, handler, null);
+    }
+
+    /**
+     * Creates a zip and streams its entries to a handler while the zip is being downloaded, so the zip never has to be
+     * stored as a whole. While the entries are read, the download status is polled in the background and reported to
+     * the listener, so skipped files and folders are known before the download finishes. Polling stops before the
+     * final status is reported, so the last status the listener gets is the final one.
+     *
+     * @param name     the name of the zip file to be created
+     * @param items    list of files or folders to be part of the created zip
+     * @param handler  the handler called for every entry of the zip.
+     * @param listener a listener notified about name conflicts and download status. Can be null.
+     * @return information about status of the download
+     */
+    public BoxZipDownloadStatus downloadEntries(
+        String name, List<BoxZipItem> items, BoxZipEntryHandler handler, BoxZipStatusListener listener
+    ) {
+        BoxZipInfo zipInfo = this.create(name, items);
+        List<BoxZipConflict> nameConflicts = zipInfo.getNameConflicts();
+        if (listener != null && nameConflicts != null && !nameConflicts.isEmpty()) {
+            listener.onNameConflicts(nameConflicts);
+        }
+
+        ScheduledExecutorService statusPoller = null;
+        if (listener != null) {
+            statusPoller = Executors.newSingleThreadScheduledExecutor();
+            statusPoller.scheduleWithFixedDelay(() -> {
+                try {
+                    listener.onStatus(this.getDownloadStatus(zipInfo.getStatusURL()));
+                } catch (BoxAPIException e) {
+                    // the status may not be available yet, it will be polled again
+                }
+            }, this.statusPollingInterval, this.statusPollingInterval, TimeUnit.MILLISECONDS);
+        }
+
+        BoxAPIRequest request = new BoxAPIRequest(this.getAPI(), zipInfo.getDownloadURL(), "GET");
+        try (BoxAPIResponse response = request.send();
+             ZipInputStream zipStream = new ZipInputStream(response.getBody())) {
+            InputStream entryStream = new EntryInputStream(zipStream);
+            ZipEntry entry = zipStream.getNextEntry();
+            while (entry != null) {
+                handler.onEntry(entry, entryStream);
+                zipStream.closeEntry();
+                entry = zipStream.getNextEntry();
+            }
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't read the zip entries.", e);
+        } finally {
+            if (statusPoller != null) {
+                stopPolling(statusPoller);
+            }
+        }
+
+        BoxZipDownloadStatus status = this.getDownloadStatus(zipInfo.getStatusURL());
+        if (listener != null) {
+            listener.onStatus(status);
+        }
+        return status;
+    }
+
+    /**
+     * Creates a zip and extracts its entries into a directory while the zip is being downloaded.
+     *
+     * @param name            the name of the zip file to be created
+     * @param items           list of files or folders to be part of the created zip
+     * @param targetDirectory the directory the entries will be extracted to.
+     * @return information about status of the download
+     */
+    public BoxZipDownloadStatus extract(String name, List<BoxZipItem> items, File targetDirectory) {
+        return this.extract(name, items, targetDirectory, null);
+    }
+
+    /**
+     * Creates a zip and extracts its entries into a directory while the zip is being downloaded. Existing files are
+     * overwritten.
+     *
+     * @param name            the name of the zip file to be created
+     * @param items           list of files or folders to be part of the created zip
+     * @param targetDirectory the directory the entries will be extracted to.
+     * @param listener        a listener notified about name conflicts and download status. Can be null.
+     * @return information about status of the download
+     */
+    public BoxZipDownloadStatus extract(
+        String name, List<BoxZipItem> items, File targetDirectory, BoxZipStatusListener listener
+    ) {
+        Path root = targetDirectory.toPath().toAbsolutePath().normalize();
+        return this.downloadEntries(name, items, (entry, content) -> {
+            Path target = root.resolve(entry.getName()).normalize();
+            if (!target.startsWith(root)) {
+                throw new BoxAPIException("Zip entry is outside of the target directory: " + entry.getName());
+            }
+            if (entry.isDirectory()) {
+                Files.createDirectories(target);
+                return;
+            }
+            Files.createDirectories(target.getParent());
+            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+            if (entry.getLastModifiedTime() != null) {
+                Files.setLastModifiedTime(target, entry.getLastModifiedTime());
+            }
+        }, listener);
+    }
+
+    private static void stopPolling(ScheduledExecutorService statusPoller) {
+        statusPoller.shutdownNow();
+        try {
+            statusPoller.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BoxZipDownloadStatus getDownloadStatus(URL statusURL) {
+        BoxJSONRequest statusRequest = new BoxJSONRequest(this.getAPI(), statusURL, "GET");
         try (BoxJSONResponse statusResponse = statusRequest.send()) {
-            JsonObject statusResponseJSON = Json.parse(statusResponse.getJSON()).asObject();
+            JsonObject statusResponseJSON = statusResponse.getJsonObject();
             return new BoxZipDownloadStatus(statusResponseJSON);
         }
     }
@@ -97,4 +259,18 @@ public class BoxZip {
     public BoxAPIConnection getAPI() {
         return this.api;
     }
+
+    /**
+     * Stream of a single zip entry which leaves the underlying zip stream open when it is closed by a handler.
+     */
+    private static final class EntryInputStream extends FilterInputStream {
+        private EntryInputStream(InputStream zipStream) {
+            super(zipStream);
+        }
+
+        @Override
+        public void close() {
+            // the zip stream is closed once all entries were read
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+
+/**
+ * The callback interface for consuming the entries of a zip while it is being downloaded with
+ * {@link BoxZip#downloadEntries(String, java.util.List, BoxZipEntryHandler, BoxZipStatusListener)}.
+ */
+public interface BoxZipEntryHandler {
+
+    /**
+     * Invoked for every entry of the zip in the order the entries are streamed from Box. The content stream is only
+     * valid until this method returns and does not need to be closed.
+     *
+     * @param entry   the zip entry, including its name and modification time.
+     * @param content the stream with the uncompressed content of the entry.
+     * @throws IOException if the content couldn't be consumed.
+     */
+    void onEntry(ZipEntry entry, InputStream content) throws IOException;
+}
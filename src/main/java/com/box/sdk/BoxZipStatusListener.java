@@ -0,0 +1,25 @@
+package com.box.sdk;
+
+import java.util.List;
+
+/**
+ * The listener interface for monitoring a zip download while its entries are being streamed.
+ *
+ * <p>The methods of this listener may be invoked from a background thread polling the download status.</p>
+ */
+public interface BoxZipStatusListener {
+
+    /**
+     * Invoked before the download starts when some of the items had to be renamed inside the zip.
+     *
+     * @param nameConflicts the conflicting items with their original and download names.
+     */
+    void onNameConflicts(List<BoxZipConflict> nameConflicts);
+
+    /**
+     * Invoked each time the download status is polled, and once more after the whole zip was read.
+     *
+     * @param status the current download status, including the number of skipped files and folders.
+     */
+    void onStatus(BoxZipDownloadStatus status);
+}
@@ -0,0 +1,187 @@
+package com.box.sdk;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Subscription that emits items to its subscriber only as far as the subscriber requested them.
+ *
+ * <p>All signals to the subscriber are sent by a drain loop running on an executor, one loop at a time. The loop runs
+ * while there is demand and items are available, so no thread is held while the subscriber isn't requesting items.
+ * Subclasses provide the items with {@link #poll()}, which may block, for example while the next page of a listing is
+ * loaded.</p>
+ *
+ * @param <T> type of the emitted items.
+ */
+abstract class DemandSubscription<T> implements Subscription {
+    /**
+     * Executor used by publishers when no executor is given.
+     */
+    static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Box publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Subscriber<? super T> subscriber;
+    private final Executor executor;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger pendingDrains = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile Throwable failure;
+    private volatile IllegalArgumentException invalidRequest;
+    private boolean subscribed;
+    private boolean terminated;
+
+    /**
+     * Creates a subscription.
+     *
+     * @param subscriber the subscriber receiving the items.
+     * @param executor   the executor running the drain loop.
+     */
+    DemandSubscription(Subscriber<? super T> subscriber, Executor executor) {
+        this.subscriber = subscriber;
+        this.executor = executor;
+    }
+
+    /**
+     * Sends {@link Subscriber#onSubscribe(Subscription)} to the subscriber on the executor.
+     */
+    void start() {
+        this.drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            this.invalidRequest = new IllegalArgumentException(
+                "The number of requested items must be positive, got " + n + ".");
+            this.drain();
+            return;
+        }
+        long current;
+        long updated;
+        do {
+            current = this.requested.get();
+            updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+        } while (!this.requested.compareAndSet(current, updated));
+        this.drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!this.cancelled) {
+            this.cancelled = true;
+            this.onCancel();
+        }
+    }
+
+    /**
+     * Checks whether the subscriber cancelled the subscription.
+     *
+     * @return true if the subscription was cancelled.
+     */
+    boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Terminates the subscription with an error once the items available before the error were emitted.
+     *
+     * @param error the error sent to the subscriber.
+     */
+    void fail(Throwable error) {
+        if (this.failure == null) {
+            this.failure = error;
+        }
+        this.drain();
+    }
+
+    /**
+     * Schedules the drain loop, for example because new items became available.
+     */
+    void drain() {
+        if (this.pendingDrains.getAndIncrement() == 0) {
+            this.executor.execute(this::drainLoop);
+        }
+    }
+
+    /**
+     * Gets the next item. Called only from the drain loop, never concurrently.
+     *
+     * @return the next item or null if no item is available at the moment.
+     */
+    abstract T poll();
+
+    /**
+     * Checks whether all items were emitted. Called only from the drain loop after {@link #poll()} returned null.
+     *
+     * @return true if the subscriber should be completed.
+     */
+    abstract boolean isExhausted();
+
+    /**
+     * Releases resources held for the subscription. Called once when the subscription is cancelled or terminated.
+     */
+    abstract void onCancel();
+
+    private void drainLoop() {
+        int missed = 1;
+        while (true) {
+            if (!this.subscribed) {
+                this.subscribed = true;
+                this.subscriber.onSubscribe(this);
+            }
+            long demand = this.requested.get();
+            long emitted = 0;
+            while (!this.terminated && !this.cancelled) {
+                if (this.invalidRequest != null) {
+                    this.terminate();
+                    this.subscriber.onError(this.invalidRequest);
+                    break;
+                }
+                if (emitted == demand) {
+                    break;
+                }
+                T item;
+                try {
+                    item = this.poll();
+                } catch (RuntimeException e) {
+                    if (this.failure == null) {
+                        this.failure = e;
+                    }
+                    item = null;
+                }
+                if (item == null) {
+                    if (this.failure != null) {
+                        this.terminate();
+                        this.subscriber.onError(this.failure);
+                    } else if (this.isExhausted()) {
+                        this.terminate();
+                        this.subscriber.onComplete();
+                    }
+                    break;
+                }
+                this.subscriber.onNext(item);
+                emitted++;
+            }
+            if (emitted != 0 && demand != Long.MAX_VALUE) {
+                this.requested.addAndGet(-emitted);
+            }
+            missed = this.pendingDrains.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void terminate() {
+        this.terminated = true;
+        this.cancel();
+    }
+}
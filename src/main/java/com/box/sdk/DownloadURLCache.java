@@ -0,0 +1,269 @@
+package com.box.sdk;
+
+import static com.box.sdk.BinaryBodyUtils.writeStream;
+
+import com.box.sdk.http.HttpMethod;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the expiring download URLs of file versions, so content can be downloaded directly from the download host.
+ *
+ * <p>Downloading through the API redirects every request to an expiring URL on the download host. With a cache the
+ * expiring URL is requested once per file version and reused for all downloads of that version until the URL gets
+ * old, which saves one API call for every download or range request. Concurrent requests for the same version wait
+ * for a single lookup. A cache can be shared between threads and between API connections; URLs are cached per
+ * connection, so a connection never gets a URL requested with the credentials of another one. Expired URLs are
+ * removed from time to time while the cache is used.</p>
+ *
+ * <p>When no version ID is given, the ID of the current version of the file is looked up and the URL of that version
+ * is used. The resolved version ID is reused for as long as a URL, and dropped when the download host or the API
+ * rejects its URL, so a file costs one lookup per URL lifetime. Invalidate the file after uploading a new version to
+ * download it right away. Downloading a known version, for example the one of a {@link BoxFile.Info} the caller
+ * already holds, saves the lookup.</p>
+ */
+public final class DownloadURLCache {
+    private static final long DEFAULT_URL_LIFETIME = 10 * 60 * 1000;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_GONE = 410;
+
+    private final long urlLifetime;
+    private final Map<Key, CachedURL> urls = new ConcurrentHashMap<>();
+    private final Map<Key, CurrentVersion> currentVersions = new ConcurrentHashMap<>();
+    private final AtomicLong nextEviction = new AtomicLong();
+
+    /**
+     * Creates a cache that reuses download URLs for ten minutes, which is less than the time they stay valid.
+     */
+    public DownloadURLCache() {
+        this(DEFAULT_URL_LIFETIME);
+    }
+
+    /**
+     * Creates a cache that reuses download URLs for the given time.
+     *
+     * @param urlLifetime time in milliseconds after which a download URL is requested again.
+     */
+    public DownloadURLCache(long urlLifetime) {
+        if (urlLifetime < 0) {
+            throw new IllegalArgumentException("URL lifetime cannot be negative.");
+        }
+        this.urlLifetime = urlLifetime;
+    }
+
+    /**
+     * Gets the download URL of a file version, requesting it from the API if it is not cached or got too old.
+     *
+     * @param api       the API connection used to request the URL.
+     * @param fileID    the ID of the file.
+     * @param versionID the ID of the file version, or null for the current version.
+     * @return the download URL.
+     */
+    public URL getDownloadURL(BoxAPIConnection api, String fileID, String versionID) {
+        String resolvedVersionID = versionID == null ? this.currentVersionID(api, fileID) : versionID;
+        return this.getVersionDownloadURL(api, fileID, resolvedVersionID);
+    }
+
+    /**
+     * Removes the download URLs of a file version from the cache, for all connections. Invalidating all versions of a
+     * file also forgets which version is its current one.
+     *
+     * @param fileID    the ID of the file.
+     * @param versionID the ID of the file version, or null for all versions of the file.
+     */
+    public void invalidate(String fileID, String versionID) {
+        this.urls.keySet().removeIf(key -> key.fileID.equals(fileID)
+            && (versionID == null || key.versionID.equals(versionID)));
+        this.currentVersions.entrySet().removeIf(entry -> entry.getKey().fileID.equals(fileID)
+            && (versionID == null || entry.getValue().versionID.equals(versionID)));
+    }
+
+    /**
+     * Removes all download URLs and resolved current versions from the cache.
+     */
+    public void clear() {
+        this.urls.clear();
+        this.currentVersions.clear();
+    }
+
+    /**
+     * Downloads content of a file version from its cached download URL. When the URL is rejected, it is requested
+     * again once, after looking up the current version again if no version ID is given.
+     *
+     * @param api        the API connection used to request the URL.
+     * @param fileID     the ID of the file.
+     * @param versionID  the ID of the file version, or null for the current version.
+     * @param rangeStart the byte offset at which to start the download, or -1 to download the whole content.
+     * @param rangeEnd   the byte offset at which to stop the download, or -1 to download until the end.
+     * @param output     the stream to where the content will be written.
+     * @param listener   a listener for monitoring the download's progress, can be null.
+     */
+    void download(BoxAPIConnection api, String fileID, String versionID, long rangeStart, long rangeEnd,
+                  OutputStream output, ProgressListener listener) {
+        String resolvedVersionID = versionID == null ? this.currentVersionID(api, fileID) : versionID;
+        BoxAPIResponse response;
+        try {
+            response = this.sendDirectRequest(api, fileID, resolvedVersionID, rangeStart, rangeEnd);
+        } catch (BoxAPIException e) {
+            int code = e.getResponseCode();
+            if (code != HTTP_FORBIDDEN && code != HTTP_NOT_FOUND && code != HTTP_GONE) {
+                throw e;
+            }
+            this.urls.remove(new Key(api, fileID, resolvedVersionID));
+            if (versionID == null) {
+                this.currentVersions.remove(new Key(api, fileID, null));
+                resolvedVersionID = this.currentVersionID(api, fileID);
+            }
+            response = this.sendDirectRequest(api, fileID, resolvedVersionID, rangeStart, rangeEnd);
+        }
+        writeStream(response, output, listener);
+    }
+
+    private URL getVersionDownloadURL(BoxAPIConnection api, String fileID, String versionID) {
+        Key key = new Key(api, fileID, versionID);
+        while (true) {
+            long now = System.currentTimeMillis();
+            this.evictExpired(now);
+            CachedURL cached = this.urls.get(key);
+            if (cached != null && !cached.isExpired(now)) {
+                return cached.get();
+            }
+            CachedURL fresh = new CachedURL(key, now + this.urlLifetime);
+            boolean stored = cached == null
+                ? this.urls.putIfAbsent(key, fresh) == null
+                : this.urls.replace(key, cached, fresh);
+            if (stored) {
+                return fresh.get();
+            }
+        }
+    }
+
+    private BoxAPIResponse sendDirectRequest(BoxAPIConnection api, String fileID, String versionID,
+                                             long rangeStart, long rangeEnd) {
+        URL url = this.getVersionDownloadURL(api, fileID, versionID);
+        BoxAPIRequest request = new BoxAPIRequest(api, url, HttpMethod.GET);
+        request.shouldAuthenticate(false);
+        if (rangeStart >= 0) {
+            if (rangeEnd > 0) {
+                request.addHeader("Range", String.format("bytes=%s-%s", rangeStart, rangeEnd));
+            } else {
+                request.addHeader("Range", String.format("bytes=%s-", rangeStart));
+            }
+        }
+        return request.send();
+    }
+
+    private void evictExpired(long now) {
+        long next = this.nextEviction.get();
+        if (now >= next && this.nextEviction.compareAndSet(next, now + Math.max(this.urlLifetime, 1000))) {
+            this.urls.values().removeIf(cached -> cached.isExpired(now));
+            this.currentVersions.values().removeIf(current -> current.isExpired(now));
+        }
+    }
+
+    private String currentVersionID(BoxAPIConnection api, String fileID) {
+        Key key = new Key(api, fileID, null);
+        long now = System.currentTimeMillis();
+        CurrentVersion current = this.currentVersions.get(key);
+        if (current != null && !current.isExpired(now)) {
+            return current.versionID;
+        }
+        BoxFile.Info info = new BoxFile(api, fileID).getInfo("file_version");
+        if (info.getVersion() == null) {
+            throw new BoxAPIException("The current version of file " + fileID + " is unknown.");
+        }
+        String versionID = info.getVersion().getID();
+        this.currentVersions.put(key, new CurrentVersion(versionID, now + this.urlLifetime));
+        return versionID;
+    }
+
+    /**
+     * Identifies a cached URL: a file version, as seen by an API connection. Resolved current versions are keyed
+     * without a version ID.
+     */
+    private static final class Key {
+        private final BoxAPIConnection api;
+        private final String fileID;
+        private final String versionID;
+
+        private Key(BoxAPIConnection api, String fileID, String versionID) {
+            this.api = api;
+            this.fileID = fileID;
+            this.versionID = versionID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return this.api == other.api && this.fileID.equals(other.fileID)
+                && Objects.equals(this.versionID, other.versionID);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(this.api) + this.fileID.hashCode())
+                + Objects.hashCode(this.versionID);
+        }
+    }
+
+    /**
+     * The ID of the current version of a file, as looked up from the API.
+     */
+    private static final class CurrentVersion {
+        private final String versionID;
+        private final long expiresAt;
+
+        private CurrentVersion(String versionID, long expiresAt) {
+            this.versionID = versionID;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= this.expiresAt;
+        }
+    }
+
+    /**
+     * A download URL that is requested when it is first needed. Threads asking for the same URL at the same time wait
+     * for the first request.
+     */
+    private final class CachedURL {
+        private final Key key;
+        private final long expiresAt;
+        private URL url;
+
+        private CachedURL(Key key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= this.expiresAt;
+        }
+
+        private synchronized URL get() {
+            if (this.url == null) {
+                try {
+                    URL contentURL = BoxFileVersion.CONTENT_URL_TEMPLATE.build(this.key.api.getBaseURL(),
+                        this.key.fileID, this.key.versionID);
+                    this.url = BoxFile.requestDownloadURL(this.key.api, contentURL);
+                } catch (RuntimeException e) {
+                    DownloadURLCache.this.urls.remove(this.key, this);
+                    throw e;
+                }
+            }
+            return this.url;
+        }
+    }
+}
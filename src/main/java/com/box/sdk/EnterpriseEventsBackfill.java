@@ -0,0 +1,562 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the enterprise events of a time window by fetching many slices of the window in parallel.
+ *
+ * <p>Reading the `admin_logs` stream of a long window chunk after chunk takes one request after another. A backfill
+ * splits the window between the <code>after</code> and <code>before</code> dates of an
+ * {@link EnterpriseEventsRequest} into time slices and reads the slices with a bounded pool of threads. When a slice
+ * turns out to be dense, meaning that a chunk is full, the rest of the slice is split again, so that busy periods
+ * are spread over all threads while quiet periods don't cost more than one request. Slices are never split below a
+ * minimum duration. The event types and chunk limit of the request apply to every slice.</p>
+ *
+ * <p>Every event belongs to the slice containing its creation date, so events on the edges of slices are returned
+ * once. By default events are emitted as they arrive, in no particular order across slices. With
+ * {@link #setOrdered(boolean)} the events of each slice are held back until all earlier slices were emitted, which
+ * keeps the order of the stream at the cost of buffering the events of slices that complete early.</p>
+ *
+ * <pre>
+ * EnterpriseEventsRequest request = new EnterpriseEventsRequest()
+ *     .after(ninetyDaysAgo)
+ *     .before(now)
+ *     .types(EventType.LOGIN);
+ * try (Stream&lt;BoxEvent&gt; events = new EnterpriseEventsBackfill(api, request)
+ *     .setParallelism(8)
+ *     .setCheckpointStore(store)
+ *     .stream()) {
+ *     events.forEach(event -&gt; archive(event));
+ * }
+ * </pre>
+ *
+ * <p>A {@link CheckpointStore} records the slices that were not completely emitted yet, so that a backfill that was
+ * interrupted can be resumed without reading the whole window again. Events of slices that were in progress are
+ * read again when the backfill resumes.</p>
+ *
+ * <p>Requests that are rate limited by the API are retried by the connection after the delay requested by the API.
+ * {@link #setMaxRequestsPerSecond(double)} additionally spaces the requests of a backfill out, to leave room for other
+ * clients of the enterprise. The stream should be closed when it is not consumed to its end, which stops the fetching
+ * threads.</p>
+ */
+public final class EnterpriseEventsBackfill {
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final int INITIAL_SLICES_PER_THREAD = 4;
+    private static final long DEFAULT_MIN_SLICE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final long DATE_PRECISION_MILLIS = TimeUnit.SECONDS.toMillis(1);
+    private static final int QUEUED_EVENTS_PER_THREAD = 1000;
+    private static final String STREAM_TYPE = "admin_logs";
+
+    private final BoxAPIConnection api;
+    private final EventLog.EventLogRequest request;
+    private final Date after;
+    private final Date before;
+    private int parallelism = DEFAULT_PARALLELISM;
+    private int initialSlices;
+    private long minSliceMillis = DEFAULT_MIN_SLICE_MILLIS;
+    private boolean ordered;
+    private double maxRequestsPerSecond;
+    private CheckpointStore checkpointStore;
+
+    /**
+     * Creates a backfill of the events requested by an enterprise events request. The request must have both an
+     * <code>after</code> and a <code>before</code> date; its stream position is ignored.
+     *
+     * @param api     the API connection used for the requests.
+     * @param request the request, telling the time window, the event types and the chunk limit.
+     */
+    public EnterpriseEventsBackfill(BoxAPIConnection api, EnterpriseEventsRequest request) {
+        if (request.getAfter() == null || request.getBefore() == null) {
+            throw new IllegalArgumentException("A backfill needs both an after and a before date.");
+        }
+        if (!request.getAfter().before(request.getBefore())) {
+            throw new IllegalArgumentException("The after date of a backfill must be earlier than its before date.");
+        }
+        this.api = api;
+        this.request = EventLog.toEventLogRequest(request);
+        this.after = request.getAfter();
+        this.before = request.getBefore();
+    }
+
+    /**
+     * Sets the number of slices that are fetched in parallel.
+     *
+     * @param parallelism the number of fetching threads.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the number of equally long slices the window is split into before any event was read. Dense slices are
+     * split further while they are read.
+     *
+     * @param initialSlices the number of slices, or 0 for four slices per fetching thread.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setInitialSlices(int initialSlices) {
+        if (initialSlices < 0) {
+            throw new IllegalArgumentException("Number of initial slices must not be negative.");
+        }
+        this.initialSlices = initialSlices;
+        return this;
+    }
+
+    /**
+     * Sets the shortest slice that is split. Slices whose remaining time is shorter than twice this duration are
+     * read chunk after chunk. Defaults to one minute.
+     *
+     * @param duration the minimum duration of a slice.
+     * @param unit     the unit of the duration.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setMinSliceDuration(long duration, TimeUnit unit) {
+        long millis = unit.toMillis(duration);
+        if (millis < DATE_PRECISION_MILLIS) {
+            throw new IllegalArgumentException("The minimum duration of a slice must be at least one second.");
+        }
+        this.minSliceMillis = millis;
+        return this;
+    }
+
+    /**
+     * Sets whether events are emitted in the order of their slices. Events within a slice are emitted in the order
+     * the API returns them.
+     *
+     * @param ordered true to emit the slices in time order; false to emit events as they arrive.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Limits the rate of requests sent by the backfill, across all its threads.
+     *
+     * @param maxRequestsPerSecond the maximum number of requests per second, or 0 for no limit.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setMaxRequestsPerSecond(double maxRequestsPerSecond) {
+        if (maxRequestsPerSecond < 0) {
+            throw new IllegalArgumentException("The maximum request rate must not be negative.");
+        }
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        return this;
+    }
+
+    /**
+     * Sets the store recording the slices that remain to be read. When the store holds slices, the backfill resumes
+     * with them instead of reading the whole window. The store is saved whenever all events of a slice were emitted.
+     *
+     * @param checkpointStore the store, or null to read the whole window without checkpoints.
+     * @return this backfill.
+     */
+    public EnterpriseEventsBackfill setCheckpointStore(CheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Starts the backfill.
+     *
+     * @return a sequential stream of the events of the window.
+     */
+    public Stream<BoxEvent> stream() {
+        List<Slice> slices = this.checkpointStore == null ? null : this.checkpointStore.load();
+        if (slices == null) {
+            slices = this.initialSlices();
+        }
+        Run run = new Run();
+        run.start(slices);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(run, Spliterator.NONNULL), false)
+            .onClose(run::shutdown);
+    }
+
+    private List<Slice> initialSlices() {
+        int count = this.initialSlices == 0 ? this.parallelism * INITIAL_SLICES_PER_THREAD : this.initialSlices;
+        long start = this.after.getTime();
+        long end = this.before.getTime();
+        long duration = Math.max((end - start) / count, this.minSliceMillis);
+        List<Slice> slices = new ArrayList<>();
+        for (long sliceStart = start; sliceStart < end; sliceStart += duration) {
+            long sliceEnd = end - sliceStart <= duration ? end : sliceStart + duration;
+            slices.add(new Slice(new Date(sliceStart), new Date(sliceEnd)));
+        }
+        return slices;
+    }
+
+    /**
+     * State of a single backfill: the fetching threads, the events waiting to be consumed and the slices that are not
+     * finished yet.
+     */
+    private final class Run implements Iterator<BoxEvent> {
+        private final Object end = new Object();
+        private final ExecutorService executor;
+        private final BlockingQueue<Object> queue;
+        private final AtomicInteger pendingSlices = new AtomicInteger();
+        private final Set<SliceTask> unfinished = ConcurrentHashMap.newKeySet();
+        private final Map<Long, SliceTask> unpublished = new TreeMap<>();
+        private final boolean ordered;
+        private final long minSliceMillis;
+        private final CheckpointStore checkpointStore;
+        private final long requestIntervalNanos;
+        private long nextRequestNanos;
+        private volatile BoxAPIException firstError;
+        private BoxEvent next;
+        private boolean ended;
+
+        private Run() {
+            int threads = EnterpriseEventsBackfill.this.parallelism;
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "Box enterprise events backfill");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.queue = new ArrayBlockingQueue<>(threads * QUEUED_EVENTS_PER_THREAD);
+            this.ordered = EnterpriseEventsBackfill.this.ordered;
+            this.minSliceMillis = EnterpriseEventsBackfill.this.minSliceMillis;
+            this.checkpointStore = EnterpriseEventsBackfill.this.checkpointStore;
+            double rate = EnterpriseEventsBackfill.this.maxRequestsPerSecond;
+            this.requestIntervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        }
+
+        private void start(List<Slice> slices) {
+            if (slices.isEmpty()) {
+                this.queue.add(this.end);
+                return;
+            }
+            List<SliceTask> tasks = new ArrayList<>();
+            for (Slice slice : slices) {
+                tasks.add(this.register(slice));
+            }
+            for (SliceTask task : tasks) {
+                this.submit(task);
+            }
+        }
+
+        private SliceTask register(Slice slice) {
+            SliceTask task = new SliceTask(slice);
+            this.pendingSlices.incrementAndGet();
+            this.unfinished.add(task);
+            if (this.ordered) {
+                synchronized (this.unpublished) {
+                    this.unpublished.put(slice.getAfter().getTime(), task);
+                }
+            }
+            return task;
+        }
+
+        private void submit(SliceTask task) {
+            this.executor.execute(() -> {
+                try {
+                    this.read(task);
+                    this.complete(task);
+                } catch (BoxAPIException e) {
+                    this.failed(e);
+                } catch (RuntimeException e) {
+                    this.failed(new BoxAPIException(e.getMessage(), e));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (this.pendingSlices.decrementAndGet() == 0) {
+                    try {
+                        this.queue.put(this.end);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+
+        /**
+         * Reads the chunks of a slice, splitting the rest of the slice when a chunk is full and the rest is long
+         * enough.
+         */
+        private void read(SliceTask task) throws InterruptedException {
+            long sliceStart = task.slice.getAfter().getTime();
+            long sliceEnd = task.slice.getBefore().getTime();
+            // Dates are sent with a precision of seconds, so the requested window is widened to whole seconds and
+            // events outside of the slice are dropped.
+            EventLog.EventLogRequest sliceRequest = EnterpriseEventsBackfill.this.request.withWindow(
+                new Date(sliceStart - DATE_PRECISION_MILLIS), new Date(sliceEnd + DATE_PRECISION_MILLIS), null);
+            Integer limit = sliceRequest.getLimit();
+            boolean split = false;
+            String position = null;
+            while (true) {
+                JsonObject chunk = this.fetch(sliceRequest.withPosition(position));
+                JsonArray entries = chunk.get("entries").asArray();
+                if (entries.isEmpty()) {
+                    return;
+                }
+
+                List<BoxEvent> events = new ArrayList<>(entries.size());
+                long lastCreatedAt = Long.MIN_VALUE;
+                for (JsonValue entry : entries) {
+                    BoxEvent event = new BoxEvent(EnterpriseEventsBackfill.this.api, entry.asObject());
+                    Date createdAt = event.getCreatedAt();
+                    if (createdAt != null) {
+                        lastCreatedAt = Math.max(lastCreatedAt, createdAt.getTime());
+                        if (createdAt.getTime() < sliceStart || createdAt.getTime() >= sliceEnd) {
+                            continue;
+                        }
+                    }
+                    events.add(event);
+                }
+                this.emit(task, events);
+                if (split && lastCreatedAt >= sliceEnd) {
+                    // the chunk reached the part of the window that was split off
+                    return;
+                }
+
+                // Events created in the same second as the last event of the chunk may continue in the next chunk,
+                // and earlier chunks may have returned some of them already, so the slice keeps reading that second
+                // and the rest of the slice is split off after it.
+                long splitStart = lastCreatedAt + DATE_PRECISION_MILLIS;
+                boolean full = limit != null && entries.size() >= limit;
+                if (full && lastCreatedAt >= sliceStart && sliceEnd - splitStart >= 2 * this.minSliceMillis) {
+                    long splitMiddle = splitStart + (sliceEnd - splitStart) / 2;
+                    SliceTask first = this.register(new Slice(new Date(splitStart), new Date(splitMiddle)));
+                    SliceTask second = this.register(new Slice(new Date(splitMiddle), new Date(sliceEnd)));
+                    task.slice = new Slice(task.slice.getAfter(), new Date(splitStart));
+                    sliceEnd = splitStart;
+                    split = true;
+                    this.submit(first);
+                    this.submit(second);
+                }
+                position = EventLog.nextStreamPosition(chunk);
+            }
+        }
+
+        private JsonObject fetch(EventLog.EventLogRequest chunkRequest) throws InterruptedException {
+            this.awaitRequestSlot();
+            BoxAPIConnection api = EnterpriseEventsBackfill.this.api;
+            URL url = EventLog.enterpriseEventsURL(api, STREAM_TYPE, chunkRequest);
+            BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
+            try (BoxJSONResponse response = request.send()) {
+                return response.getJsonObject();
+            }
+        }
+
+        private void awaitRequestSlot() throws InterruptedException {
+            if (this.requestIntervalNanos == 0) {
+                return;
+            }
+            long wait;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = this.nextRequestNanos - now > 0 ? this.nextRequestNanos : now;
+                this.nextRequestNanos = slot + this.requestIntervalNanos;
+                wait = slot - now;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+
+        private void emit(SliceTask task, List<BoxEvent> events) throws InterruptedException {
+            if (this.ordered) {
+                task.events.addAll(events);
+                return;
+            }
+            for (BoxEvent event : events) {
+                this.queue.put(event);
+            }
+        }
+
+        /**
+         * Marks a slice as read. In ordered mode, publishes the read slices at the head of the window, in the order of
+         * their start dates.
+         */
+        private void complete(SliceTask task) throws InterruptedException {
+            if (!this.ordered) {
+                this.queue.put(task);
+                return;
+            }
+            synchronized (this.unpublished) {
+                task.read = true;
+                Iterator<SliceTask> tasks = this.unpublished.values().iterator();
+                while (tasks.hasNext()) {
+                    SliceTask head = tasks.next();
+                    if (!head.read) {
+                        break;
+                    }
+                    tasks.remove();
+                    for (BoxEvent event : head.events) {
+                        this.queue.put(event);
+                    }
+                    head.events.clear();
+                    this.queue.put(head);
+                }
+            }
+        }
+
+        private void failed(BoxAPIException e) {
+            if (this.firstError == null) {
+                this.firstError = e;
+            }
+        }
+
+        /**
+         * Forgets a slice whose events were all consumed and saves the remaining slices.
+         */
+        private void consumed(SliceTask task) {
+            this.unfinished.remove(task);
+            if (this.checkpointStore != null) {
+                List<Slice> remaining = new ArrayList<>();
+                for (SliceTask unfinishedTask : this.unfinished) {
+                    remaining.add(unfinishedTask.slice);
+                }
+                remaining.sort(Comparator.comparing(Slice::getAfter));
+                this.checkpointStore.save(remaining);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null && !this.ended) {
+                Object item;
+                try {
+                    item = this.queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    this.shutdown();
+                    throw new BoxAPIException("Interrupted while waiting for enterprise events.", e);
+                }
+                if (item == this.end) {
+                    this.ended = true;
+                    this.shutdown();
+                    if (this.firstError != null) {
+                        BoxAPIException error = this.firstError;
+                        this.firstError = null;
+                        throw error;
+                    }
+                } else if (item instanceof SliceTask) {
+                    this.consumed((SliceTask) item);
+                } else {
+                    this.next = (BoxEvent) item;
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public BoxEvent next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BoxEvent event = this.next;
+            this.next = null;
+            return event;
+        }
+
+        private void shutdown() {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A slice being read, with the events held back until the earlier slices were published.
+     */
+    private static final class SliceTask {
+        private final List<BoxEvent> events = new ArrayList<>();
+        private volatile Slice slice;
+        private boolean read;
+
+        private SliceTask(Slice slice) {
+            this.slice = slice;
+        }
+    }
+
+    /**
+     * A time slice of a backfill, covering the events created from its after date up to, but not including, its
+     * before date.
+     */
+    public static final class Slice {
+        private final Date after;
+        private final Date before;
+
+        /**
+         * Creates a slice.
+         *
+         * @param after  the creation date of the earliest events in the slice.
+         * @param before the creation date of the first events after the slice.
+         */
+        public Slice(Date after, Date before) {
+            this.after = after;
+            this.before = before;
+        }
+
+        /**
+         * Gets the start of the slice.
+         *
+         * @return the creation date of the earliest events in the slice.
+         */
+        public Date getAfter() {
+            return this.after;
+        }
+
+        /**
+         * Gets the end of the slice.
+         *
+         * @return the creation date of the first events after the slice.
+         */
+        public Date getBefore() {
+            return this.before;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + BoxDateFormat.format(this.after) + ", " + BoxDateFormat.format(this.before) + ")";
+        }
+    }
+
+    /**
+     * Records the slices of a backfill that remain to be read.
+     */
+    public interface CheckpointStore {
+        /**
+         * Saves the remaining slices, replacing the slices saved before.
+         *
+         * @param remainingSlices the slices whose events were not all emitted yet, ordered by their start. Empty when
+         *                        the backfill is complete.
+         */
+        void save(List<Slice> remainingSlices);
+
+        /**
+         * Loads the saved slices.
+         *
+         * @return the remaining slices, or null if no slices were saved yet.
+         */
+        List<Slice> load();
+    }
+}
@@ -0,0 +1,170 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The enterprise events of an `admin_logs` or `admin_logs_streaming` stream, fetched chunk by chunk while they are
+ * iterated.
+ *
+ * <p>Iterators follow the stream position from chunk to chunk. The next chunk is loaded in the background while the
+ * current one is processed, as many chunks ahead as set by {@link BoxAPIConnection#setPagePrefetchDepth(int)}, but
+ * at least one. Events are created from the JSON of a chunk as they are returned, without collecting them first.
+ * The iteration ends with the first empty chunk or, when an end condition is set with {@link #stopWhen(Predicate)},
+ * before the first event meeting the condition.</p>
+ *
+ * <p>Use {@link EventLog#iterateEnterpriseEvents(BoxAPIConnection, EnterpriseEventsRequest)} or
+ * {@link EventLog#iterateEnterpriseEventsStream(BoxAPIConnection, EnterpriseEventsStreamRequest)} to get the events.
+ * </p>
+ */
+public final class EnterpriseEventsIterable implements Iterable<BoxEvent> {
+    private static final int MIN_PREFETCH_DEPTH = 1;
+
+    private final BoxAPIConnection api;
+    private final String streamType;
+    private final EventLog.EventLogRequest request;
+    private Predicate<BoxEvent> endCondition;
+    private volatile String streamPosition;
+
+    EnterpriseEventsIterable(BoxAPIConnection api, String streamType, EventLog.EventLogRequest request) {
+        this.api = api;
+        this.streamType = streamType;
+        this.request = request;
+        this.streamPosition = request.getPosition();
+    }
+
+    /**
+     * Sets a condition ending the iteration, for example an event created after a point in time. The event meeting
+     * the condition isn't returned.
+     *
+     * @param endCondition returns true for the first event that should not be returned.
+     * @return this iterable.
+     */
+    public EnterpriseEventsIterable stopWhen(Predicate<BoxEvent> endCondition) {
+        this.endCondition = endCondition;
+        return this;
+    }
+
+    /**
+     * Gets the stream position from which the most recently used iterator continues. When the iterator stopped in the
+     * middle of a chunk, this is the position of that chunk, so continuing from it returns some events again. After
+     * the iteration ended with an empty chunk, this is the position of the next events.
+     *
+     * @return the stream position, or null if the iteration started without a position and no chunk was consumed.
+     */
+    public String getStreamPosition() {
+        return this.streamPosition;
+    }
+
+    /**
+     * Gets the events as a sequential stream.
+     *
+     * @return the stream of events.
+     */
+    public Stream<BoxEvent> stream() {
+        return StreamSupport.stream(this.spliterator(), false);
+    }
+
+    @Override
+    public Iterator<BoxEvent> iterator() {
+        return new EventIterator();
+    }
+
+    /**
+     * Iterates over the events, while a prefetcher loads the chunks.
+     */
+    private final class EventIterator implements Iterator<BoxEvent> {
+        private final PagePrefetcher prefetcher;
+        private Iterator<JsonValue> currentChunk = Collections.emptyIterator();
+        private String currentChunkNextPosition;
+        private BoxEvent nextEvent;
+        private boolean ended;
+
+        EventIterator() {
+            BoxAPIConnection api = EnterpriseEventsIterable.this.api;
+            this.prefetcher = new PagePrefetcher(new ChunkLoader(EnterpriseEventsIterable.this.streamPosition),
+                Math.max(api.getPagePrefetchDepth(), MIN_PREFETCH_DEPTH), api.getPagePrefetchMaxEntries());
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.nextEvent != null) {
+                return true;
+            }
+            if (this.ended) {
+                return false;
+            }
+
+            while (!this.currentChunk.hasNext()) {
+                if (this.currentChunkNextPosition != null) {
+                    EnterpriseEventsIterable.this.streamPosition = this.currentChunkNextPosition;
+                    this.currentChunkNextPosition = null;
+                }
+                JsonObject chunk = this.prefetcher.take();
+                if (chunk == null) {
+                    this.ended = true;
+                    return false;
+                }
+                this.currentChunk = chunk.get("entries").asArray().iterator();
+                this.currentChunkNextPosition = EventLog.nextStreamPosition(chunk);
+            }
+
+            BoxEvent event = new BoxEvent(EnterpriseEventsIterable.this.api, this.currentChunk.next().asObject());
+            Predicate<BoxEvent> condition = EnterpriseEventsIterable.this.endCondition;
+            if (condition != null && condition.test(event)) {
+                this.ended = true;
+                return false;
+            }
+            this.nextEvent = event;
+            return true;
+        }
+
+        @Override
+        public BoxEvent next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            BoxEvent event = this.nextEvent;
+            this.nextEvent = null;
+            return event;
+        }
+    }
+
+    /**
+     * Loads the chunks of the stream, one after another.
+     */
+    private final class ChunkLoader implements PagePrefetcher.PageLoader {
+        private String position;
+        private boolean moreChunks = true;
+
+        ChunkLoader(String position) {
+            this.position = position;
+        }
+
+        @Override
+        public JsonObject loadNextPage() {
+            BoxAPIConnection api = EnterpriseEventsIterable.this.api;
+            EventLog.EventLogRequest chunkRequest = EnterpriseEventsIterable.this.request.withPosition(this.position);
+            URL url = EventLog.enterpriseEventsURL(api, EnterpriseEventsIterable.this.streamType, chunkRequest);
+            BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
+            try (BoxJSONResponse response = request.send()) {
+                JsonObject chunk = response.getJsonObject();
+                this.position = EventLog.nextStreamPosition(chunk);
+                this.moreChunks = !chunk.get("entries").asArray().isEmpty();
+                return chunk;
+            }
+        }
+
+        @Override
+        public boolean hasMorePages() {
+            return this.moreChunks;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Passes the events of an {@link EventStream} to its listeners on separate threads, so that slow listeners don't
+ * delay polling.
+ *
+ * <p>Events are split into partitions by a key, the ID of the event source by default. Each partition is dispatched
+ * by a thread of its own, so events of the same source reach the listeners in the order they were received, while
+ * events of different sources are processed in parallel. {@link BatchEventListener BatchEventListeners} receive the
+ * events of a partition from one fetched page in a single call.</p>
+ *
+ * <p>The number of events waiting to be dispatched is bounded. When the bound is reached, the stream waits before
+ * fetching more events, so slow listeners slow down polling instead of events being dropped or piling up in memory.
+ * The next stream position is passed to {@link EventListener#onNextPosition(long)} only once all events before it
+ * were dispatched. When a listener throws an exception, neither the position after the failed events nor any later
+ * position is passed on or saved to the checkpoint store of the stream, so a restarted stream receives the failed
+ * events again.</p>
+ *
+ * <pre>
+ * EventStream stream = new EventStream(api);
+ * stream.setDispatcher(new EventDispatcher(8));
+ * stream.addListener(listener);
+ * stream.start();
+ * </pre>
+ *
+ * <p>A dispatcher serves one stream. It should be closed after the stream was stopped.</p>
+ */
+public final class EventDispatcher implements AutoCloseable {
+    private static final int DEFAULT_MAX_QUEUED_EVENTS = 10000;
+
+    private final ExecutorService[] partitions;
+    private final int maxQueuedEvents;
+    private final Semaphore queueSpace;
+    private final Deque<Batch> batches = new ArrayDeque<>();
+    private final Object completionLock = new Object();
+    private boolean failed;
+    private volatile Function<BoxEvent, ?> partitionKey = EventDispatcher::sourceID;
+
+    /**
+     * Creates a dispatcher.
+     *
+     * @param parallelism     number of partitions, each dispatched by a thread of its own.
+     * @param maxQueuedEvents maximum number of events waiting to be dispatched before polling waits.
+     */
+    public EventDispatcher(int parallelism, int maxQueuedEvents) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        if (maxQueuedEvents <= 0) {
+            throw new IllegalArgumentException("Maximum number of queued events must be positive.");
+        }
+        this.partitions = new ExecutorService[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            final String name = "Box event dispatch " + (i + 1);
+            this.partitions[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.queueSpace = new Semaphore(maxQueuedEvents);
+    }
+
+    /**
+     * Creates a dispatcher queuing up to 10000 events.
+     *
+     * @param parallelism number of partitions, each dispatched by a thread of its own.
+     */
+    public EventDispatcher(int parallelism) {
+        this(parallelism, DEFAULT_MAX_QUEUED_EVENTS);
+    }
+
+    /**
+     * Sets the key deciding the partition of an event. Events with equal keys are dispatched in order.
+     *
+     * @param partitionKey returns the key of an event. Defaults to the ID of the event source, or of the event itself
+     *                     when it has no source.
+     * @return this dispatcher.
+     */
+    public EventDispatcher setPartitionKey(Function<BoxEvent, ?> partitionKey) {
+        this.partitionKey = partitionKey;
+        return this;
+    }
+
+    /**
+     * Gets the number of partitions dispatched in parallel.
+     *
+     * @return the number of partitions.
+     */
+    public int getParallelism() {
+        return this.partitions.length;
+    }
+
+    /**
+     * Gets the number of events waiting to be dispatched.
+     *
+     * @return the number of queued events.
+     */
+    public int getQueuedEvents() {
+        return this.maxQueuedEvents - this.queueSpace.availablePermits();
+    }
+
+    /**
+     * Stops the dispatching threads. Events that weren't dispatched yet are dropped.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService partition : this.partitions) {
+            partition.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues the events of a fetched page for dispatching, waiting while the queue is full. Returns without queuing
+     * the events when the waiting thread is interrupted.
+     *
+     * @param events       the events, in the order they were received.
+     * @param listeners    the listeners receiving the events, by event type.
+     * @param onDispatched called after the events and all events queued before them were dispatched, unless a listener
+     *                     failed on any of them.
+     * @param errorHandler called with errors thrown by the listeners.
+     */
+    void dispatch(List<BoxEvent> events, EventListenerTable listeners, Runnable onDispatched,
+                  Consumer<Throwable> errorHandler) {
+        int permits = Math.min(events.size(), this.maxQueuedEvents);
+        try {
+            this.queueSpace.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<List<BoxEvent>> chunks = this.partition(events);
+        int nonEmptyChunks = 0;
+        for (List<BoxEvent> chunk : chunks) {
+            if (!chunk.isEmpty()) {
+                nonEmptyChunks++;
+            }
+        }
+        Batch batch = new Batch(nonEmptyChunks, permits, onDispatched, errorHandler);
+        synchronized (this.batches) {
+            this.batches.addLast(batch);
+        }
+        if (nonEmptyChunks == 0) {
+            this.completeBatches(batch);
+            return;
+        }
+
+        for (int i = 0; i < chunks.size(); i++) {
+            final List<BoxEvent> chunk = chunks.get(i);
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            this.partitions[i].execute(() -> {
+                try {
+                    deliver(chunk, listeners);
+                } catch (Throwable e) {
+                    batch.failed = true;
+                    errorHandler.accept(e);
+                } finally {
+                    if (batch.remainingChunks.decrementAndGet() == 0) {
+                        this.completeBatches(batch);
+                    }
+                }
+            });
+        }
+    }
+
+    private List<List<BoxEvent>> partition(List<BoxEvent> events) {
+        List<List<BoxEvent>> chunks = new ArrayList<>(this.partitions.length);
+        for (int i = 0; i < this.partitions.length; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        Function<BoxEvent, ?> key = this.partitionKey;
+        for (BoxEvent event : events) {
+            Object eventKey = key.apply(event);
+            int hash = eventKey == null ? 0 : eventKey.hashCode();
+            chunks.get(Math.floorMod(hash, this.partitions.length)).add(event);
+        }
+        return chunks;
+    }
+
+    private static void deliver(List<BoxEvent> chunk, EventListenerTable listeners) {
+        Map<BatchEventListener, List<BoxEvent>> batches = new IdentityHashMap<>();
+        List<BatchEventListener> batchListeners = new ArrayList<>();
+        for (BoxEvent event : chunk) {
+            for (EventListener listener : listeners.getListeners(event.getEventType())) {
+                if (listener instanceof BatchEventListener) {
+                    BatchEventListener batchListener = (BatchEventListener) listener;
+                    List<BoxEvent> batch = batches.get(batchListener);
+                    if (batch == null) {
+                        batch = new ArrayList<>();
+                        batches.put(batchListener, batch);
+                        batchListeners.add(batchListener);
+                    }
+                    batch.add(event);
+                } else {
+                    listener.onEvent(event);
+                }
+            }
+        }
+        for (BatchEventListener batchListener : batchListeners) {
+            batchListener.onEvents(batches.get(batchListener));
+        }
+    }
+
+    /**
+     * Forgets a failure of a listener before the stream is started again. Batches still queued from before belong to
+     * the failed run and are not completed.
+     */
+    void reset() {
+        synchronized (this.batches) {
+            for (Batch batch : this.batches) {
+                batch.failed = true;
+            }
+            this.failed = false;
+        }
+    }
+
+    /**
+     * Marks a batch as dispatched and completes the dispatched batches at the head of the queue, in the order they
+     * were queued. Once a batch failed, neither it nor the batches queued after it are completed.
+     */
+    private void completeBatches(Batch batch) {
+        // The completion lock keeps the callbacks in queue order, while the queue itself stays free for dispatch()
+        // when a callback saves a checkpoint.
+        synchronized (this.completionLock) {
+            List<Batch> completed = new ArrayList<>();
+            synchronized (this.batches) {
+                batch.dispatched = true;
+                while (!this.batches.isEmpty() && this.batches.peekFirst().dispatched) {
+                    Batch head = this.batches.pollFirst();
+                    this.queueSpace.release(head.permits);
+                    this.failed |= head.failed;
+                    if (!this.failed) {
+                        completed.add(head);
+                    }
+                }
+            }
+            for (Batch head : completed) {
+                try {
+                    head.onDispatched.run();
+                } catch (Throwable e) {
+                    head.errorHandler.accept(e);
+                }
+            }
+        }
+    }
+
+    private static Object sourceID(BoxEvent event) {
+        JsonObject source = event.getSourceJSON();
+        if (source != null) {
+            JsonValue id = source.get("id");
+            if (id != null && id.isString()) {
+                return id.asString();
+            }
+        }
+        return event.getID();
+    }
+
+    /**
+     * The events of a fetched page, split into chunks dispatched by the partitions.
+     */
+    private static final class Batch {
+        private final AtomicInteger remainingChunks;
+        private final int permits;
+        private final Runnable onDispatched;
+        private final Consumer<Throwable> errorHandler;
+        private boolean dispatched;
+        private volatile boolean failed;
+
+        private Batch(int chunks, int permits, Runnable onDispatched, Consumer<Throwable> errorHandler) {
+            this.remainingChunks = new AtomicInteger(chunks);
+            this.permits = permits;
+            this.onDispatched = onDispatched;
+            this.errorHandler = errorHandler;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.box.sdk;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Remembers the IDs of recently received events to recognize duplicates.
+ *
+ * <p>IDs are kept as 64-bit hashes, in a ring holding them in the order they were added and in an open addressing
+ * hash table for lookups, so an entry costs 8 bytes in the ring and about 16 bytes in the table, without any objects
+ * per entry. When the ring is full, or when a time window is set and the oldest entry is older than the window, the
+ * oldest entry is forgotten. Two different IDs are mistaken for duplicates only if their hashes collide, which for
+ * 64-bit hashes is negligible.</p>
+ */
+final class EventIDFilter {
+    static final int DEFAULT_MAX_ENTRIES = 2048;
+
+    private static final long EMPTY = 0;
+
+    private final long[] ring;
+    private final long[] addedAt;
+    private final long windowMillis;
+    private final long[] table;
+    private final int mask;
+    private int oldest;
+    private int size;
+
+    /**
+     * Creates a filter remembering a number of IDs.
+     *
+     * @param maxEntries the number of remembered IDs.
+     */
+    EventIDFilter(int maxEntries) {
+        this(maxEntries, 0);
+    }
+
+    /**
+     * Creates a filter remembering the IDs added within a time window, up to a number of IDs.
+     *
+     * @param maxEntries   the maximum number of remembered IDs.
+     * @param windowMillis how long IDs are remembered, or 0 to remember them until the filter is full.
+     */
+    EventIDFilter(int maxEntries, long windowMillis) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Number of remembered event IDs must be positive.");
+        }
+        this.ring = new long[maxEntries];
+        this.windowMillis = windowMillis;
+        this.addedAt = windowMillis > 0 ? new long[maxEntries] : null;
+        int tableSize = Integer.highestOneBit(Math.max(maxEntries * 2 - 1, 1)) << 1;
+        this.table = new long[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    /**
+     * Adds an event ID.
+     *
+     * @param eventID the event ID.
+     * @return true if the ID wasn't remembered yet; false if it is a duplicate.
+     */
+    boolean add(String eventID) {
+        return this.addHash(hash(eventID));
+    }
+
+    /**
+     * Adds the hash of an event ID.
+     *
+     * @param hash the hash, as returned by {@link #hash(String)}.
+     * @return true if the hash wasn't remembered yet; false if it is a duplicate.
+     */
+    boolean addHash(long hash) {
+        long now = this.addedAt == null ? 0 : System.currentTimeMillis();
+        if (this.addedAt != null) {
+            while (this.size > 0 && now - this.addedAt[this.oldest] > this.windowMillis) {
+                this.removeOldest();
+            }
+        }
+        if (this.contains(hash)) {
+            return false;
+        }
+        if (this.size == this.ring.length) {
+            this.removeOldest();
+        }
+
+        int newest = (this.oldest + this.size) % this.ring.length;
+        this.ring[newest] = hash;
+        if (this.addedAt != null) {
+            this.addedAt[newest] = now;
+        }
+        this.size++;
+        int slot = this.slot(hash);
+        while (this.table[slot] != EMPTY) {
+            slot = (slot + 1) & this.mask;
+        }
+        this.table[slot] = hash;
+        return true;
+    }
+
+    /**
+     * Gets the remembered hashes.
+     *
+     * @return the hashes, oldest first.
+     */
+    long[] toArray() {
+        long[] hashes = new long[this.size];
+        for (int i = 0; i < this.size; i++) {
+            hashes[i] = this.ring[(this.oldest + i) % this.ring.length];
+        }
+        return hashes;
+    }
+
+    /**
+     * Hashes an event ID to 64 bits. The hash is never 0, which marks empty slots of the table.
+     *
+     * @param eventID the event ID.
+     * @return the hash.
+     */
+    static long hash(String eventID) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : eventID.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private boolean contains(long hash) {
+        int slot = this.slot(hash);
+        while (this.table[slot] != EMPTY) {
+            if (this.table[slot] == hash) {
+                return true;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return false;
+    }
+
+    private void removeOldest() {
+        long hash = this.ring[this.oldest];
+        this.oldest = (this.oldest + 1) % this.ring.length;
+        this.size--;
+
+        int slot = this.slot(hash);
+        while (this.table[slot] != hash) {
+            slot = (slot + 1) & this.mask;
+        }
+        // Shift the following entries of the probe sequence back, so that lookups don't stop at the freed slot.
+        int free = slot;
+        int next = (free + 1) & this.mask;
+        while (this.table[next] != EMPTY) {
+            int home = this.slot(this.table[next]);
+            if (((next - home) & this.mask) >= ((next - free) & this.mask)) {
+                this.table[free] = this.table[next];
+                free = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+        this.table[free] = EMPTY;
+    }
+
+    private int slot(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & this.mask;
+    }
+}
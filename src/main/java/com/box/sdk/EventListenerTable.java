@@ -0,0 +1,149 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The listeners of an {@link EventStream}, indexed by the event types they subscribed to.
+ *
+ * <p>For every event type the table holds the listeners receiving events of that type, in the order they were added,
+ * so routing an event is a single lookup. Tables are immutable: adding or removing a listener creates a new table,
+ * which lets events be routed without locking while listeners change.</p>
+ */
+final class EventListenerTable {
+    static final EventListenerTable EMPTY = new EventListenerTable(
+        Collections.<EventListener>emptyList(), Collections.<Set<BoxEvent.EventType>>emptyList());
+
+    private final List<EventListener> listeners;
+    private final List<Set<BoxEvent.EventType>> eventTypes;
+    private final List<EventListener> listenersOfAllTypes;
+    private final Map<BoxEvent.EventType, List<EventListener>> listenersByType;
+    private final Set<BoxEvent.EventType> subscribedTypes;
+
+    private EventListenerTable(List<EventListener> listeners, List<Set<BoxEvent.EventType>> eventTypes) {
+        this.listeners = listeners;
+        this.eventTypes = eventTypes;
+
+        List<EventListener> ofAllTypes = new ArrayList<>();
+        Set<BoxEvent.EventType> subscribed = EnumSet.noneOf(BoxEvent.EventType.class);
+        for (int i = 0; i < listeners.size(); i++) {
+            Set<BoxEvent.EventType> types = eventTypes.get(i);
+            if (types == null) {
+                ofAllTypes.add(listeners.get(i));
+                subscribed = null;
+            } else if (subscribed != null) {
+                subscribed.addAll(types);
+            }
+        }
+        this.listenersOfAllTypes = Collections.unmodifiableList(ofAllTypes);
+        this.subscribedTypes = subscribed;
+
+        this.listenersByType = new EnumMap<>(BoxEvent.EventType.class);
+        for (BoxEvent.EventType type : BoxEvent.EventType.values()) {
+            List<EventListener> ofType = new ArrayList<>();
+            for (int i = 0; i < listeners.size(); i++) {
+                Set<BoxEvent.EventType> types = eventTypes.get(i);
+                if (types == null || types.contains(type)) {
+                    ofType.add(listeners.get(i));
+                }
+            }
+            if (!ofType.isEmpty()) {
+                this.listenersByType.put(type, Collections.unmodifiableList(ofType));
+            }
+        }
+    }
+
+    /**
+     * Creates a table with the listeners of this table and a listener for some event types.
+     *
+     * @param listener   the listener.
+     * @param eventTypes the types of events passed to the listener, or null for all events.
+     * @return the new table.
+     */
+    EventListenerTable with(EventListener listener, Set<BoxEvent.EventType> eventTypes) {
+        List<EventListener> newListeners = new ArrayList<>(this.listeners);
+        List<Set<BoxEvent.EventType>> newEventTypes = new ArrayList<>(this.eventTypes);
+        newListeners.add(listener);
+        newEventTypes.add(eventTypes == null ? null : Collections.unmodifiableSet(copyOf(eventTypes)));
+        return new EventListenerTable(newListeners, newEventTypes);
+    }
+
+    /**
+     * Creates a table with the listeners of this table except a listener.
+     *
+     * @param listener the listener to leave out. Only its first occurrence is left out.
+     * @return the new table, or this table if it doesn't hold the listener.
+     */
+    EventListenerTable without(EventListener listener) {
+        int index = this.listeners.indexOf(listener);
+        if (index < 0) {
+            return this;
+        }
+        List<EventListener> newListeners = new ArrayList<>(this.listeners);
+        List<Set<BoxEvent.EventType>> newEventTypes = new ArrayList<>(this.eventTypes);
+        newListeners.remove(index);
+        newEventTypes.remove(index);
+        return new EventListenerTable(newListeners, newEventTypes);
+    }
+
+    /**
+     * Gets all listeners, whatever event types they subscribed to.
+     *
+     * @return the listeners, in the order they were added.
+     */
+    List<EventListener> getListeners() {
+        return Collections.unmodifiableList(this.listeners);
+    }
+
+    /**
+     * Gets the listeners receiving the events of a type.
+     *
+     * @param eventType the event type, or null for events without a type.
+     * @return the listeners, in the order they were added.
+     */
+    List<EventListener> getListeners(BoxEvent.EventType eventType) {
+        if (eventType == null) {
+            return this.listenersOfAllTypes;
+        }
+        List<EventListener> ofType = this.listenersByType.get(eventType);
+        return ofType == null ? Collections.<EventListener>emptyList() : ofType;
+    }
+
+    /**
+     * Gets the event types at least one listener subscribed to.
+     *
+     * @return the types, or null if a listener receives all events.
+     */
+    Set<BoxEvent.EventType> getSubscribedTypes() {
+        return this.subscribedTypes == null ? null : Collections.unmodifiableSet(this.subscribedTypes);
+    }
+
+    /**
+     * Tells from the JSON of an event, before the event is parsed, whether any listener receives it.
+     *
+     * @param eventJSON the JSON of the event.
+     * @return true if a listener receives the event.
+     */
+    boolean isSubscribed(JsonObject eventJSON) {
+        if (this.subscribedTypes == null) {
+            return true;
+        }
+        JsonValue typeName = eventJSON.get("event_type");
+        if (typeName == null || !typeName.isString()) {
+            return false;
+        }
+        BoxEvent.EventType type = BoxEvent.EventType.lookupByValue(typeName.asString());
+        return this.subscribedTypes.contains(type == null ? BoxEvent.EventType.UNKNOWN : type);
+    }
+
+    private static Set<BoxEvent.EventType> copyOf(Set<BoxEvent.EventType> eventTypes) {
+        return eventTypes.isEmpty() ? EnumSet.noneOf(BoxEvent.EventType.class) : EnumSet.copyOf(eventTypes);
+    }
+}
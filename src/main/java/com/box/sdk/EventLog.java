@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -39,12 +38,7 @@ public class EventLog implements Iterable<BoxEvent> {
     EventLog(BoxAPIConnection api, JsonObject json, String streamPosition, int limit) {
         this.streamPosition = streamPosition;
         this.limit = limit;
-        JsonValue nextStreamPosition = json.get("next_stream_position");
-        if (nextStreamPosition.isString()) {
-            this.nextStreamPosition = nextStreamPosition.asString();
-        } else {
-            this.nextStreamPosition = nextStreamPosition.toString();
-        }
+        this.nextStreamPosition = nextStreamPosition(json);
         this.chunkSize = json.get("chunk_size").asInt();
 
         this.events = new LinkedHashSet<>(this.chunkSize);
@@ -81,13 +75,7 @@ public class EventLog implements Iterable<BoxEvent> {
      * @return a log of all the events that met the given criteria.
      */
     public static EventLog getEnterpriseEvents(BoxAPIConnection api, EnterpriseEventsRequest enterpriseEventsRequest) {
-        EventLogRequest request = new EventLogRequest(
-            enterpriseEventsRequest.getBefore(),
-            enterpriseEventsRequest.getAfter(),
-            enterpriseEventsRequest.getPosition(),
-            enterpriseEventsRequest.getLimit(),
-            enterpriseEventsRequest.getTypes()
-        );
+        EventLogRequest request = toEventLogRequest(enterpriseEventsRequest);
         return getEnterpriseEventsForStreamType(api, enterpriseEventsRequest.getStreamType(), request);
     }
 
@@ -129,28 +117,119 @@ public class EventLog implements Iterable<BoxEvent> {
         return getEnterpriseEventsForStreamType(api, enterpriseEventsStreamRequest.getStreamType(), request);
     }
 
+    /**
+     * Iterates over the events of the `admin_logs` stream, following the stream position from chunk to chunk and
+     * loading the next chunk while the current one is processed. The iteration ends with the first empty chunk,
+     * which for requests with an upper date bound means that all events before the bound were returned.
+     * Example:
+     * <pre>
+     * {@code
+     * EnterpriseEventsRequest request = new EnterpriseEventsRequest()
+     *     .after(after)
+     *     .before(before);
+     * for (BoxEvent event : EventLog.iterateEnterpriseEvents(api, request)) {
+     *     export(event);
+     * }
+     * }
+     * </pre>
+     *
+     * @param api                     the API connection to use.
+     * @param enterpriseEventsRequest request to get events, the position is where the iteration starts.
+     * @return the events that met the given criteria.
+     */
+    public static EnterpriseEventsIterable iterateEnterpriseEvents(
+        BoxAPIConnection api, EnterpriseEventsRequest enterpriseEventsRequest
+    ) {
+        EventLogRequest request = toEventLogRequest(enterpriseEventsRequest);
+        return new EnterpriseEventsIterable(api, enterpriseEventsRequest.getStreamType(), request);
+    }
+
+    /**
+     * Iterates over the events of the `admin_logs_streaming` stream, following the stream position from chunk to chunk
+     * and loading the next chunk while the current one is processed. The iteration ends with the first empty chunk,
+     * which means that the iteration caught up with the stream. Use
+     * {@link EnterpriseEventsIterable#getStreamPosition()} to continue later.
+     *
+     * @param api                           the API connection to use.
+     * @param enterpriseEventsStreamRequest request to get events, the position is where the iteration starts.
+     * @return the events that met the given criteria.
+     */
+    public static EnterpriseEventsIterable iterateEnterpriseEventsStream(
+        BoxAPIConnection api, EnterpriseEventsStreamRequest enterpriseEventsStreamRequest
+    ) {
+        EventLogRequest request = new EventLogRequest(
+            null,
+            null,
+            enterpriseEventsStreamRequest.getPosition(),
+            enterpriseEventsStreamRequest.getLimit(),
+            enterpriseEventsStreamRequest.getTypes()
+        );
+        return new EnterpriseEventsIterable(api, enterpriseEventsStreamRequest.getStreamType(), request);
+    }
+
     private static EventLog getEnterpriseEventsForStreamType(
         BoxAPIConnection api, String streamType, EventLogRequest request
     ) {
+        URL url = enterpriseEventsURL(api, streamType, request);
+        BoxJSONRequest apiRequest = new BoxJSONRequest(api, url, "GET");
+        try (BoxJSONResponse response = apiRequest.send()) {
+            JsonObject responseJSON = response.getJsonObject();
+            EventLog log = new EventLog(api, responseJSON, request.getPosition(), request.getLimit());
+            log.setStartDate(request.getAfter());
+            log.setEndDate(request.getBefore());
+            return log;
+        }
+    }
+
+    /**
+     * Gets the next stream position of a chunk of events, which the API returns either as string or as number.
+     *
+     * @param json the JSON of the chunk.
+     * @return the next stream position.
+     */
+    static String nextStreamPosition(JsonObject json) {
+        JsonValue nextStreamPosition = json.get("next_stream_position");
+        if (nextStreamPosition.isString()) {
+            return nextStreamPosition.asString();
+        }
+        return nextStreamPosition.toString();
+    }
+
+    /**
+     * Takes the parameters of a request for enterprise events.
+     *
+     * @param enterpriseEventsRequest the request.
+     * @return the parameters.
+     */
+    static EventLogRequest toEventLogRequest(EnterpriseEventsRequest enterpriseEventsRequest) {
+        return new EventLogRequest(
+            enterpriseEventsRequest.getBefore(),
+            enterpriseEventsRequest.getAfter(),
+            enterpriseEventsRequest.getPosition(),
+            enterpriseEventsRequest.getLimit(),
+            enterpriseEventsRequest.getTypes()
+        );
+    }
+
+    /**
+     * Builds the URL requesting a chunk of enterprise events.
+     *
+     * @param api        the API connection to use.
+     * @param streamType the type of the stream, `admin_logs` or `admin_logs_streaming`.
+     * @param request    the parameters of the request.
+     * @return the URL.
+     */
+    static URL enterpriseEventsURL(BoxAPIConnection api, String streamType, EventLogRequest request) {
         URL url = new URLTemplate("events?").build(api.getBaseURL());
         QueryStringBuilder queryBuilder = new QueryStringBuilder(url.getQuery());
         queryBuilder.appendParam("stream_type", streamType);
         addParamsToQuery(request, queryBuilder);
 
         try {
-            url = queryBuilder.addToURL(url);
+            return queryBuilder.addToURL(url);
         } catch (MalformedURLException e) {
             throw new BoxAPIException("Couldn't append a query string to the provided URL.");
         }
-
-        BoxJSONRequest apiRequest = new BoxJSONRequest(api, url, "GET");
-        try (BoxJSONResponse response = apiRequest.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
-            EventLog log = new EventLog(api, responseJSON, request.getPosition(), request.getLimit());
-            log.setStartDate(request.getAfter());
-            log.setEndDate(request.getBefore());
-            return log;
-        }
     }
 
     private static void addParamsToQuery(EventLogRequest request, QueryStringBuilder queryBuilder) {
@@ -276,7 +355,10 @@ public class EventLog implements Iterable<BoxEvent> {
         return this.events.size();
     }
 
-    private static final class EventLogRequest {
+    /**
+     * The parameters of a request for enterprise events.
+     */
+    static final class EventLogRequest {
         private final Date before;
         private final Date after;
         private final String position;
@@ -305,16 +387,24 @@ public class EventLog implements Iterable<BoxEvent> {
             return after;
         }
 
-        private String getPosition() {
+        String getPosition() {
             return position;
         }
 
-        private Integer getLimit() {
+        Integer getLimit() {
             return limit;
         }
 
         private Collection<String> getTypes() {
             return types;
         }
+
+        EventLogRequest withPosition(String newPosition) {
+            return new EventLogRequest(this.before, this.after, newPosition, this.limit, this.types);
+        }
+
+        EventLogRequest withWindow(Date newAfter, Date newBefore, String newPosition) {
+            return new EventLogRequest(newBefore, newAfter, newPosition, this.limit, this.types);
+        }
     }
 }
@@ -0,0 +1,301 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records the responses of the events API to a file, so they can be replayed later with an {@link EventReplayer}.
+ *
+ * <p>The recorder is a {@link RequestInterceptor}: it sends the requests for pages of user events, pages of enterprise
+ * events and long polls of the realtime server itself, appends their responses to the file along with the time they
+ * were received, and hands them back to the SDK. Other requests are passed to the next interceptor, if any, and sent
+ * as usual. So is the lookup of the current stream position made by {@link EventStream#EventStream(BoxAPIConnection)},
+ * since a replay answers it with the position of the first recorded page.</p>
+ *
+ * <pre>
+ * try (EventRecorder recorder = new EventRecorder(Paths.get("events.rec"))) {
+ *     api.setRequestInterceptor(recorder);
+ *     EventStream stream = new EventStream(api);
+ *     stream.addListener(listener);
+ *     stream.start();
+ *     ...
+ *     stream.stop();
+ * }
+ * </pre>
+ *
+ * <p>Records are compressed and appended to the file, so several sessions can be recorded to the same file. Every
+ * record is flushed when it is written, and a record cut short by a crash is ignored when the file is read.</p>
+ */
+public final class EventRecorder implements RequestInterceptor, AutoCloseable {
+    static final byte USER_EVENTS = 1;
+    static final byte ENTERPRISE_EVENTS = 2;
+    static final byte LONG_POLL = 3;
+    static final String NOW = "now";
+
+    private final Path file;
+    private final RequestInterceptor next;
+    private final DataOutputStream out;
+    private final Set<String> realtimeServerURLs = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Boolean> sending = new ThreadLocal<>();
+    private long recordCount;
+
+    /**
+     * Creates a recorder appending to a file.
+     *
+     * @param file the file. It is created if it doesn't exist.
+     */
+    public EventRecorder(Path file) {
+        this(file, null);
+    }
+
+    /**
+     * Creates a recorder appending to a file, which passes the requests it doesn't record to another interceptor.
+     *
+     * @param file the file. It is created if it doesn't exist.
+     * @param next the interceptor for the requests that are not recorded, or null.
+     */
+    public EventRecorder(Path file, RequestInterceptor next) {
+        this.file = file;
+        this.next = next;
+        try {
+            this.out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)), true));
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't open the event recording " + file + ".", e);
+        }
+    }
+
+    @Override
+    public BoxAPIResponse onRequest(BoxAPIRequest request) {
+        if (this.sending.get() != null) {
+            return this.next == null ? null : this.next.onRequest(request);
+        }
+
+        URL url = request.getUrl();
+        boolean isEventsURL = url.getPath().endsWith("/events");
+        byte kind;
+        String key;
+        if (isEventsURL && request.getMethod().equals("OPTIONS")) {
+            BoxAPIResponse response = this.sendWithoutInterception(request);
+            this.rememberRealtimeServers(response);
+            return response;
+        } else if (isEventsURL && request.getMethod().equals("GET")) {
+            String streamType = queryParam(url, "stream_type");
+            boolean isEnterprise = streamType != null && streamType.startsWith("admin_logs");
+            if (!isEnterprise && NOW.equals(queryParam(url, "stream_position"))) {
+                return this.next == null ? null : this.next.onRequest(request);
+            }
+            kind = isEnterprise ? ENTERPRISE_EVENTS : USER_EVENTS;
+            key = isEnterprise ? url.getQuery() : queryParam(url, "stream_position");
+        } else if (request.getMethod().equals("GET") && this.isLongPoll(url)) {
+            kind = LONG_POLL;
+            key = queryParam(url, "stream_position");
+        } else {
+            return this.next == null ? null : this.next.onRequest(request);
+        }
+
+        BoxAPIResponse response = this.sendWithoutInterception(request);
+        if (response instanceof BoxJSONResponse) {
+            this.write(new Record(kind, System.currentTimeMillis(), key,
+                ((BoxJSONResponse) response).getJsonObject().toString()));
+        }
+        return response;
+    }
+
+    /**
+     * Gets the number of records written by this recorder.
+     *
+     * @return the number of records.
+     */
+    public synchronized long getRecordCount() {
+        return this.recordCount;
+    }
+
+    /**
+     * Closes the file. Requests are no longer recorded afterwards.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            this.out.close();
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't close the event recording " + this.file + ".", e);
+        }
+    }
+
+    /**
+     * Reads all records of a file, in the order they were written.
+     *
+     * @param file the file.
+     * @return the records.
+     */
+    static List<Record> read(Path file) {
+        List<Record> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(
+            Files.newInputStream(file))))) {
+            while (true) {
+                byte kind;
+                try {
+                    kind = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                records.add(new Record(kind, in.readLong(), readString(in), readString(in)));
+            }
+        } catch (EOFException e) {
+            // The last record was cut short while it was written.
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't read the event recording " + file + ".", e);
+        }
+        return records;
+    }
+
+    /**
+     * Gets the value of a parameter in the query of a URL.
+     *
+     * @param url  the URL.
+     * @param name the name of the parameter.
+     * @return the decoded value, or null if the query doesn't have the parameter.
+     */
+    static String queryParam(URL url, String name) {
+        String query = url.getQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String param : query.split("&")) {
+            int equals = param.indexOf('=');
+            String paramName = equals < 0 ? param : param.substring(0, equals);
+            if (paramName.equals(name)) {
+                try {
+                    return equals < 0 ? "" : URLDecoder.decode(param.substring(equals + 1), "UTF-8");
+                } catch (UnsupportedEncodingException e) {
+                    throw new BoxAPIException("UTF-8 is not supported.", e);
+                }
+            }
+        }
+        return null;
+    }
+
+    private BoxAPIResponse sendWithoutInterception(BoxAPIRequest request) {
+        this.sending.set(Boolean.TRUE);
+        try {
+            return request.sendWithoutRetry();
+        } finally {
+            this.sending.remove();
+        }
+    }
+
+    private void rememberRealtimeServers(BoxAPIResponse response) {
+        if (!(response instanceof BoxJSONResponse)) {
+            return;
+        }
+        JsonValue entries = ((BoxJSONResponse) response).getJsonObject().get("entries");
+        if (entries == null || !entries.isArray()) {
+            return;
+        }
+        for (JsonValue entry : entries.asArray()) {
+            JsonValue url = entry.isObject() ? entry.asObject().get("url") : null;
+            if (url != null && url.isString()) {
+                this.realtimeServerURLs.add(url.asString());
+            }
+        }
+    }
+
+    private boolean isLongPoll(URL url) {
+        String urlString = url.toString();
+        for (String serverURL : this.realtimeServerURLs) {
+            if (urlString.startsWith(serverURL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void write(Record record) {
+        try {
+            this.out.writeByte(record.kind);
+            this.out.writeLong(record.time);
+            writeString(this.out, record.key);
+            writeString(this.out, record.json);
+            this.out.flush();
+            this.recordCount++;
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't write to the event recording " + this.file + ".", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A recorded response: its kind, the time it was received, the key identifying the request and the JSON body.
+     * User events and long polls are keyed by stream position, and enterprise events by their whole query, which holds
+     * the dates and the stream position.
+     */
+    static final class Record {
+        private final byte kind;
+        private final long time;
+        private final String key;
+        private final String json;
+
+        Record(byte kind, long time, String key, String json) {
+            this.kind = kind;
+            this.time = time;
+            this.key = key;
+            this.json = json;
+        }
+
+        byte getKind() {
+            return this.kind;
+        }
+
+        long getTime() {
+            return this.time;
+        }
+
+        String getKey() {
+            return this.key;
+        }
+
+        JsonObject toJsonObject() {
+            return Json.parse(this.json).asObject();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the events API responses recorded by an {@link EventRecorder}, so that {@link EventStream event streams}
+ * and {@link EventLog enterprise event queries} can run without API calls.
+ *
+ * <p>The replayer is a {@link RequestInterceptor} answering the requests for pages of events and long polls with the
+ * recorded responses. Pages of user events and long polls are matched by stream position, and pages of enterprise
+ * events by their whole query. When a position was recorded several times, for example while a stream was waiting for
+ * new events, the recorded responses are returned in the order they were received. A long poll returns the recorded
+ * <code>new_change</code> or <code>reconnect</code> message, or <code>new_change</code> if a page of events was
+ * recorded for its position later on; otherwise it waits until it is cancelled, as a long poll would when nothing
+ * happens. Requests that were not recorded get an empty page, and other requests are sent as usual. The current
+ * stream position, which {@link EventStream#EventStream(BoxAPIConnection)} starts at, is the position of the first
+ * recorded page of user events, so such a stream replays the recording from its start.</p>
+ *
+ * <p>Responses are returned no earlier than they were received while recording, relative to the first request to the
+ * replayer, divided by the {@link #setSpeed(double) speed}. A speed of {@link Double#POSITIVE_INFINITY} replays as fast
+ * as the consumer can take the events, which makes the replayer suitable for benchmarking listeners.</p>
+ *
+ * <pre>
+ * EventReplayer replayer = new EventReplayer(Paths.get("events.rec")).setSpeed(100);
+ * api.setRequestInterceptor(replayer);
+ * EventStream stream = new EventStream(api, recordedStartPosition);
+ * stream.addListener(listener);
+ * stream.start();
+ * while (!replayer.isFinished()) {
+ *     Thread.sleep(100);
+ * }
+ * stream.stop();
+ * </pre>
+ */
+public final class EventReplayer implements RequestInterceptor {
+    static final String REALTIME_SERVER_URL = "https://realtime.replay.invalid/channel?channel=replay";
+
+    private static final long CANCELLATION_CHECK_INTERVAL = 50;
+    private static final int LONG_POLL_RETRY_TIMEOUT = 610;
+
+    private final Map<String, Deque<EventRecorder.Record>> userEvents = new HashMap<>();
+    private final Map<String, Deque<EventRecorder.Record>> enterpriseEvents = new HashMap<>();
+    private final Map<String, Deque<EventRecorder.Record>> longPolls = new HashMap<>();
+    private final long firstRecordTime;
+    private final long firstUserPosition;
+    private int remainingRecords;
+    private double speed = 1;
+    private long startNanos = -1;
+
+    /**
+     * Creates a replayer reading all records of a file.
+     *
+     * @param file the file written by an {@link EventRecorder}.
+     */
+    public EventReplayer(Path file) {
+        List<EventRecorder.Record> records = EventRecorder.read(file);
+        long firstTime = Long.MAX_VALUE;
+        long firstPosition = -1;
+        for (EventRecorder.Record record : records) {
+            Map<String, Deque<EventRecorder.Record>> recordsByKey;
+            if (record.getKind() == EventRecorder.USER_EVENTS) {
+                long position = numericPosition(record.getKey());
+                if (position < 0) {
+                    // Older recordings hold the lookup of the current position, which a replay answers itself.
+                    continue;
+                }
+                if (firstPosition < 0) {
+                    firstPosition = position;
+                }
+                recordsByKey = this.userEvents;
+            } else if (record.getKind() == EventRecorder.ENTERPRISE_EVENTS) {
+                recordsByKey = this.enterpriseEvents;
+            } else if (record.getKind() == EventRecorder.LONG_POLL) {
+                recordsByKey = this.longPolls;
+            } else {
+                continue;
+            }
+            recordsByKey.computeIfAbsent(record.getKey(), key -> new ArrayDeque<>()).add(record);
+            firstTime = Math.min(firstTime, record.getTime());
+            this.remainingRecords++;
+        }
+        this.firstRecordTime = firstTime;
+        this.firstUserPosition = Math.max(firstPosition, 0);
+    }
+
+    /**
+     * Sets how much faster than recorded the responses are returned.
+     *
+     * @param speed the speed: 1 for the recorded pace, 10 for ten times faster, or
+     *              {@link Double#POSITIVE_INFINITY} to return responses without waiting.
+     * @return this replayer.
+     */
+    public EventReplayer setSpeed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Speed must be positive.");
+        }
+        synchronized (this) {
+            this.speed = speed;
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of recorded responses that were not returned yet.
+     *
+     * @return the number of responses.
+     */
+    public synchronized int getRemainingRecordCount() {
+        return this.remainingRecords;
+    }
+
+    /**
+     * Tells whether all recorded responses were returned.
+     *
+     * @return true if the recording was replayed to its end.
+     */
+    public boolean isFinished() {
+        return this.getRemainingRecordCount() == 0;
+    }
+
+    @Override
+    public BoxAPIResponse onRequest(BoxAPIRequest request) {
+        URL url = request.getUrl();
+        boolean isEventsURL = url.getPath().endsWith("/events");
+        if (isEventsURL && request.getMethod().equals("OPTIONS")) {
+            return response(request, new JsonObject().add("chunk_size", 1).add("entries", new JsonArray().add(
+                new JsonObject()
+                    .add("type", "realtime_server")
+                    .add("url", REALTIME_SERVER_URL)
+                    .add("ttl", "10")
+                    .add("max_retries", "10")
+                    .add("retry_timeout", LONG_POLL_RETRY_TIMEOUT))));
+        } else if (isEventsURL && request.getMethod().equals("GET")) {
+            String streamType = EventRecorder.queryParam(url, "stream_type");
+            String position = EventRecorder.queryParam(url, "stream_position");
+            if (streamType != null && streamType.startsWith("admin_logs")) {
+                EventRecorder.Record record = this.take(this.enterpriseEvents, url.getQuery());
+                return record != null
+                    ? this.replay(request, record)
+                    : response(request, emptyPage(position == null ? "0" : position));
+            }
+            if (EventRecorder.NOW.equals(position)) {
+                return response(request, emptyPage(this.firstUserPosition));
+            }
+            EventRecorder.Record record = this.take(this.userEvents, position);
+            return record != null
+                ? this.replay(request, record)
+                : response(request, emptyPage(Math.max(numericPosition(position), 0)));
+        } else if (request.getMethod().equals("GET") && url.toString().startsWith(REALTIME_SERVER_URL)) {
+            return this.longPoll(request, EventRecorder.queryParam(url, "stream_position"));
+        }
+        return null;
+    }
+
+    private BoxAPIResponse longPoll(BoxAPIRequest request, String position) {
+        EventRecorder.Record record = this.take(this.longPolls, position);
+        if (record != null) {
+            return this.replay(request, record);
+        }
+        EventRecorder.Record nextPage = this.peek(this.userEvents, position);
+        if (nextPage != null) {
+            this.waitFor(request, this.replayTime(nextPage));
+            return response(request, new JsonObject().add("message", "new_change"));
+        }
+        // Nothing was recorded after this position, so the long poll waits like it would for a quiet stream.
+        this.waitFor(request, Long.MAX_VALUE);
+        throw new BoxAPIException("The long poll was cancelled.");
+    }
+
+    private BoxAPIResponse replay(BoxAPIRequest request, EventRecorder.Record record) {
+        this.waitFor(request, this.replayTime(record));
+        return response(request, record.toJsonObject());
+    }
+
+    private synchronized EventRecorder.Record take(Map<String, Deque<EventRecorder.Record>> recordsByKey, String key) {
+        Deque<EventRecorder.Record> records = recordsByKey.get(key);
+        EventRecorder.Record record = records == null ? null : records.poll();
+        if (record != null) {
+            this.remainingRecords--;
+        }
+        return record;
+    }
+
+    private synchronized EventRecorder.Record peek(Map<String, Deque<EventRecorder.Record>> recordsByKey, String key) {
+        Deque<EventRecorder.Record> records = recordsByKey.get(key);
+        return records == null ? null : records.peek();
+    }
+
+    // Gets the time at which a recorded response is due, on the clock of System.nanoTime(). The replay clock starts
+    // with the first response.
+    private synchronized long replayTime(EventRecorder.Record record) {
+        if (this.startNanos < 0) {
+            this.startNanos = System.nanoTime();
+        }
+        if (Double.isInfinite(this.speed)) {
+            return this.startNanos;
+        }
+        double offset = TimeUnit.MILLISECONDS.toNanos(record.getTime() - this.firstRecordTime) / this.speed;
+        return this.startNanos + (long) offset;
+    }
+
+    private void waitFor(BoxAPIRequest request, long dueNanos) {
+        while (true) {
+            if (request.isCancelled()) {
+                throw new BoxAPIException("The request was cancelled.");
+            }
+            long remaining = dueNanos == Long.MAX_VALUE
+                ? TimeUnit.MILLISECONDS.toNanos(CANCELLATION_CHECK_INTERVAL)
+                : dueNanos - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining,
+                    TimeUnit.MILLISECONDS.toNanos(CANCELLATION_CHECK_INTERVAL)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BoxAPIException("Interrupted while replaying events.", e);
+            }
+        }
+    }
+
+    private static JsonObject emptyPage(String nextStreamPosition) {
+        return new JsonObject()
+            .add("chunk_size", 0)
+            .add("next_stream_position", nextStreamPosition)
+            .add("entries", new JsonArray());
+    }
+
+    private static JsonObject emptyPage(long nextStreamPosition) {
+        return new JsonObject()
+            .add("chunk_size", 0)
+            .add("next_stream_position", nextStreamPosition)
+            .add("entries", new JsonArray());
+    }
+
+    // Parses a stream position, returning -1 for anything but a number.
+    private static long numericPosition(String position) {
+        try {
+            return position == null ? -1 : Long.parseLong(position);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static BoxJSONResponse response(BoxAPIRequest request, JsonObject body) {
+        return new BoxJSONResponse(200, request.getMethod(), request.getUrl().toString(),
+            Collections.<String, List<String>>emptyMap(), body);
+    }
+}
@@ -1,20 +1,26 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Receives real-time events from the API and forwards them to {@link EventListener EventListeners}.
  *
  * <p>This class handles long polling the Box events endpoint in order to receive real-time user events.
  * When an EventStream is started, it begins long polling on a separate thread until the {@link #stop} method
- * is called.
- * Since the API may return duplicate events, EventStream also maintains a small cache of the most recently received
- * event IDs in order to automatically deduplicate events.</p>
+ * is called. Streams started with {@link #start(EventStreamScheduler)} share the threads of the scheduler instead.
+ * Since the API may return duplicate events, EventStream also remembers the most recently received event IDs in
+ * order to automatically deduplicate events. How many IDs are remembered, and for how long, can be configured with
+ * {@link #setDeduplicationWindow(int, long, TimeUnit)}. With a
+ * {@link #setCheckpointStore(EventStreamCheckpointStore) checkpoint store} the position and the recent event IDs
+ * survive restarts.</p>
  * <p>Note: Enterprise Events can be accessed by admin users with the EventLog.getEnterpriseEvents method</p>
  */
 public class EventStream {
@@ -29,13 +35,19 @@ public class EventStream {
     private final BoxAPIConnection api;
     private final long startingPosition;
     private final int pollingDelay;
-    private final Collection<EventListener> listeners;
+    private volatile EventListenerTable listeners = EventListenerTable.EMPTY;
     private final Object listenerLock;
 
-    private LRUCache<String> receivedEvents;
-    private boolean started;
+    private EventIDFilter receivedEvents;
+    private int deduplicationSize = EventIDFilter.DEFAULT_MAX_ENTRIES;
+    private long deduplicationWindowMillis;
+    private volatile boolean started;
     private Poller poller;
     private Thread pollerThread;
+    private volatile ScheduledPoll scheduledPoll;
+    private volatile EventDispatcher dispatcher;
+    private volatile EventStreamCheckpointStore checkpointStore;
+    private boolean lastPageFull;
 
     /**
      * Constructs an EventStream using an API connection.
@@ -66,7 +78,6 @@ public class EventStream {
     public EventStream(BoxAPIConnection api, long startingPosition, int pollingDelay) {
         this.api = api;
         this.startingPosition = startingPosition;
-        this.listeners = new ArrayList<>();
         this.listenerLock = new Object();
         this.pollingDelay = pollingDelay;
     }
@@ -78,7 +89,92 @@ public class EventStream {
      */
     public void addListener(EventListener listener) {
         synchronized (this.listenerLock) {
-            this.listeners.add(listener);
+            this.listeners = this.listeners.with(listener, null);
+        }
+    }
+
+    /**
+     * Adds a listener that will be notified only of events of some types.
+     *
+     * <p>Events are routed by a table indexed by event type, so an event only reaches the listeners interested in its
+     * type. When every listener of the stream subscribed to some types, events of other types are dropped before they
+     * are parsed. The user events endpoint can't filter events by type, so they are still fetched.</p>
+     *
+     * @param listener   the listener to add.
+     * @param eventTypes the types of events passed to the listener. Events of types the SDK doesn't know are
+     *                   passed to listeners subscribed to {@link BoxEvent.EventType#UNKNOWN}.
+     */
+    public void addListener(EventListener listener, Set<BoxEvent.EventType> eventTypes) {
+        if (eventTypes == null) {
+            throw new IllegalArgumentException("Event types must not be null.");
+        }
+        synchronized (this.listenerLock) {
+            this.listeners = this.listeners.with(listener, eventTypes);
+        }
+    }
+
+    /**
+     * Removes a listener so that it is no longer notified of events.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeListener(EventListener listener) {
+        synchronized (this.listenerLock) {
+            this.listeners = this.listeners.without(listener);
+        }
+    }
+
+    /**
+     * Sets the dispatcher passing events to the listeners on separate threads. Without a dispatcher, listeners are
+     * called on the thread polling the API, one event at a time.
+     *
+     * @param dispatcher the dispatcher, or null to call the listeners on the polling thread.
+     * @throws IllegalStateException if the EventStream is started.
+     */
+    public void setDispatcher(EventDispatcher dispatcher) {
+        if (this.started) {
+            throw new IllegalStateException("Cannot change the dispatcher of a started EventStream.");
+        }
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Sets the store keeping the position of this EventStream across restarts. After each page of events was passed to
+     * the listeners, the next stream position and the IDs of recently received events are saved to the store. When
+     * the stream starts and the store has a checkpoint, the stream continues at its position instead of the starting
+     * position, and skips events with the saved IDs as duplicates.
+     *
+     * @param checkpointStore the store, or null to keep the position only in memory.
+     * @throws IllegalStateException if the EventStream is started.
+     */
+    public void setCheckpointStore(EventStreamCheckpointStore checkpointStore) {
+        if (this.started) {
+            throw new IllegalStateException("Cannot change the checkpoint store of a started EventStream.");
+        }
+        this.checkpointStore = checkpointStore;
+    }
+
+    /**
+     * Sets how many of the most recently received event IDs are remembered to recognize duplicate events. The IDs
+     * are kept as 64-bit hashes, so remembering many events takes little memory. Defaults to 2048 events without a
+     * time limit.
+     *
+     * @param maxEvents the maximum number of remembered event IDs.
+     * @param window    how long event IDs are remembered, or 0 to remember them until newer events replace them.
+     * @param unit      the unit of the window.
+     * @throws IllegalStateException if the EventStream is started.
+     */
+    public void setDeduplicationWindow(int maxEvents, long window, TimeUnit unit) {
+        if (this.started) {
+            throw new IllegalStateException("Cannot change the deduplication of a started EventStream.");
+        }
+        if (maxEvents <= 0) {
+            throw new IllegalArgumentException("Number of remembered event IDs must be positive.");
+        }
+        synchronized (this.listenerLock) {
+            this.deduplicationSize = maxEvents;
+            this.deduplicationWindowMillis = unit.toMillis(window);
+            this.receivedEvents = null;
         }
     }
 
@@ -102,7 +198,20 @@ public class EventStream {
         }
 
         this.started = false;
-        this.pollerThread.interrupt();
+        if (this.poller != null) {
+            this.poller.stop();
+            this.poller = null;
+        }
+        if (this.pollerThread != null) {
+            // The long poll was cancelled, but the thread may be waiting for room in the dispatcher's queue.
+            this.pollerThread.interrupt();
+            this.pollerThread = null;
+        }
+        ScheduledPoll poll = this.scheduledPoll;
+        if (poll != null) {
+            this.scheduledPoll = null;
+            poll.cancel();
+        }
     }
 
     /**
@@ -115,28 +224,68 @@ public class EventStream {
             throw new IllegalStateException("Cannot start the EventStream because it isn't stopped.");
         }
 
-        final long initialPosition;
+        this.resetDispatcher();
+        this.poller = new Poller(this.getInitialPosition());
+
+        this.pollerThread = new Thread(this.poller);
+        this.pollerThread.setUncaughtExceptionHandler((t, e) -> EventStream.this.notifyException(e));
+        this.pollerThread.start();
+
+        this.started = true;
+    }
+
+    /**
+     * Starts this EventStream and begins long polling the API with the shared threads of a scheduler, instead of a
+     * thread of its own.
+     *
+     * @param scheduler the scheduler polling the stream.
+     * @throws IllegalStateException if the EventStream is already started or the scheduler is closed.
+     */
+    public void start(EventStreamScheduler scheduler) {
+        if (this.started) {
+            throw new IllegalStateException("Cannot start the EventStream because it isn't stopped.");
+        }
+
+        this.resetDispatcher();
+        ScheduledPoll poll = new ScheduledPoll(scheduler, this.getInitialPosition());
+        scheduler.register(this);
+        this.scheduledPoll = poll;
+        this.started = true;
+        poll.waitForChange();
+    }
 
+    private void resetDispatcher() {
+        EventDispatcher eventDispatcher = this.dispatcher;
+        if (eventDispatcher != null) {
+            eventDispatcher.reset();
+        }
+    }
+
+    private long getInitialPosition() {
+        EventStreamCheckpointStore store = this.checkpointStore;
+        if (store != null) {
+            EventStreamCheckpoint checkpoint = store.load();
+            if (checkpoint != null) {
+                synchronized (this.listenerLock) {
+                    EventIDFilter filter = this.getReceivedEvents();
+                    for (long hash : checkpoint.getRecentEventHashes()) {
+                        filter.addHash(hash);
+                    }
+                }
+                return checkpoint.getPosition();
+            }
+        }
         if (this.startingPosition == STREAM_POSITION_NOW) {
             BoxJSONRequest request = new BoxJSONRequest(this.api,
                 EVENT_URL.buildAlpha(this.api.getBaseURL(), "now"), "GET"
             );
             try (BoxJSONResponse response = request.send()) {
-                JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-                initialPosition = jsonObject.get("next_stream_position").asLong();
+                JsonObject jsonObject = response.getJsonObject();
+                return jsonObject.get("next_stream_position").asLong();
             }
-        } else {
-            assert this.startingPosition >= 0 : "Starting position must be non-negative";
-            initialPosition = this.startingPosition;
         }
-
-        this.poller = new Poller(initialPosition);
-
-        this.pollerThread = new Thread(this.poller);
-        this.pollerThread.setUncaughtExceptionHandler((t, e) -> EventStream.this.notifyException(e));
-        this.pollerThread.start();
-
-        this.started = true;
+        assert this.startingPosition >= 0 : "Starting position must be non-negative";
+        return this.startingPosition;
     }
 
     /**
@@ -148,16 +297,97 @@ public class EventStream {
      * @return true if the event is a duplicate; otherwise false.
      */
     protected boolean isDuplicate(String eventID) {
+        return !this.getReceivedEvents().add(eventID);
+    }
+
+    private EventIDFilter getReceivedEvents() {
         if (this.receivedEvents == null) {
-            this.receivedEvents = new LRUCache<>();
+            this.receivedEvents = new EventIDFilter(this.deduplicationSize, this.deduplicationWindowMillis);
+        }
+        return this.receivedEvents;
+    }
+
+    /**
+     * Fetches the events following a stream position and passes them to the listeners, or to the dispatcher when the
+     * stream has one. Remembers whether the page was full, which means that more events are waiting.
+     *
+     * @param position the stream position.
+     * @return the next stream position.
+     */
+    private long fetchEvents(long position) {
+        BoxJSONRequest request = new BoxJSONRequest(this.api,
+            EVENT_URL.buildAlpha(this.api.getBaseURL(), position), "GET"
+        );
+        try (BoxJSONResponse response = request.send()) {
+            JsonObject jsonObject = response.getJsonObject();
+            JsonArray entriesArray = jsonObject.get("entries").asArray();
+            this.lastPageFull = entriesArray.size() >= LIMIT;
+            final long nextPosition = jsonObject.get("next_stream_position").asLong();
+            EventDispatcher eventDispatcher = this.dispatcher;
+            if (eventDispatcher == null) {
+                for (JsonValue entry : entriesArray) {
+                    if (this.listeners.isSubscribed(entry.asObject())) {
+                        BoxEvent event = new BoxEvent(this.api, entry.asObject());
+                        this.notifyEvent(event);
+                    }
+                }
+                this.notifyNextPosition(nextPosition);
+                this.saveCheckpoint(nextPosition, this.recentEventHashes());
+                return nextPosition;
+            }
+
+            List<BoxEvent> events = new ArrayList<>(entriesArray.size());
+            EventListenerTable listenersSnapshot;
+            final long[] recentEventHashes;
+            synchronized (this.listenerLock) {
+                listenersSnapshot = this.listeners;
+                for (JsonValue entry : entriesArray) {
+                    if (!listenersSnapshot.isSubscribed(entry.asObject())) {
+                        continue;
+                    }
+                    BoxEvent event = new BoxEvent(this.api, entry.asObject());
+                    if (!this.isDuplicate(event.getID())) {
+                        events.add(event);
+                    }
+                }
+                recentEventHashes = this.recentEventHashes();
+            }
+            eventDispatcher.dispatch(events, listenersSnapshot, () -> {
+                this.notifyNextPosition(nextPosition);
+                this.saveCheckpoint(nextPosition, recentEventHashes);
+            }, e -> {
+                if (this.started) {
+                    this.notifyException(e);
+                }
+            });
+            return nextPosition;
         }
+    }
 
-        return !this.receivedEvents.add(eventID);
+    /**
+     * Gets the hashes of recently received event IDs for a checkpoint.
+     *
+     * @return the hashes, or null if the stream has no checkpoint store.
+     */
+    private long[] recentEventHashes() {
+        if (this.checkpointStore == null) {
+            return null;
+        }
+        synchronized (this.listenerLock) {
+            return this.receivedEvents == null ? new long[0] : this.receivedEvents.toArray();
+        }
+    }
+
+    private void saveCheckpoint(long position, long[] recentEventHashes) {
+        EventStreamCheckpointStore store = this.checkpointStore;
+        if (store != null && recentEventHashes != null) {
+            store.save(new EventStreamCheckpoint(position, recentEventHashes));
+        }
     }
 
     private void notifyNextPosition(long position) {
         synchronized (this.listenerLock) {
-            for (EventListener listener : this.listeners) {
+            for (EventListener listener : this.listeners.getListeners()) {
                 listener.onNextPosition(position);
             }
         }
@@ -167,7 +397,7 @@ public class EventStream {
         synchronized (this.listenerLock) {
             boolean isDuplicate = this.isDuplicate(event.getID());
             if (!isDuplicate) {
-                for (EventListener listener : this.listeners) {
+                for (EventListener listener : this.listeners.getListeners(event.getEventType())) {
                     listener.onEvent(event);
                 }
             }
@@ -175,13 +405,13 @@ public class EventStream {
     }
 
     private void notifyException(Throwable e) {
-        if (e instanceof InterruptedException && !this.started) {
+        if (!this.started) {
             return;
         }
 
         this.stop();
         synchronized (this.listenerLock) {
-            for (EventListener listener : this.listeners) {
+            for (EventListener listener : this.listeners.getListeners()) {
                 if (listener.onException(e)) {
                     return;
                 }
@@ -191,50 +421,122 @@ public class EventStream {
 
     private class Poller implements Runnable {
         private final long initialPosition;
-
-        private RealtimeServerConnection server;
+        private final RealtimeServerConnection server;
 
         Poller(long initialPosition) {
             this.initialPosition = initialPosition;
             this.server = new RealtimeServerConnection(EventStream.this.api);
         }
 
+        void stop() {
+            this.server.stop();
+        }
+
         @Override
         public void run() {
             long position = this.initialPosition;
-            while (!Thread.interrupted()) {
-                if (this.server.getRemainingRetries() == 0) {
-                    this.server = new RealtimeServerConnection(EventStream.this.api);
-                }
-
-                if (this.server.waitForChange(position)) {
-                    if (Thread.interrupted()) {
+            while (!this.server.isStopped()) {
+                boolean changed;
+                try {
+                    changed = this.server.waitForChange(position);
+                } catch (BoxAPIException e) {
+                    if (this.server.isStopped()) {
                         return;
                     }
-
-                    BoxJSONRequest request = new BoxJSONRequest(EventStream.this.api,
-                        EVENT_URL.buildAlpha(EventStream.this.api.getBaseURL(), position), "GET"
-                    );
-                    try (BoxJSONResponse response = request.send()) {
-                        JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-                        JsonArray entriesArray = jsonObject.get("entries").asArray();
-                        for (JsonValue entry : entriesArray) {
-                            BoxEvent event = new BoxEvent(EventStream.this.api, entry.asObject());
-                            EventStream.this.notifyEvent(event);
-                        }
-                        position = jsonObject.get("next_stream_position").asLong();
-                        EventStream.this.notifyNextPosition(position);
-                        try {
-                            // Delay re-polling to avoid making too many API calls
-                            // Since duplicate events may appear in the stream, without any delay added
-                            // the stream can make 3-5 requests per second and not produce any new
-                            // events.  A short delay between calls balances latency for new events
-                            // and the risk of hitting rate limits.
-                            Thread.sleep(EventStream.this.pollingDelay);
-                        } catch (InterruptedException ex) {
-                            return;
-                        }
+                    if (!this.server.canReconnect()) {
+                        throw e;
                     }
+                    this.server.pause(this.server.getReconnectDelay());
+                    continue;
+                }
+
+                if (changed) {
+                    do {
+                        position = EventStream.this.fetchEvents(position);
+                    } while (EventStream.this.lastPageFull && !this.server.isStopped());
+                    // Delay re-polling to avoid making too many API calls
+                    // Since duplicate events may appear in the stream, without any delay added
+                    // the stream can make 3-5 requests per second and not produce any new
+                    // events.  A short delay between calls balances latency for new events
+                    // and the risk of hitting rate limits.
+                    this.server.pause(EventStream.this.pollingDelay);
+                } else {
+                    // The server asked to reconnect or its URL ran out of retries.
+                    this.server.pause(this.server.getReconnectDelay());
+                }
+            }
+        }
+    }
+
+    /**
+     * Polls the stream in steps run by an {@link EventStreamScheduler}: a long poll, then fetching the events, then
+     * the delay before the next long poll. Only one step is pending at a time.
+     */
+    private final class ScheduledPoll {
+        private final EventStreamScheduler scheduler;
+        private final RealtimeServerConnection server;
+        private long position;
+        private volatile Future<?> pendingStep;
+
+        ScheduledPoll(EventStreamScheduler scheduler, long initialPosition) {
+            this.scheduler = scheduler;
+            this.server = new RealtimeServerConnection(EventStream.this.api);
+            this.position = initialPosition;
+        }
+
+        void waitForChange() {
+            CompletableFuture<Boolean> longPoll = this.server.waitForChangeAsync(this.position,
+                this.scheduler::submitLongPoll);
+            this.pendingStep = longPoll;
+            longPoll.whenComplete((changed, error) -> this.runStep(() -> this.longPollDone(changed, error)));
+        }
+
+        void cancel() {
+            this.scheduler.unregister(EventStream.this);
+            this.server.stop();
+            Future<?> step = this.pendingStep;
+            if (step != null) {
+                step.cancel(true);
+            }
+        }
+
+        private void longPollDone(Boolean changed, Throwable error) {
+            if (error != null) {
+                if (!this.server.canReconnect()) {
+                    throw error instanceof RuntimeException
+                        ? (RuntimeException) error : new BoxAPIException(error.getMessage(), error);
+                }
+                this.pendingStep = this.scheduler.schedule(this::waitForChange, this.server.getReconnectDelay());
+            } else if (changed) {
+                this.pendingStep = this.scheduler.submitWork(() -> this.runStep(this::fetch));
+            } else {
+                long delay = this.server.getReconnectDelay();
+                if (delay > 0) {
+                    this.pendingStep = this.scheduler.schedule(this::waitForChange, delay);
+                } else {
+                    this.waitForChange();
+                }
+            }
+        }
+
+        private void fetch() {
+            this.position = EventStream.this.fetchEvents(this.position);
+            if (EventStream.this.lastPageFull) {
+                this.pendingStep = this.scheduler.submitWork(() -> this.runStep(this::fetch));
+            } else {
+                this.pendingStep = this.scheduler.schedule(this::waitForChange, EventStream.this.pollingDelay);
+            }
+        }
+
+        private void runStep(Runnable step) {
+            if (EventStream.this.scheduledPoll != this) {
+                return;
+            }
+            try {
+                step.run();
+            } catch (Throwable e) {
+                if (EventStream.this.scheduledPoll == this) {
+                    EventStream.this.notifyException(e);
                 }
             }
         }
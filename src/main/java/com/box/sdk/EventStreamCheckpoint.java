@@ -0,0 +1,143 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * The position of an {@link EventStream} together with the IDs of the most recently received events.
+ *
+ * <p>The stream resumes fetching events at the position. The event IDs are used to recognize events that the API
+ * delivers again after the restart, so that they aren't passed to the listeners a second time. They are kept as
+ * 64-bit hashes, which keeps checkpoints small.</p>
+ */
+public final class EventStreamCheckpoint {
+    private static final int VERSION = 2;
+
+    private final long position;
+    private final long[] recentEventHashes;
+
+    /**
+     * Creates a checkpoint.
+     *
+     * @param position       the stream position of the next events.
+     * @param recentEventIDs the IDs of the most recently received events, oldest first.
+     */
+    public EventStreamCheckpoint(long position, List<String> recentEventIDs) {
+        this.position = position;
+        this.recentEventHashes = new long[recentEventIDs.size()];
+        for (int i = 0; i < this.recentEventHashes.length; i++) {
+            this.recentEventHashes[i] = EventIDFilter.hash(recentEventIDs.get(i));
+        }
+    }
+
+    /**
+     * Creates a checkpoint from the hashes of the recent event IDs.
+     *
+     * @param position          the stream position of the next events.
+     * @param recentEventHashes the hashes of the most recently received event IDs, oldest first.
+     */
+    EventStreamCheckpoint(long position, long[] recentEventHashes) {
+        this.position = position;
+        this.recentEventHashes = recentEventHashes.clone();
+    }
+
+    /**
+     * Restores a checkpoint from the JSON created by {@link #toJSON()}.
+     *
+     * @param json the JSON.
+     * @return the checkpoint.
+     * @throws IllegalArgumentException if the JSON isn't a valid checkpoint.
+     */
+    public static EventStreamCheckpoint fromJSON(String json) {
+        try {
+            JsonObject jsonObject = Json.parse(json).asObject();
+            int version = jsonObject.getInt("v", 0);
+            long position = jsonObject.get("position").asLong();
+            if (version == 1) {
+                JsonArray ids = jsonObject.get("recent_event_ids").asArray();
+                long[] hashes = new long[ids.size()];
+                for (int i = 0; i < hashes.length; i++) {
+                    hashes[i] = EventIDFilter.hash(ids.get(i).asString());
+                }
+                return new EventStreamCheckpoint(position, hashes);
+            }
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported event stream checkpoint version.");
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(Base64.getDecoder().decode(
+                jsonObject.get("recent_event_hashes").asString()));
+            long[] hashes = new long[bytes.remaining() / Long.BYTES];
+            bytes.asLongBuffer().get(hashes);
+            return new EventStreamCheckpoint(position, hashes);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid event stream checkpoint.", e);
+        }
+    }
+
+    /**
+     * Converts this checkpoint to JSON that can be passed to {@link #fromJSON(String)}.
+     *
+     * @return the JSON.
+     */
+    public String toJSON() {
+        ByteBuffer bytes = ByteBuffer.allocate(this.recentEventHashes.length * Long.BYTES);
+        bytes.asLongBuffer().put(this.recentEventHashes);
+        return new JsonObject()
+            .add("v", VERSION)
+            .add("position", this.position)
+            .add("recent_event_hashes", Base64.getEncoder().encodeToString(bytes.array()))
+            .toString();
+    }
+
+    /**
+     * Gets the stream position of the next events.
+     *
+     * @return the stream position.
+     */
+    public long getPosition() {
+        return this.position;
+    }
+
+    /**
+     * Gets the number of recently received events remembered by this checkpoint.
+     *
+     * @return the number of events.
+     */
+    public int getRecentEventCount() {
+        return this.recentEventHashes.length;
+    }
+
+    /**
+     * Checks whether an event is one of the recently received events remembered by this checkpoint.
+     *
+     * @param eventID the event ID.
+     * @return true if the event was received before the checkpoint.
+     */
+    public boolean containsEvent(String eventID) {
+        long hash = EventIDFilter.hash(eventID);
+        for (long recentEventHash : this.recentEventHashes) {
+            if (recentEventHash == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the hashes of the recent event IDs.
+     *
+     * @return the hashes, oldest first.
+     */
+    long[] getRecentEventHashes() {
+        return this.recentEventHashes.clone();
+    }
+
+    @Override
+    public String toString() {
+        return this.toJSON();
+    }
+}
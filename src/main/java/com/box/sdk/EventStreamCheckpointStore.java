@@ -0,0 +1,24 @@
+package com.box.sdk;
+
+/**
+ * Stores the position of an {@link EventStream}, so that the stream continues where it stopped after a restart.
+ * A stream with a store set by {@link EventStream#setCheckpointStore(EventStreamCheckpointStore)} saves a checkpoint
+ * after each page of events was passed to its listeners and resumes from the saved checkpoint when it starts.
+ */
+public interface EventStreamCheckpointStore {
+
+    /**
+     * Saves a checkpoint, replacing the previously saved one. Saving should be atomic, so that a crash leaves either
+     * the previous or the new checkpoint.
+     *
+     * @param checkpoint the checkpoint.
+     */
+    void save(EventStreamCheckpoint checkpoint);
+
+    /**
+     * Loads the last saved checkpoint.
+     *
+     * @return the checkpoint, or null if no checkpoint was saved.
+     */
+    EventStreamCheckpoint load();
+}
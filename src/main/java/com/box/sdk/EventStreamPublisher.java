@@ -0,0 +1,134 @@
+package com.box.sdk;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Publishes the events received by an {@link EventStream} to Reactive Streams {@link Subscriber Subscribers}.
+ *
+ * <p>Each subscriber registers a listener on the event stream and gets the events received while it is subscribed.
+ * Events wait in a bounded buffer until the subscriber requests them. When the buffer of a subscriber is full, the
+ * listener blocks the thread polling the API, so a slow subscriber pauses the event stream instead of piling up
+ * events in memory. Errors of the event stream are sent to the subscribers after the buffered events. The event stream
+ * must be started and stopped by the caller.</p>
+ *
+ * <pre>
+ * EventStream stream = new EventStream(api);
+ * Flux.from(new EventStreamPublisher(stream)).subscribe(event -&gt; process(event));
+ * stream.start();
+ * </pre>
+ */
+public final class EventStreamPublisher implements Publisher<BoxEvent> {
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
+
+    private final EventStream stream;
+    private final int bufferSize;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher that buffers up to 1000 events per subscriber and emits them from a shared pool of daemon
+     * threads.
+     *
+     * @param stream the event stream to publish.
+     */
+    public EventStreamPublisher(EventStream stream) {
+        this(stream, DEFAULT_BUFFER_SIZE, DemandSubscription.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a publisher.
+     *
+     * @param stream     the event stream to publish.
+     * @param bufferSize the maximum number of events waiting to be requested by a subscriber.
+     * @param executor   the executor used to emit events. It must not run tasks on the calling thread.
+     */
+    public EventStreamPublisher(EventStream stream, int bufferSize, Executor executor) {
+        if (stream == null || executor == null) {
+            throw new IllegalArgumentException("Event stream and executor cannot be null.");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        this.stream = stream;
+        this.bufferSize = bufferSize;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super BoxEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null.");
+        }
+        EventSubscription subscription = new EventSubscription(subscriber, this.executor);
+        this.stream.addListener(subscription);
+        subscription.start();
+    }
+
+    /**
+     * Subscription that buffers the events of the stream until they are requested.
+     */
+    private final class EventSubscription extends DemandSubscription<BoxEvent> implements EventListener {
+        private final Deque<BoxEvent> buffer = new ArrayDeque<>();
+
+        private EventSubscription(Subscriber<? super BoxEvent> subscriber, Executor executor) {
+            super(subscriber, executor);
+        }
+
+        @Override
+        public void onEvent(BoxEvent event) {
+            synchronized (this.buffer) {
+                while (this.buffer.size() >= EventStreamPublisher.this.bufferSize && !this.isCancelled()) {
+                    try {
+                        this.buffer.wait();
+                    } catch (InterruptedException e) {
+                        // the event stream is stopping, keep the interrupt for its polling loop
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (this.isCancelled()) {
+                    return;
+                }
+                this.buffer.addLast(event);
+            }
+            this.drain();
+        }
+
+        @Override
+        public void onNextPosition(long position) {
+            // positions are not published
+        }
+
+        @Override
+        public boolean onException(Throwable e) {
+            this.fail(e);
+            return false;
+        }
+
+        @Override
+        BoxEvent poll() {
+            synchronized (this.buffer) {
+                BoxEvent event = this.buffer.pollFirst();
+                this.buffer.notifyAll();
+                return event;
+            }
+        }
+
+        @Override
+        boolean isExhausted() {
+            return false;
+        }
+
+        @Override
+        void onCancel() {
+            synchronized (this.buffer) {
+                this.buffer.clear();
+                this.buffer.notifyAll();
+            }
+            EventStreamPublisher.this.stream.removeListener(this);
+        }
+    }
+}
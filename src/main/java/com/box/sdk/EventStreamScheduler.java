@@ -0,0 +1,136 @@
+package com.box.sdk;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls many {@link EventStream EventStreams} with a small, shared set of threads.
+ *
+ * <p>A stream started with {@link EventStream#start(EventStreamScheduler)} doesn't get a thread of its own. Its long
+ * polls wait on virtual threads when the JVM supports them (Java 21 and later) and on a shared pool of daemon threads
+ * otherwise. When a long poll reports a change, the events are fetched and passed to the listeners by a bounded pool
+ * of worker threads, and the delay before the next long poll is a scheduled task instead of a sleeping thread. Each
+ * stream polls one step at a time, so its events keep their order. A stream that fails is stopped and its error is
+ * passed to its own listeners, while the other streams keep polling.</p>
+ *
+ * <pre>
+ * EventStreamScheduler scheduler = new EventStreamScheduler(4);
+ * for (BoxAPIConnection userAPI : userAPIs) {
+ *     EventStream stream = new EventStream(userAPI);
+ *     stream.addListener(listener);
+ *     stream.start(scheduler);
+ * }
+ * </pre>
+ *
+ * <p>Listeners are called from the worker threads, so a listener that blocks holds up a worker for all streams.</p>
+ */
+public final class EventStreamScheduler implements AutoCloseable {
+    private static final int DEFAULT_WORKER_THREADS = 4;
+
+    private final ExecutorService longPollExecutor;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService timer;
+    private final Set<EventStream> streams = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param workerThreads number of threads fetching events and passing them to listeners.
+     */
+    public EventStreamScheduler(int workerThreads) {
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Number of worker threads must be positive.");
+        }
+        this.longPollExecutor = createLongPollExecutor();
+        this.workers = Executors.newFixedThreadPool(workerThreads, daemonThreads("Box event stream worker"));
+        this.timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("Box event stream timer"));
+    }
+
+    /**
+     * Creates a scheduler with a default number of worker threads.
+     */
+    public EventStreamScheduler() {
+        this(DEFAULT_WORKER_THREADS);
+    }
+
+    /**
+     * Gets the number of streams polled by this scheduler.
+     *
+     * @return the number of started streams.
+     */
+    public int getStreamCount() {
+        return this.streams.size();
+    }
+
+    /**
+     * Stops all streams polled by this scheduler and releases its threads. Streams can't be started with the scheduler
+     * afterwards.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        for (EventStream stream : this.streams) {
+            if (stream.isStarted()) {
+                try {
+                    stream.stop();
+                } catch (IllegalStateException e) {
+                    // The stream was stopped concurrently.
+                }
+            }
+        }
+        this.streams.clear();
+        this.longPollExecutor.shutdownNow();
+        this.workers.shutdownNow();
+        this.timer.shutdownNow();
+    }
+
+    void register(EventStream stream) {
+        if (this.closed) {
+            throw new IllegalStateException("Cannot start the EventStream because the scheduler is closed.");
+        }
+        this.streams.add(stream);
+    }
+
+    void unregister(EventStream stream) {
+        this.streams.remove(stream);
+    }
+
+    Future<?> submitLongPoll(Runnable task) {
+        return this.longPollExecutor.submit(task);
+    }
+
+    Future<?> submitWork(Runnable task) {
+        return this.workers.submit(task);
+    }
+
+    Future<?> schedule(Runnable task, long delayMillis) {
+        return this.timer.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static ExecutorService createLongPollExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(daemonThreads("Box event stream long poll"));
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String name) {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + " " + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Stores the checkpoint of an {@link EventStream} in a file.
+ *
+ * <p>The checkpoint is written to a temporary file next to the checkpoint file and flushed to the disk. The temporary
+ * file then atomically replaces the checkpoint file, so a crash while saving leaves the previous checkpoint intact.</p>
+ */
+public final class FileEventStreamCheckpointStore implements EventStreamCheckpointStore {
+    private final Path file;
+    private final Path temporaryFile;
+
+    /**
+     * Creates a store.
+     *
+     * @param file the checkpoint file. Its directory must exist.
+     */
+    public FileEventStreamCheckpointStore(Path file) {
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    @Override
+    public synchronized void save(EventStreamCheckpoint checkpoint) {
+        try {
+            ByteBuffer json = ByteBuffer.wrap(checkpoint.toJSON().getBytes(StandardCharsets.UTF_8));
+            try (FileChannel channel = FileChannel.open(this.temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (json.hasRemaining()) {
+                    channel.write(json);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't save the event stream checkpoint to " + this.file + ".", e);
+        }
+    }
+
+    @Override
+    public synchronized EventStreamCheckpoint load() {
+        try {
+            byte[] json = Files.readAllBytes(this.file);
+            return EventStreamCheckpoint.fromJSON(new String(json, StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't load the event stream checkpoint from " + this.file + ".", e);
+        }
+    }
+}
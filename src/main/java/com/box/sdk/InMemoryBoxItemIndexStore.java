@@ -0,0 +1,109 @@
+package com.box.sdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the entries of a {@link BoxItemIndex} in memory. The index is lost when the process ends.
+ */
+public final class InMemoryBoxItemIndexStore implements BoxItemIndexStore {
+    private final Map<String, BoxItemIndex.Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> childIDs = new ConcurrentHashMap<>();
+    private volatile String rootID;
+    private volatile long streamPosition = -1;
+
+    @Override
+    public BoxItemIndex.Entry get(String id) {
+        return this.entries.get(id);
+    }
+
+    @Override
+    public List<BoxItemIndex.Entry> getChildren(String parentID) {
+        List<BoxItemIndex.Entry> children = new ArrayList<>();
+        Set<String> ids = this.childIDs.get(parentID);
+        if (ids != null) {
+            for (String id : ids) {
+                BoxItemIndex.Entry child = this.entries.get(id);
+                if (child != null) {
+                    children.add(child);
+                }
+            }
+        }
+        return children;
+    }
+
+    @Override
+    public synchronized void put(BoxItemIndex.Entry entry) {
+        BoxItemIndex.Entry previous = this.entries.put(entry.getID(), entry);
+        if (previous != null) {
+            this.unlink(previous);
+        }
+        if (entry.getParentID() != null) {
+            this.childIDs.computeIfAbsent(entry.getParentID(), id -> ConcurrentHashMap.newKeySet()).add(entry.getID());
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        BoxItemIndex.Entry previous = this.entries.remove(id);
+        if (previous != null) {
+            this.unlink(previous);
+        }
+    }
+
+    private void unlink(BoxItemIndex.Entry entry) {
+        Set<String> siblings = entry.getParentID() == null ? null : this.childIDs.get(entry.getParentID());
+        if (siblings != null) {
+            siblings.remove(entry.getID());
+            if (siblings.isEmpty()) {
+                this.childIDs.remove(entry.getParentID());
+            }
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<BoxItemIndex.Entry> action) {
+        this.entries.values().forEach(action);
+    }
+
+    @Override
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.entries.clear();
+        this.childIDs.clear();
+        this.rootID = null;
+        this.streamPosition = -1;
+    }
+
+    @Override
+    public String getRootID() {
+        return this.rootID;
+    }
+
+    @Override
+    public void setRootID(String rootID) {
+        this.rootID = rootID;
+    }
+
+    @Override
+    public long getStreamPosition() {
+        return this.streamPosition;
+    }
+
+    @Override
+    public void setStreamPosition(long streamPosition) {
+        this.streamPosition = streamPosition;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,102 @@
+package com.box.sdk;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+/**
+ * Publishes the items of a listing, such as {@link BoxFolder#getChildren(String...)},
+ * {@link MetadataTemplate#executeMetadataQuery} or any other {@link BoxResourceIterable}, to a Reactive Streams
+ * {@link Subscriber}.
+ *
+ * <p>Every subscriber gets its own iteration of the listing. Items are taken from the listing only when the subscriber
+ * requests them, so a page is loaded only once the items of the previous page were requested and a slow subscriber
+ * never causes pages to pile up in memory. To load pages ahead of a fast subscriber, enable page prefetching with
+ * {@link BoxAPIConnection#setPagePrefetchDepth(int)}. Items are emitted from threads of an executor, which are used
+ * only while the subscriber has outstanding demand, so no thread is kept busy by a waiting subscriber.</p>
+ *
+ * <pre>
+ * Publisher&lt;BoxItem.Info&gt; children = new IterablePublisher&lt;&gt;(folder.getChildren("name", "size"));
+ * Flux.from(children).limitRate(100).subscribe(info -&gt; process(info));
+ * </pre>
+ *
+ * @param <T> type of the published items.
+ */
+public final class IterablePublisher<T> implements Publisher<T> {
+    private final Iterable<T> iterable;
+    private final Executor executor;
+
+    /**
+     * Creates a publisher that emits items from a shared pool of daemon threads.
+     *
+     * @param iterable the listing to publish.
+     */
+    public IterablePublisher(Iterable<T> iterable) {
+        this(iterable, DemandSubscription.DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * Creates a publisher that emits items from threads of the given executor.
+     *
+     * @param iterable the listing to publish.
+     * @param executor the executor used to load pages and emit items.
+     */
+    public IterablePublisher(Iterable<T> iterable, Executor executor) {
+        if (iterable == null || executor == null) {
+            throw new IllegalArgumentException("Iterable and executor cannot be null.");
+        }
+        this.iterable = iterable;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null.");
+        }
+        new IterableSubscription<>(subscriber, this.executor, this.iterable).start();
+    }
+
+    /**
+     * Subscription that iterates the listing as items are requested.
+     *
+     * @param <T> type of the published items.
+     */
+    private static final class IterableSubscription<T> extends DemandSubscription<T> {
+        private final Iterable<T> iterable;
+        private Iterator<T> iterator;
+        private boolean exhausted;
+
+        private IterableSubscription(Subscriber<? super T> subscriber, Executor executor, Iterable<T> iterable) {
+            super(subscriber, executor);
+            this.iterable = iterable;
+        }
+
+        @Override
+        T poll() {
+            if (this.iterator == null) {
+                this.iterator = this.iterable.iterator();
+            }
+            if (!this.iterator.hasNext()) {
+                this.exhausted = true;
+                return null;
+            }
+            T item = this.iterator.next();
+            if (item == null) {
+                throw new NullPointerException("The listing returned a null item.");
+            }
+            return item;
+        }
+
+        @Override
+        boolean isExhausted() {
+            return this.exhausted;
+        }
+
+        @Override
+        void onCancel() {
+            // the drain loop stops iterating once it sees the cancellation
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -8,6 +7,8 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 class JsonIterator {
     private final BoxAPIConnection api;
@@ -17,6 +18,15 @@ class JsonIterator {
     private Iterator<JsonValue> currentPage;
     private JsonObject nextJsonObject;
     private Filter<JsonObject> filter;
+    private PagePrefetcher prefetcher;
+    private boolean pageRequested;
+    private final Queue<PagingParameters> requestedPageStarts = new ConcurrentLinkedQueue<>();
+    private PagingParameters currentPageStart;
+    private int pageIndex;
+    private int skippedEntries;
+    private ListingCheckpointStore checkpointStore;
+    private int checkpointEveryPages;
+    private int loadedPages;
 
     JsonIterator(BoxAPIConnection api, URL url, PagingParameters pagingParameters) {
         this.api = api;
@@ -54,9 +64,91 @@ class JsonIterator {
         this.filter = filter;
     }
 
+    /**
+     * Skips entries of the first page, which were returned before the listing was checkpointed.
+     *
+     * @param skippedEntries the number of entries to skip.
+     */
+    void setSkippedEntries(int skippedEntries) {
+        this.skippedEntries = skippedEntries;
+    }
+
+    /**
+     * Saves a checkpoint to a store whenever a number of pages was loaded.
+     *
+     * @param checkpointStore      the store, or null to stop saving checkpoints.
+     * @param checkpointEveryPages the number of pages between checkpoints.
+     */
+    void setCheckpointStore(ListingCheckpointStore checkpointStore, int checkpointEveryPages) {
+        this.checkpointStore = checkpointStore;
+        this.checkpointEveryPages = checkpointEveryPages;
+    }
+
+    /**
+     * Gets the position of this iterator: the start of the current page and the number of its entries that were
+     * returned by {@link #next()}.
+     *
+     * @return the checkpoint.
+     */
+    ListingCheckpoint getCheckpoint() {
+        if (this.currentPageStart == null) {
+            return ListingCheckpoint.of(this.url, this.pagingParameters, this.skippedEntries);
+        }
+        int returnedEntries = this.nextJsonObject == null ? this.pageIndex : this.pageIndex - 1;
+        return ListingCheckpoint.of(this.url, this.currentPageStart, returnedEntries);
+    }
+
     private void loadNextPage() {
-        QueryStringBuilder builder = pagingParameters.asQueryStringBuilder();
+        if (this.prefetcher == null) {
+            this.prefetcher = PagePrefetcher.create(this.api, new PagePrefetcher.PageLoader() {
+                @Override
+                public JsonObject loadNextPage() {
+                    return JsonIterator.this.requestPage();
+                }
+
+                @Override
+                public boolean hasMorePages() {
+                    return !JsonIterator.this.pageRequested || JsonIterator.this.hasMorePages;
+                }
+            });
+        }
+
+        JsonObject responseObject;
+        if (this.prefetcher == null) {
+            responseObject = this.requestPage();
+        } else {
+            responseObject = this.prefetcher.take();
+            if (responseObject == null) {
+                this.currentPage = new JsonArray().iterator();
+                return;
+            }
+        }
+        JsonArray jsonArray = responseObject.get("entries").asArray();
+        this.currentPage = jsonArray.iterator();
+        this.currentPageStart = this.requestedPageStarts.poll();
+        this.pageIndex = 0;
+        while (this.pageIndex < this.skippedEntries && this.currentPage.hasNext()) {
+            this.currentPage.next();
+            this.pageIndex++;
+        }
+        this.skippedEntries = 0;
+
+        this.loadedPages++;
+        if (this.checkpointStore != null && this.loadedPages % this.checkpointEveryPages == 0) {
+            this.checkpointStore.save(this.getCheckpoint());
+        }
+    }
 
+    private JsonObject requestPage() {
+        PageSizePolicy policy = this.pagingParameters.getPageSizePolicy() != null
+            ? this.pagingParameters.getPageSizePolicy()
+            : this.api.getPageSizePolicy();
+        long limit = this.pagingParameters.getLimit();
+        if (policy != null) {
+            limit = policy.getLimit(this.url, limit, PagingParameters.maxLimit(this.url, limit));
+        }
+        this.requestedPageStarts.add(this.pagingParameters);
+        QueryStringBuilder builder = pagingParameters.asQueryStringBuilder(limit);
         URL url;
         try {
             url = builder.addToURL(this.url);
@@ -65,28 +157,36 @@ class JsonIterator {
         }
 
         BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
+        long start = System.currentTimeMillis();
         try (BoxJSONResponse response = request.send()) {
-            String json = response.getJSON();
-
-            JsonObject responseObject = Json.parse(json).asObject();
+            JsonObject responseObject = response.getJsonObject();
+            if (policy != null) {
+                JsonValue entries = responseObject.get("entries");
+                int entryCount = entries != null && entries.isArray() ? entries.asArray().size() : 0;
+                policy.onPageLoaded(this.url, limit, entryCount, response.getBodyLength(),
+                    System.currentTimeMillis() - start);
+            }
 
             if (pagingParameters.isMarkerBasedPaging()) {
                 continueAsMarkerBasedPaging(responseObject);
             } else {
-                continueAsOffsetBasedPaging(responseObject);
+                continueAsOffsetBasedPaging(responseObject, limit);
             }
-
-            JsonArray jsonArray = responseObject.get("entries").asArray();
-            this.currentPage = jsonArray.iterator();
+            this.pageRequested = true;
+            return responseObject;
         }
     }
 
-    private void continueAsOffsetBasedPaging(JsonObject response) {
+    private boolean morePagesToTake() {
+        return this.prefetcher == null ? this.hasMorePages : this.prefetcher.hasMorePages();
+    }
+
+    private void continueAsOffsetBasedPaging(JsonObject response, long limit) {
         try {
             long offset = response.get("offset").asLong();
             long totalCount = response.get("total_count").asLong();
-            hasMorePages = offset + pagingParameters.getLimit() < totalCount;
-            this.pagingParameters = pagingParameters.nextOffset(offset);
+            hasMorePages = offset + limit < totalCount;
+            this.pagingParameters = pagingParameters.nextOffset(offset, limit);
         } catch (NullPointerException e) {
             hasMorePages = false;
         }
@@ -103,15 +203,16 @@ class JsonIterator {
             this.loadNextPage();
         }
 
-        while (this.currentPage.hasNext() || this.hasMorePages) {
+        while (this.currentPage.hasNext() || this.morePagesToTake()) {
             while (this.currentPage.hasNext()) {
                 JsonObject jsonObject = this.currentPage.next().asObject();
+                this.pageIndex++;
                 if (this.filter == null || this.filter.shouldInclude(jsonObject)) {
                     return jsonObject;
                 }
             }
 
-            if (this.hasMorePages) {
+            if (this.morePagesToTake()) {
                 this.loadNextPage();
             }
         }
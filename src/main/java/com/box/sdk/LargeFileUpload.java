@@ -1,7 +1,6 @@
 package com.box.sdk;
 
 import com.box.sdk.http.HttpMethod;
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.io.IOException;
 import java.io.InputStream;
@@ -90,7 +89,7 @@ public final class LargeFileUpload {
         request.setBody(body.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             String sessionId = jsonObject.get("id").asString();
             BoxFileUploadSession session = new BoxFileUploadSession(boxApi, sessionId);
@@ -214,7 +213,7 @@ public final class LargeFileUpload {
         request.setBody(body.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
+            JsonObject jsonObject = response.getJsonObject();
 
             String sessionId = jsonObject.get("id").asString();
             BoxFileUploadSession session = new BoxFileUploadSession(boxApi, sessionId);
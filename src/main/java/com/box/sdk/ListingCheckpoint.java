@@ -0,0 +1,270 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The position of a paged listing, from which the listing can be resumed later, for example after a crash.
+ *
+ * <p>A checkpoint holds the URL of the listing with its query, the body of listings requested with POST such as
+ * metadata queries, the marker or offset of the current page and the number of entries of the page that were already
+ * returned. It can be saved as a short token with {@link #toToken()} and restored with {@link #fromToken(String)}.
+ * Resume a listing with {@link ResumableIterable#resume(BoxAPIConnection, ListingCheckpoint, Class)}. A listing is
+ * only resumed if the URL of its checkpoint has the same origin as the base URL of the API connection, so a token
+ * that was tampered with can't send the access token of the connection to another host.</p>
+ *
+ * <p>Checkpoints of offset paged listings are exact only as long as no items are added or removed before the
+ * position. Markers are stable across such changes.</p>
+ */
+public final class ListingCheckpoint {
+    private static final int VERSION = 1;
+
+    private final URL url;
+    private final JsonObject body;
+    private final Paging paging;
+    private final String marker;
+    private final long offset;
+    private final long limit;
+    private final int skip;
+
+    private ListingCheckpoint(URL url, JsonObject body, Paging paging, String marker, long offset, long limit,
+                              int skip) {
+        this.url = url;
+        this.body = body;
+        this.paging = paging;
+        this.marker = marker;
+        this.offset = offset;
+        this.limit = limit;
+        this.skip = skip;
+    }
+
+    /**
+     * Creates the checkpoint of a listing paged with {@link PagingParameters}.
+     *
+     * @param url              the URL of the listing, without paging parameters.
+     * @param pagingParameters the paging parameters of the current page.
+     * @param skip             the number of entries of the current page that were already returned.
+     * @return the checkpoint.
+     */
+    static ListingCheckpoint of(URL url, PagingParameters pagingParameters, int skip) {
+        if (pagingParameters.isMarkerBasedPaging()) {
+            return new ListingCheckpoint(url, null, Paging.USE_MARKER, pagingParameters.getMarker(), 0,
+                pagingParameters.getLimit(), skip);
+        }
+        return new ListingCheckpoint(url, null, Paging.OFFSET, null, pagingParameters.getOffset(),
+            pagingParameters.getLimit(), skip);
+    }
+
+    /**
+     * Creates the checkpoint of a {@link BoxResourceIterable}, which sends the marker as query parameter or in the
+     * body.
+     *
+     * @param url    the URL of the listing, without paging parameters.
+     * @param body   the body of the request, or null for listings requested with GET.
+     * @param marker the marker of the current page, or null for the first page.
+     * @param limit  the maximum number of entries per page.
+     * @param skip   the number of entries of the current page that were already returned.
+     * @return the checkpoint.
+     */
+    static ListingCheckpoint ofMarker(URL url, JsonObject body, String marker, long limit, int skip) {
+        JsonObject bodyWithoutMarker = null;
+        if (body != null) {
+            bodyWithoutMarker = new JsonObject(body);
+            bodyWithoutMarker.remove(BoxResourceIterable.PARAMETER_MARKER);
+        }
+        return new ListingCheckpoint(url, bodyWithoutMarker, Paging.MARKER, marker, 0, limit, skip);
+    }
+
+    /**
+     * Creates a checkpoint at the same page as this one, after the given number of entries of the page.
+     *
+     * @param skip the number of entries of the page that were already returned.
+     * @return the checkpoint.
+     */
+    ListingCheckpoint withSkippedEntries(int skip) {
+        return new ListingCheckpoint(this.url, this.body, this.paging, this.marker, this.offset, this.limit, skip);
+    }
+
+    /**
+     * Restores a checkpoint from a token created with {@link #toToken()}.
+     *
+     * @param token the token.
+     * @return the checkpoint.
+     * @throws IllegalArgumentException if the token isn't a valid checkpoint token.
+     */
+    public static ListingCheckpoint fromToken(String token) {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            JsonObject jsonObject = Json.parse(json).asObject();
+            if (jsonObject.getInt("v", 0) != VERSION) {
+                throw new IllegalArgumentException("Unsupported listing checkpoint version.");
+            }
+            JsonValue body = jsonObject.get("body");
+            return new ListingCheckpoint(
+                new URL(jsonObject.get("url").asString()),
+                body == null || body.isNull() ? null : body.asObject(),
+                Paging.valueOf(jsonObject.get("paging").asString()),
+                jsonObject.getString("marker", null),
+                jsonObject.getLong("offset", 0),
+                jsonObject.get("limit").asLong(),
+                jsonObject.getInt("skip", 0)
+            );
+        } catch (MalformedURLException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid listing checkpoint token.", e);
+        }
+    }
+
+    /**
+     * Converts this checkpoint to a URL safe token that can be saved and later passed to {@link #fromToken(String)}.
+     *
+     * @return the token.
+     */
+    public String toToken() {
+        JsonObject jsonObject = new JsonObject()
+            .add("v", VERSION)
+            .add("url", this.url.toString())
+            .add("paging", this.paging.name())
+            .add("limit", this.limit);
+        if (this.body != null) {
+            jsonObject.add("body", this.body);
+        }
+        if (this.marker != null) {
+            jsonObject.add("marker", this.marker);
+        }
+        if (this.paging == Paging.OFFSET) {
+            jsonObject.add("offset", this.offset);
+        }
+        if (this.skip != 0) {
+            jsonObject.add("skip", this.skip);
+        }
+        byte[] json = jsonObject.toString().getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    /**
+     * Gets the URL of the listing, without paging parameters.
+     *
+     * @return the URL of the listing.
+     */
+    public URL getURL() {
+        return this.url;
+    }
+
+    /**
+     * Gets the URL of the listing after checking that it has the same scheme, host and port as the base URL of the
+     * given API connection.
+     *
+     * @param api the API connection that will request the listing.
+     * @return the URL of the listing.
+     * @throws IllegalArgumentException if the URL of the listing has another origin than the base URL.
+     */
+    URL getURL(BoxAPIConnection api) {
+        URL baseURL;
+        try {
+            baseURL = new URL(api.getBaseURL());
+        } catch (MalformedURLException e) {
+            throw new BoxAPIException(e.getMessage());
+        }
+        if (!this.url.getProtocol().equalsIgnoreCase(baseURL.getProtocol())
+            || !this.url.getHost().equalsIgnoreCase(baseURL.getHost())
+            || port(this.url) != port(baseURL)) {
+            throw new IllegalArgumentException("The URL of the listing checkpoint doesn't match the base URL of the "
+                + "API connection.");
+        }
+        return this.url;
+    }
+
+    private static int port(URL url) {
+        return url.getPort() == -1 ? url.getDefaultPort() : url.getPort();
+    }
+
+    /**
+     * Gets the marker of the page the listing resumes at.
+     *
+     * @return the marker, or null if the listing resumes at its first page or uses offset based pagination.
+     */
+    public String getMarker() {
+        return this.marker;
+    }
+
+    /**
+     * Gets the offset of the page the listing resumes at.
+     *
+     * @return the offset, or 0 if the listing uses marker based pagination.
+     */
+    public long getOffset() {
+        return this.offset;
+    }
+
+    /**
+     * Gets the number of entries of the page the listing resumes at that were already returned before the checkpoint.
+     * These entries are skipped when the listing is resumed.
+     *
+     * @return the number of skipped entries.
+     */
+    public int getSkippedEntries() {
+        return this.skip;
+    }
+
+    @Override
+    public String toString() {
+        return this.toToken();
+    }
+
+    /**
+     * Checks whether the listing is paged with {@link PagingParameters}, as opposed to a {@link BoxResourceIterable}.
+     *
+     * @return true if {@link #toPagingParameters()} can be used.
+     */
+    boolean usesPagingParameters() {
+        return this.paging != Paging.MARKER;
+    }
+
+    /**
+     * Gets the paging parameters of the page the listing resumes at.
+     *
+     * @return the paging parameters.
+     */
+    PagingParameters toPagingParameters() {
+        if (this.paging == Paging.OFFSET) {
+            return PagingParameters.offset(this.offset, this.limit);
+        }
+        return PagingParameters.marker(this.limit).nextMarker(this.marker);
+    }
+
+    /**
+     * Gets a copy of the body of the listing request.
+     *
+     * @return the body, or null for listings requested with GET.
+     */
+    JsonObject getBody() {
+        return this.body == null ? null : new JsonObject(this.body);
+    }
+
+    long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * How the listing is paged.
+     */
+    private enum Paging {
+        /**
+         * Offset paging with {@link PagingParameters}.
+         */
+        OFFSET,
+        /**
+         * Marker paging with {@link PagingParameters}, which asks for markers with <code>usemarker</code>.
+         */
+        USE_MARKER,
+        /**
+         * Marker paging of a {@link BoxResourceIterable}.
+         */
+        MARKER
+    }
+}
@@ -0,0 +1,24 @@
+package com.box.sdk;
+
+/**
+ * Stores the checkpoints of a long-running listing, so that the listing can be resumed from the last checkpoint after
+ * a crash. Listings save a checkpoint every few pages when a store is set with
+ * {@link ResumableIterable#checkpointTo(ListingCheckpointStore, int)} or
+ * {@link BoxResourceIterable#checkpointTo(ListingCheckpointStore, int)}.
+ */
+public interface ListingCheckpointStore {
+
+    /**
+     * Saves a checkpoint, replacing the previously saved one. Called from the thread iterating over the listing.
+     *
+     * @param checkpoint the checkpoint.
+     */
+    void save(ListingCheckpoint checkpoint);
+
+    /**
+     * Loads the last saved checkpoint.
+     *
+     * @return the checkpoint, or null if no checkpoint was saved.
+     */
+    ListingCheckpoint load();
+}
@@ -0,0 +1,519 @@
+package com.box.sdk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the entries of a {@link BoxItemIndex} in a memory-mapped file, so that an index survives restarts and can
+ * resume from its stream position.
+ *
+ * <p>Changes are appended to the file as records, which makes updates cheap and lets the operating system write them
+ * back in the background. Only the IDs of the items and the offsets of their records are kept on the heap; entries are
+ * read from the mapped file when they are looked up. Every record carries a checksum, so after a crash the file is read
+ * up to the first record that wasn't written completely. When replaced and removed entries take more space than the
+ * live ones, the live entries are copied to a new file which atomically replaces the old one. If that fails, the store
+ * reopens the old file and keeps using it. The file can't grow beyond 2 GB.</p>
+ *
+ * <p>{@link #setStreamPosition(long)} and {@link #close()} force the changes to the disk, so a saved stream position
+ * never gets ahead of the entries.</p>
+ */
+public final class MappedFileBoxItemIndexStore implements BoxItemIndexStore {
+    private static final int MAGIC = 0x42584958;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int INITIAL_SIZE = 1 << 20;
+    private static final int MIN_COMPACTION_SIZE = 1 << 20;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte STATE = 3;
+    private static final byte CLEAR = 4;
+    private static final long NO_DATE = Long.MIN_VALUE;
+
+    private final Path file;
+    private final Path temporaryFile;
+    private final Map<String, Integer> offsets = new HashMap<>();
+    private final Map<String, Set<String>> childIDs = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int end;
+    private long liveBytes;
+    private String rootID;
+    private long streamPosition = -1;
+
+    /**
+     * Opens a store, reading the entries saved in the file, or creating the file if it doesn't exist.
+     *
+     * @param file the index file. Its directory must exist.
+     */
+    public MappedFileBoxItemIndexStore(Path file) {
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            this.open();
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't open the item index " + this.file + ".", e);
+        }
+    }
+
+    @Override
+    public synchronized BoxItemIndex.Entry get(String id) {
+        Integer offset = this.offsets.get(id);
+        return offset == null ? null : this.readEntry(offset);
+    }
+
+    @Override
+    public synchronized List<BoxItemIndex.Entry> getChildren(String parentID) {
+        List<BoxItemIndex.Entry> children = new ArrayList<>();
+        Set<String> ids = this.childIDs.get(parentID);
+        if (ids != null) {
+            for (String id : ids) {
+                children.add(this.readEntry(this.offsets.get(id)));
+            }
+        }
+        return children;
+    }
+
+    @Override
+    public synchronized void put(BoxItemIndex.Entry entry) {
+        byte[] payload = encode(entry);
+        this.reserve(payload);
+        this.unindex(entry.getID());
+        int offset = this.write(PUT, payload);
+        this.index(entry, offset);
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        if (this.offsets.containsKey(id)) {
+            byte[] payload = encode(id);
+            this.reserve(payload);
+            this.unindex(id);
+            this.write(REMOVE, payload);
+        }
+    }
+
+    @Override
+    public synchronized void forEach(Consumer<BoxItemIndex.Entry> action) {
+        // The action may change the store, which moves the records when the file is compacted.
+        for (String id : new ArrayList<>(this.offsets.keySet())) {
+            Integer offset = this.offsets.get(id);
+            if (offset != null) {
+                action.accept(this.readEntry(offset));
+            }
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return this.offsets.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        byte[] payload = new byte[0];
+        this.reserve(payload);
+        this.offsets.clear();
+        this.childIDs.clear();
+        this.liveBytes = 0;
+        this.rootID = null;
+        this.streamPosition = -1;
+        this.write(CLEAR, payload);
+    }
+
+    @Override
+    public synchronized String getRootID() {
+        return this.rootID;
+    }
+
+    @Override
+    public synchronized void setRootID(String rootID) {
+        byte[] payload = encode(rootID, this.streamPosition);
+        this.reserve(payload);
+        this.rootID = rootID;
+        this.write(STATE, payload);
+    }
+
+    @Override
+    public synchronized long getStreamPosition() {
+        return this.streamPosition;
+    }
+
+    @Override
+    public synchronized void setStreamPosition(long streamPosition) {
+        byte[] payload = encode(this.rootID, streamPosition);
+        this.reserve(payload);
+        this.streamPosition = streamPosition;
+        this.write(STATE, payload);
+        this.buffer.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            this.buffer.force();
+            this.unmap();
+            this.channel.close();
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't close the item index " + this.file + ".", e);
+        } finally {
+            this.channel = null;
+            this.buffer = null;
+        }
+    }
+
+    private void open() throws IOException {
+        this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        boolean isNew = this.channel.size() == 0;
+        this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0,
+            Math.max(this.channel.size(), INITIAL_SIZE));
+        if (isNew) {
+            this.buffer.putInt(0, MAGIC);
+            this.buffer.putInt(4, VERSION);
+        } else if (this.buffer.getInt(0) != MAGIC || this.buffer.getInt(4) != VERSION) {
+            this.unmap();
+            this.channel.close();
+            this.channel = null;
+            throw new BoxAPIException("The file " + this.file + " is not an item index.");
+        }
+        this.replay();
+    }
+
+    private void replay() {
+        this.end = HEADER_SIZE;
+        while (this.end + RECORD_HEADER_SIZE <= this.buffer.capacity()) {
+            int length = this.buffer.getInt(this.end);
+            if (length <= 0 || this.end + RECORD_HEADER_SIZE + length > this.buffer.capacity()) {
+                break;
+            }
+            ByteBuffer record = this.record(this.end);
+            if (checksum(record.duplicate()) != this.buffer.getInt(this.end + 4)) {
+                // The record was torn by a crash, so neither it nor anything after it was completely written.
+                break;
+            }
+            byte kind = record.get();
+            if (kind == PUT) {
+                BoxItemIndex.Entry entry = decodeEntry(record);
+                this.unindex(entry.getID());
+                this.index(entry, this.end);
+            } else if (kind == REMOVE) {
+                this.unindex(decodeString(record));
+            } else if (kind == STATE) {
+                this.rootID = decodeString(record);
+                this.streamPosition = record.getLong();
+            } else if (kind == CLEAR) {
+                this.offsets.clear();
+                this.childIDs.clear();
+                this.liveBytes = 0;
+                this.rootID = null;
+                this.streamPosition = -1;
+            }
+            this.end += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    private void index(BoxItemIndex.Entry entry, int offset) {
+        this.offsets.put(entry.getID(), offset);
+        if (entry.getParentID() != null) {
+            this.childIDs.computeIfAbsent(entry.getParentID(), id -> new HashSet<>()).add(entry.getID());
+        }
+        this.liveBytes += RECORD_HEADER_SIZE + this.buffer.getInt(offset);
+    }
+
+    private void unindex(String id) {
+        Integer offset = this.offsets.remove(id);
+        if (offset == null) {
+            return;
+        }
+        this.liveBytes -= RECORD_HEADER_SIZE + this.buffer.getInt(offset);
+        String parentID = this.readEntry(offset).getParentID();
+        Set<String> siblings = parentID == null ? null : this.childIDs.get(parentID);
+        if (siblings != null) {
+            siblings.remove(id);
+            if (siblings.isEmpty()) {
+                this.childIDs.remove(parentID);
+            }
+        }
+    }
+
+    private BoxItemIndex.Entry readEntry(int offset) {
+        ByteBuffer record = this.record(offset);
+        record.get();
+        return decodeEntry(record);
+    }
+
+    private ByteBuffer record(int offset) {
+        ByteBuffer record = this.buffer.duplicate();
+        record.position(offset + RECORD_HEADER_SIZE);
+        record.limit(offset + RECORD_HEADER_SIZE + this.buffer.getInt(offset));
+        return record;
+    }
+
+    /**
+     * Makes room for a record, compacting the file first when it holds mostly garbage. Called before the entries on
+     * the heap are changed, so they still match the file when this fails.
+     */
+    private void reserve(byte[] payload) {
+        if (this.channel == null) {
+            throw new IllegalStateException("The item index " + this.file + " is closed.");
+        }
+        try {
+            if (this.end - HEADER_SIZE > MIN_COMPACTION_SIZE && this.end - HEADER_SIZE > 2 * this.liveBytes) {
+                this.compact();
+            }
+            this.ensureCapacity(this.end + RECORD_HEADER_SIZE + 1 + payload.length + RECORD_HEADER_SIZE);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't write to the item index " + this.file + ".", e);
+        }
+    }
+
+    private int write(byte kind, byte[] payload) {
+        int length = 1 + payload.length;
+        int offset = this.end;
+        ByteBuffer record = this.buffer.duplicate();
+        record.position(offset + RECORD_HEADER_SIZE);
+        record.put(kind);
+        record.put(payload);
+        record.flip();
+        record.position(offset + RECORD_HEADER_SIZE);
+        this.buffer.putInt(offset, length);
+        this.buffer.putInt(offset + 4, checksum(record));
+        this.end += RECORD_HEADER_SIZE + length;
+        return offset;
+    }
+
+    private void ensureCapacity(long capacity) throws IOException {
+        if (capacity <= this.buffer.capacity()) {
+            return;
+        }
+        long newCapacity = Math.max(capacity, 2L * this.buffer.capacity());
+        if (newCapacity > Integer.MAX_VALUE) {
+            throw new BoxAPIException("The item index " + this.file + " can't grow beyond 2 GB.");
+        }
+        MappedByteBuffer grown = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, newCapacity);
+        this.unmap();
+        this.buffer = grown;
+    }
+
+    private void compact() throws IOException {
+        try (FileChannel compacted = FileChannel.open(this.temporaryFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            writeFully(compacted, header);
+            for (int offset : this.offsets.values()) {
+                ByteBuffer record = this.buffer.duplicate();
+                record.position(offset);
+                record.limit(offset + RECORD_HEADER_SIZE + this.buffer.getInt(offset));
+                writeFully(compacted, record);
+            }
+            byte[] state = encode(this.rootID, this.streamPosition);
+            ByteBuffer stateRecord = ByteBuffer.allocate(RECORD_HEADER_SIZE + 1 + state.length);
+            stateRecord.putInt(1 + state.length).putInt(0).put(STATE).put(state).flip();
+            stateRecord.position(RECORD_HEADER_SIZE);
+            stateRecord.putInt(4, checksum(stateRecord));
+            stateRecord.position(0);
+            writeFully(compacted, stateRecord);
+            compacted.force(true);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(this.temporaryFile);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+
+        // The old file has to be unmapped before it can be replaced on Windows.
+        try {
+            this.buffer.force();
+            this.unmap();
+            this.channel.close();
+            try {
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(this.temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // The old file is complete, so the store goes on with it.
+            this.reopen(e);
+            throw e;
+        }
+        this.reopen(null);
+    }
+
+    /**
+     * Reads the file again after it was closed for compaction. The store is closed if the file can't be opened.
+     *
+     * @param failure the error that stopped the compaction, or null.
+     */
+    private void reopen(IOException failure) throws IOException {
+        if (failure != null) {
+            this.unmap();
+            try {
+                this.channel.close();
+                Files.deleteIfExists(this.temporaryFile);
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+        this.channel = null;
+        this.offsets.clear();
+        this.childIDs.clear();
+        this.liveBytes = 0;
+        try {
+            this.open();
+        } catch (IOException | RuntimeException e) {
+            if (this.channel != null) {
+                this.channel.close();
+                this.channel = null;
+            }
+            if (failure == null) {
+                throw e;
+            }
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Releases the mapping of the file right away instead of when the buffer is garbage collected. The buffer must not
+     * be used afterwards.
+     */
+    private void unmap() {
+        MappedByteBuffer mapped = this.buffer;
+        this.buffer = null;
+        if (mapped == null) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            try {
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                invokeCleaner.invoke(theUnsafe.get(null), mapped);
+            } catch (NoSuchMethodException e) {
+                // Java 8 unmaps through the cleaner of the buffer.
+                Method cleanerMethod = mapped.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(mapped);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // The mapping is released when the buffer is garbage collected.
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encode(BoxItemIndex.Entry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, entry.getID());
+            writeString(out, entry.getType());
+            writeString(out, entry.getParentID());
+            writeString(out, entry.getName());
+            writeString(out, entry.getEtag());
+            writeString(out, entry.getSequenceID());
+            writeString(out, entry.getSha1());
+            out.writeLong(entry.getSize());
+            out.writeLong(entry.getModifiedAt() == null ? NO_DATE : entry.getModifiedAt().getTime());
+            out.writeBoolean(entry.isComplete());
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't encode the entry of item " + entry.getID() + ".", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encode(String id) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, id);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't encode the ID " + id + ".", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encode(String rootID, long streamPosition) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, rootID);
+            out.writeLong(streamPosition);
+        } catch (IOException e) {
+            throw new BoxAPIException("Couldn't encode the state of the item index.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static BoxItemIndex.Entry decodeEntry(ByteBuffer record) {
+        String id = decodeString(record);
+        String type = decodeString(record);
+        String parentID = decodeString(record);
+        String name = decodeString(record);
+        String etag = decodeString(record);
+        String sequenceID = decodeString(record);
+        String sha1 = decodeString(record);
+        long size = record.getLong();
+        long modifiedAt = record.getLong();
+        boolean complete = record.get() != 0;
+        return new BoxItemIndex.Entry(id, type, parentID, name, etag, sequenceID, sha1, size,
+            modifiedAt == NO_DATE ? null : new Date(modifiedAt), complete);
+    }
+
+    private static String decodeString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,5 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -200,7 +199,7 @@ public class MetadataTemplate extends BoxJSONObject {
         request.setBody(jsonObject.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJSON = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJSON = response.getJsonObject();
 
             return new MetadataTemplate(responseJSON);
         }
@@ -267,7 +266,7 @@ public class MetadataTemplate extends BoxJSONObject {
         request.setBody(array.toString());
 
         try (BoxJSONResponse response = request.send()) {
-            JsonObject responseJson = Json.parse(response.getJSON()).asObject();
+            JsonObject responseJson = response.getJsonObject();
 
             return new MetadataTemplate(responseJson);
         }
@@ -297,10 +296,27 @@ public class MetadataTemplate extends BoxJSONObject {
         final BoxAPIConnection api,
         final MetadataQuery queryBody
     ) {
+        return executeMetadataQuery(api, queryBody, null);
+    }
+
+    /**
+     * Executes a metadata query.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            The API connection to be used
+     * @param queryBody      The query
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit of the query.
+     * @return An iterable of BoxItem.Info search results
+     */
+    public static BoxResourceIterable<BoxItem.Info> executeMetadataQuery(
+        final BoxAPIConnection api,
+        final MetadataQuery queryBody,
+        PageSizePolicy pageSizePolicy
+    ) {
 
         URL url = METADATA_QUERIES_URL_TEMPLATE.build(api.getBaseURL());
         return new BoxResourceIterable<BoxItem.Info>(
-            api, url, queryBody.getLimit(), queryBody.toJsonObject(), queryBody.getMarker()
+            api, url, queryBody.getLimit(), queryBody.toJsonObject(), queryBody.getMarker(), pageSizePolicy
         ) {
 
             @Override
@@ -332,6 +348,53 @@ public class MetadataTemplate extends BoxJSONObject {
         };
     }
 
+    /**
+     * Executes a metadata query and returns compact projections of the results. Only the fields held by
+     * {@link BoxItemProjection} are requested, the fields of the query are ignored.
+     *
+     * @param api       The API connection to be used
+     * @param queryBody The query
+     * @return An iterable of projections of the search results
+     */
+    public static BoxResourceIterable<BoxItemProjection> executeMetadataQueryProjections(
+        final BoxAPIConnection api,
+        final MetadataQuery queryBody
+    ) {
+        return executeMetadataQueryProjections(api, queryBody, null);
+    }
+
+    /**
+     * Executes a metadata query and returns compact projections of the results. Only the fields held by
+     * {@link BoxItemProjection} are requested, the fields of the query are ignored.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param api            The API connection to be used
+     * @param queryBody      The query
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit of the query.
+     * @return An iterable of projections of the search results
+     */
+    public static BoxResourceIterable<BoxItemProjection> executeMetadataQueryProjections(
+        final BoxAPIConnection api,
+        final MetadataQuery queryBody,
+        PageSizePolicy pageSizePolicy
+    ) {
+        JsonArray fields = new JsonArray();
+        for (String field : BoxItemProjection.FIELDS) {
+            fields.add(field);
+        }
+        JsonObject body = queryBody.toJsonObject().set(MetadataQuery.FIELDS, fields);
+
+        URL url = METADATA_QUERIES_URL_TEMPLATE.build(api.getBaseURL());
+        return new BoxResourceIterable<BoxItemProjection>(
+            api, url, queryBody.getLimit(), body, queryBody.getMarker(), pageSizePolicy) {
+
+            @Override
+            protected BoxItemProjection factory(JsonObject jsonObject) {
+                return BoxItemProjection.fromJSON(jsonObject);
+            }
+        };
+    }
+
     /**
      * Gets the JsonObject representation of the Field Operation.
      *
@@ -481,7 +544,7 @@ public class MetadataTemplate extends BoxJSONObject {
             api.getBaseURL(), builder.toString(), scope, templateName);
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new MetadataTemplate(response.getJSON());
+            return new MetadataTemplate(response.getJsonObject());
         }
     }
 
@@ -497,7 +560,7 @@ public class MetadataTemplate extends BoxJSONObject {
         URL url = METADATA_TEMPLATE_BY_ID_URL_TEMPLATE.buildAlpha(api.getBaseURL(), templateID);
         BoxJSONRequest request = new BoxJSONRequest(api, url, "GET");
         try (BoxJSONResponse response = request.send()) {
-            return new MetadataTemplate(response.getJSON());
+            return new MetadataTemplate(response.getJsonObject());
         }
     }
 
@@ -537,13 +600,29 @@ public class MetadataTemplate extends BoxJSONObject {
      */
     public static Iterable<MetadataTemplate> getEnterpriseMetadataTemplates(
         String scope, int limit, BoxAPIConnection api, String... fields) {
+        return getEnterpriseMetadataTemplates(scope, limit, api, null, fields);
+    }
+
+    /**
+     * Returns all metadata templates within a user's scope. Currently only the enterprise scope is supported.
+     * Pages are sized by the given policy instead of the one of the API connection.
+     *
+     * @param scope          the scope of the metadata templates.
+     * @param limit          maximum number of entries per response.
+     * @param api            the API connection to be used.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @param fields         the fields to retrieve.
+     * @return the metadata template returned from the server.
+     */
+    public static Iterable<MetadataTemplate> getEnterpriseMetadataTemplates(
+        String scope, int limit, BoxAPIConnection api, PageSizePolicy pageSizePolicy, String... fields) {
         QueryStringBuilder builder = new QueryStringBuilder();
         if (fields.length > 0) {
             builder.appendParam("fields", fields);
         }
         return new BoxResourceIterable<MetadataTemplate>(
             api, ENTERPRISE_METADATA_URL_TEMPLATE.buildAlphaWithQuery(
-            api.getBaseURL(), builder.toString(), scope), limit) {
+            api.getBaseURL(), builder.toString(), scope), limit, null, null, pageSizePolicy) {
 
             @Override
             protected MetadataTemplate factory(JsonObject jsonObject) {
@@ -0,0 +1,141 @@
+package com.box.sdk;
+
+import static com.box.sdk.PagingParameters.MAXIMUM_ALLOWED_OFFSET;
+import static com.box.sdk.PagingParameters.offset;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over an offset paged listing.
+ *
+ * <p>The first page tells the <code>total_count</code> of the listing. From then on the spliterator can be split into
+ * windows of whole pages which are loaded independently, so a parallel stream loads the windows concurrently. Each
+ * window loads its pages one after another. The spliterator is ordered, so the encounter order of the listing is kept
+ * when the stream is consumed in order.</p>
+ *
+ * <p>Pages can't start above {@link PagingParameters#MAXIMUM_ALLOWED_OFFSET}, so the stream ends with the page at that
+ * offset when the listing is longer.</p>
+ *
+ * @param <T> type of the listed entities.
+ */
+final class OffsetPageSpliterator<T> implements Spliterator<T> {
+    private final BoxAPIConnection api;
+    private final URL url;
+    private final long limit;
+    private final Filter<JsonObject> filter;
+    private final Function<JsonObject, T> factory;
+    private long offset;
+    private long end;
+    private Iterator<JsonValue> page;
+
+    private OffsetPageSpliterator(BoxAPIConnection api, URL url, long limit, Filter<JsonObject> filter,
+                                  Function<JsonObject, T> factory, long offset, long end, Iterator<JsonValue> page) {
+        this.api = api;
+        this.url = url;
+        this.limit = limit;
+        this.filter = filter;
+        this.factory = factory;
+        this.offset = offset;
+        this.end = end;
+        this.page = page;
+    }
+
+    /**
+     * Creates a sequential stream over an offset paged listing. Call {@link Stream#parallel()} to load the pages
+     * concurrently.
+     *
+     * @param api     the API connection to be used.
+     * @param url     the URL of the listing, without paging parameters.
+     * @param limit   the number of entries in a page.
+     * @param filter  filter for the entries, can be null.
+     * @param factory creates an entity for an entry of the listing.
+     * @param <T>     type of the listed entities.
+     * @return the stream.
+     */
+    static <T> Stream<T> stream(BoxAPIConnection api, URL url, long limit, Filter<JsonObject> filter,
+                                Function<JsonObject, T> factory) {
+        return StreamSupport.stream(new OffsetPageSpliterator<>(api, url, limit, filter, factory, 0, -1, null), false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            if (this.page != null && this.page.hasNext()) {
+                JsonObject entry = this.page.next().asObject();
+                if (this.filter == null || this.filter.shouldInclude(entry)) {
+                    action.accept(this.factory.apply(entry));
+                    return true;
+                }
+            } else if (this.end >= 0 && this.offset >= this.end) {
+                return false;
+            } else {
+                this.loadPage();
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (this.end < 0) {
+            this.loadPage();
+        }
+        long remainingPages = (this.end - this.offset + this.limit - 1) / this.limit;
+        if (remainingPages < 2) {
+            return null;
+        }
+        long middle = this.offset + remainingPages / 2 * this.limit;
+        OffsetPageSpliterator<T> prefix = new OffsetPageSpliterator<>(
+            this.api, this.url, this.limit, this.filter, this.factory, this.offset, middle, this.page
+        );
+        this.offset = middle;
+        this.page = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (this.end < 0) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(this.end - this.offset, 0) + (this.page != null && this.page.hasNext() ? this.limit : 0);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private void loadPage() {
+        URL pageURL;
+        try {
+            pageURL = offset(this.offset, this.limit).asQueryStringBuilder().addToURL(this.url);
+        } catch (MalformedURLException e) {
+            throw new BoxAPIException("Couldn't append a query string to the provided URL.");
+        }
+
+        BoxJSONRequest request = new BoxJSONRequest(this.api, pageURL, "GET");
+        try (BoxJSONResponse response = request.send()) {
+            JsonObject responseObject = response.getJsonObject();
+            if (this.end < 0) {
+                // entries past the page at the maximum offset can't be loaded with offset paging
+                this.end = Math.min(responseObject.getLong("total_count", 0), MAXIMUM_ALLOWED_OFFSET + 1L);
+            }
+            this.page = responseObject.get("entries").asArray().iterator();
+            if (this.page.hasNext()) {
+                this.offset += this.limit;
+            } else {
+                // the listing got shorter since it was split, there is nothing more to load in this window
+                this.offset = this.end;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads the pages of a paged listing in the background, ahead of the iterator consuming them.
+ *
+ * <p>Pages are loaded one after another, as each request needs the marker or offset returned with the previous page.
+ * As soon as a page arrives the next one is requested, until the configured number of pages is waiting to be
+ * consumed or the entries of the waiting pages reach the configured memory bound. Loading resumes when the iterator
+ * takes a page. No thread is kept waiting, so an iterator that is abandoned before its end doesn't leak threads.</p>
+ */
+final class PagePrefetcher {
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "Box page prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PageLoader loader;
+    private final int depth;
+    private final int maxBufferedEntries;
+    private final Deque<JsonObject> pages = new ArrayDeque<>();
+    private int bufferedEntries;
+    private int lastPageSize;
+    private boolean loading;
+    private boolean exhausted;
+    private RuntimeException failure;
+
+    /**
+     * Creates a prefetcher and starts loading the first page.
+     *
+     * @param loader             loads the pages of the listing.
+     * @param depth              the maximum number of pages loaded ahead.
+     * @param maxBufferedEntries the maximum number of entries in pages loaded ahead.
+     */
+    PagePrefetcher(PageLoader loader, int depth, int maxBufferedEntries) {
+        this.loader = loader;
+        this.depth = depth;
+        this.maxBufferedEntries = maxBufferedEntries;
+        this.exhausted = !loader.hasMorePages();
+        synchronized (this) {
+            this.loadIfPossible();
+        }
+    }
+
+    /**
+     * Creates a prefetcher if prefetching is enabled on the API connection.
+     *
+     * @param api    the API connection used by the listing.
+     * @param loader loads the pages of the listing.
+     * @return the prefetcher or null if prefetching is disabled.
+     */
+    static PagePrefetcher create(BoxAPIConnection api, PageLoader loader) {
+        if (api.getPagePrefetchDepth() <= 0) {
+            return null;
+        }
+        return new PagePrefetcher(loader, api.getPagePrefetchDepth(), api.getPagePrefetchMaxEntries());
+    }
+
+    /**
+     * Takes the next page, waiting for it to be loaded if necessary. An error that occurred while loading a page is
+     * thrown after all pages loaded before it were taken.
+     *
+     * @return the next page or null when all pages were taken.
+     */
+    synchronized JsonObject take() {
+        while (this.pages.isEmpty() && this.loading) {
+            try {
+                this.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BoxAPIException("Interrupted while waiting for the next page.", e);
+            }
+        }
+
+        JsonObject page = this.pages.pollFirst();
+        if (page == null) {
+            if (this.failure != null) {
+                RuntimeException e = this.failure;
+                this.failure = null;
+                this.loadIfPossible();
+                throw e;
+            }
+            return null;
+        }
+        this.bufferedEntries -= entryCount(page);
+        this.loadIfPossible();
+        return page;
+    }
+
+    /**
+     * Checks whether there are pages that were not taken yet.
+     *
+     * @return true if {@link #take()} may return another page.
+     */
+    synchronized boolean hasMorePages() {
+        return !this.pages.isEmpty() || this.loading || !this.exhausted || this.failure != null;
+    }
+
+    private void loadIfPossible() {
+        if (this.loading || this.exhausted || this.failure != null || this.pages.size() >= this.depth) {
+            return;
+        }
+        if (!this.pages.isEmpty() && this.bufferedEntries + this.lastPageSize > this.maxBufferedEntries) {
+            return;
+        }
+        this.loading = true;
+        EXECUTOR.execute(this::load);
+    }
+
+    private void load() {
+        JsonObject page = null;
+        RuntimeException error = null;
+        boolean morePages = false;
+        try {
+            page = this.loader.loadNextPage();
+            morePages = this.loader.hasMorePages();
+        } catch (RuntimeException e) {
+            error = e;
+        }
+
+        synchronized (this) {
+            this.loading = false;
+            if (error != null) {
+                this.failure = error;
+            } else {
+                this.lastPageSize = entryCount(page);
+                this.bufferedEntries += this.lastPageSize;
+                this.pages.addLast(page);
+                this.exhausted = !morePages;
+                this.loadIfPossible();
+            }
+            this.notifyAll();
+        }
+    }
+
+    private static int entryCount(JsonObject page) {
+        JsonValue entries = page.get(BoxResourceIterable.BODY_PARAMETER_ENTRIES);
+        return entries != null && entries.isArray() ? entries.asArray().size() : 0;
+    }
+
+    /**
+     * Loads the pages of a listing. Calls are never made concurrently, but may come from different threads.
+     */
+    interface PageLoader {
+
+        /**
+         * Requests the next page and remembers where the page after it starts.
+         *
+         * @return the JSON body of the page.
+         */
+        JsonObject loadNextPage();
+
+        /**
+         * Checks whether there is a page after the last loaded one.
+         *
+         * @return true if {@link #loadNextPage()} should be called again.
+         */
+        boolean hasMorePages();
+    }
+}
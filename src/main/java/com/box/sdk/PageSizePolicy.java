@@ -0,0 +1,53 @@
+package com.box.sdk;
+
+import java.net.URL;
+
+/**
+ * Chooses the number of entries requested in each page of a paged listing.
+ *
+ * <p>A policy set with {@link BoxAPIConnection#setPageSizePolicy(PageSizePolicy)} is asked for the page size before
+ * every page of a listing is requested, and is told how long the page took and how large it was once it arrived. A
+ * policy may return any page size up to the maximum allowed by the endpoint; the page size chosen by the SDK or the
+ * caller for the listing is where it starts. A policy can be shared by many listings and threads, so implementations
+ * must be thread safe.</p>
+ *
+ * @see AdaptivePageSizePolicy
+ */
+public interface PageSizePolicy {
+    /**
+     * Policy that always requests the page size chosen by the SDK or the caller. Use it with
+     * {@link PagingParameters#withPageSizePolicy(PageSizePolicy)} to turn off adaptive page sizes for a single call.
+     */
+    PageSizePolicy FIXED = new PageSizePolicy() {
+        @Override
+        public long getLimit(URL url, long defaultLimit, long maxLimit) {
+            return defaultLimit;
+        }
+
+        @Override
+        public void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency) {
+            // nothing to learn
+        }
+    };
+
+    /**
+     * Chooses the page size for the next page of a listing.
+     *
+     * @param url          the URL of the listing, without paging parameters.
+     * @param defaultLimit the page size chosen by the SDK or the caller for the listing.
+     * @param maxLimit     the largest page size allowed by the endpoint, at least <code>defaultLimit</code>.
+     * @return the page size, between 1 and <code>maxLimit</code>.
+     */
+    long getLimit(URL url, long defaultLimit, long maxLimit);
+
+    /**
+     * Invoked after a page of a listing was loaded.
+     *
+     * @param url        the URL of the listing, without paging parameters.
+     * @param limit      the page size that was requested.
+     * @param entries    the number of entries in the page.
+     * @param bodyLength the length of the response body in characters, or -1 if it is not known.
+     * @param latency    the time in milliseconds between sending the request and parsing the response.
+     */
+    void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency);
+}
@@ -1,5 +1,7 @@
 package com.box.sdk;
 
+import java.net.URL;
+
 /**
  * Abstraction on how SDK is doing pagination. Can be used to start offset or marker based pagination.
  */
@@ -8,17 +10,22 @@ public final class PagingParameters {
      * Default limit value.
      */
     public static final long DEFAULT_LIMIT = 1000;
-    private static final int MAXIMUM_ALLOWED_OFFSET = 300_000;
+    static final int MAXIMUM_ALLOWED_OFFSET = 300_000;
+    private static final long MAXIMUM_LIMIT = 1000;
+    private static final long MAXIMUM_METADATA_QUERY_LIMIT = 100;
     private final long limit;
     private final boolean useMarker;
     private final Long offset;
     private final String marker;
+    private final PageSizePolicy pageSizePolicy;
 
-    private PagingParameters(long limit, boolean useMarker, Long offset, String marker) {
+    private PagingParameters(long limit, boolean useMarker, Long offset, String marker,
+                             PageSizePolicy pageSizePolicy) {
         this.limit = limit;
         this.useMarker = useMarker;
         this.offset = offset;
         this.marker = marker;
+        this.pageSizePolicy = pageSizePolicy;
     }
 
     /**
@@ -27,7 +34,7 @@ public final class PagingParameters {
      * @return PagingParameters setup to start marker based pagination.
      */
     public static PagingParameters marker(long limit) {
-        return new PagingParameters(limit, true, null, null);
+        return new PagingParameters(limit, true, null, null, null);
     }
 
     /**
@@ -43,12 +50,26 @@ public final class PagingParameters {
                     + " Marker-based pagination is recommended when a higher offset is needed."
             );
         }
-        return new PagingParameters(limit, false, offset, null);
+        return new PagingParameters(limit, false, offset, null, null);
+    }
+
+    /**
+     * Uses the given page size policy instead of the one set on the API connection. The limit of these paging
+     * parameters is the size of the first page; the policy may choose any size up to the maximum of the endpoint.
+     * @param pageSizePolicy the policy choosing the page sizes, {@link PageSizePolicy#FIXED} to always use the limit.
+     * @return PagingParameters using the given page size policy.
+     */
+    public PagingParameters withPageSizePolicy(PageSizePolicy pageSizePolicy) {
+        return new PagingParameters(limit, useMarker, offset, marker, pageSizePolicy);
     }
 
     QueryStringBuilder asQueryStringBuilder() {
+        return asQueryStringBuilder(limit);
+    }
+
+    QueryStringBuilder asQueryStringBuilder(long pageLimit) {
         QueryStringBuilder result = new QueryStringBuilder()
-            .appendParam("limit", limit);
+            .appendParam("limit", pageLimit);
         if (useMarker) {
             result.appendParam("usemarker", "true");
             if (marker != null) {
@@ -70,19 +91,50 @@ public final class PagingParameters {
                 "Cannot change offset paging to marker based paging. Use PagingParameters#nextOffset(long)."
             );
         }
-        return new PagingParameters(limit, true, null, nextMarker);
+        return new PagingParameters(limit, true, null, nextMarker, pageSizePolicy);
     }
 
     PagingParameters nextOffset(long nextOffset) {
+        return nextOffset(nextOffset, limit);
+    }
+
+    PagingParameters nextOffset(long nextOffset, long pageLimit) {
         if (useMarker) {
             throw new IllegalArgumentException(
                 "Cannot change marker paging to offset based paging. Use PagingParameters#nextMarker(String)."
             );
         }
-        return PagingParameters.offset(nextOffset + limit, limit);
+        return PagingParameters.offset(nextOffset + pageLimit, limit).withPageSizePolicy(pageSizePolicy);
     }
 
     long getLimit() {
         return limit;
     }
+
+    long getOffset() {
+        return offset == null ? 0 : offset;
+    }
+
+    String getMarker() {
+        return marker;
+    }
+
+    PageSizePolicy getPageSizePolicy() {
+        return pageSizePolicy;
+    }
+
+    /**
+     * Gets the largest page size a page size policy may choose for a listing: the maximum allowed by its endpoint, or
+     * the limit chosen for the listing if that is larger.
+     *
+     * @param url   the URL of the listing.
+     * @param limit the page size chosen for the listing.
+     * @return the largest page size.
+     */
+    static long maxLimit(URL url, long limit) {
+        long endpointMaximum = url.getPath().endsWith("/metadata_queries/execute_read")
+            ? MAXIMUM_METADATA_QUERY_LIMIT
+            : MAXIMUM_LIMIT;
+        return Math.max(endpointMaximum, limit);
+    }
 }
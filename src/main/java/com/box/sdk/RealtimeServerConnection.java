@@ -1,67 +1,222 @@
 package com.box.sdk;
 
-import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Long polls the realtime server of the events API for changes after a stream position.
+ *
+ * <p>The URL of the realtime server is requested once and reused for the number of long polls the server allows with
+ * <code>max_retries</code>, until the server answers with <code>reconnect</code> or until a long poll fails. Then the
+ * URL is requested again, and the next attempt should wait for {@link #getReconnectDelay()}, which grows with the
+ * number of consecutive failures and is randomized so that many streams don't reconnect at the same time.
+ * {@link #stop()} cancels the long poll in progress and wakes up threads waiting with {@link #pause(long)}.</p>
+ */
 class RealtimeServerConnection {
     public static final URLTemplate EVENT_URL = new URLTemplate("events");
     public static final URLTemplate EVENT_POSITION_URL = new URLTemplate("events?stream_position=%s");
 
-    private final BoxAPIConnection api;
-    private final int timeout;
-    private final String serverURLString;
+    private static final int MAX_CONSECUTIVE_FAILURES = 8;
+    private static final long MIN_RECONNECT_DELAY = 500;
+    private static final long MAX_RECONNECT_DELAY = 60000;
 
-    private int retries;
+    private final BoxAPIConnection api;
+    private final Object pauseLock = new Object();
+    private String serverURLString;
+    private int timeout;
+    private int remainingRetries;
+    private int consecutiveFailures;
+    private boolean reconnecting;
+    private volatile BoxAPIRequest inFlight;
+    private volatile boolean stopped;
 
     RealtimeServerConnection(BoxAPIConnection api) {
-        BoxJSONRequest request = new BoxJSONRequest(api, EVENT_URL.build(api.getBaseURL()), "OPTIONS");
-        try (BoxJSONResponse response = request.send()) {
-            JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-            JsonArray entries = jsonObject.get("entries").asArray();
-            JsonObject firstEntry = entries.get(0).asObject();
-            this.serverURLString = firstEntry.get("url").asString();
-            this.retries = Integer.parseInt(firstEntry.get("max_retries").asString());
-            this.timeout = firstEntry.get("retry_timeout").asInt();
-            this.api = api;
+        this.api = api;
+    }
+
+    /**
+     * Waits on the calling thread until the realtime server reports a change after a stream position, or until the
+     * server ends the long poll without a change.
+     *
+     * @param position the stream position.
+     * @return true if there are new events; false if the long poll should be repeated.
+     * @throws BoxAPIException if the long poll failed or was stopped.
+     */
+    boolean waitForChange(long position) {
+        if (this.stopped) {
+            throw new BoxAPIException("The long poll was stopped.");
+        }
+        BoxJSONRequest request = null;
+        try {
+            URL url = this.longPollURL(position);
+            request = new BoxJSONRequest(this.api, url, "GET");
+            request.setConnectTimeout(this.timeout * 1000);
+            request.setReadTimeout(this.timeout * 1000);
+            this.inFlight = request;
+            if (this.stopped) {
+                request.cancel();
+            }
+            this.reconnecting = false;
+            try (BoxJSONResponse response = request.send()) {
+                JsonValue message = response.getJsonObject().get("message");
+                String messageString = message != null && message.isString() ? message.asString() : null;
+                this.consecutiveFailures = 0;
+                this.remainingRetries--;
+                if ("reconnect".equals(messageString) || this.remainingRetries <= 0) {
+                    // The URL expired, so it is requested again after the reconnect delay.
+                    this.serverURLString = null;
+                    this.reconnecting = true;
+                }
+                return "new_change".equals(messageString);
+            }
+        } catch (BoxAPIException e) {
+            if (request == null || !request.isCancelled()) {
+                // The server may be gone, so its URL is requested again before the next attempt.
+                this.serverURLString = null;
+                this.consecutiveFailures++;
+            }
+            throw e;
+        } finally {
+            this.inFlight = null;
         }
     }
 
-    int getRemainingRetries() {
-        return this.retries;
+    /**
+     * Starts a long poll on an executor. Cancelling the returned future cancels the long poll.
+     *
+     * @param position the stream position.
+     * @param executor the executor waiting for the long poll.
+     * @return a future completed with true if there are new events, false if the long poll should be repeated, or
+     * exceptionally if the long poll failed.
+     */
+    CompletableFuture<Boolean> waitForChangeAsync(final long position, Executor executor) {
+        final CompletableFuture<Boolean> result = new CompletableFuture<Boolean>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                boolean cancelled = super.cancel(mayInterruptIfRunning);
+                BoxAPIRequest request = RealtimeServerConnection.this.inFlight;
+                if (cancelled && request != null) {
+                    request.cancel();
+                }
+                return cancelled;
+            }
+        };
+        executor.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                result.complete(this.waitForChange(position));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
     }
 
-    boolean waitForChange(long position) {
-        if (this.retries < 1) {
-            throw new IllegalStateException("No more retries are allowed.");
+    /**
+     * Tells whether a failed long poll should be retried, which is the case until several attempts in a row failed.
+     *
+     * @return true if another attempt should be made after {@link #getReconnectDelay()}.
+     */
+    boolean canReconnect() {
+        return !this.stopped && this.consecutiveFailures <= MAX_CONSECUTIVE_FAILURES;
+    }
+
+    /**
+     * Gets the delay before the next long poll after failures: exponential in the number of consecutive failures,
+     * with a random part so that many streams don't reconnect at the same time. After the server asked to reconnect,
+     * the delay is the one after a single failure.
+     *
+     * @return the delay in milliseconds, or 0 if the last long poll succeeded and the URL can be reused.
+     */
+    long getReconnectDelay() {
+        if (this.consecutiveFailures == 0 && !this.reconnecting) {
+            return 0;
+        }
+        int doublings = Math.max(Math.min(this.consecutiveFailures - 1, 16), 0);
+        long ceiling = Math.min(MIN_RECONNECT_DELAY << doublings, MAX_RECONNECT_DELAY);
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    /**
+     * Waits for a delay on the calling thread, returning early when the connection is stopped.
+     *
+     * @param millis the delay in milliseconds.
+     * @return true if the delay passed; false if the connection was stopped.
+     */
+    boolean pause(long millis) {
+        long end = System.currentTimeMillis() + millis;
+        synchronized (this.pauseLock) {
+            long remaining = millis;
+            while (!this.stopped && remaining > 0) {
+                try {
+                    this.pauseLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                remaining = end - System.currentTimeMillis();
+            }
         }
+        return !this.stopped;
+    }
+
+    /**
+     * Stops the connection: cancels the long poll in progress and ends pauses. Long polls can't be started afterwards.
+     */
+    void stop() {
+        this.stopped = true;
+        BoxAPIRequest request = this.inFlight;
+        if (request != null) {
+            request.cancel();
+        }
+        synchronized (this.pauseLock) {
+            this.pauseLock.notifyAll();
+        }
+    }
+
+    boolean isStopped() {
+        return this.stopped;
+    }
 
-        URL url;
+    // Reads max_retries, which the API sends as a string. Without it the URL is used until the server says reconnect.
+    private static int maxRetries(JsonValue value) {
         try {
-            String u = this.serverURLString + "&stream_position=" + position;
-            url = new URL(u);
-        } catch (MalformedURLException e) {
-            throw new BoxAPIException("The long poll URL was malformed.", e);
+            if (value != null && value.isString()) {
+                return Math.max(Integer.parseInt(value.asString()), 1);
+            } else if (value != null && value.isNumber()) {
+                return Math.max(value.asInt(), 1);
+            }
+        } catch (NumberFormatException e) {
+            // fall through to an unlimited number of long polls
         }
+        return Integer.MAX_VALUE;
+    }
 
-        while (this.retries > 0) {
-            this.retries--;
-            BoxJSONRequest request = new BoxJSONRequest(this.api, url, "GET");
-            request.setConnectTimeout(this.timeout * 1000);
-            request.setReadTimeout(this.timeout * 1000);
+    private URL longPollURL(long position) {
+        if (this.serverURLString == null) {
+            BoxJSONRequest request = new BoxJSONRequest(this.api, EVENT_URL.build(this.api.getBaseURL()), "OPTIONS");
             try (BoxJSONResponse response = request.send()) {
-                JsonObject jsonObject = Json.parse(response.getJSON()).asObject();
-                String message = jsonObject.get("message").asString();
-                if (message.equals("new_change")) {
-                    return true;
-                }
-            } catch (BoxAPIException e) {
-                break;
+                JsonObject jsonObject = response.getJsonObject();
+                JsonArray entries = jsonObject.get("entries").asArray();
+                JsonObject firstEntry = entries.get(0).asObject();
+                this.timeout = firstEntry.get("retry_timeout").asInt();
+                this.remainingRetries = maxRetries(firstEntry.get("max_retries"));
+                this.serverURLString = firstEntry.get("url").asString();
             }
         }
 
-        return false;
+        try {
+            return new URL(this.serverURLString + "&stream_position=" + position);
+        } catch (MalformedURLException e) {
+            throw new BoxAPIException("The long poll URL was malformed.", e);
+        }
     }
 }
@@ -0,0 +1,188 @@
+package com.box.sdk;
+
+import com.box.sdk.http.HttpMethod;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utility class for retrieving the same representation of many files.
+ *
+ * <p>Representations are requested for all files using a bounded number of parallel connections. Representations that
+ * are still being generated are polled on the same scheduler following a {@link RepresentationPollingPolicy}, so no
+ * thread is blocked while waiting. Each representation is downloaded and handed to a
+ * {@link RepresentationContentHandler} as soon as it becomes ready.</p>
+ */
+public final class RepresentationBatchDownload {
+    private static final int DEFAULT_CONNECTIONS = 3;
+    private final int nParallelConnections;
+    private final RepresentationPollingPolicy pollingPolicy;
+
+    /**
+     * Creates a RepresentationBatchDownload object.
+     *
+     * @param nParallelConnections number of parallel http connections to use.
+     * @param pollingPolicy        policy used to poll representations that are not ready yet.
+     */
+    public RepresentationBatchDownload(int nParallelConnections, RepresentationPollingPolicy pollingPolicy) {
+        this.nParallelConnections = nParallelConnections;
+        this.pollingPolicy = pollingPolicy;
+    }
+
+    /**
+     * Creates a RepresentationBatchDownload object with a default number of parallel connections and polling policy.
+     */
+    public RepresentationBatchDownload() {
+        this(DEFAULT_CONNECTIONS, new RepresentationPollingPolicy());
+    }
+
+    /**
+     * Downloads a representation of every file. This method returns when every representation was either handed to
+     * the handler or failed.
+     *
+     * @param api                the API connection to be used.
+     * @param fileIDs            IDs of the files whose representations should be downloaded.
+     * @param representationHint the X-Rep-Hints query for the representation to fetch.
+     * @param assetPath          the path of the asset for representations containing multiple files.
+     * @param handler            the handler receiving the content of each representation.
+     * @return errors keyed by the ID of the file that failed. The map is empty when all downloads succeeded.
+     * @throws InterruptedException when the calling thread gets interrupted.
+     */
+    public Map<String, BoxAPIException> download(BoxAPIConnection api, Collection<String> fileIDs,
+                                                 String representationHint, String assetPath,
+                                                 RepresentationContentHandler handler) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(this.nParallelConnections);
+        Map<String, BoxAPIException> failures = new ConcurrentHashMap<>();
+        CountDownLatch remaining = new CountDownLatch(fileIDs.size());
+        try {
+            for (String fileID : fileIDs) {
+                Download download = new Download(
+                    api, scheduler, fileID, representationHint, assetPath, handler, failures, remaining
+                );
+                scheduler.execute(download::requestRepresentation);
+            }
+            remaining.await();
+        } finally {
+            scheduler.shutdownNow();
+        }
+        return failures;
+    }
+
+    /**
+     * State of a single file's representation download.
+     */
+    private final class Download {
+        private final BoxAPIConnection api;
+        private final ScheduledExecutorService scheduler;
+        private final String fileID;
+        private final String representationHint;
+        private final String assetPath;
+        private final RepresentationContentHandler handler;
+        private final Map<String, BoxAPIException> failures;
+        private final CountDownLatch remaining;
+        private URL infoURL;
+        private long deadline;
+        private int attempt;
+
+        private Download(BoxAPIConnection api, ScheduledExecutorService scheduler, String fileID,
+                         String representationHint, String assetPath, RepresentationContentHandler handler,
+                         Map<String, BoxAPIException> failures, CountDownLatch remaining) {
+            this.api = api;
+            this.scheduler = scheduler;
+            this.fileID = fileID;
+            this.representationHint = representationHint;
+            this.assetPath = assetPath;
+            this.handler = handler;
+            this.failures = failures;
+            this.remaining = remaining;
+        }
+
+        private void requestRepresentation() {
+            try {
+                BoxFile file = new BoxFile(this.api, this.fileID);
+                List<Representation> reps = file.getInfoWithRepresentations(this.representationHint)
+                    .getRepresentations();
+                if (reps == null || reps.isEmpty()) {
+                    throw new BoxAPIException("No matching representations found");
+                }
+                Representation representation = reps.get(0);
+                String contentURLTemplate = BoxFile.getRepresentationContentURL(representation);
+                if (contentURLTemplate == null) {
+                    this.infoURL = representation.getInfo().getUrl();
+                    this.deadline = System.currentTimeMillis() + RepresentationBatchDownload.this.pollingPolicy
+                        .getTimeout();
+                    this.scheduler.execute(this::poll);
+                } else {
+                    this.downloadContent(representation, contentURLTemplate);
+                }
+            } catch (RuntimeException e) {
+                this.fail(e);
+            }
+        }
+
+        private void schedulePoll(String retryAfter) {
+            this.attempt++;
+            long delay = RepresentationBatchDownload.this.pollingPolicy.nextDelay(this.attempt, retryAfter);
+            if (System.currentTimeMillis() + delay > this.deadline) {
+                throw new BoxAPIException(String.format(
+                    "Representation was not ready after %d attempts and %d ms",
+                    this.attempt, RepresentationBatchDownload.this.pollingPolicy.getTimeout()
+                ));
+            }
+            this.scheduler.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void poll() {
+            try {
+                Representation representation;
+                String retryAfter;
+                BoxJSONRequest infoRequest = new BoxJSONRequest(this.api, this.infoURL, HttpMethod.GET);
+                try (BoxJSONResponse infoResponse = infoRequest.send()) {
+                    representation = new Representation(infoResponse.getJsonObject());
+                    retryAfter = infoResponse.getHeaderField("Retry-After");
+                }
+                String contentURLTemplate = BoxFile.getRepresentationContentURL(representation);
+                if (contentURLTemplate == null) {
+                    this.schedulePoll(retryAfter);
+                } else {
+                    this.downloadContent(representation, contentURLTemplate);
+                }
+            } catch (RuntimeException e) {
+                this.fail(e);
+            }
+        }
+
+        private void downloadContent(Representation representation, String contentURLTemplate) {
+            URL contentURL;
+            try {
+                contentURL = new URL(contentURLTemplate.replace("{+asset_path}", this.assetPath));
+            } catch (MalformedURLException e) {
+                throw new BoxAPIException("Could not generate representation content URL", e);
+            }
+            BoxAPIRequest contentRequest = new BoxAPIRequest(this.api, contentURL, HttpMethod.GET);
+            try (BoxAPIResponse response = contentRequest.send()) {
+                this.handler.onContent(this.fileID, representation, response.getBody());
+            } catch (IOException e) {
+                throw new BoxAPIException("Couldn't consume representation content", e);
+            }
+            this.remaining.countDown();
+        }
+
+        private void fail(RuntimeException e) {
+            if (e instanceof BoxAPIException) {
+                this.failures.put(this.fileID, (BoxAPIException) e);
+            } else {
+                this.failures.put(this.fileID, new BoxAPIException(e.getMessage(), e));
+            }
+            this.remaining.countDown();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.box.sdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The callback interface used by {@link RepresentationBatchDownload} to hand over downloaded representation content.
+ *
+ * <p>The handler is called concurrently from the worker threads of the batch, so implementations must be
+ * thread-safe.</p>
+ */
+public interface RepresentationContentHandler {
+
+    /**
+     * Invoked when the content of a representation is available. The stream is closed after this method returns.
+     *
+     * @param fileID         the ID of the file the representation belongs to.
+     * @param representation the representation that was downloaded.
+     * @param content        the stream with the representation content.
+     * @throws IOException if the content couldn't be consumed.
+     */
+    void onContent(String fileID, Representation representation, InputStream content) throws IOException;
+}
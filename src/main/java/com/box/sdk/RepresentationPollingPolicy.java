@@ -0,0 +1,94 @@
+package com.box.sdk;
+
+/**
+ * Controls how a representation that is still being generated is polled before its content is downloaded.
+ *
+ * <p>The first poll is made right away, as it also starts generating representations which were not requested yet.
+ * After that the poller waits for the initial delay and doubles the delay after every poll until it reaches the
+ * maximum delay. When the API returns a <code>Retry-After</code> header its value is used instead of the computed
+ * delay. If the representation is not ready before the timeout elapses, polling stops with a
+ * {@link BoxAPIException}.</p>
+ */
+public class RepresentationPollingPolicy {
+    private static final long DEFAULT_INITIAL_DELAY = 1000;
+    private static final long DEFAULT_MAX_DELAY = 30000;
+    private static final long DEFAULT_TIMEOUT = 300000;
+
+    private final long initialDelay;
+    private final long maxDelay;
+    private final long timeout;
+
+    /**
+     * Constructs a polling policy with a one second initial delay, a 30 second maximum delay and a five minute timeout.
+     */
+    public RepresentationPollingPolicy() {
+        this(DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Constructs a polling policy.
+     *
+     * @param initialDelay the delay between the first and the second poll in milliseconds.
+     * @param maxDelay     the upper bound for the delay between two polls in milliseconds.
+     * @param timeout      the total time in milliseconds to wait for the representation to become ready.
+     */
+    public RepresentationPollingPolicy(long initialDelay, long maxDelay, long timeout) {
+        if (initialDelay < 0 || maxDelay < initialDelay || timeout < 0) {
+            throw new IllegalArgumentException(
+                "Delays must be positive, maxDelay cannot be lower than initialDelay and timeout must be positive."
+            );
+        }
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Gets the delay between the first and the second poll.
+     *
+     * @return the delay in milliseconds.
+     */
+    public long getInitialDelay() {
+        return this.initialDelay;
+    }
+
+    /**
+     * Gets the upper bound for the delay between two polls.
+     *
+     * @return the delay in milliseconds.
+     */
+    public long getMaxDelay() {
+        return this.maxDelay;
+    }
+
+    /**
+     * Gets the total time to wait for a representation to become ready.
+     *
+     * @return the timeout in milliseconds.
+     */
+    public long getTimeout() {
+        return this.timeout;
+    }
+
+    /**
+     * Calculates how long to wait before the next poll.
+     *
+     * @param attempt    number of polls that were already made, starting at 1.
+     * @param retryAfter value of the <code>Retry-After</code> header from the last response, can be empty.
+     * @return the delay in milliseconds.
+     */
+    long nextDelay(int attempt, String retryAfter) {
+        if (retryAfter != null && !retryAfter.isEmpty()) {
+            try {
+                return Math.max(0, Long.parseLong(retryAfter.trim()) * 1000);
+            } catch (NumberFormatException e) {
+                // Retry-After may be an HTTP date, fall back to the computed delay
+            }
+        }
+        long delay = this.initialDelay << Math.min(Math.max(attempt - 1, 0), 30);
+        if (delay < 0 || delay > this.maxDelay) {
+            return this.maxDelay;
+        }
+        return delay;
+    }
+}
@@ -0,0 +1,155 @@
+package com.box.sdk;
+
+import com.eclipsesource.json.JsonObject;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A paged listing that can be checkpointed and resumed.
+ *
+ * <p>{@link #getCheckpoint()} tells the position of the most recently created iterator. The checkpoint can be saved
+ * as a token and later passed to {@link #resume(BoxAPIConnection, ListingCheckpoint, Class)}, which continues the
+ * listing with the first entry that wasn't returned before. With {@link #checkpointTo(ListingCheckpointStore, int)}
+ * checkpoints are saved automatically every few pages, so a long enumeration that crashes can be resumed where it
+ * stopped instead of starting over:</p>
+ *
+ * <pre>
+ * ListingCheckpoint checkpoint = store.load();
+ * ResumableIterable&lt;BoxItem.Info&gt; items = checkpoint == null
+ *     ? folder.getResumableChildren(SortParameters.none(), PagingParameters.marker(1000))
+ *     : ResumableIterable.resume(api, checkpoint, BoxItem.Info.class);
+ * for (BoxItem.Info item : items.checkpointTo(store, 10)) {
+ *     // process the item
+ * }
+ * </pre>
+ *
+ * @param <T> type of the iterated entries.
+ */
+public final class ResumableIterable<T> implements Iterable<T> {
+    private final BoxAPIConnection api;
+    private final ListingCheckpoint start;
+    private final Function<JsonObject, T> factory;
+    private ListingCheckpointStore checkpointStore;
+    private int checkpointEveryPages;
+    private volatile Supplier<ListingCheckpoint> currentCheckpoint;
+
+    /**
+     * Creates a listing.
+     *
+     * @param api     the API connection used for the requests.
+     * @param start   the position where iterators start.
+     * @param factory creates the entries from their JSON, returns null for entries that should be skipped.
+     */
+    ResumableIterable(BoxAPIConnection api, ListingCheckpoint start, Function<JsonObject, T> factory) {
+        this.api = api;
+        this.start = start;
+        this.factory = factory;
+    }
+
+    /**
+     * Resumes a listing of resources at a checkpoint. Entries that aren't infos of the given class are skipped.
+     *
+     * @param api        the API connection used for the requests.
+     * @param checkpoint the checkpoint, taken from a {@link ResumableIterable} or a {@link BoxResourceIterable}.
+     * @param infoClass  the class of the returned infos, for example <code>BoxItem.Info.class</code>.
+     * @param <T>        type of the returned infos.
+     * @return the listing, starting at the checkpoint.
+     * @throws IllegalArgumentException if the URL of the checkpoint doesn't have the same origin as the base URL of
+     *                                  the API connection.
+     */
+    public static <T extends BoxResource.Info> ResumableIterable<T> resume(
+        final BoxAPIConnection api, ListingCheckpoint checkpoint, final Class<T> infoClass
+    ) {
+        checkpoint.getURL(api);
+        return new ResumableIterable<>(api, checkpoint, jsonObject -> {
+            BoxResource.Info info = BoxResource.parseInfo(api, jsonObject);
+            return infoClass.isInstance(info) ? infoClass.cast(info) : null;
+        });
+    }
+
+    /**
+     * Saves a checkpoint to a store whenever the given number of pages was loaded by an iterator of this listing.
+     * Each checkpoint is taken when the iterator moves to the next page, so it covers all entries of the previous
+     * pages. Applies to iterators created afterwards.
+     *
+     * @param store      the store, or null to stop saving checkpoints.
+     * @param everyPages the number of pages between checkpoints.
+     * @return this listing.
+     */
+    public ResumableIterable<T> checkpointTo(ListingCheckpointStore store, int everyPages) {
+        if (store != null && everyPages <= 0) {
+            throw new IllegalArgumentException("The number of pages between checkpoints must be positive.");
+        }
+        this.checkpointStore = store;
+        this.checkpointEveryPages = everyPages;
+        return this;
+    }
+
+    /**
+     * Gets the position of the most recently created iterator. Resuming at the checkpoint continues with the first
+     * entry the iterator hasn't returned yet. Should be called from the thread using the iterator.
+     *
+     * @return the checkpoint, or the start of the listing if no iterator was created yet.
+     */
+    public ListingCheckpoint getCheckpoint() {
+        Supplier<ListingCheckpoint> checkpoint = this.currentCheckpoint;
+        return checkpoint == null ? this.start : checkpoint.get();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final Parser parser = new Parser();
+        if (!this.start.usesPagingParameters()) {
+            BoxResourceIterable<T> iterable = new BoxResourceIterable<T>(this.api, this.start) {
+                @Override
+                protected T factory(JsonObject jsonObject) {
+                    return parser.parse(jsonObject);
+                }
+            };
+            iterable.setFilter(parser::shouldInclude);
+            iterable.checkpointTo(this.checkpointStore, this.checkpointEveryPages);
+            this.currentCheckpoint = iterable::getCheckpoint;
+            return iterable.iterator();
+        }
+
+        final JsonIterator iterator = new JsonIterator(
+            this.api, this.start.getURL(this.api), this.start.toPagingParameters());
+        iterator.setSkippedEntries(this.start.getSkippedEntries());
+        iterator.setFilter(parser::shouldInclude);
+        iterator.setCheckpointStore(this.checkpointStore, this.checkpointEveryPages);
+        this.currentCheckpoint = iterator::getCheckpoint;
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return parser.parse(iterator.next());
+            }
+        };
+    }
+
+    /**
+     * Creates the entries with the factory, remembering the last one so that entries checked by the filter aren't
+     * created twice.
+     */
+    private final class Parser {
+        private JsonObject lastJsonObject;
+        private T lastEntry;
+
+        private boolean shouldInclude(JsonObject jsonObject) {
+            return this.parse(jsonObject) != null;
+        }
+
+        private T parse(JsonObject jsonObject) {
+            if (jsonObject != this.lastJsonObject) {
+                this.lastEntry = ResumableIterable.this.factory.apply(jsonObject);
+                this.lastJsonObject = jsonObject;
+            }
+            return this.lastEntry;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import org.junit.Test;
+
+/**
+ * {@link AdaptivePageSizePolicy} related unit tests.
+ */
+public class AdaptivePageSizePolicyTest {
+
+    @Test
+    public void startsWithLimitOfListing() throws MalformedURLException {
+        AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy();
+
+        assertThat(policy.getLimit(new URL("https://api.box.com/2.0/webhooks"), 64, 1000), is(64L));
+    }
+
+    @Test
+    public void shrinksSlowPagesAndSharesEstimateBetweenIDs() throws MalformedURLException {
+        AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(1000, 1000000, 20);
+
+        policy.onPageLoaded(new URL("https://api.box.com/2.0/folders/1/items"), 1000, 1000, 100000, 4000);
+
+        assertThat(policy.getLimit(new URL("https://api.box.com/2.0/folders/2/items"), 1000, 1000), is(250L));
+        assertThat(policy.getStatistics().get("/2.0/folders/{id}/items").getPages(), is(1L));
+    }
+
+    @Test
+    public void shrinksLargePagesToMaximumBodyLength() throws MalformedURLException {
+        AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(1000, 100000, 20);
+        URL url = new URL("https://api.box.com/2.0/users");
+
+        policy.onPageLoaded(url, 100, 100, 50000, 10);
+
+        assertThat(policy.getLimit(url, 100, 1000), is(200L));
+        policy.onPageLoaded(url, 200, 200, 100000, 20);
+        assertThat(policy.getLimit(url, 100, 1000), is(200L));
+    }
+
+    @Test
+    public void growsBeyondLimitOfListingUpToMaximumOfEndpointAndIgnoresLastPages() throws MalformedURLException {
+        AdaptivePageSizePolicy policy = new AdaptivePageSizePolicy(1000, 1000000, 20);
+        URL url = new URL("https://api.box.com/2.0/webhooks");
+
+        policy.onPageLoaded(url, 64, 64, 640, 6);
+        policy.onPageLoaded(url, 128, 3, 30, 900);
+
+        assertThat(policy.getLimit(url, 64, 1000), is(128L));
+        assertThat(policy.getLimit(url, 64, 100), is(100L));
+    }
+}
@@ -6,6 +6,7 @@ import static com.box.sdk.http.ContentType.APPLICATION_JSON;
 import static com.box.sdk.http.ContentType.APPLICATION_JSON_PATCH;
 import static com.box.sdk.http.ContentType.APPLICATION_OCTET_STREAM;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -436,6 +437,239 @@ public class BoxFileTest {
         assertThat(output.toString(), equalTo("This is a JPG"));
     }
 
+    @Test
+    public void testGetRepresentationContentPollsUntilRepresentationIsReady() {
+        final String fileID = "12345";
+        final String infoURL = "/2.0/internal_files/12345/versions/1116420931563/representations/jpg_thumb_32x32";
+        final String scenario = "Representation generation";
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID))
+                .withQueryParam("fields", WireMock.equalTo("representations"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(getFixture("BoxFile/GetFileRepresentations200", wireMockRule.httpsPort()))
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(infoURL))
+                .inScenario(scenario)
+                .whenScenarioStateIs(STARTED)
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withHeader("Retry-After", "0")
+                    .withBody("{\"status\": {\"state\": \"pending\"}}")
+                    .withStatus(200))
+                .willSetStateTo("Ready")
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(infoURL))
+                .inScenario(scenario)
+                .whenScenarioStateIs("Ready")
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(getFixture("BoxFile/GetFileRepresentation200", wireMockRule.httpsPort()))
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(
+                "/2.0/internal_files/1030335435441/versions/1116437417841/representations/jpg_thumb_32x32/content/"
+                ))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", "image/jpg")
+                    .withBody("This is a JPG")
+                    .withStatus(200))
+        );
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        OutputStream output = new ByteArrayOutputStream();
+        file.getRepresentationContent(
+            "[jpg?dimensions=32x32]", "", output, new RepresentationPollingPolicy(10, 100, 5000)
+        );
+
+        assertThat(output.toString(), equalTo("This is a JPG"));
+        wireMockRule.verify(2, WireMock.getRequestedFor(WireMock.urlPathEqualTo(infoURL)));
+    }
+
+    @Test(expected = BoxAPIException.class)
+    public void testGetRepresentationContentFailsWhenRepresentationIsNotReadyBeforeTimeout() {
+        final String fileID = "12345";
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID))
+                .withQueryParam("fields", WireMock.equalTo("representations"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(getFixture("BoxFile/GetFileRepresentations200", wireMockRule.httpsPort()))
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(
+                "/2.0/internal_files/12345/versions/1116420931563/representations/jpg_thumb_32x32")
+                )
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"status\": {\"state\": \"pending\"}}")
+                    .withStatus(200))
+        );
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        file.getRepresentationContent(
+            "[jpg?dimensions=32x32]", "", new ByteArrayOutputStream(), new RepresentationPollingPolicy(10, 20, 50)
+        );
+    }
+
+    @Test
+    public void testDownloadDirectReusesCachedDownloadURL() {
+        final String fileID = "12345";
+        final String downloadPath = "/d/1/download-token/content";
+        this.stubCurrentVersion(fileID, "1");
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d%s", wireMockRule.httpsPort(), downloadPath))
+                    .withStatus(302))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(downloadPath))
+                .withHeader("Authorization", WireMock.absent())
+                .withHeader("Range", WireMock.absent())
+                .willReturn(WireMock.aResponse()
+                    .withBody("file content")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(downloadPath))
+                .withHeader("Authorization", WireMock.absent())
+                .withHeader("Range", WireMock.equalTo("bytes=5-11"))
+                .willReturn(WireMock.aResponse()
+                    .withBody("content")
+                    .withStatus(206))
+        );
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        DownloadURLCache cache = new DownloadURLCache();
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        file.downloadDirect(first, cache);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        file.downloadDirect(second, cache);
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+        file.downloadRangeDirect(range, 5, 11, cache);
+
+        assertThat(first.toString(), equalTo("file content"));
+        assertThat(second.toString(), equalTo("file content"));
+        assertThat(range.toString(), equalTo("content"));
+        wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content")));
+        wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/" + fileID)));
+    }
+
+    @Test
+    public void testDownloadDirectTakesVersionFromGivenInfo() {
+        final String fileID = "12345";
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .withQueryParam("version", WireMock.equalTo("7"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d/d/v7", wireMockRule.httpsPort()))
+                    .withStatus(302))
+        );
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo("/d/v7"))
+            .willReturn(WireMock.aResponse().withBody("file content").withStatus(200)));
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        BoxFile.Info info = file.new Info("{\"type\": \"file\", \"id\": \"" + fileID + "\", \"file_version\": "
+            + "{\"type\": \"file_version\", \"id\": \"7\"}}");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        file.downloadDirect(output, new DownloadURLCache(), info);
+
+        assertThat(output.toString(), equalTo("file content"));
+        wireMockRule.verify(0, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/" + fileID)));
+    }
+
+    @Test
+    public void testDownloadDirectRequestsNewURLWhenCachedURLIsRejected() {
+        final String fileID = "12345";
+        final String scenario = "Expiring download URL";
+        this.stubCurrentVersion(fileID, "1");
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .inScenario(scenario)
+                .whenScenarioStateIs(STARTED)
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d/d/expired", wireMockRule.httpsPort()))
+                    .withStatus(302))
+                .willSetStateTo("Expired")
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .inScenario(scenario)
+                .whenScenarioStateIs("Expired")
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d/d/fresh", wireMockRule.httpsPort()))
+                    .withStatus(302))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/d/expired"))
+                .willReturn(WireMock.aResponse().withStatus(403))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/d/fresh"))
+                .willReturn(WireMock.aResponse()
+                    .withBody("file content")
+                    .withStatus(200))
+        );
+
+        BoxFile file = new BoxFile(this.api, fileID);
+        DownloadURLCache cache = new DownloadURLCache();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        file.downloadDirect(output, cache);
+
+        assertThat(output.toString(), equalTo("file content"));
+        wireMockRule.verify(2, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content")));
+    }
+
+    @Test
+    public void testDownloadDirectFollowsNewVersionsAndKeepsURLsPerConnection() {
+        final String fileID = "12345";
+        this.stubCurrentVersion(fileID, "1");
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .withQueryParam("version", WireMock.equalTo("1"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d/d/v1", wireMockRule.httpsPort()))
+                    .withStatus(302))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+                .withQueryParam("version", WireMock.equalTo("2"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Location", format("https://localhost:%d/d/v2", wireMockRule.httpsPort()))
+                    .withStatus(302))
+        );
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo("/d/v1"))
+            .willReturn(WireMock.aResponse().withBody("old content").withStatus(200)));
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo("/d/v2"))
+            .willReturn(WireMock.aResponse().withBody("new content").withStatus(200)));
+
+        DownloadURLCache cache = new DownloadURLCache();
+        ByteArrayOutputStream before = new ByteArrayOutputStream();
+        new BoxFile(this.api, fileID).downloadDirect(before, cache);
+        this.stubCurrentVersion(fileID, "2");
+        cache.invalidate(fileID, null);
+        ByteArrayOutputStream after = new ByteArrayOutputStream();
+        new BoxFile(this.api, fileID).downloadDirect(after, cache);
+
+        BoxAPIConnection otherAPI = TestUtils.getAPIConnection();
+        otherAPI.setMaxRetryAttempts(1);
+        otherAPI.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+        ByteArrayOutputStream other = new ByteArrayOutputStream();
+        new BoxFile(otherAPI, fileID).downloadDirect(other, cache);
+
+        assertThat(before.toString(), equalTo("old content"));
+        assertThat(after.toString(), equalTo("new content"));
+        assertThat(other.toString(), equalTo("new content"));
+        wireMockRule.verify(2, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/" + fileID + "/content"))
+            .withQueryParam("version", WireMock.equalTo("2")));
+    }
+
     @Test
     public void testDeletePreviousFileVersionSucceeds() {
         final String versionID = "12345";
@@ -1168,4 +1402,14 @@ public class BoxFileTest {
 
         new BoxFile(this.api, fileID).rename("New Name");
     }
+
+    private void stubCurrentVersion(String fileID, String versionID) {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/" + fileID))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"type\": \"file\", \"id\": \"" + fileID + "\", \"file_version\": "
+                        + "{\"type\": \"file_version\", \"id\": \"" + versionID + "\"}}"))
+        );
+    }
 }
@@ -0,0 +1,106 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link BoxFileVersionExport} related unit tests.
+ */
+public class BoxFileVersionExportTest {
+    private static final String SHA1_THREE = "8c6cb9194c24fde1b9946ff8a85e3c839d3b339e";
+    private static final String SHA1_ONE = "938fe718c6b0d45d42d2e21e551b86fa6367cdb3";
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+    }
+
+    @Test
+    public void exportDownloadsEachContentOnceAndWritesManifest() throws Exception {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12345"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"type\": \"file\", \"id\": \"12345\", \"name\": \"report.txt\", \"size\": 13,"
+                        + " \"sha1\": \"" + SHA1_THREE + "\","
+                        + " \"file_version\": {\"type\": \"file_version\", \"id\": \"3\","
+                        + " \"sha1\": \"" + SHA1_THREE + "\"}}")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12345/versions"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"total_count\": 3, \"offset\": 0, \"limit\": 1000, \"entries\": ["
+                        + "{\"type\": \"file_version\", \"id\": \"2\", \"sha1\": \"" + SHA1_THREE + "\", \"size\": 13},"
+                        + "{\"type\": \"file_version\", \"id\": \"1\", \"sha1\": \"" + SHA1_ONE + "\", \"size\": 11},"
+                        + "{\"type\": \"file_version\", \"id\": \"0\", \"sha1\": \"0000\", \"size\": 4,"
+                        + " \"purged_at\": \"2020-01-01T00:00:00Z\"}"
+                        + "]}")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12345/content"))
+                .withQueryParam("version", WireMock.matching("[23]"))
+                .willReturn(WireMock.aResponse().withBody("version three").withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12345/content"))
+                .withQueryParam("version", WireMock.equalTo("1"))
+                .willReturn(WireMock.aResponse().withBody("version one").withStatus(200))
+        );
+        Path target = Files.createTempDirectory("export");
+        ByteArrayOutputStream manifest = new ByteArrayOutputStream();
+
+        BoxFileVersionExport.Summary summary = new BoxFileVersionExport(2)
+            .exportFiles(this.api, Collections.singletonList("12345"), target.toFile(), manifest);
+
+        assertThat(summary.getVersionsDownloaded(), is(2));
+        assertThat(summary.getVersionsDeduplicated(), is(1));
+        assertThat(summary.getVersionsPurged(), is(1));
+        assertThat(summary.getVersionsFailed(), is(0));
+        assertThat(summary.getBytesDownloaded(), is(24L));
+        assertEquals("version three",
+            new String(Files.readAllBytes(target.resolve("8c").resolve(SHA1_THREE)), UTF_8));
+        assertEquals("version one", new String(Files.readAllBytes(target.resolve("93").resolve(SHA1_ONE)), UTF_8));
+
+        Map<String, JsonObject> linesByVersion = new HashMap<>();
+        for (String line : manifest.toString("UTF-8").split("\n")) {
+            JsonObject json = Json.parse(line).asObject();
+            linesByVersion.put(json.get("version_id").asString(), json);
+        }
+        assertThat(linesByVersion.size(), is(4));
+        assertEquals("8c/" + SHA1_THREE, linesByVersion.get("3").get("path").asString());
+        assertEquals("8c/" + SHA1_THREE, linesByVersion.get("2").get("path").asString());
+        assertEquals("downloaded", linesByVersion.get("3").get("status").asString());
+        assertEquals("duplicate", linesByVersion.get("2").get("status").asString());
+        assertEquals("downloaded", linesByVersion.get("1").get("status").asString());
+        assertEquals("purged", linesByVersion.get("0").get("status").asString());
+        assertEquals("report.txt", linesByVersion.get("1").get("file_name").asString());
+        wireMockRule.verify(2, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/12345/content")));
+    }
+}
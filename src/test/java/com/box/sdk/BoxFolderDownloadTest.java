@@ -0,0 +1,112 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link BoxFolderDownload} related unit tests.
+ */
+public class BoxFolderDownloadTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+        this.stubFolderTree();
+    }
+
+    @Test
+    public void downloadMirrorsFolderTreeAndCollectsErrors() throws Exception {
+        Path target = Files.createTempDirectory("folder");
+
+        BoxFolderDownload.Progress progress = new BoxFolderDownload(2, 2)
+            .download(new BoxFolder(this.api, "0"), target.toFile());
+
+        assertEquals("first file", new String(Files.readAllBytes(target.resolve("first.txt")), UTF_8));
+        assertEquals("second file", new String(Files.readAllBytes(target.resolve("sub/second.txt")), UTF_8));
+        assertFalse(Files.exists(target.resolve("sub/missing.txt")));
+        assertFalse(Files.exists(target.resolve("link")));
+        assertEquals(1420106400000L, Files.getLastModifiedTime(target.resolve("first.txt")).toMillis());
+        assertThat(progress.getFoldersListed(), is(2));
+        assertThat(progress.getFilesDownloaded(), is(2));
+        assertThat(progress.getFilesSkipped(), is(0));
+        assertThat(progress.getBytesDownloaded(), is(21L));
+        assertThat(progress.getErrors().size(), is(1));
+        assertThat(progress.getErrors(), hasKey("/sub/missing.txt"));
+    }
+
+    @Test
+    public void downloadSkipsFilesWithSameContent() throws Exception {
+        Path target = Files.createTempDirectory("folder");
+        BoxFolderDownload folderDownload = new BoxFolderDownload(2, 2);
+        folderDownload.download(new BoxFolder(this.api, "0"), target.toFile());
+
+        BoxFolderDownload.Progress progress = folderDownload.download(new BoxFolder(this.api, "0"), target.toFile());
+
+        assertThat(progress.getFilesDownloaded(), is(0));
+        assertThat(progress.getFilesSkipped(), is(2));
+        wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo("/2.0/files/10/content")));
+    }
+
+    private void stubFolderTree() {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/0/items/"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": ["
+                        + "{\"type\": \"folder\", \"id\": \"1\", \"name\": \"sub\"},"
+                        + "{\"type\": \"file\", \"id\": \"10\", \"name\": \"first.txt\", \"size\": 10,"
+                        + " \"sha1\": \"c9be619500b84cdc8391b9f00c3c532e2e5e0d33\","
+                        + " \"modified_at\": \"2015-01-02T10:00:00Z\","
+                        + " \"content_modified_at\": \"2015-01-01T10:00:00Z\"},"
+                        + "{\"type\": \"web_link\", \"id\": \"20\", \"name\": \"link\"}"
+                        + "], \"limit\": 1000}")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/1/items/"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": ["
+                        + "{\"type\": \"file\", \"id\": \"11\", \"name\": \"second.txt\", \"size\": 11,"
+                        + " \"sha1\": \"13cab0433629cfe5307f0a71ee097f78fe671474\"},"
+                        + "{\"type\": \"file\", \"id\": \"12\", \"name\": \"missing.txt\", \"size\": 7}"
+                        + "], \"limit\": 1000}")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/10/content"))
+                .willReturn(WireMock.aResponse().withBody("first file").withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/11/content"))
+                .willReturn(WireMock.aResponse().withBody("second file").withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12/content"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"type\": \"error\", \"status\": 404, \"code\": \"not_found\"}")
+                    .withStatus(404))
+        );
+    }
+}
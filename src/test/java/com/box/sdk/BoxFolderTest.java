@@ -13,6 +13,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -27,7 +28,9 @@ import com.github.tomakehurst.wiremock.matching.EqualToJsonPattern;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -1254,6 +1257,126 @@ public class BoxFolderTest {
         assertEquals("Test 2", boxItem2.getName());
     }
 
+    @Test
+    public void testStreamChildrenLoadsOffsetWindowsInParallelAndKeepsOrder() {
+        final String folderItemsURL = "/2.0/folders/12345/items/";
+        for (int page = 0; page < 4; page++) {
+            wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderItemsURL))
+                .withQueryParam("limit", WireMock.equalTo("1000"))
+                .withQueryParam("offset", WireMock.equalTo(String.valueOf(page * 1000)))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(format("{\"total_count\": 3500, \"offset\": %d, \"limit\": 1000, \"entries\": ["
+                        + "{\"type\": \"file\", \"id\": \"%d1\", \"name\": \"first\"},"
+                        + "{\"type\": \"folder\", \"id\": \"%d2\", \"name\": \"second\"}]}",
+                        page * 1000, page, page))
+                    .withStatus(200)));
+        }
+
+        BoxFolder folder = new BoxFolder(this.api, "12345");
+        List<String> ids = new ArrayList<>();
+        folder.streamChildren(SortParameters.none(), "name")
+            .parallel()
+            .map(BoxItem.Info::getID)
+            .forEachOrdered(ids::add);
+
+        assertEquals(Arrays.asList("01", "02", "11", "12", "21", "22", "31", "32"), ids);
+        wireMockRule.verify(4, WireMock.getRequestedFor(WireMock.urlPathEqualTo(folderItemsURL)));
+    }
+
+    @Test
+    public void testStreamChildrenStopsAtTheMaximumOffset() {
+        final String folderItemsURL = "/2.0/folders/12345/items/";
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderItemsURL))
+            .withQueryParam("limit", WireMock.equalTo("1000"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{\"total_count\": 400000, \"limit\": 1000, \"entries\": ["
+                    + "{\"type\": \"file\", \"id\": \"1\", \"name\": \"file\"}]}")
+                .withStatus(200)));
+
+        BoxFolder folder = new BoxFolder(this.api, "12345");
+        long count = folder.streamChildren(SortParameters.none(), "name").parallel().count();
+
+        assertEquals(301, count);
+        wireMockRule.verify(301, WireMock.getRequestedFor(WireMock.urlPathEqualTo(folderItemsURL)));
+        wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlPathEqualTo(folderItemsURL))
+            .withQueryParam("offset", WireMock.equalTo("300000")));
+    }
+
+    @Test
+    public void testGetChildrenRequestsPageSizesChosenByPolicy() {
+        final String folderItemsURL = "/2.0/folders/12345/items/";
+        for (int offset = 0; offset < 3; offset += 2) {
+            wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderItemsURL))
+                .withQueryParam("limit", WireMock.equalTo("2"))
+                .withQueryParam("offset", WireMock.equalTo(String.valueOf(offset)))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(format("{\"total_count\": 3, \"offset\": %d, \"limit\": 2, \"entries\": ["
+                        + "{\"type\": \"file\", \"id\": \"%d\", \"name\": \"file\"}"
+                        + (offset == 0 ? ", {\"type\": \"file\", \"id\": \"1\", \"name\": \"file\"}" : "")
+                        + "]}", offset, offset))
+                    .withStatus(200)));
+        }
+        final List<Long> loadedLimits = new ArrayList<>();
+        this.api.setPageSizePolicy(new PageSizePolicy() {
+            @Override
+            public long getLimit(URL url, long defaultLimit, long maxLimit) {
+                return 2;
+            }
+
+            @Override
+            public void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency) {
+                loadedLimits.add(limit);
+            }
+        });
+
+        List<String> ids = new ArrayList<>();
+        BoxFolder folder = new BoxFolder(this.api, "12345");
+        for (BoxItem.Info info : folder.getChildren("name", BoxFolder.SortDirection.ASC, 0, 1000, "name")) {
+            ids.add(info.getID());
+        }
+
+        assertEquals(Arrays.asList("0", "1", "2"), ids);
+        assertEquals(Arrays.asList(2L, 2L), loadedLimits);
+    }
+
+    @Test
+    public void testGetChildrenProjectionsRequestsProjectionFields() {
+        final String folderItemsURL = "/2.0/folders/12345/items/";
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(folderItemsURL))
+            .withQueryParam("fields", WireMock.equalTo("type,id,name,size,sha1,modified_at,parent"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{\"limit\": 1000, \"entries\": ["
+                    + "{\"type\": \"file\", \"id\": \"1\", \"name\": \"a.txt\", \"size\": 3, \"sha1\": \"abc\","
+                    + " \"modified_at\": \"2020-01-01T00:00:00Z\","
+                    + " \"parent\": {\"type\": \"folder\", \"id\": \"12345\"}},"
+                    + "{\"type\": \"folder\", \"id\": \"2\", \"name\": \"b\", \"size\": 0, \"sha1\": null}"
+                    + "]}")
+                .withStatus(200)));
+
+        List<BoxItemProjection> projections = new ArrayList<>();
+        for (BoxItemProjection projection : new BoxFolder(this.api, "12345").getChildrenProjections()) {
+            projections.add(projection);
+        }
+
+        assertEquals(2, projections.size());
+        BoxItemProjection file = projections.get(0);
+        assertEquals("file", file.getType());
+        assertEquals("a.txt", file.getName());
+        assertEquals(3, file.getSize());
+        assertEquals("abc", file.getSha1());
+        assertEquals(1577836800000L, file.getModifiedAt().getTime());
+        assertEquals("12345", file.getParentID());
+        BoxItemProjection folder = projections.get(1);
+        assertEquals("folder", folder.getType());
+        assertNull(folder.getSha1());
+        assertNull(folder.getModifiedAt());
+        assertTrue(folder.getResource(this.api) instanceof BoxFolder);
+    }
+
     @Test
     public void testGetFolderItemsWithOffsetAndLimit() {
         final String folderID = "12345";
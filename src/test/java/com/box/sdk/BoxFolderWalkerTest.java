@@ -0,0 +1,100 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link BoxFolderWalker} related unit tests.
+ */
+public class BoxFolderWalkerTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+        this.stubFolder("0", "{\"type\": \"folder\", \"id\": \"1\", \"name\": \"a\"},"
+            + "{\"type\": \"folder\", \"id\": \"2\", \"name\": \"skipped\"},"
+            + "{\"type\": \"file\", \"id\": \"10\", \"name\": \"f.txt\", \"size\": 3}");
+        this.stubFolder("1", "{\"type\": \"folder\", \"id\": \"3\", \"name\": \"b\"},"
+            + "{\"type\": \"file\", \"id\": \"11\", \"name\": \"g.txt\", \"size\": 4}");
+        this.stubFolder("2", "{\"type\": \"file\", \"id\": \"12\", \"name\": \"h.txt\", \"size\": 5}");
+        this.stubFolder("3", "{\"type\": \"file\", \"id\": \"13\", \"name\": \"i.txt\", \"size\": 6}");
+    }
+
+    @Test
+    public void walkEmitsPathsAndDepthsWithinMaxDepthAndPrunesFilteredFolders() {
+        Map<String, Integer> depthsByPath;
+        try (Stream<BoxFolderWalker.Entry> entries = new BoxFolderWalker(2)
+            .setFields("size")
+            .setMaxDepth(2)
+            .setFolderFilter(entry -> !entry.getInfo().getName().equals("skipped"))
+            .walk(new BoxFolder(this.api, "0"))) {
+            depthsByPath = entries.collect(Collectors.toMap(
+                BoxFolderWalker.Entry::getPath, BoxFolderWalker.Entry::getDepth, (a, b) -> a, TreeMap::new));
+        }
+
+        Map<String, Integer> expected = new TreeMap<>();
+        expected.put("/a", 1);
+        expected.put("/skipped", 1);
+        expected.put("/f.txt", 1);
+        expected.put("/a/b", 2);
+        expected.put("/a/g.txt", 2);
+        assertEquals(expected, depthsByPath);
+        wireMockRule.verify(2, WireMock.getRequestedFor(WireMock.urlPathMatching("/2.0/folders/[0-9]+/items/"))
+            .withQueryParam("fields", WireMock.equalTo("type,id,name,size")));
+    }
+
+    @Test
+    public void walkReportsFoldersThatCouldNotBeListed() {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/3/items/"))
+                .willReturn(WireMock.aResponse().withStatus(404))
+        );
+        Map<String, BoxAPIException> errors = new ConcurrentHashMap<>();
+
+        long count;
+        try (Stream<BoxFolderWalker.Entry> entries = new BoxFolderWalker(2)
+            .setErrorHandler(errors::put)
+            .walk(new BoxFolder(this.api, "0"))) {
+            count = entries.count();
+        }
+
+        assertThat(count, is(6L));
+        assertThat(errors.keySet().iterator().next(), is("/a/b/"));
+        assertThrows(BoxAPIException.class, () -> {
+            try (Stream<BoxFolderWalker.Entry> entries = new BoxFolderWalker(2).walk(new BoxFolder(this.api, "0"))) {
+                entries.count();
+            }
+        });
+    }
+
+    private void stubFolder(String id, String entries) {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/" + id + "/items/"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": [" + entries + "], \"limit\": 1000}")
+                    .withStatus(200))
+        );
+    }
+}
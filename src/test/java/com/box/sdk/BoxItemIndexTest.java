@@ -0,0 +1,119 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertNull;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link BoxItemIndex} related unit tests.
+ */
+public class BoxItemIndexTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/events"))
+                .withQueryParam("stream_position", WireMock.equalTo("now"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"chunk_size\": 0, \"next_stream_position\": 100, \"entries\": []}"))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/0"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"type\": \"folder\", \"id\": \"0\", \"name\": \"All Files\", \"etag\": \"0\"}"))
+        );
+        this.stubFolder("0", "{\"type\": \"folder\", \"id\": \"1\", \"name\": \"a\", \"etag\": \"0\","
+            + " \"sequence_id\": \"0\"},"
+            + "{\"type\": \"file\", \"id\": \"10\", \"name\": \"f.txt\", \"size\": 3, \"sha1\": \"abc\"}");
+        this.stubFolder("1", "{\"type\": \"folder\", \"id\": \"2\", \"name\": \"b\","
+            + " \"parent\": {\"type\": \"folder\", \"id\": \"1\"}},"
+            + "{\"type\": \"file\", \"id\": \"11\", \"name\": \"g.txt\", \"size\": 4}");
+        this.stubFolder("2", "{\"type\": \"file\", \"id\": \"12\", \"name\": \"h.txt\", \"size\": 5}");
+    }
+
+    @Test
+    public void bootstrapIndexesTheTreeAndRecordsTheStreamPosition() {
+        BoxItemIndex index = new BoxItemIndex(this.api, new InMemoryBoxItemIndexStore()).setThreads(2);
+        index.bootstrap(new BoxFolder(this.api, "0"));
+
+        assertThat(index.size(), is(6));
+        assertThat(index.getStreamPosition(), is(100L));
+        assertThat(index.getPath("12"), is("/a/b/h.txt"));
+        assertThat(index.getPath("0"), is(""));
+        assertThat(index.find("/a/g.txt").getID(), is("11"));
+        assertThat(index.get("10").getSha1(), is("abc"));
+        assertThat(index.get("2").getParentID(), is("1"));
+        assertThat(index.getChildren("1").size(), is(2));
+        assertThat(index.getIncompleteFolders().size(), is(0));
+    }
+
+    @Test
+    public void eventsUpdateTheIndex() {
+        BoxItemIndex index = new BoxItemIndex(this.api, new InMemoryBoxItemIndexStore());
+        index.bootstrap(new BoxFolder(this.api, "0"));
+
+        index.onEvent(this.event("ITEM_UPLOAD", "{\"type\": \"file\", \"id\": \"13\", \"name\": \"new.txt\","
+            + " \"sequence_id\": \"0\", \"size\": 7, \"parent\": {\"type\": \"folder\", \"id\": \"2\"}}"));
+        assertThat(index.getPath("13"), is("/a/b/new.txt"));
+
+        index.onEvent(this.event("ITEM_RENAME", "{\"type\": \"file\", \"id\": \"13\", \"name\": \"renamed.txt\","
+            + " \"sequence_id\": \"2\", \"size\": 7, \"parent\": {\"type\": \"folder\", \"id\": \"2\"}}"));
+        index.onEvent(this.event("ITEM_RENAME", "{\"type\": \"file\", \"id\": \"13\", \"name\": \"stale.txt\","
+            + " \"sequence_id\": \"1\", \"size\": 7, \"parent\": {\"type\": \"folder\", \"id\": \"2\"}}"));
+        assertThat(index.getPath("13"), is("/a/b/renamed.txt"));
+
+        index.onEvent(this.event("ITEM_MOVE", "{\"type\": \"folder\", \"id\": \"2\", \"name\": \"b\","
+            + " \"parent\": {\"type\": \"folder\", \"id\": \"0\"}}"));
+        assertThat(index.getPath("12"), is("/b/h.txt"));
+        assertThat(index.get("2").isComplete(), is(true));
+
+        index.onEvent(this.event("ITEM_MOVE", "{\"type\": \"folder\", \"id\": \"50\", \"name\": \"moved in\","
+            + " \"parent\": {\"type\": \"folder\", \"id\": \"1\"}}"));
+        assertThat(index.getIncompleteFolders().get(0).getID(), is("50"));
+
+        index.onEvent(this.event("ITEM_TRASH", "{\"type\": \"folder\", \"id\": \"2\", \"name\": \"b\"}"));
+        assertNull(index.get("2"));
+        assertNull(index.get("12"));
+        assertNull(index.get("13"));
+
+        index.onEvent(this.event("ITEM_MOVE", "{\"type\": \"file\", \"id\": \"11\", \"name\": \"g.txt\","
+            + " \"parent\": {\"type\": \"folder\", \"id\": \"999\"}}"));
+        assertNull(index.get("11"));
+
+        index.onNextPosition(120);
+        assertThat(index.getStreamPosition(), is(120L));
+        assertThat(index.size(), is(4));
+    }
+
+    private BoxEvent event(String eventType, String source) {
+        return new BoxEvent(this.api, "{\"type\": \"event\", \"event_id\": \"" + eventType + source.hashCode() + "\","
+            + " \"event_type\": \"" + eventType + "\", \"source\": " + source + "}");
+    }
+
+    private void stubFolder(String id, String entries) {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/" + id + "/items/"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": [" + entries + "], \"limit\": 1000}")
+                    .withStatus(200))
+        );
+    }
+}
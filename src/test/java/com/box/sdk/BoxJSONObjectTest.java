@@ -0,0 +1,58 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * {@link BoxJSONObject} related unit tests.
+ */
+public class BoxJSONObjectTest {
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Test
+    public void lazyInfoDecodesMembersOnlyWhenTheyAreRead() {
+        this.api.setLazyInfoDecoding(true);
+        BoxFile file = new BoxFile(this.api, "12345");
+
+        BoxFile.Info info = file.new Info(
+            "{\"type\": \"file\", \"id\": \"12345\", \"name\": \"a.txt\", \"created_at\": \"not a date\"}");
+
+        assertThat(info.getName(), is("a.txt"));
+        assertThrows(BoxDeserializationException.class, info::getCreatedAt);
+        assertThrows(BoxDeserializationException.class, () -> new BoxFile(TestUtils.getAPIConnection(), "12345")
+            .new Info("{\"type\": \"file\", \"id\": \"12345\", \"created_at\": \"not a date\"}"));
+    }
+
+    @Test
+    public void lazyInfoKeepsLocalChangesAndTracksThemAsPending() {
+        this.api.setLazyInfoDecoding(true);
+        BoxFile file = new BoxFile(this.api, "12345");
+        BoxFile.Info info = file.new Info("{\"type\": \"file\", \"id\": \"12345\", \"name\": \"a.txt\"}");
+
+        info.setName("b.txt");
+
+        assertThat(info.getName(), is("b.txt"));
+        assertEquals(Json.parse("{\"name\": \"b.txt\"}"), Json.parse(info.getPendingChanges()));
+    }
+
+    @Test
+    public void lazyInfoKeepsMembersMissingFromUpdate() {
+        this.api.setLazyInfoDecoding(true);
+        BoxFile file = new BoxFile(this.api, "12345");
+        BoxFile.Info info = file.new Info(
+            "{\"type\": \"file\", \"id\": \"12345\", \"name\": \"a.txt\", \"description\": \"first\"}");
+
+        info.update(Json.parse("{\"type\": \"file\", \"id\": \"12345\", \"name\": \"b.txt\"}").asObject());
+
+        assertThat(info.getName(), is("b.txt"));
+        assertThat(info.getDescription(), is("first"));
+        JsonObject json = Json.parse(info.getJson()).asObject();
+        assertThat(json.get("name").asString(), is("b.txt"));
+    }
+}
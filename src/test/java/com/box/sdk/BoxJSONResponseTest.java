@@ -0,0 +1,107 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * {@link BoxJSONResponse} related unit tests.
+ */
+public class BoxJSONResponseTest {
+
+    @Test
+    public void getJsonObjectReturnsTheParsedBodyWithoutCopying() {
+        JsonObject body = new JsonObject().add("id", "12345");
+        BoxJSONResponse response = new BoxJSONResponse(200, "GET", "https://api.box.com/2.0/folders/12345",
+            Collections.emptyMap(), body);
+
+        assertThat(response.getJsonObject(), sameInstance(body));
+        assertThat(response.getJsonObject(), sameInstance(body));
+    }
+
+    @Test
+    public void getJsonObjectParsesJsonOnlyOnce() {
+        BoxJSONResponse response = new BoxJSONResponse() {
+            @Override
+            public String getJSON() {
+                return "{\"id\": \"12345\"}";
+            }
+        };
+
+        JsonObject first = response.getJsonObject();
+
+        assertEquals("12345", first.get("id").asString());
+        assertThat(response.getJsonObject(), sameInstance(first));
+    }
+
+    @Test
+    public void resourcesReadResponsesWithoutReparsingThem() {
+        BoxAPIConnection api = TestUtils.getAPIConnection();
+        api.setRequestInterceptor(request -> {
+            String path = request.getUrl().getPath();
+            JsonObject body;
+            if (path.endsWith("/folders/12345/items")) {
+                body = new JsonObject()
+                    .add("total_count", 2)
+                    .add("offset", 0)
+                    .add("limit", 100)
+                    .add("entries", new JsonArray()
+                        .add(new JsonObject().add("type", "file").add("id", "1").add("name", "a.txt"))
+                        .add(new JsonObject().add("type", "folder").add("id", "2").add("name", "b")));
+            } else if (path.endsWith("/folders/12345/collaborations")) {
+                body = new JsonObject()
+                    .add("total_count", 1)
+                    .add("entries", new JsonArray()
+                        .add(new JsonObject().add("type", "collaboration").add("id", "3").add("role", "editor")));
+            } else if (path.endsWith("/folders")) {
+                body = new JsonObject().add("type", "folder").add("id", "4").add("name", "new");
+            } else {
+                body = new JsonObject().add("type", "folder").add("id", "12345").add("name", "root");
+            }
+            return new ParseOnceResponse(request, body);
+        });
+        BoxFolder folder = new BoxFolder(api, "12345");
+
+        assertEquals("root", folder.getInfo().getName());
+        assertEquals("new", folder.createFolder("new").getName());
+        Collection<BoxCollaboration.Info> collaborations = folder.getCollaborations();
+        assertThat(collaborations.size(), is(1));
+        List<String> names = new ArrayList<>();
+        for (BoxItem.Info itemInfo : folder.getChildren()) {
+            names.add(itemInfo.getName());
+        }
+        assertThat(names.size(), is(2));
+        assertEquals("a.txt", names.get(0));
+        assertEquals("b", names.get(1));
+    }
+
+    /**
+     * Response that fails the test if its body is turned back into a JSON string.
+     */
+    private static final class ParseOnceResponse extends BoxJSONResponse {
+        private final boolean constructed;
+
+        ParseOnceResponse(BoxAPIRequest request, JsonObject body) {
+            super(200, request.getMethod(), request.getUrl().toString(), Collections.emptyMap(), body);
+            this.constructed = true;
+        }
+
+        @Override
+        public String getJSON() {
+            if (this.constructed) {
+                throw new AssertionError("Response body was serialized to be parsed again.");
+            }
+            // the response is logged while it is constructed, before it has a body
+            return null;
+        }
+    }
+}
@@ -5,8 +5,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.eclipsesource.json.JsonObject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Test;
 
 /**
@@ -153,4 +157,59 @@ public class BoxResourceIterableTest {
         assertEquals(value3, field);
         assertFalse(iterator.hasNext());
     }
+
+    /**
+     * Unit test for {@link BoxResourceIterable.IteratorImpl#hasNext()} with page prefetching enabled.
+     */
+    @Test
+    public void testIteratorPrefetchesPagesInOrder() throws InterruptedException {
+        final URLTemplate urlTemplate = new URLTemplate("endpoint/%s");
+        final AtomicInteger requests = new AtomicInteger();
+
+        BoxAPIConnection api = new BoxAPIConnectionForTests("");
+        api.setPagePrefetchDepth(2);
+        api.setRequestInterceptor(new RequestInterceptor() {
+            @Override
+            public BoxAPIResponse onRequest(BoxAPIRequest request) {
+                requests.incrementAndGet();
+                String url = request.getUrl().toString();
+                final String json;
+                if (url.endsWith("marker=m2")) {
+                    json = "{\"entries\":[{\"field\": \"3\"}]}";
+                } else if (url.endsWith("marker=m1")) {
+                    json = "{\"entries\":[{\"field\": \"2\"}], \"next_marker\": \"m2\"}";
+                } else {
+                    json = "{\"entries\":[{\"field\": \"1\"}], \"next_marker\": \"m1\"}";
+                }
+                return new BoxJSONResponse() {
+                    @Override
+                    public String getJSON() {
+                        return json;
+                    }
+                };
+            }
+        });
+
+        Iterator<String> iterator = new BoxResourceIterable<String>(api, urlTemplate.build(api.getBaseURL(), "0"),
+            19) {
+            @Override
+            protected String factory(JsonObject jsonObject) {
+                return jsonObject.get("field").asString();
+            }
+        }
+            .iterator();
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requests.get() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, requests.get());
+
+        List<String> fields = new ArrayList<>();
+        while (iterator.hasNext()) {
+            fields.add(iterator.next());
+        }
+        assertEquals(Arrays.asList("1", "2", "3"), fields);
+        assertEquals(3, requests.get());
+    }
 }
@@ -82,4 +82,24 @@ public class BoxResourceTest {
         }
     }
 
+    /**
+     * Unit tests for {@link BoxResource#registerInfoFactory(String, BoxResource.InfoFactory)}.
+     */
+    @Test
+    public void testParseInfoOfRegisteredType() {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.set("type", "custom_folder");
+        jsonObject.set("id", "id");
+        Assert.assertNull(BoxResource.parseInfo(null, jsonObject));
+
+        BoxResource.registerInfoFactory("custom_folder", (api, id, json) -> new BoxFolder(api, id).new Info(json));
+        try {
+            BoxResource.Info info = BoxResource.parseInfo(null, jsonObject);
+            Assert.assertTrue(info instanceof BoxFolder.Info);
+            Assert.assertEquals("id", info.getID());
+        } finally {
+            BoxResource.registerInfoFactory("custom_folder", null);
+        }
+        Assert.assertNull(BoxResource.parseInfo(null, jsonObject));
+    }
 }
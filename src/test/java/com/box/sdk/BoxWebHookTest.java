@@ -11,7 +11,11 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -109,6 +113,48 @@ public class BoxWebHookTest {
         assertEquals(folderID, webhookInfo.getTarget().getId());
     }
 
+    @Test
+    public void testGetAllWebhooksUsesThePageSizePolicyOfTheListing() {
+        final String webhookURL = "/2.0/webhooks";
+        String result = TestUtils.getFixture("BoxWebhook/GetAllWebhooks200");
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo(webhookURL))
+            .withQueryParam("limit", WireMock.equalTo("10"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody(result)));
+        this.api.setPageSizePolicy(new PageSizePolicy() {
+            @Override
+            public long getLimit(URL url, long defaultLimit, long maxLimit) {
+                return 5;
+            }
+
+            @Override
+            public void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency) {
+            }
+        });
+        final List<Long> loadedLimits = new ArrayList<>();
+        final List<Long> offeredLimits = new ArrayList<>();
+        PageSizePolicy listingPolicy = new PageSizePolicy() {
+            @Override
+            public long getLimit(URL url, long defaultLimit, long maxLimit) {
+                offeredLimits.add(defaultLimit);
+                offeredLimits.add(maxLimit);
+                return 10;
+            }
+
+            @Override
+            public void onPageLoaded(URL url, long limit, int entries, long bodyLength, long latency) {
+                loadedLimits.add(limit);
+            }
+        };
+
+        Iterator<BoxWebHook.Info> webhooks = BoxWebHook.all(this.api, listingPolicy).iterator();
+
+        assertEquals("12345", webhooks.next().getID());
+        assertEquals(Collections.singletonList(10L), loadedLimits);
+        assertEquals(Arrays.asList(64L, 1000L), offeredLimits);
+    }
+
     @Test
     public void testUpdateWebhookInfoSucceeds() throws IOException {
         final String newAddress = "https://newexample.com";
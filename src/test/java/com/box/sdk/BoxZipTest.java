@@ -4,16 +4,27 @@ package com.box.sdk;
 import static com.box.sdk.http.ContentType.APPLICATION_JSON;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -77,5 +88,98 @@ public class BoxZipTest {
         assertEquals("salary.pdf", conflict1Items.get(1).getOriginalName());
         assertEquals("aci23s.pdf", conflict1Items.get(1).getDownloadName());
     }
-}
 
+    @Test
+    public void downloadEntriesStreamsEveryEntryAndReportsStatus() throws IOException {
+        this.stubZipDownload();
+
+        List<BoxZipItem> items = new ArrayList<>();
+        items.add(new BoxZipItem("folder", "156472"));
+        Map<String, String> entries = new LinkedHashMap<>();
+        List<BoxZipDownloadStatus> statuses = new ArrayList<>();
+        List<BoxZipConflict> conflicts = new ArrayList<>();
+
+        BoxZip zip = new BoxZip(this.api);
+        zip.setStatusPollingInterval(1);
+        BoxZipDownloadStatus status = zip.downloadEntries("test", items, (entry, content) -> {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            BinaryBodyUtils.writeStreamTo(content, output);
+            content.close();
+            entries.put(entry.getName(), new String(output.toByteArray(), UTF_8));
+        }, new BoxZipStatusListener() {
+            @Override
+            public void onNameConflicts(List<BoxZipConflict> nameConflicts) {
+                conflicts.addAll(nameConflicts);
+            }
+
+            @Override
+            public void onStatus(BoxZipDownloadStatus status) {
+                statuses.add(status);
+            }
+        });
+
+        assertEquals(3, entries.size());
+        assertEquals("", entries.get("folder/"));
+        assertEquals("first file", entries.get("folder/first.txt"));
+        assertEquals("second file", entries.get("folder/second.txt"));
+        assertEquals(2, conflicts.size());
+        assertEquals(BoxZipDownloadStatus.State.SUCCEEDED, status.getState());
+        assertEquals(2, status.getDownloadFileCount());
+        assertEquals(BoxZipDownloadStatus.State.SUCCEEDED, statuses.get(statuses.size() - 1).getState());
+    }
+
+    @Test
+    public void extractWritesEntriesToTargetDirectory() throws IOException {
+        this.stubZipDownload();
+
+        List<BoxZipItem> items = new ArrayList<>();
+        items.add(new BoxZipItem("folder", "156472"));
+        Path target = Files.createTempDirectory("zip");
+
+        BoxZip zip = new BoxZip(this.api);
+        BoxZipDownloadStatus status = zip.extract("test", items, target.toFile());
+
+        File first = target.resolve("folder/first.txt").toFile();
+        File second = target.resolve("folder/second.txt").toFile();
+        assertTrue(first.isFile());
+        assertEquals("first file", new String(Files.readAllBytes(first.toPath()), UTF_8));
+        assertEquals("second file", new String(Files.readAllBytes(second.toPath()), UTF_8));
+        assertEquals(BoxZipDownloadStatus.State.SUCCEEDED, status.getState());
+    }
+
+    private void stubZipDownload() throws IOException {
+        String createResponse = TestUtils.getFixture("BoxZip/CreateZipFile202")
+            .replace("https://api.box.com/", format("https://localhost:%d/", wireMockRule.httpsPort()));
+        wireMockRule.stubFor(WireMock.post(WireMock.urlPathEqualTo("/2.0/zip_downloads"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody(createResponse)));
+
+        ByteArrayOutputStream zipBytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutput = new ZipOutputStream(zipBytes)) {
+            zipOutput.putNextEntry(new ZipEntry("folder/"));
+            zipOutput.closeEntry();
+            zipOutput.putNextEntry(new ZipEntry("folder/first.txt"));
+            zipOutput.write("first file".getBytes(UTF_8));
+            zipOutput.closeEntry();
+            zipOutput.putNextEntry(new ZipEntry("folder/second.txt"));
+            zipOutput.write("second file".getBytes(UTF_8));
+            zipOutput.closeEntry();
+        }
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo("/zip_downloads/124hfiowk3fa8kmrwh/content"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", "application/zip")
+                .withBody(zipBytes.toByteArray())));
+
+        JsonObject status = new JsonObject()
+            .add("total_file_count", 2)
+            .add("download_file_count", 2)
+            .add("skipped_file_count", 0)
+            .add("skipped_folder_count", 0)
+            .add("state", "succeeded");
+        wireMockRule.stubFor(WireMock.get(WireMock.urlPathEqualTo("/zip_downloads/124hfiowk3fa8kmrwh/status"))
+            .willReturn(WireMock.aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody(status.toString())));
+    }
+}
@@ -0,0 +1,251 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public class EnterpriseEventsBackfillTest {
+    private static final long START = 1600000000000L;
+    private static final long END = START + TimeUnit.DAYS.toMillis(2);
+    private static final long BURST = START + TimeUnit.HOURS.toMillis(30);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private List<Long> eventDates = eventDates();
+    private int firstChunkLimit;
+
+    @Test
+    public void backfillReturnsEveryEventOnceAndSplitsDenseSlices() {
+        EnterpriseEventsBackfill backfill = new EnterpriseEventsBackfill(this.api(), this.request())
+            .setParallelism(3)
+            .setInitialSlices(4);
+
+        List<String> eventIDs;
+        try (Stream<BoxEvent> events = backfill.stream()) {
+            eventIDs = events.map(BoxEvent::getID).sorted().collect(Collectors.toList());
+        }
+
+        assertEquals(this.allEventIDs(), eventIDs);
+        // Reading the four slices one chunk after another would take one request per five events and an empty
+        // chunk per slice; splitting the burst adds requests but spreads them over the threads.
+        assertThat(this.requests.get(), greaterThan(4));
+    }
+
+    @Test
+    public void orderedBackfillReturnsEventsInTimeOrder() {
+        EnterpriseEventsBackfill backfill = new EnterpriseEventsBackfill(this.api(), this.request())
+            .setParallelism(4)
+            .setOrdered(true)
+            .setMaxRequestsPerSecond(1000);
+
+        List<String> eventIDs;
+        try (Stream<BoxEvent> events = backfill.stream()) {
+            eventIDs = events.map(BoxEvent::getID).collect(Collectors.toList());
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < this.eventDates.size(); i++) {
+            expected.add(eventID(i));
+        }
+        assertEquals(expected, eventIDs);
+    }
+
+    @Test
+    public void backfillResumesWithSavedSlices() {
+        InMemoryCheckpointStore store = new InMemoryCheckpointStore();
+        EnterpriseEventsBackfill backfill = new EnterpriseEventsBackfill(this.api(), this.request())
+            .setCheckpointStore(store);
+        long count;
+        try (Stream<BoxEvent> events = backfill.stream()) {
+            count = events.count();
+        }
+        assertThat(count, is((long) this.eventDates.size()));
+        assertThat(store.load(), is(empty()));
+        assertThat(store.saves, greaterThan(1));
+
+        long sliceStart = START + TimeUnit.HOURS.toMillis(40);
+        store.slices = Collections.singletonList(
+            new EnterpriseEventsBackfill.Slice(new Date(sliceStart), new Date(END)));
+        List<String> resumedIDs;
+        try (Stream<BoxEvent> events = backfill.stream()) {
+            resumedIDs = events.map(BoxEvent::getID).sorted().collect(Collectors.toList());
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < this.eventDates.size(); i++) {
+            if (this.eventDates.get(i) >= sliceStart) {
+                expected.add(eventID(i));
+            }
+        }
+        Collections.sort(expected);
+        assertEquals(expected, resumedIDs);
+        assertThat(store.load(), is(empty()));
+    }
+
+    @Test
+    public void eventsOfTheSecondASliceIsSplitAtAreReturnedOnce() {
+        // The first chunk of every slice is cut short, as the API may do, so the next chunk starts within a second
+        // of which events were returned already and is full of events of that second.
+        long second = START + TimeUnit.MINUTES.toMillis(30);
+        List<Long> dates = new ArrayList<>();
+        dates.add(START + TimeUnit.MINUTES.toMillis(10));
+        for (int i = 0; i < 8; i++) {
+            dates.add(second);
+        }
+        dates.add(START + TimeUnit.HOURS.toMillis(20));
+        dates.add(START + TimeUnit.HOURS.toMillis(40));
+        this.eventDates = dates;
+        this.firstChunkLimit = 3;
+        EnterpriseEventsBackfill backfill = new EnterpriseEventsBackfill(this.api(), this.request())
+            .setParallelism(2)
+            .setInitialSlices(1);
+
+        List<String> eventIDs;
+        try (Stream<BoxEvent> events = backfill.stream()) {
+            eventIDs = events.map(BoxEvent::getID).sorted().collect(Collectors.toList());
+        }
+
+        assertEquals(this.allEventIDs(), eventIDs);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void backfillNeedsBothDates() {
+        new EnterpriseEventsBackfill(this.api(), new EnterpriseEventsRequest().after(new Date(START)));
+    }
+
+    private EnterpriseEventsRequest request() {
+        return new EnterpriseEventsRequest()
+            .after(new Date(START))
+            .before(new Date(END))
+            .limit(5);
+    }
+
+    private List<String> allEventIDs() {
+        List<String> eventIDs = new ArrayList<>();
+        for (int i = 0; i < this.eventDates.size(); i++) {
+            eventIDs.add(eventID(i));
+        }
+        Collections.sort(eventIDs);
+        return eventIDs;
+    }
+
+    /**
+     * An event every 20 minutes, and a burst of an event every second for 100 seconds.
+     */
+    private static List<Long> eventDates() {
+        List<Long> dates = new ArrayList<>();
+        for (long date = START; date < END; date += TimeUnit.MINUTES.toMillis(20)) {
+            if (date == BURST) {
+                for (int i = 0; i < 100; i++) {
+                    dates.add(BURST + TimeUnit.SECONDS.toMillis(i));
+                }
+            } else {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private static String eventID(int index) {
+        return "event-" + index;
+    }
+
+    /**
+     * Serves the events whose dates are within the requested window, paged by the limit.
+     */
+    private BoxAPIConnection api() {
+        BoxAPIConnection api = new BoxAPIConnectionForTests("");
+        api.setRequestInterceptor(request -> {
+            this.requests.incrementAndGet();
+            Map<String, String> params = queryParams(request.getUrl().getQuery());
+            long after;
+            long before;
+            try {
+                after = BoxDateFormat.parse(params.get("created_after")).getTime();
+                before = BoxDateFormat.parse(params.get("created_before")).getTime();
+            } catch (ParseException e) {
+                throw new IllegalStateException(e);
+            }
+            int offset = params.containsKey("stream_position") ? Integer.parseInt(params.get("stream_position")) : 0;
+            int limit = Integer.parseInt(params.get("limit"));
+            if (offset == 0 && this.firstChunkLimit > 0) {
+                limit = Math.min(limit, this.firstChunkLimit);
+            }
+
+            List<Integer> matching = new ArrayList<>();
+            for (int i = 0; i < this.eventDates.size(); i++) {
+                long date = this.eventDates.get(i);
+                if (date >= after && date <= before) {
+                    matching.add(i);
+                }
+            }
+            JsonArray entries = new JsonArray();
+            int end = Math.min(offset + limit, matching.size());
+            for (int index : matching.subList(Math.min(offset, end), end)) {
+                entries.add(new JsonObject()
+                    .add("type", "event")
+                    .add("event_id", eventID(index))
+                    .add("created_at", BoxDateFormat.format(new Date(this.eventDates.get(index)))));
+            }
+            final String json = new JsonObject()
+                .add("entries", entries)
+                .add("next_stream_position", String.valueOf(Math.max(offset, end)))
+                .add("chunk_size", entries.size())
+                .toString();
+            return new BoxJSONResponse() {
+                @Override
+                public String getJSON() {
+                    return json;
+                }
+            };
+        });
+        return api;
+    }
+
+    private static Map<String, String> queryParams(String query) {
+        Map<String, String> params = new HashMap<>();
+        for (String param : query.split("&")) {
+            String[] nameAndValue = param.split("=", 2);
+            try {
+                params.put(nameAndValue[0], URLDecoder.decode(nameAndValue[1], "UTF-8"));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return params;
+    }
+
+    private static final class InMemoryCheckpointStore implements EnterpriseEventsBackfill.CheckpointStore {
+        private volatile List<EnterpriseEventsBackfill.Slice> slices;
+        private volatile int saves;
+
+        @Override
+        public void save(List<EnterpriseEventsBackfill.Slice> remainingSlices) {
+            this.slices = remainingSlices;
+            this.saves++;
+        }
+
+        @Override
+        public List<EnterpriseEventsBackfill.Slice> load() {
+            return this.slices;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * {@link EventDispatcher} related unit tests.
+ */
+public class EventDispatcherTest {
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Test
+    public void eventsOfTheSameSourceAreDispatchedInOrderAndPositionsAfterTheirEvents() throws InterruptedException {
+        final Map<String, List<String>> eventIDsBySource = new ConcurrentHashMap<>();
+        final List<String> completed = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(2);
+        BatchEventListener listener = new BatchEventListener() {
+            @Override
+            public void onEvents(List<BoxEvent> events) {
+                for (BoxEvent event : events) {
+                    String sourceID = event.getSourceJSON().get("id").asString();
+                    eventIDsBySource.computeIfAbsent(sourceID, id -> new CopyOnWriteArrayList<>()).add(event.getID());
+                }
+            }
+
+            @Override
+            public void onEvent(BoxEvent event) {
+                throw new AssertionError("Batch listeners get batches.");
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                return false;
+            }
+        };
+
+        try (EventDispatcher dispatcher = new EventDispatcher(4, 3)) {
+            EventListenerTable listeners = EventListenerTable.EMPTY.with(listener, null);
+            dispatcher.dispatch(Arrays.asList(this.event("1", "a"), this.event("2", "b"), this.event("3", "a")),
+                listeners, () -> {
+                    completed.add("first");
+                    done.countDown();
+                }, e -> {
+                });
+            dispatcher.dispatch(Arrays.asList(this.event("4", "b"), this.event("5", "a")),
+                listeners, () -> {
+                    completed.add("second");
+                    done.countDown();
+                }, e -> {
+                });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertThat(dispatcher.getQueuedEvents(), is(0));
+        }
+
+        assertEquals(Arrays.asList("1", "3", "5"), eventIDsBySource.get("a"));
+        assertEquals(Arrays.asList("2", "4"), eventIDsBySource.get("b"));
+        assertEquals(Arrays.asList("first", "second"), new ArrayList<>(completed));
+    }
+
+    @Test
+    public void batchListenersReceiveOnlyEventsOfTheirTypes() throws InterruptedException {
+        final List<String> uploadIDs = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        BatchEventListener listener = new BatchEventListener() {
+            @Override
+            public void onEvents(List<BoxEvent> events) {
+                for (BoxEvent event : events) {
+                    uploadIDs.add(event.getID());
+                }
+            }
+
+            @Override
+            public void onEvent(BoxEvent event) {
+                throw new AssertionError("Batch listeners get batches.");
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                return false;
+            }
+        };
+
+        try (EventDispatcher dispatcher = new EventDispatcher(1)) {
+            EventListenerTable listeners = EventListenerTable.EMPTY
+                .with(listener, EnumSet.of(BoxEvent.EventType.ITEM_UPLOAD));
+            dispatcher.dispatch(Arrays.asList(this.event("1", "a", "ITEM_UPLOAD"), this.event("2", "a", "ITEM_TRASH"),
+                this.event("3", "b", "ITEM_UPLOAD")), listeners, done::countDown, e -> {
+                });
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Arrays.asList("1", "3"), uploadIDs);
+    }
+
+    @Test
+    public void batchesAreNotCompletedAfterAListenerFailed() throws InterruptedException {
+        final List<String> completed = new CopyOnWriteArrayList<>();
+        final List<Throwable> errors = new CopyOnWriteArrayList<>();
+        EventListener listener = new EventListener() {
+            @Override
+            public void onEvent(BoxEvent event) {
+                if (event.getID().equals("2")) {
+                    throw new IllegalStateException("Couldn't process event 2.");
+                }
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                return false;
+            }
+        };
+
+        try (EventDispatcher dispatcher = new EventDispatcher(2)) {
+            EventListenerTable listeners = EventListenerTable.EMPTY.with(listener, null);
+            dispatcher.dispatch(Arrays.asList(this.event("1", "a"), this.event("2", "b")), listeners,
+                () -> completed.add("first"), errors::add);
+            dispatcher.dispatch(Arrays.asList(this.event("3", "a"), this.event("4", "b")), listeners,
+                () -> completed.add("second"), errors::add);
+            this.awaitEmptyQueue(dispatcher);
+
+            assertThat(errors.size(), is(1));
+            assertTrue(completed.isEmpty());
+
+            dispatcher.reset();
+            final CountDownLatch done = new CountDownLatch(1);
+            dispatcher.dispatch(Arrays.asList(this.event("5", "a")), listeners, () -> {
+                completed.add("after reset");
+                done.countDown();
+            }, errors::add);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(Arrays.asList("after reset"), new ArrayList<>(completed));
+    }
+
+    private void awaitEmptyQueue(EventDispatcher dispatcher) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getQueuedEvents() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.getQueuedEvents(), is(0));
+    }
+
+    private BoxEvent event(String id, String sourceID, String eventType) {
+        return new BoxEvent(this.api, "{\"type\": \"event\", \"event_id\": \"" + id + "\", "
+            + "\"event_type\": \"" + eventType + "\", "
+            + "\"source\": {\"type\": \"file\", \"id\": \"" + sourceID + "\"}}");
+    }
+
+    private BoxEvent event(String id, String sourceID) {
+        return new BoxEvent(this.api, "{\"type\": \"event\", \"event_id\": \"" + id + "\", "
+            + "\"source\": {\"type\": \"file\", \"id\": \"" + sourceID + "\"}}");
+    }
+}
@@ -0,0 +1,56 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+public class EventIDFilterTest {
+    @Test
+    public void addReturnsFalseOnlyForRememberedIDs() {
+        EventIDFilter filter = new EventIDFilter(4);
+
+        assertThat(filter.add("1"), is(true));
+        assertThat(filter.add("2"), is(true));
+        assertThat(filter.add("1"), is(false));
+        assertThat(filter.add("2"), is(false));
+    }
+
+    @Test
+    public void addForgetsOldestIDWhenFull() {
+        EventIDFilter filter = new EventIDFilter(100);
+        for (int i = 0; i < 101; i++) {
+            filter.add(String.valueOf(i));
+        }
+
+        assertThat(filter.toArray().length, is(100));
+        for (int i = 1; i < 101; i++) {
+            assertThat(filter.add(String.valueOf(i)), is(false));
+        }
+        assertThat(filter.add("0"), is(true));
+    }
+
+    @Test
+    public void addForgetsIDsOlderThanWindow() throws InterruptedException {
+        EventIDFilter filter = new EventIDFilter(100, 50);
+        filter.add("1");
+        Thread.sleep(100);
+
+        assertThat(filter.add("1"), is(true));
+    }
+
+    @Test
+    public void hashesCanBeRestored() {
+        EventIDFilter filter = new EventIDFilter(10);
+        filter.add("1");
+        filter.add("2");
+
+        EventIDFilter restored = new EventIDFilter(10);
+        for (long hash : filter.toArray()) {
+            restored.addHash(hash);
+        }
+
+        assertThat(restored.add("2"), is(false));
+        assertThat(restored.add("3"), is(true));
+    }
+}
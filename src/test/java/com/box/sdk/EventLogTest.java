@@ -6,11 +6,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
 
 import com.eclipsesource.json.Json;
 import com.eclipsesource.json.JsonObject;
 import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Test;
 
 public class EventLogTest {
@@ -210,4 +215,57 @@ public class EventLogTest {
             .typeNames("LOGIN", "FAILED_LOGIN");
         EventLog.getEnterpriseEventsStream(api, request);
     }
+
+    @Test
+    public void iterateEnterpriseEventsFollowsStreamPositionUntilEmptyChunk() {
+        BoxAPIConnection api = this.apiWithChunks();
+
+        List<String> eventIDs = new ArrayList<>();
+        EnterpriseEventsIterable events = EventLog.iterateEnterpriseEvents(api,
+            new EnterpriseEventsRequest().position("p0"));
+        for (BoxEvent event : events) {
+            eventIDs.add(event.getID());
+        }
+
+        assertEquals(Arrays.asList("1", "2", "3"), eventIDs);
+        assertThat(events.getStreamPosition(), is("p2"));
+    }
+
+    @Test
+    public void iterateEnterpriseEventsStreamStopsAtEndCondition() {
+        BoxAPIConnection api = this.apiWithChunks();
+
+        EnterpriseEventsIterable events = EventLog.iterateEnterpriseEventsStream(api,
+            new EnterpriseEventsStreamRequest().position("p0"))
+            .stopWhen(event -> event.getID().equals("3"));
+        List<String> eventIDs = events.stream().map(BoxEvent::getID).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("1", "2"), eventIDs);
+        assertThat(events.getStreamPosition(), is("p1"));
+    }
+
+    private BoxAPIConnection apiWithChunks() {
+        BoxAPIConnection api = new BoxAPIConnectionForTests("");
+        api.setRequestInterceptor(request -> {
+            String query = request.getUrl().getQuery();
+            final String json;
+            if (query.contains("stream_position=p0")) {
+                json = "{\"entries\": [{\"type\": \"event\", \"event_id\": \"1\"}, "
+                    + "{\"type\": \"event\", \"event_id\": \"2\"}], \"next_stream_position\": \"p1\", "
+                    + "\"chunk_size\": 2}";
+            } else if (query.contains("stream_position=p1")) {
+                json = "{\"entries\": [{\"type\": \"event\", \"event_id\": \"3\"}], "
+                    + "\"next_stream_position\": \"p2\", \"chunk_size\": 1}";
+            } else {
+                json = "{\"entries\": [], \"next_stream_position\": \"p2\", \"chunk_size\": 0}";
+            }
+            return new BoxJSONResponse() {
+                @Override
+                public String getJSON() {
+                    return json;
+                }
+            };
+        });
+        return api;
+    }
 }
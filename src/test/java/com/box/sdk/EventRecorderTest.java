@@ -0,0 +1,167 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertTrue;
+
+import com.eclipsesource.json.Json;
+import com.eclipsesource.json.JsonObject;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+/**
+ * {@link EventRecorder} and {@link EventReplayer} related unit tests.
+ */
+public class EventRecorderTest {
+    private static final String REALTIME_SERVER_URL = "https://realtime.example.com/subscribe?channel=1";
+
+    @Test
+    public void recordedEventsAreReplayedThroughEventStreamAndEventLog() throws IOException, InterruptedException {
+        Path file = Files.createTempDirectory("events").resolve("events.rec");
+        EnterpriseEventsRequest enterpriseRequest = new EnterpriseEventsRequest()
+            .after(new Date(0))
+            .before(new Date(60000))
+            .limit(10);
+
+        BoxAPIConnection recordingAPI = new BoxAPIConnectionForTests("");
+        try (EventRecorder recorder = new EventRecorder(file, this::respondLikeTheEventsAPI)) {
+            recordingAPI.setRequestInterceptor(recorder);
+            new BoxJSONRequest(recordingAPI, new URL(recordingAPI.getBaseURL() + "events"), "OPTIONS").send();
+            new BoxJSONRequest(recordingAPI, new URL(REALTIME_SERVER_URL + "&stream_position=10"), "GET").send();
+            new BoxJSONRequest(recordingAPI,
+                EventStream.EVENT_URL.buildAlpha(recordingAPI.getBaseURL(), 10), "GET").send();
+            EventLog.getEnterpriseEvents(recordingAPI, enterpriseRequest);
+            assertThat(recorder.getRecordCount(), is(3L));
+        }
+
+        BoxAPIConnection replayAPI = new BoxAPIConnectionForTests("");
+        EventReplayer replayer = new EventReplayer(file).setSpeed(Double.POSITIVE_INFINITY);
+        replayAPI.setRequestInterceptor(replayer);
+
+        final List<String> eventIDs = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch received = new CountDownLatch(2);
+        EventStream stream = new EventStream(replayAPI, 10);
+        stream.addListener(new EventListener() {
+            @Override
+            public void onEvent(BoxEvent event) {
+                eventIDs.add(event.getID());
+                received.countDown();
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                return true;
+            }
+        });
+        stream.start();
+        received.await(5, TimeUnit.SECONDS);
+        stream.stop();
+        assertThat(eventIDs, contains("1", "2"));
+
+        EventLog log = EventLog.getEnterpriseEvents(replayAPI, enterpriseRequest);
+        assertThat(log.getSize(), is(1));
+        assertThat(log.iterator().next().getID(), is("3"));
+        assertThat(replayer.isFinished(), is(true));
+    }
+
+    @Test
+    public void streamRecordedFromNowIsReplayedToTheEnd() throws IOException, InterruptedException {
+        Path file = Files.createTempDirectory("events").resolve("events.rec");
+        BoxAPIConnection recordingAPI = new BoxAPIConnectionForTests("");
+        final CountDownLatch recorded = new CountDownLatch(2);
+        try (EventRecorder recorder = new EventRecorder(file, this::respondLikeTheEventsAPI)) {
+            recordingAPI.setRequestInterceptor(recorder);
+            EventStream stream = new EventStream(recordingAPI);
+            stream.addListener(this.listener(new ArrayList<>(), recorded));
+            stream.start();
+            assertTrue(recorded.await(5, TimeUnit.SECONDS));
+            stream.stop();
+            // the long poll and the page at position 10, but not the lookup of the current position
+            assertThat(recorder.getRecordCount(), is(2L));
+        }
+
+        BoxAPIConnection replayAPI = new BoxAPIConnectionForTests("");
+        EventReplayer replayer = new EventReplayer(file).setSpeed(Double.POSITIVE_INFINITY);
+        replayAPI.setRequestInterceptor(replayer);
+        final List<String> eventIDs = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch replayed = new CountDownLatch(2);
+        EventStream stream = new EventStream(replayAPI);
+        stream.addListener(this.listener(eventIDs, replayed));
+        stream.start();
+        assertTrue(replayed.await(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!replayer.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        stream.stop();
+
+        assertThat(replayer.isFinished(), is(true));
+        assertThat(eventIDs, contains("1", "2"));
+    }
+
+    private EventListener listener(final List<String> eventIDs, final CountDownLatch received) {
+        return new EventListener() {
+            @Override
+            public void onEvent(BoxEvent event) {
+                eventIDs.add(event.getID());
+                received.countDown();
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                return true;
+            }
+        };
+    }
+
+    private BoxAPIResponse respondLikeTheEventsAPI(BoxAPIRequest request) {
+        String body;
+        if (request.getMethod().equals("OPTIONS")) {
+            body = "{\"entries\": [{\"url\": \"" + REALTIME_SERVER_URL + "\", \"retry_timeout\": 610}]}";
+        } else if (request.getUrl().toString().startsWith(REALTIME_SERVER_URL)) {
+            if (!request.getUrl().getQuery().contains("stream_position=10")) {
+                // nothing happens after the recorded page, so the long poll waits until the stream is stopped
+                while (!request.isCancelled()) {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                throw new BoxAPIException("The long poll was cancelled.");
+            }
+            body = "{\"message\": \"new_change\"}";
+        } else if (request.getUrl().getQuery().contains("stream_position=now")) {
+            body = "{\"chunk_size\": 0, \"next_stream_position\": 10, \"entries\": []}";
+        } else if (request.getUrl().getQuery().contains("admin_logs")) {
+            body = "{\"chunk_size\": 1, \"next_stream_position\": \"20\", \"entries\": ["
+                + "{\"type\": \"event\", \"event_id\": \"3\", \"event_type\": \"LOGIN\"}]}";
+        } else {
+            body = "{\"chunk_size\": 2, \"next_stream_position\": 12, \"entries\": ["
+                + "{\"type\": \"event\", \"event_id\": \"1\", \"event_type\": \"ITEM_UPLOAD\"},"
+                + "{\"type\": \"event\", \"event_id\": \"2\", \"event_type\": \"ITEM_RENAME\"}]}";
+        }
+        JsonObject json = Json.parse(body).asObject();
+        return new BoxJSONResponse(200, request.getMethod(), request.getUrl().toString(),
+            Collections.<String, List<String>>emptyMap(), json);
+    }
+}
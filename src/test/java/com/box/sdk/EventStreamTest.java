@@ -14,16 +14,23 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 public class EventStreamTest {
     @Rule
@@ -202,4 +209,219 @@ public class EventStreamTest {
 
         assertTrue("Calls should be be 1s apart", times[1] - times[0] >= delay);
     }
+
+    @Test
+    public void streamsStartedWithSchedulerShareItsThreads() {
+        final String realtimeServerURL = "/2.0/realtimeServer?channel=0";
+
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + realtimeServerURL + "\", \"max_retries\": \"3\", \"retry_timeout\": 60000 } ] }")));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=1"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 3, \"entries\": [ { \"type\": \"event\", "
+                    + "\"event_id\": \"1\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=2"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 3, \"entries\": [ { \"type\": \"event\", "
+                    + "\"event_id\": \"2\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=3"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 3, \"entries\": [] }")));
+
+        try (EventStreamScheduler scheduler = new EventStreamScheduler(1)) {
+            EventStream first = new EventStream(api, 1);
+            EventStream second = new EventStream(api, 2);
+            EventListener firstListener = mock(EventListener.class);
+            EventListener secondListener = mock(EventListener.class);
+            first.addListener(firstListener);
+            second.addListener(secondListener);
+
+            first.start(scheduler);
+            second.start(scheduler);
+
+            verify(firstListener, timeout(5000)).onEvent(any(BoxEvent.class));
+            verify(secondListener, timeout(5000)).onEvent(any(BoxEvent.class));
+            assertThat(scheduler.getStreamCount(), is(2));
+
+            first.stop();
+            assertThat(scheduler.getStreamCount(), is(1));
+            assertThat(second.isStarted(), is(true));
+        }
+    }
+
+    @Test
+    public void streamResumesAtCheckpointAndSkipsEventsSeenBeforeTheRestart() {
+        final String realtimeServerURL = "/2.0/realtimeServer?channel=0";
+
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + realtimeServerURL + "\", \"max_retries\": \"3\", \"retry_timeout\": 60000 } ] }")));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=5"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 6, \"entries\": [ "
+                    + "{ \"type\": \"event\", \"event_id\": \"1\" }, "
+                    + "{ \"type\": \"event\", \"event_id\": \"2\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=6"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 6, \"entries\": [] }")));
+
+        EventStreamCheckpointStore store = mock(EventStreamCheckpointStore.class);
+        when(store.load()).thenReturn(new EventStreamCheckpoint(5, Collections.singletonList("1")));
+        EventListener eventListener = mock(EventListener.class);
+        final EventStream stream = new EventStream(api, 100);
+        stream.setCheckpointStore(store);
+        stream.addListener(eventListener);
+
+        stream.start();
+        ArgumentCaptor<EventStreamCheckpoint> saved = ArgumentCaptor.forClass(EventStreamCheckpoint.class);
+        verify(store, timeout(5000).atLeastOnce()).save(saved.capture());
+        stream.stop();
+
+        ArgumentCaptor<BoxEvent> received = ArgumentCaptor.forClass(BoxEvent.class);
+        verify(eventListener).onEvent(received.capture());
+        assertThat(received.getValue().getID(), is("2"));
+        assertThat(saved.getAllValues().get(0).getPosition(), is(6L));
+        EventStreamCheckpoint checkpoint = saved.getAllValues().get(0);
+        assertThat(checkpoint.getRecentEventCount(), is(2));
+        assertTrue(checkpoint.containsEvent("1") && checkpoint.containsEvent("2"));
+    }
+
+    @Test
+    public void checkpointDoesNotMovePastEventsAListenerFailedOn() throws InterruptedException {
+        final String realtimeServerURL = "/2.0/realtimeServer?channel=0";
+
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + realtimeServerURL + "\", \"max_retries\": \"3\", \"retry_timeout\": 60000 } ] }")));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=5"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 6, \"entries\": [ "
+                    + "{ \"type\": \"event\", \"event_id\": \"1\" }, "
+                    + "{ \"type\": \"event\", \"event_id\": \"2\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=6"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 7, \"entries\": [ "
+                    + "{ \"type\": \"event\", \"event_id\": \"3\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=7"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 7, \"entries\": [] }")));
+
+        EventStreamCheckpointStore store = mock(EventStreamCheckpointStore.class);
+        when(store.load()).thenReturn(new EventStreamCheckpoint(5, Collections.<String>emptyList()));
+        final CountDownLatch failed = new CountDownLatch(1);
+        EventListener eventListener = new EventListener() {
+            @Override
+            public void onEvent(BoxEvent event) {
+                if (event.getID().equals("2")) {
+                    throw new IllegalStateException("Couldn't process event 2.");
+                }
+            }
+
+            @Override
+            public void onNextPosition(long position) {
+            }
+
+            @Override
+            public boolean onException(Throwable e) {
+                failed.countDown();
+                return true;
+            }
+        };
+
+        try (EventDispatcher dispatcher = new EventDispatcher(2)) {
+            final EventStream stream = new EventStream(api, 100);
+            stream.setDispatcher(dispatcher);
+            stream.setCheckpointStore(store);
+            stream.addListener(eventListener);
+
+            stream.start();
+            assertTrue(failed.await(5, TimeUnit.SECONDS));
+            verify(store, after(500).never()).save(any(EventStreamCheckpoint.class));
+        }
+    }
+
+    @Test
+    public void listenersReceiveOnlyEventsOfTheirTypes() {
+        final String realtimeServerURL = "/2.0/realtimeServer?channel=0";
+
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + realtimeServerURL + "\", \"max_retries\": \"3\", \"retry_timeout\": 60000 } ] }")));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=0"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 1, \"entries\": [ "
+                    + "{ \"type\": \"event\", \"event_id\": \"1\", \"event_type\": \"ITEM_UPLOAD\" }, "
+                    + "{ \"type\": \"event\", \"event_id\": \"2\", \"event_type\": \"ITEM_TRASH\" }, "
+                    + "{ \"type\": \"event\", \"event_id\": \"3\", \"event_type\": \"ITEM_PREVIEW\" } ] }")));
+
+        stubFor(get(urlMatching("/2.0/events\\?.*stream_position=1"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"next_stream_position\": 1, \"entries\": [] }")));
+
+        EventListener uploads = mock(EventListener.class);
+        EventListener changes = mock(EventListener.class);
+        final EventStream stream = new EventStream(api, 0);
+        stream.addListener(uploads, EnumSet.of(BoxEvent.EventType.ITEM_UPLOAD));
+        stream.addListener(changes, EnumSet.of(BoxEvent.EventType.ITEM_UPLOAD, BoxEvent.EventType.ITEM_TRASH));
+
+        stream.start();
+        verify(changes, timeout(5000).times(1)).onNextPosition(1);
+        stream.stop();
+
+        ArgumentCaptor<BoxEvent> uploadEvents = ArgumentCaptor.forClass(BoxEvent.class);
+        verify(uploads).onEvent(uploadEvents.capture());
+        assertThat(uploadEvents.getValue().getID(), is("1"));
+        ArgumentCaptor<BoxEvent> changeEvents = ArgumentCaptor.forClass(BoxEvent.class);
+        verify(changes, times(2)).onEvent(changeEvents.capture());
+        assertThat(changeEvents.getAllValues().get(0).getID(), is("1"));
+        assertThat(changeEvents.getAllValues().get(1).getID(), is("2"));
+    }
 }
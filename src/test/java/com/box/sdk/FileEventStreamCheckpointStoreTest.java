@@ -0,0 +1,35 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * {@link FileEventStreamCheckpointStore} related unit tests.
+ */
+public class FileEventStreamCheckpointStoreTest {
+
+    @Test
+    public void savedCheckpointReplacesThePreviousOne() throws IOException {
+        Path directory = Files.createTempDirectory("checkpoint");
+        FileEventStreamCheckpointStore store = new FileEventStreamCheckpointStore(directory.resolve("stream.json"));
+
+        assertNull(store.load());
+
+        store.save(new EventStreamCheckpoint(10, Arrays.asList("1", "2")));
+        store.save(new EventStreamCheckpoint(20, Arrays.asList("2", "3")));
+
+        EventStreamCheckpoint checkpoint = new FileEventStreamCheckpointStore(directory.resolve("stream.json")).load();
+        assertThat(checkpoint.getPosition(), is(20L));
+        assertThat(checkpoint.getRecentEventCount(), is(2));
+        assertThat(checkpoint.containsEvent("1"), is(false));
+        assertThat(checkpoint.containsEvent("3"), is(true));
+        assertThat(Files.exists(directory.resolve("stream.json.tmp")), is(false));
+    }
+}
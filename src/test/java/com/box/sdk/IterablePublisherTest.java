@@ -0,0 +1,103 @@
+package com.box.sdk;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * {@link IterablePublisher} related unit tests.
+ */
+public class IterablePublisherTest {
+
+    @Test
+    public void itemsAreTakenFromListingOnlyWhenRequested() throws InterruptedException {
+        AtomicInteger taken = new AtomicInteger();
+        Iterable<String> listing = () -> new Iterator<String>() {
+            private final Iterator<String> items = Arrays.asList("a", "b", "c").iterator();
+
+            @Override
+            public boolean hasNext() {
+                return this.items.hasNext();
+            }
+
+            @Override
+            public String next() {
+                taken.incrementAndGet();
+                return this.items.next();
+            }
+        };
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        new IterablePublisher<>(listing).subscribe(subscriber);
+        Subscription subscription = subscriber.awaitSubscription();
+        subscription.request(2);
+
+        assertEquals("a", subscriber.signals.poll(5, SECONDS));
+        assertEquals("b", subscriber.signals.poll(5, SECONDS));
+        Thread.sleep(100);
+        assertThat(taken.get(), is(2));
+        assertTrue(subscriber.signals.isEmpty());
+
+        subscription.request(Long.MAX_VALUE);
+
+        assertEquals("c", subscriber.signals.poll(5, SECONDS));
+        assertEquals(RecordingSubscriber.COMPLETE, subscriber.signals.poll(5, SECONDS));
+    }
+
+    @Test
+    public void nonPositiveRequestTerminatesSubscriptionWithError() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        List<String> listing = Arrays.asList("a", "b");
+
+        new IterablePublisher<>(listing).subscribe(subscriber);
+        subscriber.awaitSubscription().request(0);
+
+        assertThat(subscriber.signals.poll(5, SECONDS), instanceOf(IllegalArgumentException.class));
+    }
+
+    /**
+     * Subscriber recording the items and terminal signals it receives.
+     */
+    private static final class RecordingSubscriber implements Subscriber<String> {
+        private static final Object COMPLETE = new Object();
+        private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Subscription> subscriptions = new LinkedBlockingQueue<>();
+
+        Subscription awaitSubscription() throws InterruptedException {
+            return this.subscriptions.poll(5, SECONDS);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscriptions.add(subscription);
+        }
+
+        @Override
+        public void onNext(String item) {
+            this.signals.add(item);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.signals.add(error);
+        }
+
+        @Override
+        public void onComplete() {
+            this.signals.add(COMPLETE);
+        }
+    }
+}
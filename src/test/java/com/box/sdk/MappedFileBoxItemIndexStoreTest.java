@@ -0,0 +1,131 @@
+package com.box.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+import org.junit.Test;
+
+/**
+ * {@link MappedFileBoxItemIndexStore} related unit tests.
+ */
+public class MappedFileBoxItemIndexStoreTest {
+
+    @Test
+    public void entriesAndStateSurviveReopening() throws IOException {
+        Path file = Files.createTempDirectory("index").resolve("items.idx");
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            store.setRootID("0");
+            store.put(entry("0", null, "All Files"));
+            store.put(entry("1", "0", "a"));
+            store.put(entry("2", "1", "b.txt"));
+            store.put(entry("2", "0", "moved.txt"));
+            store.put(entry("3", "1", "c.txt"));
+            store.remove("3");
+            store.setStreamPosition(42);
+        }
+
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            assertThat(store.size(), is(3));
+            assertThat(store.getRootID(), is("0"));
+            assertThat(store.getStreamPosition(), is(42L));
+            assertThat(store.get("2").getName(), is("moved.txt"));
+            assertThat(store.get("2").getModifiedAt(), is(new Date(1000)));
+            assertThat(store.getChildren("0").size(), is(2));
+            assertThat(store.getChildren("1").size(), is(0));
+            assertNull(store.get("3"));
+        }
+    }
+
+    @Test
+    public void readingStopsAtATornRecord() throws IOException {
+        Path file = Files.createTempDirectory("index").resolve("items.idx");
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            store.put(entry("1", "0", "kept.txt"));
+            store.put(entry("2", "0", "torn.txt"));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        byte[] name = "torn.txt".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + name.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + name.length), name)) {
+                bytes[i] = 'x';
+            }
+        }
+        Files.write(file, bytes);
+
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            assertThat(store.size(), is(1));
+            assertThat(store.get("1").getName(), is("kept.txt"));
+            assertNull(store.get("2"));
+            store.put(entry("3", "0", "after the crash"));
+        }
+
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            assertThat(store.size(), is(2));
+            assertThat(store.get("3").getName(), is("after the crash"));
+        }
+    }
+
+    @Test
+    public void replacedEntriesAreCompactedAway() throws IOException {
+        Path file = Files.createTempDirectory("index").resolve("items.idx");
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            for (int i = 0; i < 50000; i++) {
+                store.put(entry(Integer.toString(i % 10), "0", "name " + i));
+            }
+            store.setStreamPosition(7);
+        }
+
+        assertThat(Files.size(file), lessThanOrEqualTo(2L << 20));
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            assertThat(store.size(), is(10));
+            assertThat(store.get("9").getName(), is("name 49999"));
+            assertThat(store.getStreamPosition(), is(7L));
+        }
+    }
+
+    @Test
+    public void entriesAreKeptWhenCompactionFails() throws IOException {
+        Path file = Files.createTempDirectory("index").resolve("items.idx");
+        // A directory in place of the temporary file makes the compaction fail.
+        Path temporaryFile = Files.createDirectory(file.resolveSibling("items.idx.tmp"));
+        Path blocker = Files.createFile(temporaryFile.resolve("blocker"));
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            BoxAPIException failure = null;
+            for (int i = 0; i < 50000 && failure == null; i++) {
+                try {
+                    store.put(entry(Integer.toString(i % 10), "0", "name " + i));
+                } catch (BoxAPIException e) {
+                    failure = e;
+                }
+            }
+
+            assertNotNull(failure);
+            assertThat(store.size(), is(10));
+            assertThat(store.getChildren("0").size(), is(10));
+
+            Files.delete(blocker);
+            Files.delete(temporaryFile);
+            store.put(entry("1", "0", "after the failure"));
+            assertThat(store.size(), is(10));
+            assertThat(store.get("1").getName(), is("after the failure"));
+        }
+
+        try (MappedFileBoxItemIndexStore store = new MappedFileBoxItemIndexStore(file)) {
+            assertThat(store.size(), is(10));
+            assertThat(store.get("1").getName(), is("after the failure"));
+        }
+    }
+
+    private static BoxItemIndex.Entry entry(String id, String parentID, String name) {
+        return new BoxItemIndex.Entry(id, "file", parentID, name, "1", "1", null, 10, new Date(1000), false);
+    }
+}
@@ -0,0 +1,151 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.options;
+import static com.github.tomakehurst.wiremock.client.WireMock.optionsRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RealtimeServerConnectionTest {
+    private static final String REALTIME_SERVER_URL = "/2.0/realtimeServer?channel=0";
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + REALTIME_SERVER_URL + "\", \"max_retries\": \"1\", \"retry_timeout\": 60000 } ] }")));
+    }
+
+    @Test
+    public void serverURLIsRequestedAgainWhenTheServerAsksToReconnect() {
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + REALTIME_SERVER_URL + "\", \"max_retries\": \"10\", \"retry_timeout\": 60000 } ] }")));
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"reconnect\" }")));
+
+        RealtimeServerConnection server = new RealtimeServerConnection(api);
+        assertFalse(server.waitForChange(1));
+        verify(1, optionsRequestedFor(urlEqualTo("/2.0/events")));
+        assertTrue(server.canReconnect());
+        assertThat(server.getReconnectDelay(), greaterThan(0L));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+        assertTrue(server.waitForChange(1));
+        verify(2, optionsRequestedFor(urlEqualTo("/2.0/events")));
+    }
+
+    @Test
+    public void serverURLIsReusedForItsRetriesUntilALongPollFails() {
+        stubFor(options(urlEqualTo("/2.0/events"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"entries\": [ { \"url\": \"https://localhost:" + wireMockRule.httpsPort()
+                    + REALTIME_SERVER_URL + "\", \"max_retries\": \"3\", \"retry_timeout\": 60000 } ] }")));
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+
+        RealtimeServerConnection server = new RealtimeServerConnection(api);
+        assertTrue(server.waitForChange(1));
+        assertTrue(server.waitForChange(1));
+        verify(1, optionsRequestedFor(urlEqualTo("/2.0/events")));
+        assertThat(server.getReconnectDelay(), is(0L));
+        assertTrue(server.waitForChange(1));
+        assertTrue(server.waitForChange(1));
+        verify(2, optionsRequestedFor(urlEqualTo("/2.0/events")));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse().withStatus(404)));
+        try {
+            server.waitForChange(1);
+            fail("The long poll should fail.");
+        } catch (BoxAPIException e) {
+            assertThat(e.getResponseCode(), is(404));
+        }
+        assertTrue(server.canReconnect());
+        assertThat(server.getReconnectDelay(), lessThanOrEqualTo(500L));
+
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")));
+        assertTrue(server.waitForChange(1));
+        verify(3, optionsRequestedFor(urlEqualTo("/2.0/events")));
+        assertThat(server.getReconnectDelay(), is(0L));
+    }
+
+    @Test
+    public void stopCancelsTheLongPollInProgress() throws InterruptedException {
+        stubFor(get(urlMatching("/2.0/realtimeServer.*"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", APPLICATION_JSON)
+                .withBody("{ \"message\": \"new_change\" }")
+                .withFixedDelay(30000)));
+
+        RealtimeServerConnection server = new RealtimeServerConnection(api);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Boolean> longPoll = server.waitForChangeAsync(1, executor);
+            while (findAll(getRequestedFor(urlMatching("/2.0/realtimeServer.*"))).isEmpty()) {
+                Thread.sleep(10);
+            }
+            server.stop();
+
+            try {
+                longPoll.get(5, TimeUnit.SECONDS);
+                fail("The long poll should be cancelled.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof BoxAPIException);
+            } catch (TimeoutException e) {
+                fail("The long poll wasn't cancelled.");
+            }
+            assertFalse(server.canReconnect());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
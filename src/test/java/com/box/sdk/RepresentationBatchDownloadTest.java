@@ -0,0 +1,91 @@
+package com.box.sdk;
+
+import static com.box.sdk.TestUtils.getFixture;
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link RepresentationBatchDownload} related unit tests.
+ */
+public class RepresentationBatchDownloadTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+    }
+
+    @Test
+    public void downloadsReadyRepresentationsAndReportsFailures() throws InterruptedException {
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/12345"))
+                .withQueryParam("fields", WireMock.equalTo("representations"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(getFixture("BoxFile/GetFileRepresentations200", wireMockRule.httpsPort()))
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(
+                "/2.0/internal_files/12345/versions/1116420931563/representations/jpg_thumb_32x32")
+                )
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody(getFixture("BoxFile/GetFileRepresentation200", wireMockRule.httpsPort()))
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo(
+                "/2.0/internal_files/1030335435441/versions/1116437417841/representations/jpg_thumb_32x32/content/"
+                ))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", "image/jpg")
+                    .withBody("This is a JPG")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/files/404"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"type\": \"error\", \"status\": 404, \"code\": \"not_found\"}")
+                    .withStatus(404))
+        );
+
+        Map<String, String> contents = new ConcurrentHashMap<>();
+        RepresentationBatchDownload batch = new RepresentationBatchDownload(
+            2, new RepresentationPollingPolicy(10, 100, 5000)
+        );
+        Map<String, BoxAPIException> failures = batch.download(
+            this.api, Arrays.asList("12345", "404"), "[jpg?dimensions=32x32]", "",
+            (fileID, representation, content) -> {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                BinaryBodyUtils.writeStreamTo(content, output);
+                contents.put(fileID, output.toString());
+            }
+        );
+
+        assertThat(contents.size(), is(1));
+        assertThat(contents.get("12345"), equalTo("This is a JPG"));
+        assertThat(failures.size(), is(1));
+        assertThat(failures, hasKey("404"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.box.sdk;
+
+import static com.box.sdk.http.ContentType.APPLICATION_JSON;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.lang.String.format;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.eclipsesource.json.JsonObject;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * {@link ResumableIterable} related unit tests.
+ */
+public class ResumableIterableTest {
+
+    @Rule
+    public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicHttpsPort().httpDisabled(true));
+    private final BoxAPIConnection api = TestUtils.getAPIConnection();
+
+    @Before
+    public void setUpBaseUrl() {
+        api.setMaxRetryAttempts(1);
+        api.setBaseURL(format("https://localhost:%d", wireMockRule.httpsPort()));
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/0/items/"))
+                .withQueryParam("usemarker", WireMock.equalTo("true"))
+                .withQueryParam("marker", WireMock.absent())
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": [{\"type\": \"file\", \"id\": \"1\"},"
+                        + " {\"type\": \"file\", \"id\": \"2\"}], \"limit\": 2, \"next_marker\": \"m2\"}")
+                    .withStatus(200))
+        );
+        wireMockRule.stubFor(
+            WireMock.get(WireMock.urlPathEqualTo("/2.0/folders/0/items/"))
+                .withQueryParam("marker", WireMock.equalTo("m2"))
+                .willReturn(WireMock.aResponse()
+                    .withHeader("Content-Type", APPLICATION_JSON)
+                    .withBody("{\"entries\": [{\"type\": \"file\", \"id\": \"3\"},"
+                        + " {\"type\": \"folder\", \"id\": \"4\"}], \"limit\": 2}")
+                    .withStatus(200))
+        );
+    }
+
+    @Test
+    public void resumeContinuesWithTheFirstEntryNotReturnedBeforeTheCheckpoint() {
+        ResumableIterable<BoxItem.Info> items = new BoxFolder(this.api, "0")
+            .getResumableChildren(SortParameters.none(), PagingParameters.marker(2));
+        Iterator<BoxItem.Info> iterator = items.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.next();
+
+        ListingCheckpoint checkpoint = ListingCheckpoint.fromToken(items.getCheckpoint().toToken());
+        assertThat(checkpoint.getMarker(), is("m2"));
+        assertThat(checkpoint.getSkippedEntries(), is(1));
+
+        List<String> resumedIDs = new ArrayList<>();
+        for (BoxItem.Info info : ResumableIterable.resume(this.api, checkpoint, BoxItem.Info.class)) {
+            resumedIDs.add(info.getID());
+        }
+        assertEquals(Arrays.asList("4"), resumedIDs);
+    }
+
+    @Test
+    public void checkpointToSavesACheckpointEveryGivenNumberOfPages() {
+        List<ListingCheckpoint> saved = new ArrayList<>();
+        ListingCheckpointStore store = new ListingCheckpointStore() {
+            @Override
+            public void save(ListingCheckpoint checkpoint) {
+                saved.add(checkpoint);
+            }
+
+            @Override
+            public ListingCheckpoint load() {
+                return saved.isEmpty() ? null : saved.get(saved.size() - 1);
+            }
+        };
+
+        int count = 0;
+        for (BoxItem.Info ignored : new BoxFolder(this.api, "0")
+            .getResumableChildren(SortParameters.none(), PagingParameters.marker(2))
+            .checkpointTo(store, 2)) {
+            count++;
+        }
+
+        assertThat(count, is(4));
+        assertThat(saved.size(), is(1));
+        assertThat(store.load().getMarker(), is("m2"));
+        assertThat(store.load().getSkippedEntries(), is(0));
+    }
+
+    @Test
+    public void resumeRejectsCheckpointsOfAnotherHost() throws MalformedURLException {
+        ListingCheckpoint checkpoint = ListingCheckpoint.of(
+            new URL("https://example.com/2.0/folders/0/items/"), PagingParameters.marker(2), 0);
+        ListingCheckpoint tampered = ListingCheckpoint.fromToken(checkpoint.toToken());
+
+        assertThrows(IllegalArgumentException.class,
+            () -> ResumableIterable.resume(this.api, tampered, BoxItem.Info.class));
+    }
+
+    @Test
+    public void resourceIterableRejectsCheckpointsOfAnotherHost() throws MalformedURLException {
+        ListingCheckpoint checkpoint = ListingCheckpoint.ofMarker(
+            new URL("https://example.com/2.0/folders/0/items/"), null, "m2", 2, 0);
+        ListingCheckpoint tampered = ListingCheckpoint.fromToken(checkpoint.toToken());
+
+        assertThrows(IllegalArgumentException.class, () -> new BoxResourceIterable<BoxItem.Info>(this.api, tampered) {
+            @Override
+            protected BoxItem.Info factory(JsonObject jsonObject) {
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void fromTokenRejectsInvalidTokens() {
+        assertThrows(IllegalArgumentException.class, () -> ListingCheckpoint.fromToken("not a token"));
+    }
+}